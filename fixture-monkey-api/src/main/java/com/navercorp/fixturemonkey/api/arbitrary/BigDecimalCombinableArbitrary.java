@@ -0,0 +1,91 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.math.BigDecimal;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface BigDecimalCombinableArbitrary extends CombinableArbitrary<BigDecimal> {
+	@Override
+	BigDecimal combined();
+
+	@Override
+	BigDecimal rawValue();
+
+	/**
+	 * Generates a BigDecimalCombinableArbitrary which produces decimals within the specified range.
+	 *
+	 * @param min the minimum value (inclusive)
+	 * @param max the maximum value (inclusive)
+	 * @return the BigDecimalCombinableArbitrary producing decimals between {@code min} and {@code max}
+	 */
+	BigDecimalCombinableArbitrary withRange(BigDecimal min, BigDecimal max);
+
+	/**
+	 * Generates a BigDecimalCombinableArbitrary which produces only positive decimals.
+	 *
+	 * @return the BigDecimalCombinableArbitrary producing positive decimals
+	 */
+	BigDecimalCombinableArbitrary positive();
+
+	/**
+	 * Generates a BigDecimalCombinableArbitrary which produces only negative decimals.
+	 *
+	 * @return the BigDecimalCombinableArbitrary producing negative decimals
+	 */
+	BigDecimalCombinableArbitrary negative();
+
+	/**
+	 * Generates a BigDecimalCombinableArbitrary which produces decimals with the given number of decimal places.
+	 *
+	 * @param scale the maximum number of decimal places
+	 * @return the BigDecimalCombinableArbitrary producing decimals of the given scale
+	 */
+	BigDecimalCombinableArbitrary ofScale(int scale);
+
+	@Override
+	default BigDecimalCombinableArbitrary filter(Predicate<BigDecimal> predicate) {
+		return this.filter(DEFAULT_MAX_TRIES, predicate);
+	}
+
+	@Override
+	default BigDecimalCombinableArbitrary filter(int tries, Predicate<BigDecimal> predicate) {
+		return new BigDecimalCombinableArbitraryDelegator(CombinableArbitrary.super.filter(tries, predicate));
+	}
+
+	@Override
+	default BigDecimalCombinableArbitrary injectNull(double nullProbability) {
+		return new BigDecimalCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
+	}
+
+	@Override
+	default BigDecimalCombinableArbitrary unique() {
+		return new BigDecimalCombinableArbitraryDelegator(CombinableArbitrary.super.unique());
+	}
+
+	@Override
+	void clear();
+
+	@Override
+	boolean fixed();
+}
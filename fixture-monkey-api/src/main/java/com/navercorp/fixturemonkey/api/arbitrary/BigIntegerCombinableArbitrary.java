@@ -0,0 +1,83 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.math.BigInteger;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface BigIntegerCombinableArbitrary extends CombinableArbitrary<BigInteger> {
+	@Override
+	BigInteger combined();
+
+	@Override
+	BigInteger rawValue();
+
+	/**
+	 * Generates a BigIntegerCombinableArbitrary which produces integers within the specified range.
+	 *
+	 * @param min the minimum value (inclusive)
+	 * @param max the maximum value (inclusive)
+	 * @return the BigIntegerCombinableArbitrary producing integers between {@code min} and {@code max}
+	 */
+	BigIntegerCombinableArbitrary withRange(BigInteger min, BigInteger max);
+
+	/**
+	 * Generates a BigIntegerCombinableArbitrary which produces only positive integers.
+	 *
+	 * @return the BigIntegerCombinableArbitrary producing positive integers
+	 */
+	BigIntegerCombinableArbitrary positive();
+
+	/**
+	 * Generates a BigIntegerCombinableArbitrary which produces only negative integers.
+	 *
+	 * @return the BigIntegerCombinableArbitrary producing negative integers
+	 */
+	BigIntegerCombinableArbitrary negative();
+
+	@Override
+	default BigIntegerCombinableArbitrary filter(Predicate<BigInteger> predicate) {
+		return this.filter(DEFAULT_MAX_TRIES, predicate);
+	}
+
+	@Override
+	default BigIntegerCombinableArbitrary filter(int tries, Predicate<BigInteger> predicate) {
+		return new BigIntegerCombinableArbitraryDelegator(CombinableArbitrary.super.filter(tries, predicate));
+	}
+
+	@Override
+	default BigIntegerCombinableArbitrary injectNull(double nullProbability) {
+		return new BigIntegerCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
+	}
+
+	@Override
+	default BigIntegerCombinableArbitrary unique() {
+		return new BigIntegerCombinableArbitraryDelegator(CombinableArbitrary.super.unique());
+	}
+
+	@Override
+	void clear();
+
+	@Override
+	boolean fixed();
+}
@@ -0,0 +1,64 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.math.BigInteger;
+
+final class BigIntegerCombinableArbitraryDelegator implements BigIntegerCombinableArbitrary {
+	private final CombinableArbitrary<BigInteger> delegate;
+
+	BigIntegerCombinableArbitraryDelegator(CombinableArbitrary<BigInteger> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public BigInteger combined() {
+		return delegate.combined();
+	}
+
+	@Override
+	public BigInteger rawValue() {
+		return delegate.combined();
+	}
+
+	@Override
+	public BigIntegerCombinableArbitrary withRange(BigInteger min, BigInteger max) {
+		return CombinableArbitrary.bigIntegers().withRange(min, max);
+	}
+
+	@Override
+	public BigIntegerCombinableArbitrary positive() {
+		return CombinableArbitrary.bigIntegers().positive();
+	}
+
+	@Override
+	public BigIntegerCombinableArbitrary negative() {
+		return CombinableArbitrary.bigIntegers().negative();
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public boolean fixed() {
+		return delegate.fixed();
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface BooleanCombinableArbitrary extends CombinableArbitrary<Boolean> {
+	@Override
+	Boolean combined();
+
+	@Override
+	Boolean rawValue();
+
+	/**
+	 * Generates a primitive boolean without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive boolean
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	default boolean nextBoolean() {
+		return combined();
+	}
+
+	@Override
+	default BooleanCombinableArbitrary filter(Predicate<Boolean> predicate) {
+		return this.filter(DEFAULT_MAX_TRIES, predicate);
+	}
+
+	@Override
+	default BooleanCombinableArbitrary filter(int tries, Predicate<Boolean> predicate) {
+		return new BooleanCombinableArbitraryDelegator(CombinableArbitrary.super.filter(tries, predicate));
+	}
+
+	@Override
+	default BooleanCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
+		return new BooleanCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
+	}
+
+	@Override
+	default BooleanCombinableArbitrary unique() {
+		return new BooleanCombinableArbitraryDelegator(CombinableArbitrary.super.unique());
+	}
+
+	@Override
+	void clear();
+
+	@Override
+	boolean fixed();
+}
@@ -0,0 +1,47 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+final class BooleanCombinableArbitraryDelegator implements BooleanCombinableArbitrary {
+	private final CombinableArbitrary<Boolean> delegate;
+
+	BooleanCombinableArbitraryDelegator(CombinableArbitrary<Boolean> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Boolean combined() {
+		return delegate.combined();
+	}
+
+	@Override
+	public Boolean rawValue() {
+		return delegate.combined();
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public boolean fixed() {
+		return delegate.fixed();
+	}
+}
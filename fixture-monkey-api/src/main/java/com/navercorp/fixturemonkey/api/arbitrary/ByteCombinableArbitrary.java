@@ -31,6 +31,18 @@ public interface ByteCombinableArbitrary extends CombinableArbitrary<Byte> {
 	@Override
 	Byte rawValue();
 
+	/**
+	 * Generates a primitive byte without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive byte
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default byte nextByte() {
+		return combined();
+	}
+
 	/**
 	 * Generates a ByteCombinableArbitrary which produces bytes within the specified range.
 	 *
@@ -97,6 +109,10 @@ public interface ByteCombinableArbitrary extends CombinableArbitrary<Byte> {
 
 	@Override
 	default ByteCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
 		return new ByteCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
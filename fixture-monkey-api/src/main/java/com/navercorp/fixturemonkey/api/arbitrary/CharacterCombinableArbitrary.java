@@ -0,0 +1,104 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface CharacterCombinableArbitrary extends CombinableArbitrary<Character> {
+	@Override
+	Character combined();
+
+	@Override
+	Character rawValue();
+
+	/**
+	 * Generates a primitive char without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive char
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	default char nextChar() {
+		return combined();
+	}
+
+	/**
+	 * Generates a CharacterCombinableArbitrary which produces characters within the specified range.
+	 *
+	 * @param min the minimum character (inclusive)
+	 * @param max the maximum character (inclusive)
+	 * @return the CharacterCombinableArbitrary producing characters between {@code min} and {@code max}
+	 */
+	CharacterCombinableArbitrary withRange(char min, char max);
+
+	/**
+	 * Generates a CharacterCombinableArbitrary which produces only alphabetic characters, A-Z and a-z.
+	 *
+	 * @return the CharacterCombinableArbitrary producing alphabetic characters
+	 */
+	CharacterCombinableArbitrary alphabetic();
+
+	/**
+	 * Generates a CharacterCombinableArbitrary which produces only numeric characters, 0-9.
+	 *
+	 * @return the CharacterCombinableArbitrary producing numeric characters
+	 */
+	CharacterCombinableArbitrary numeric();
+
+	/**
+	 * Generates a CharacterCombinableArbitrary which produces only ASCII characters.
+	 *
+	 * @return the CharacterCombinableArbitrary producing ASCII characters
+	 */
+	CharacterCombinableArbitrary ascii();
+
+	@Override
+	default CharacterCombinableArbitrary filter(Predicate<Character> predicate) {
+		return this.filter(DEFAULT_MAX_TRIES, predicate);
+	}
+
+	@Override
+	default CharacterCombinableArbitrary filter(int tries, Predicate<Character> predicate) {
+		return new CharacterCombinableArbitraryDelegator(CombinableArbitrary.super.filter(tries, predicate));
+	}
+
+	@Override
+	default CharacterCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
+		return new CharacterCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
+	}
+
+	@Override
+	default CharacterCombinableArbitrary unique() {
+		return new CharacterCombinableArbitraryDelegator(CombinableArbitrary.super.unique());
+	}
+
+	@Override
+	void clear();
+
+	@Override
+	boolean fixed();
+}
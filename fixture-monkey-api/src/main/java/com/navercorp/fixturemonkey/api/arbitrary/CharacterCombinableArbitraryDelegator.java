@@ -0,0 +1,67 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+final class CharacterCombinableArbitraryDelegator implements CharacterCombinableArbitrary {
+	private final CombinableArbitrary<Character> delegate;
+
+	CharacterCombinableArbitraryDelegator(CombinableArbitrary<Character> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Character combined() {
+		return delegate.combined();
+	}
+
+	@Override
+	public Character rawValue() {
+		return delegate.combined();
+	}
+
+	@Override
+	public CharacterCombinableArbitrary withRange(char min, char max) {
+		return CombinableArbitrary.characters().withRange(min, max);
+	}
+
+	@Override
+	public CharacterCombinableArbitrary alphabetic() {
+		return CombinableArbitrary.characters().alphabetic();
+	}
+
+	@Override
+	public CharacterCombinableArbitrary numeric() {
+		return CombinableArbitrary.characters().numeric();
+	}
+
+	@Override
+	public CharacterCombinableArbitrary ascii() {
+		return CombinableArbitrary.characters().ascii();
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public boolean fixed() {
+		return delegate.fixed();
+	}
+}
@@ -18,8 +18,8 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
+import java.util.List;
 import java.util.ServiceLoader;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -50,6 +50,24 @@ public interface CombinableArbitrary<T> {
 		ServiceLoader.load(LongCombinableArbitrary.class);
 	ServiceLoader<ShortCombinableArbitrary> SHORT_COMBINABLE_ARBITRARY_SERVICE_LOADER =
 		ServiceLoader.load(ShortCombinableArbitrary.class);
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	ServiceLoader<DoubleCombinableArbitrary> DOUBLE_COMBINABLE_ARBITRARY_SERVICE_LOADER =
+		ServiceLoader.load(DoubleCombinableArbitrary.class);
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	ServiceLoader<FloatCombinableArbitrary> FLOAT_COMBINABLE_ARBITRARY_SERVICE_LOADER =
+		ServiceLoader.load(FloatCombinableArbitrary.class);
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	ServiceLoader<CharacterCombinableArbitrary> CHARACTER_COMBINABLE_ARBITRARY_SERVICE_LOADER =
+		ServiceLoader.load(CharacterCombinableArbitrary.class);
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	ServiceLoader<BooleanCombinableArbitrary> BOOLEAN_COMBINABLE_ARBITRARY_SERVICE_LOADER =
+		ServiceLoader.load(BooleanCombinableArbitrary.class);
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	ServiceLoader<BigDecimalCombinableArbitrary> BIG_DECIMAL_COMBINABLE_ARBITRARY_SERVICE_LOADER =
+		ServiceLoader.load(BigDecimalCombinableArbitrary.class);
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	ServiceLoader<BigIntegerCombinableArbitrary> BIG_INTEGER_COMBINABLE_ARBITRARY_SERVICE_LOADER =
+		ServiceLoader.load(BigIntegerCombinableArbitrary.class);
 
 	/**
 	 * Generates a {@link FixedCombinableArbitrary} which returns always same value.
@@ -150,6 +168,28 @@ public interface CombinableArbitrary<T> {
 		);
 	}
 
+	/**
+	 * Applies the given {@code predicates} as constraints at once.
+	 * It is the same as applying them one by one in order, but it does not wrap the predicates one by one.
+	 * The {@link ExpensivePredicate}s are tested after all the other predicates are satisfied.
+	 *
+	 * @param tries      the number of tries to satisfy the constraints
+	 * @param predicates the constraints to satisfy
+	 * @return A filtered {@link CombinableArbitrary}, itself if no {@code predicates} are given.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default CombinableArbitrary<T> filter(int tries, List<? extends Predicate<T>> predicates) {
+		if (predicates.isEmpty()) {
+			return this;
+		}
+
+		CombinableArbitrary<T> filtered = this.filter(tries, predicates.get(0));
+		if (predicates.size() == 1) {
+			return filtered;
+		}
+		return filtered.filter(tries, predicates.subList(1, predicates.size()));
+	}
+
 	/**
 	 * Transforms a generated object into a new object.
 	 *
@@ -179,11 +219,12 @@ public interface CombinableArbitrary<T> {
 	/**
 	 * Makes it return a unique value.
 	 * The class of object generated by {@link CombinableArbitrary} should override {@code equals} and {@code hashCode}.
+	 * The generated values are kept until the current {@link UniqueScope} is closed or reset.
 	 *
 	 * @return A {@link CombinableArbitrary} returns a unique value
 	 */
 	default CombinableArbitrary<T> unique() {
-		return new UniqueCombinableArbitrary<>(this, new ConcurrentHashMap<>());
+		return new UniqueCombinableArbitrary<>(this);
 	}
 
 	/**
@@ -207,7 +248,7 @@ public interface CombinableArbitrary<T> {
 	 */
 	@API(since = "1.1.12", status = Status.EXPERIMENTAL)
 	static IntegerCombinableArbitrary integers() {
-		return INTEGER_COMBINABLE_ARBITRARY_SERVICE_LOADER.iterator().next();
+		return CombinableArbitraryProviders.get(INTEGER_COMBINABLE_ARBITRARY_SERVICE_LOADER);
 	}
 
 	/**
@@ -218,7 +259,7 @@ public interface CombinableArbitrary<T> {
 	 */
 	@API(since = "1.1.15", status = Status.EXPERIMENTAL)
 	static ByteCombinableArbitrary bytes() {
-		return BYTE_COMBINABLE_ARBITRARY_SERVICE_LOADER.iterator().next();
+		return CombinableArbitraryProviders.get(BYTE_COMBINABLE_ARBITRARY_SERVICE_LOADER);
 	}
 
 	/**
@@ -229,7 +270,7 @@ public interface CombinableArbitrary<T> {
 	 */
 	@API(since = "1.1.12", status = Status.EXPERIMENTAL)
 	static StringCombinableArbitrary strings() {
-		return STRING_COMBINABLE_ARBITRARY_SERVICE_LOADER.iterator().next();
+		return CombinableArbitraryProviders.get(STRING_COMBINABLE_ARBITRARY_SERVICE_LOADER);
 	}
 
 	/**
@@ -240,7 +281,7 @@ public interface CombinableArbitrary<T> {
 	 */
 	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
 	static LongCombinableArbitrary longs() {
-		return LONG_COMBINABLE_ARBITRARY_SERVICE_LOADER.iterator().next();
+		return CombinableArbitraryProviders.get(LONG_COMBINABLE_ARBITRARY_SERVICE_LOADER);
 	}
 
 	/**
@@ -251,7 +292,73 @@ public interface CombinableArbitrary<T> {
 	 */
 	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
 	static ShortCombinableArbitrary shorts() {
-		return SHORT_COMBINABLE_ARBITRARY_SERVICE_LOADER.iterator().next();
+		return CombinableArbitraryProviders.get(SHORT_COMBINABLE_ARBITRARY_SERVICE_LOADER);
+	}
+
+	/**
+	 * Generates a {@link DoubleCombinableArbitrary} which returns a randomly generated Double.
+	 * You can customize the generated Double by using {@link DoubleCombinableArbitrary}.
+	 *
+	 * @return a {@link CombinableArbitrary} returns a randomly generated Double
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	static DoubleCombinableArbitrary doubles() {
+		return CombinableArbitraryProviders.get(DOUBLE_COMBINABLE_ARBITRARY_SERVICE_LOADER);
+	}
+
+	/**
+	 * Generates a {@link FloatCombinableArbitrary} which returns a randomly generated Float.
+	 * You can customize the generated Float by using {@link FloatCombinableArbitrary}.
+	 *
+	 * @return a {@link CombinableArbitrary} returns a randomly generated Float
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	static FloatCombinableArbitrary floats() {
+		return CombinableArbitraryProviders.get(FLOAT_COMBINABLE_ARBITRARY_SERVICE_LOADER);
+	}
+
+	/**
+	 * Generates a {@link CharacterCombinableArbitrary} which returns a randomly generated Character.
+	 * You can customize the generated Character by using {@link CharacterCombinableArbitrary}.
+	 *
+	 * @return a {@link CombinableArbitrary} returns a randomly generated Character
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	static CharacterCombinableArbitrary characters() {
+		return CombinableArbitraryProviders.get(CHARACTER_COMBINABLE_ARBITRARY_SERVICE_LOADER);
+	}
+
+	/**
+	 * Generates a {@link BooleanCombinableArbitrary} which returns a randomly generated Boolean.
+	 * You can customize the generated Boolean by using {@link BooleanCombinableArbitrary}.
+	 *
+	 * @return a {@link CombinableArbitrary} returns a randomly generated Boolean
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	static BooleanCombinableArbitrary booleans() {
+		return CombinableArbitraryProviders.get(BOOLEAN_COMBINABLE_ARBITRARY_SERVICE_LOADER);
+	}
+
+	/**
+	 * Generates a {@link BigDecimalCombinableArbitrary} which returns a randomly generated BigDecimal.
+	 * You can customize the generated BigDecimal by using {@link BigDecimalCombinableArbitrary}.
+	 *
+	 * @return a {@link CombinableArbitrary} returns a randomly generated BigDecimal
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	static BigDecimalCombinableArbitrary bigDecimals() {
+		return CombinableArbitraryProviders.get(BIG_DECIMAL_COMBINABLE_ARBITRARY_SERVICE_LOADER);
+	}
+
+	/**
+	 * Generates a {@link BigIntegerCombinableArbitrary} which returns a randomly generated BigInteger.
+	 * You can customize the generated BigInteger by using {@link BigIntegerCombinableArbitrary}.
+	 *
+	 * @return a {@link CombinableArbitrary} returns a randomly generated BigInteger
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	static BigIntegerCombinableArbitrary bigIntegers() {
+		return CombinableArbitraryProviders.get(BIG_INTEGER_COMBINABLE_ARBITRARY_SERVICE_LOADER);
 	}
 
 }
@@ -0,0 +1,52 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the first provider of each {@link ServiceLoader} in {@link CombinableArbitrary}.
+ * The providers are resolved once, the factory methods of {@link CombinableArbitrary} would not iterate
+ * the {@link ServiceLoader} for every call. {@link ServiceLoader} is not thread-safe, it is iterated exclusively.
+ */
+final class CombinableArbitraryProviders {
+	private static final Map<ServiceLoader<?>, Object> PROVIDERS_BY_SERVICE_LOADER = new ConcurrentHashMap<>();
+
+	private CombinableArbitraryProviders() {
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> T get(ServiceLoader<T> serviceLoader) {
+		return (T)PROVIDERS_BY_SERVICE_LOADER.computeIfAbsent(serviceLoader, CombinableArbitraryProviders::load);
+	}
+
+	private static Object load(ServiceLoader<?> serviceLoader) {
+		synchronized (serviceLoader) {
+			Iterator<?> providers = serviceLoader.iterator();
+			if (!providers.hasNext()) {
+				throw new NoSuchElementException("No provider is found for " + serviceLoader);
+			}
+			return providers.next();
+		}
+	}
+}
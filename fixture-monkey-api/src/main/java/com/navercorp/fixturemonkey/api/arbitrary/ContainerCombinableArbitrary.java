@@ -19,7 +19,6 @@
 package com.navercorp.fixturemonkey.api.arbitrary;
 
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,16 +34,13 @@ final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
 
 	private final List<CombinableArbitrary<?>> combinableArbitraryList;
 	private final Function<List<Object>, T> combinator;
-	private final Map<Object, Object> generatedMap;
 
 	ContainerCombinableArbitrary(
 		List<CombinableArbitrary<?>> combinableArbitraryList,
-		Function<List<Object>, T> combinator,
-		Map<Object, Object> generatedMap
+		Function<List<Object>, T> combinator
 	) {
 		this.combinableArbitraryList = combinableArbitraryList;
 		this.combinator = combinator;
-		this.generatedMap = generatedMap;
 	}
 
 	@Override
@@ -87,13 +83,9 @@ final class ContainerCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@Override
 	public CombinableArbitrary<T> unique() {
 		List<CombinableArbitrary<?>> uniqueCombinableArbitraryList = this.combinableArbitraryList.stream()
-			.map(arbitrary -> arbitrary.filter(it -> {
-				if (!generatedMap.containsKey(it)) {
-					generatedMap.put(it, EXISTED);
-					return true;
-				}
-				return false;
-			}))
+			.map(arbitrary -> arbitrary.filter(
+				it -> UniqueScope.current().getGeneratedValues(this).putIfAbsent(it, EXISTED) == null
+			))
 			.collect(Collectors.toList());
 
 		return CombinableArbitrary.containerBuilder()
@@ -20,7 +20,6 @@ package com.navercorp.fixturemonkey.api.arbitrary;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
@@ -58,8 +57,27 @@ public final class ContainerCombineArbitraryBuilder {
 				T container = combinator.apply(elements);
 				postBuild.run();
 				return container;
-			},
-			new ConcurrentHashMap<>()
+			}
 		);
 	}
+
+	/**
+	 * Combines the elements into an array of the given primitive component type.
+	 * The elements generated by the primitive {@link CombinableArbitrary} such as {@link IntegerCombinableArbitrary}
+	 * are written to the array by their primitive accessors without boxing.
+	 *
+	 * @param componentType the primitive component type of the array
+	 * @return a {@link CombinableArbitrary} generating the primitive array
+	 * @throws IllegalArgumentException if the given type is not a primitive type
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public CombinableArbitrary<Object> buildPrimitiveArray(Class<?> componentType) {
+		if (!componentType.isPrimitive() || componentType == void.class) {
+			throw new IllegalArgumentException(
+				"componentType must be a primitive type. componentType: " + componentType
+			);
+		}
+
+		return new PrimitiveArrayCombinableArbitrary(elementArbitraryList, componentType, postBuild);
+	}
 }
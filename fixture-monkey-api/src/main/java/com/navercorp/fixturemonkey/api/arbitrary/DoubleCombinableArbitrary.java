@@ -0,0 +1,105 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface DoubleCombinableArbitrary extends CombinableArbitrary<Double> {
+	@Override
+	Double combined();
+
+	@Override
+	Double rawValue();
+
+	/**
+	 * Generates a primitive double without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive double
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	default double nextDouble() {
+		return combined();
+	}
+
+	/**
+	 * Generates a DoubleCombinableArbitrary which produces doubles within the specified range.
+	 *
+	 * @param min the minimum value (inclusive)
+	 * @param max the maximum value (inclusive)
+	 * @return the DoubleCombinableArbitrary producing doubles between {@code min} and {@code max}
+	 */
+	DoubleCombinableArbitrary withRange(double min, double max);
+
+	/**
+	 * Generates a DoubleCombinableArbitrary which produces only positive doubles.
+	 *
+	 * @return the DoubleCombinableArbitrary producing positive doubles
+	 */
+	DoubleCombinableArbitrary positive();
+
+	/**
+	 * Generates a DoubleCombinableArbitrary which produces only negative doubles.
+	 *
+	 * @return the DoubleCombinableArbitrary producing negative doubles
+	 */
+	DoubleCombinableArbitrary negative();
+
+	/**
+	 * Generates a DoubleCombinableArbitrary which produces doubles with the given number of decimal places.
+	 *
+	 * @param scale the maximum number of decimal places
+	 * @return the DoubleCombinableArbitrary producing doubles of the given scale
+	 */
+	DoubleCombinableArbitrary ofScale(int scale);
+
+	@Override
+	default DoubleCombinableArbitrary filter(Predicate<Double> predicate) {
+		return this.filter(DEFAULT_MAX_TRIES, predicate);
+	}
+
+	@Override
+	default DoubleCombinableArbitrary filter(int tries, Predicate<Double> predicate) {
+		return new DoubleCombinableArbitraryDelegator(CombinableArbitrary.super.filter(tries, predicate));
+	}
+
+	@Override
+	default DoubleCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
+		return new DoubleCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
+	}
+
+	@Override
+	default DoubleCombinableArbitrary unique() {
+		return new DoubleCombinableArbitraryDelegator(CombinableArbitrary.super.unique());
+	}
+
+	@Override
+	void clear();
+
+	@Override
+	boolean fixed();
+}
@@ -0,0 +1,48 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A predicate which is expensive to test, such as a call to the Bean Validation validator.
+ * The filters of {@link CombinableArbitrary} test it after all the other predicates are satisfied.
+ *
+ * @param <T> the type of the filtered value
+ * @see CombinableArbitrary#filter(int, Predicate)
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+@FunctionalInterface
+public interface ExpensivePredicate<T> extends Predicate<T> {
+	/**
+	 * Marks the given {@code predicate} as expensive.
+	 *
+	 * @param predicate the predicate to mark
+	 * @return an {@link ExpensivePredicate} delegates to the given {@code predicate}
+	 */
+	static <T> ExpensivePredicate<T> of(Predicate<T> predicate) {
+		if (predicate instanceof ExpensivePredicate) {
+			return (ExpensivePredicate<T>)predicate;
+		}
+		return predicate::test;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The hits and misses of a filter registered by a user, it is owned by the {@link MonitoredFilter} of the filter.
+ * It warns once if the acceptance rate of the filter falls below {@link #WARN_ACCEPTANCE_RATE}
+ * after {@link #MIN_TRIES_TO_WARN} tries, the filter would be better to be a
+ * {@link com.navercorp.fixturemonkey.api.constraint.FilterConstraint} or a narrower generation.
+ */
+final class FilterStatistics {
+	private static final Logger LOGGER = LoggerFactory.getLogger(FilterStatistics.class);
+
+	static final long MIN_TRIES_TO_WARN = 100;
+	static final double WARN_ACCEPTANCE_RATE = 0.05d;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final AtomicBoolean warned = new AtomicBoolean(false);
+
+	void hit() {
+		hits.increment();
+	}
+
+	/**
+	 * Records a miss and warns if the acceptance rate is too low.
+	 *
+	 * @param target describes what is filtered, it is only used in the warning
+	 */
+	void miss(Supplier<String> target) {
+		misses.increment();
+
+		long missCount = misses.sum();
+		long hitCount = hits.sum();
+		long tries = missCount + hitCount;
+		if (tries < MIN_TRIES_TO_WARN || getAcceptanceRate() >= WARN_ACCEPTANCE_RATE) {
+			return;
+		}
+
+		if (warned.compareAndSet(false, true)) {
+			LOGGER.warn(
+				"Filter of {} accepts only {} of {} generated values. "
+					+ "Consider using FilterConstraint or narrowing the generation instead of filtering.",
+				target.get(),
+				hitCount,
+				tries
+			);
+		}
+	}
+
+	double getAcceptanceRate() {
+		long hitCount = hits.sum();
+		long tries = hitCount + misses.sum();
+		return tries == 0 ? 1.0d : (double)hitCount / tries;
+	}
+
+	long getMissCount() {
+		return misses.sum();
+	}
+
+	boolean isWarned() {
+		return warned.get();
+	}
+}
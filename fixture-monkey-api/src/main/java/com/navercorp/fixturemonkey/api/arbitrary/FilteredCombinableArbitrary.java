@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -35,42 +37,101 @@ import com.navercorp.fixturemonkey.api.property.Traceable;
 /**
  * It would generate an object satisfied given {@code predicate}.
  * It would try {@code maxMisses} times, {@code maxMisses} is 1000 in default.
+ * <p>
+ * Filtering a {@link FilteredCombinableArbitrary} again does not nest, the predicates are flattened into one array.
+ * The {@link ExpensivePredicate}s are tested after all the other predicates are satisfied.
+ * The failures are kept within each call, it could be shared by the threads, for example by a unique arbitrary.
  */
 @API(since = "0.5.0", status = Status.MAINTAINED)
 final class FilteredCombinableArbitrary<T> implements CombinableArbitrary<T> {
+	@SuppressWarnings("rawtypes")
+	private static final Predicate[] NO_PREDICATES = new Predicate[0];
+
 	private final int maxMisses;
 	private final CombinableArbitrary<T> combinableArbitrary;
-	private final Predicate<T> predicate;
-
-	private Exception lastException;
+	/**
+	 * The cheap predicates come first, the latest given predicate comes first in each group.
+	 */
+	private final Predicate<T>[] predicates;
+	private final int cheapPredicateCount;
 
+	@SuppressWarnings("unchecked")
 	FilteredCombinableArbitrary(
 		int maxMisses,
 		CombinableArbitrary<T> combinableArbitrary,
 		Predicate<T> predicate
 	) {
-		this.maxMisses = maxMisses;
-		this.combinableArbitrary = combinableArbitrary;
-		this.predicate = predicate;
+		this(maxMisses, combinableArbitrary, NO_PREDICATES, 0, Collections.singletonList(predicate));
 	}
 
 	FilteredCombinableArbitrary(
 		int maxMisses,
 		FilteredCombinableArbitrary<T> filteredCombinableArbitrary,
 		Predicate<T> predicate
+	) {
+		this(maxMisses, filteredCombinableArbitrary, Collections.singletonList(predicate));
+	}
+
+	FilteredCombinableArbitrary(
+		int maxMisses,
+		FilteredCombinableArbitrary<T> filteredCombinableArbitrary,
+		List<? extends Predicate<T>> predicates
+	) {
+		this(
+			maxMisses,
+			filteredCombinableArbitrary.combinableArbitrary,
+			filteredCombinableArbitrary.predicates,
+			filteredCombinableArbitrary.cheapPredicateCount,
+			predicates
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private FilteredCombinableArbitrary(
+		int maxMisses,
+		CombinableArbitrary<T> combinableArbitrary,
+		Predicate<T>[] previousPredicates,
+		int previousCheapPredicateCount,
+		List<? extends Predicate<T>> newPredicates
 	) {
 		this.maxMisses = maxMisses;
-		this.combinableArbitrary = filteredCombinableArbitrary.combinableArbitrary;
-		this.predicate = predicate.and(filteredCombinableArbitrary.predicate);
+		this.combinableArbitrary = combinableArbitrary;
+		this.predicates = (Predicate<T>[])new Predicate[previousPredicates.length + newPredicates.size()];
+
+		int index = 0;
+		for (int i = newPredicates.size() - 1; i >= 0; i--) {
+			Predicate<T> predicate = newPredicates.get(i);
+			if (!(predicate instanceof ExpensivePredicate)) {
+				this.predicates[index++] = predicate;
+			}
+		}
+		System.arraycopy(previousPredicates, 0, this.predicates, index, previousCheapPredicateCount);
+		index += previousCheapPredicateCount;
+		this.cheapPredicateCount = index;
+
+		for (int i = newPredicates.size() - 1; i >= 0; i--) {
+			Predicate<T> predicate = newPredicates.get(i);
+			if (predicate instanceof ExpensivePredicate) {
+				this.predicates[index++] = predicate;
+			}
+		}
+		System.arraycopy(
+			previousPredicates,
+			previousCheapPredicateCount,
+			this.predicates,
+			index,
+			previousPredicates.length - previousCheapPredicateCount
+		);
 	}
 
 	@Override
 	public T combined() {
+		Exception lastException = null;
 		T returned;
 		for (int i = 0; i < maxMisses; i++) {
 			try {
 				returned = combinableArbitrary.combined();
-				if (predicate.test(returned)) {
+				if (test(returned)) {
 					return returned;
 				}
 
@@ -85,10 +146,6 @@ final class FilteredCombinableArbitrary<T> implements CombinableArbitrary<T> {
 			}
 		}
 
-		if (lastException == null && combinableArbitrary instanceof FilteredCombinableArbitrary) {
-			lastException = ((FilteredCombinableArbitrary<T>)combinableArbitrary).lastException;
-		}
-
 		if (lastException instanceof ValidationFailedException) {
 			String failedConcatProperties = String.join(", ",
 				((ValidationFailedException)lastException).getConstraintViolationPropertyNames());
@@ -126,11 +183,12 @@ final class FilteredCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@SuppressWarnings("unchecked")
 	@Override
 	public T rawValue() {
+		Exception lastException = null;
 		T returned;
 		for (int i = 0; i < maxMisses; i++) {
 			try {
 				returned = (T)combinableArbitrary.rawValue();
-				if (predicate.test(returned)) {
+				if (test(returned)) {
 					return returned;
 				}
 
@@ -152,10 +210,6 @@ final class FilteredCombinableArbitrary<T> implements CombinableArbitrary<T> {
 			}
 		}
 
-		if (lastException == null && combinableArbitrary instanceof FilteredCombinableArbitrary) {
-			lastException = ((FilteredCombinableArbitrary<T>)combinableArbitrary).lastException;
-		}
-
 		if (lastException instanceof ValidationFailedException) {
 			String failedConcatProperties = String.join(", ",
 				((ValidationFailedException)lastException).getConstraintViolationPropertyNames());
@@ -190,6 +244,23 @@ final class FilteredCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		throw newRetryableFilterMissException(lastException);
 	}
 
+	@Override
+	public CombinableArbitrary<T> filter(int tries, List<? extends Predicate<T>> predicates) {
+		if (predicates.isEmpty()) {
+			return this;
+		}
+		return new FilteredCombinableArbitrary<>(tries, this, predicates);
+	}
+
+	private boolean test(T value) {
+		for (Predicate<T> predicate : predicates) {
+			if (!predicate.test(value)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public void clear() {
 		combinableArbitrary.clear();
@@ -0,0 +1,105 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface FloatCombinableArbitrary extends CombinableArbitrary<Float> {
+	@Override
+	Float combined();
+
+	@Override
+	Float rawValue();
+
+	/**
+	 * Generates a primitive float without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive float
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	default float nextFloat() {
+		return combined();
+	}
+
+	/**
+	 * Generates a FloatCombinableArbitrary which produces floats within the specified range.
+	 *
+	 * @param min the minimum value (inclusive)
+	 * @param max the maximum value (inclusive)
+	 * @return the FloatCombinableArbitrary producing floats between {@code min} and {@code max}
+	 */
+	FloatCombinableArbitrary withRange(float min, float max);
+
+	/**
+	 * Generates a FloatCombinableArbitrary which produces only positive floats.
+	 *
+	 * @return the FloatCombinableArbitrary producing positive floats
+	 */
+	FloatCombinableArbitrary positive();
+
+	/**
+	 * Generates a FloatCombinableArbitrary which produces only negative floats.
+	 *
+	 * @return the FloatCombinableArbitrary producing negative floats
+	 */
+	FloatCombinableArbitrary negative();
+
+	/**
+	 * Generates a FloatCombinableArbitrary which produces floats with the given number of decimal places.
+	 *
+	 * @param scale the maximum number of decimal places
+	 * @return the FloatCombinableArbitrary producing floats of the given scale
+	 */
+	FloatCombinableArbitrary ofScale(int scale);
+
+	@Override
+	default FloatCombinableArbitrary filter(Predicate<Float> predicate) {
+		return this.filter(DEFAULT_MAX_TRIES, predicate);
+	}
+
+	@Override
+	default FloatCombinableArbitrary filter(int tries, Predicate<Float> predicate) {
+		return new FloatCombinableArbitraryDelegator(CombinableArbitrary.super.filter(tries, predicate));
+	}
+
+	@Override
+	default FloatCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
+		return new FloatCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
+	}
+
+	@Override
+	default FloatCombinableArbitrary unique() {
+		return new FloatCombinableArbitraryDelegator(CombinableArbitrary.super.unique());
+	}
+
+	@Override
+	void clear();
+
+	@Override
+	boolean fixed();
+}
@@ -0,0 +1,67 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+final class FloatCombinableArbitraryDelegator implements FloatCombinableArbitrary {
+	private final CombinableArbitrary<Float> delegate;
+
+	FloatCombinableArbitraryDelegator(CombinableArbitrary<Float> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Float combined() {
+		return delegate.combined();
+	}
+
+	@Override
+	public Float rawValue() {
+		return delegate.combined();
+	}
+
+	@Override
+	public FloatCombinableArbitrary withRange(float min, float max) {
+		return CombinableArbitrary.floats().withRange(min, max);
+	}
+
+	@Override
+	public FloatCombinableArbitrary positive() {
+		return CombinableArbitrary.floats().positive();
+	}
+
+	@Override
+	public FloatCombinableArbitrary negative() {
+		return CombinableArbitrary.floats().negative();
+	}
+
+	@Override
+	public FloatCombinableArbitrary ofScale(int scale) {
+		return CombinableArbitrary.floats().ofScale(scale);
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public boolean fixed() {
+		return delegate.fixed();
+	}
+}
@@ -31,6 +31,18 @@ public interface IntegerCombinableArbitrary extends CombinableArbitrary<Integer>
 	@Override
 	Integer rawValue();
 
+	/**
+	 * Generates a primitive int without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive int
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default int nextInt() {
+		return combined();
+	}
+
 	/**
 	 * Generates an IntegerCombinableArbitrary which produces integers within the specified range.
 	 *
@@ -80,6 +92,10 @@ public interface IntegerCombinableArbitrary extends CombinableArbitrary<Integer>
 
 	@Override
 	default IntegerCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
 		return new IntegerCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
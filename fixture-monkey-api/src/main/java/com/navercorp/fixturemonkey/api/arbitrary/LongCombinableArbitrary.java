@@ -31,6 +31,17 @@ public interface LongCombinableArbitrary extends CombinableArbitrary<Long> {
 	@Override
 	Long rawValue();
 
+	/**
+	 * Generates a primitive long without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive long
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	default long nextLong() {
+		return combined();
+	}
+
 	/**
 	 * Generates a LongCombinableArbitrary which produces longs within the specified range.
 	 *
@@ -97,6 +108,10 @@ public interface LongCombinableArbitrary extends CombinableArbitrary<Long> {
 
 	@Override
 	default LongCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
 		return new LongCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
@@ -0,0 +1,75 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A filter registered by a user, it records how often the filter accepts the generated values.
+ * It is created once where the filter is registered, so the statistics are not looked up for each sample.
+ * It warns once if the filter rejects most of the generated values.
+ *
+ * @param <T> the type of the filtered value
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class MonitoredFilter<T> implements Predicate<T> {
+	private final Predicate<T> delegate;
+	private final Supplier<String> target;
+	private final FilterStatistics statistics = new FilterStatistics();
+
+	/**
+	 * @param delegate the filter registered by a user
+	 * @param target   describes what is filtered, it is only used in the warning
+	 */
+	public MonitoredFilter(Predicate<T> delegate, Supplier<String> target) {
+		this.delegate = delegate;
+		this.target = target;
+	}
+
+	@Override
+	public boolean test(T value) {
+		if (delegate.test(value)) {
+			statistics.hit();
+			return true;
+		}
+
+		statistics.miss(target);
+		return false;
+	}
+
+	public Predicate<T> getDelegate() {
+		return delegate;
+	}
+
+	public double getAcceptanceRate() {
+		return statistics.getAcceptanceRate();
+	}
+
+	public long getMissCount() {
+		return statistics.getMissCount();
+	}
+
+	boolean isWarned() {
+		return statistics.isWarned();
+	}
+}
@@ -24,6 +24,7 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
+import com.navercorp.fixturemonkey.api.introspector.AnonymousInstance;
 import com.navercorp.fixturemonkey.api.random.Randoms;
 
 /**
@@ -43,7 +44,7 @@ final class NullInjectCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@Override
 	public T combined() {
 		T combined = combinableArbitrary.combined();
-		if (this.nullProbability != 1.0d && combined instanceof Proxy) {
+		if (this.nullProbability != 1.0d && isAnonymousInstance(combined)) {
 			return combined;
 		}
 
@@ -53,7 +54,7 @@ final class NullInjectCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	@Override
 	public Object rawValue() {
 		Object rawValue = combinableArbitrary.rawValue();
-		if (this.nullProbability != 1.0d && rawValue instanceof Proxy) {
+		if (this.nullProbability != 1.0d && isAnonymousInstance(rawValue)) {
 			return rawValue;
 		}
 
@@ -84,4 +85,8 @@ final class NullInjectCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		int currentSeed = Randoms.nextInt(1000);
 		return currentSeed < frequencyNull ? null : object;
 	}
+
+	private static boolean isAnonymousInstance(@Nullable Object value) {
+		return value instanceof Proxy || value instanceof AnonymousInstance;
+	}
 }
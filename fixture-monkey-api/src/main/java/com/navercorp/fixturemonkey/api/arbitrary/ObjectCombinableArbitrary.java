@@ -18,64 +18,60 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Function;
-
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
-
 /**
  * It combines given {@link CombinableArbitrary} list into an object type {@link CombinableArbitrary}.
+ * The values of the {@link CombinableArbitrary} list are written into the slots of the same index.
  */
 @API(since = "0.6.0", status = Status.MAINTAINED)
 final class ObjectCombinableArbitrary<T> implements CombinableArbitrary<T> {
-	private final Map<ArbitraryProperty, CombinableArbitrary<?>> combinableArbitrariesByArbitraryProperty;
-	private final Function<Map<ArbitraryProperty, Object>, T> combinator;
+	private final CombinableArbitrary<?>[] combinableArbitraries;
+	private final SlotCombinator<T> combinator;
 
 	ObjectCombinableArbitrary(
-		Map<ArbitraryProperty, CombinableArbitrary<?>> combinableArbitrariesByArbitraryProperty,
-		Function<Map<ArbitraryProperty, Object>, T> combinator
+		CombinableArbitrary<?>[] combinableArbitraries,
+		SlotCombinator<T> combinator
 	) {
-		this.combinableArbitrariesByArbitraryProperty = combinableArbitrariesByArbitraryProperty;
+		this.combinableArbitraries = combinableArbitraries;
 		this.combinator = combinator;
 	}
 
 	@Override
 	public T combined() {
-		Map<ArbitraryProperty, Object> combinedPropertyValuesByArbitraryProperty = new HashMap<>();
-
-		combinableArbitrariesByArbitraryProperty.forEach(
-			(key, value) -> combinedPropertyValuesByArbitraryProperty.put(key, value.combined())
-		);
-
-		return combinator.apply(combinedPropertyValuesByArbitraryProperty);
+		Object[] values = new Object[combinableArbitraries.length];
+		for (int i = 0; i < combinableArbitraries.length; i++) {
+			values[i] = combinableArbitraries[i].combined();
+		}
+		return combinator.combine(values);
 	}
 
 	@Override
 	public Object rawValue() {
-		Map<ArbitraryProperty, Object> rawPropertyValuesByArbitraryProperty = new HashMap<>();
-
-		combinableArbitrariesByArbitraryProperty.forEach(
-			(key, value) -> rawPropertyValuesByArbitraryProperty.put(key, value.rawValue())
-		);
-
-		return combinator.apply(rawPropertyValuesByArbitraryProperty);
+		Object[] rawValues = new Object[combinableArbitraries.length];
+		for (int i = 0; i < combinableArbitraries.length; i++) {
+			rawValues[i] = combinableArbitraries[i].rawValue();
+		}
+		return combinator.combine(rawValues);
 	}
 
 	@Override
 	public void clear() {
-		combinableArbitrariesByArbitraryProperty.forEach((property, arbitrary) -> {
-			if (!arbitrary.fixed()) {
-				arbitrary.clear();
+		for (CombinableArbitrary<?> combinableArbitrary : combinableArbitraries) {
+			if (!combinableArbitrary.fixed()) {
+				combinableArbitrary.clear();
 			}
-		});
+		}
 	}
 
 	@Override
 	public boolean fixed() {
-		return combinableArbitrariesByArbitraryProperty.values().stream().allMatch(CombinableArbitrary::fixed);
+		for (CombinableArbitrary<?> combinableArbitrary : combinableArbitraries) {
+			if (!combinableArbitrary.fixed()) {
+				return false;
+			}
+		}
+		return true;
 	}
 }
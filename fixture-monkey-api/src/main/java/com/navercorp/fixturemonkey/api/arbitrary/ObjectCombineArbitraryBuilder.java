@@ -18,8 +18,12 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
@@ -47,10 +51,45 @@ public final class ObjectCombineArbitraryBuilder {
 		return this;
 	}
 
+	/**
+	 * Builds a {@link CombinableArbitrary} combining the values of the properties by the given combinator.
+	 * The map given to the combinator is an unmodifiable view of the values.
+	 * Use {@link #buildBySlots(Function)} to avoid looking up the values by the property for each object.
+	 *
+	 * @param combinator combines the values by the property
+	 * @return a {@link CombinableArbitrary} of the combined object
+	 */
 	public <T> CombinableArbitrary<T> build(Function<Map<ArbitraryProperty, Object>, T> combinator) {
+		return buildBySlots(slots -> {
+			Map<ArbitraryProperty, Integer> slotIndexesByProperty = new HashMap<>();
+			for (int i = 0; i < slots.size(); i++) {
+				slotIndexesByProperty.put(slots.get(i), i);
+			}
+			return values -> combinator.apply(new SlotValueMap(slots, slotIndexesByProperty, values));
+		});
+	}
+
+	/**
+	 * Builds a {@link CombinableArbitrary} combining the values of the properties by their slot indexes.
+	 * The binder is called once with the properties in slot order, it returns the combinator of the slot values.
+	 * The bindings of the slots such as the fields or the parameters should be resolved in the binder.
+	 *
+	 * @param binder binds the properties in slot order to a combinator
+	 * @return a {@link CombinableArbitrary} of the combined object
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> CombinableArbitrary<T> buildBySlots(Function<List<ArbitraryProperty>, SlotCombinator<T>> binder) {
+		int size = arbitraryListByArbitraryProperty.size();
+		List<ArbitraryProperty> slots = new ArrayList<>(size);
+		CombinableArbitrary<?>[] combinableArbitraries = new CombinableArbitrary<?>[size];
+		for (Entry<ArbitraryProperty, CombinableArbitrary<?>> entry : arbitraryListByArbitraryProperty.entrySet()) {
+			combinableArbitraries[slots.size()] = entry.getValue();
+			slots.add(entry.getKey());
+		}
+
 		return new ObjectCombinableArbitrary<>(
-			arbitraryListByArbitraryProperty,
-			combinator
+			combinableArbitraries,
+			binder.apply(Collections.unmodifiableList(slots))
 		);
 	}
 }
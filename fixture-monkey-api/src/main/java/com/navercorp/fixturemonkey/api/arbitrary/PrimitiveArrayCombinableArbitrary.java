@@ -0,0 +1,130 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * It combines given element {@link CombinableArbitrary} list into an array of a primitive component type.
+ * The element generated by the primitive {@link CombinableArbitrary} of the component type is written
+ * by its primitive accessor, for example {@link IntegerCombinableArbitrary#nextInt()} for {@code int[]},
+ * the other elements are generated by {@link CombinableArbitrary#combined()} and unboxed.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+final class PrimitiveArrayCombinableArbitrary implements CombinableArbitrary<Object> {
+	private static final Object EXISTED = new Object();
+
+	private final List<CombinableArbitrary<?>> combinableArbitraryList;
+	private final Class<?> componentType;
+	private final Runnable postBuild;
+
+	PrimitiveArrayCombinableArbitrary(
+		List<CombinableArbitrary<?>> combinableArbitraryList,
+		Class<?> componentType,
+		Runnable postBuild
+	) {
+		this.combinableArbitraryList = combinableArbitraryList;
+		this.componentType = componentType;
+		this.postBuild = postBuild;
+	}
+
+	@Override
+	public Object combined() {
+		int size = combinableArbitraryList.size();
+		Object array = Array.newInstance(componentType, size);
+		for (int i = 0; i < size; i++) {
+			set(array, i, combinableArbitraryList.get(i));
+		}
+		postBuild.run();
+		return array;
+	}
+
+	@Override
+	public Object rawValue() {
+		int size = combinableArbitraryList.size();
+		Object array = Array.newInstance(componentType, size);
+		for (int i = 0; i < size; i++) {
+			Array.set(array, i, combinableArbitraryList.get(i).rawValue());
+		}
+		postBuild.run();
+		return array;
+	}
+
+	@Override
+	public void clear() {
+		combinableArbitraryList.forEach(arbitrary -> {
+			if (!arbitrary.fixed()) {
+				arbitrary.clear();
+			}
+		});
+	}
+
+	@Override
+	public boolean fixed() {
+		if (combinableArbitraryList.isEmpty()) {
+			return false;
+		}
+
+		return combinableArbitraryList.stream()
+			.allMatch(CombinableArbitrary::fixed);
+	}
+
+	@Override
+	public CombinableArbitrary<Object> unique() {
+		List<CombinableArbitrary<?>> uniqueCombinableArbitraryList = this.combinableArbitraryList.stream()
+			.map(arbitrary -> arbitrary.filter(
+				it -> UniqueScope.current().getGeneratedValues(this).putIfAbsent(it, EXISTED) == null
+			))
+			.collect(Collectors.toList());
+
+		return new PrimitiveArrayCombinableArbitrary(uniqueCombinableArbitraryList, componentType, postBuild);
+	}
+
+	private static void set(Object array, int index, CombinableArbitrary<?> element) {
+		CombinableArbitrary<?> arbitrary = element;
+		while (arbitrary instanceof TraceableCombinableArbitrary) {
+			arbitrary = ((TraceableCombinableArbitrary<?>)arbitrary).getDelegate();
+		}
+
+		if (array instanceof int[] && arbitrary instanceof IntegerCombinableArbitrary) {
+			((int[])array)[index] = ((IntegerCombinableArbitrary)arbitrary).nextInt();
+		} else if (array instanceof long[] && arbitrary instanceof LongCombinableArbitrary) {
+			((long[])array)[index] = ((LongCombinableArbitrary)arbitrary).nextLong();
+		} else if (array instanceof double[] && arbitrary instanceof DoubleCombinableArbitrary) {
+			((double[])array)[index] = ((DoubleCombinableArbitrary)arbitrary).nextDouble();
+		} else if (array instanceof float[] && arbitrary instanceof FloatCombinableArbitrary) {
+			((float[])array)[index] = ((FloatCombinableArbitrary)arbitrary).nextFloat();
+		} else if (array instanceof short[] && arbitrary instanceof ShortCombinableArbitrary) {
+			((short[])array)[index] = ((ShortCombinableArbitrary)arbitrary).nextShort();
+		} else if (array instanceof byte[] && arbitrary instanceof ByteCombinableArbitrary) {
+			((byte[])array)[index] = ((ByteCombinableArbitrary)arbitrary).nextByte();
+		} else if (array instanceof char[] && arbitrary instanceof CharacterCombinableArbitrary) {
+			((char[])array)[index] = ((CharacterCombinableArbitrary)arbitrary).nextChar();
+		} else if (array instanceof boolean[] && arbitrary instanceof BooleanCombinableArbitrary) {
+			((boolean[])array)[index] = ((BooleanCombinableArbitrary)arbitrary).nextBoolean();
+		} else {
+			Array.set(array, index, element.combined());
+		}
+	}
+}
@@ -31,6 +31,18 @@ public interface ShortCombinableArbitrary extends CombinableArbitrary<Short> {
 	@Override
 	Short rawValue();
 
+	/**
+	 * Generates a primitive short without boxing it if the implementation supports it.
+	 * The default implementation unboxes {@link #combined()}.
+	 *
+	 * @return a generated primitive short
+	 * @throws NullPointerException if it generates null, for example it is {@link #injectNull(double) null-injected}
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default short nextShort() {
+		return combined();
+	}
+
 	/**
 	 * Generates a ShortCombinableArbitrary which produces shorts within the specified range.
 	 *
@@ -145,6 +157,10 @@ public interface ShortCombinableArbitrary extends CombinableArbitrary<Short> {
 
 	@Override
 	default ShortCombinableArbitrary injectNull(double nullProbability) {
+		if (nullProbability <= 0.0d) {
+			// never null, keeps the primitive accessor of this implementation
+			return this;
+		}
 		return new ShortCombinableArbitraryDelegator(CombinableArbitrary.super.injectNull(nullProbability));
 	}
 
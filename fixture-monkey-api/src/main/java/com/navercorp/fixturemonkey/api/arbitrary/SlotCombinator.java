@@ -0,0 +1,42 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Combines the values of the child properties into an object.
+ * The value of each child property is given at its slot index,
+ * the slots are fixed when the combinator is bound by {@link ObjectCombineArbitraryBuilder#buildBySlots}.
+ *
+ * @param <T> the type of the combined object
+ */
+@FunctionalInterface
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface SlotCombinator<T> {
+	/**
+	 * Combines the values of the slots.
+	 *
+	 * @param values the values of the child properties, the index is the slot of the property.
+	 *               It is not shared with other objects, the combinator may keep it.
+	 * @return the combined object
+	 */
+	T combine(Object[] values);
+}
@@ -0,0 +1,109 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+
+/**
+ * An unmodifiable {@link Map} view of the slot values for the combinators taking a {@link Map}.
+ * The slot index of each property is shared by all the objects, only the values are different.
+ */
+final class SlotValueMap extends AbstractMap<ArbitraryProperty, Object> {
+	private final List<ArbitraryProperty> slots;
+	private final Map<ArbitraryProperty, Integer> slotIndexesByProperty;
+	private final Object[] values;
+
+	SlotValueMap(
+		List<ArbitraryProperty> slots,
+		Map<ArbitraryProperty, Integer> slotIndexesByProperty,
+		Object[] values
+	) {
+		this.slots = slots;
+		this.slotIndexesByProperty = slotIndexesByProperty;
+		this.values = values;
+	}
+
+	@Override
+	public int size() {
+		return values.length;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return slotIndexesByProperty.containsKey(key);
+	}
+
+	@Nullable
+	@Override
+	public Object get(Object key) {
+		Integer index = slotIndexesByProperty.get(key);
+		return index == null ? null : values[index];
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super ArbitraryProperty, ? super Object> action) {
+		for (int i = 0; i < values.length; i++) {
+			action.accept(slots.get(i), values[i]);
+		}
+	}
+
+	@Override
+	public Set<Entry<ArbitraryProperty, Object>> entrySet() {
+		return new AbstractSet<Entry<ArbitraryProperty, Object>>() {
+			@Override
+			public Iterator<Entry<ArbitraryProperty, Object>> iterator() {
+				return new Iterator<Entry<ArbitraryProperty, Object>>() {
+					private int index = 0;
+
+					@Override
+					public boolean hasNext() {
+						return index < values.length;
+					}
+
+					@Override
+					public Entry<ArbitraryProperty, Object> next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						Entry<ArbitraryProperty, Object> entry =
+							new SimpleImmutableEntry<>(slots.get(index), values[index]);
+						index++;
+						return entry;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return values.length;
+			}
+		};
+	}
+}
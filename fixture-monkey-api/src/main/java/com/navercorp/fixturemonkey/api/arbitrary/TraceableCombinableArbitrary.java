@@ -66,4 +66,8 @@ public final class TraceableCombinableArbitrary<T> implements CombinableArbitrar
 	public PropertyPath getPropertyPath() {
 		return propertyPath;
 	}
+
+	CombinableArbitrary<T> getDelegate() {
+		return combinableArbitrary;
+	}
 }
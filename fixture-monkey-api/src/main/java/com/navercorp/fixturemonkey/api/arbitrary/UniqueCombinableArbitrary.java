@@ -18,51 +18,36 @@
 
 package com.navercorp.fixturemonkey.api.arbitrary;
 
-import java.util.Map;
-
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 /**
  * It would generate a unique value.
  * The class of object generated by {@code CombinableArbitrary} should override {@code equals} and {@code hashCode}.
+ * The generated values are kept in the current {@link UniqueScope}.
  */
 @API(since = "0.6.0", status = Status.MAINTAINED)
 final class UniqueCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	private static final Object EXISTED = new Object();
 
 	private final CombinableArbitrary<T> combinableArbitrary;
-	private final Map<Object, Object> generated;
+	private final CombinableArbitrary<T> filteredCombinableArbitrary;
 
-	UniqueCombinableArbitrary(CombinableArbitrary<T> combinableArbitrary, Map<Object, Object> generated) {
+	UniqueCombinableArbitrary(CombinableArbitrary<T> combinableArbitrary) {
 		this.combinableArbitrary = combinableArbitrary;
-		this.generated = generated;
+		this.filteredCombinableArbitrary = combinableArbitrary.filter(
+			it -> UniqueScope.current().getGeneratedValues(this).putIfAbsent(it, EXISTED) == null
+		);
 	}
 
 	@Override
 	public T combined() {
-		return combinableArbitrary.filter(
-			it -> {
-				if (!generated.containsKey(it)) {
-					generated.put(it, EXISTED);
-					return true;
-				}
-				return false;
-			}
-		).combined();
+		return filteredCombinableArbitrary.combined();
 	}
 
 	@Override
 	public Object rawValue() {
-		return combinableArbitrary.filter(
-			it -> {
-				if (!generated.containsKey(it)) {
-					generated.put(it, EXISTED);
-					return true;
-				}
-				return false;
-			}
-		).rawValue();
+		return filteredCombinableArbitrary.rawValue();
 	}
 
 	@Override
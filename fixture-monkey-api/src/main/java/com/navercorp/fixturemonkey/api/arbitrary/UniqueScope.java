@@ -0,0 +1,153 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A lifetime of the values generated by {@link CombinableArbitrary#unique()}.
+ * The values are unique within the same scope, they are released when the scope is closed or reset.
+ * <p>
+ * The scopes are bound to the current thread. The values are stored in the global scope if no scope is open,
+ * they are released when the {@link CombinableArbitrary} is garbage collected or {@link #reset()} is called.
+ * <p>
+ * It could be scoped to a sample, a {@code sampleList} or a test by {@link #open()}.
+ * <pre>{@code
+ * try (UniqueScope scope = UniqueScope.open()) {
+ *     List<Product> products = fixtureMonkey.giveMeBuilder(Product.class).sampleList(100);
+ * }
+ * }</pre>
+ * It could be scoped to a builder by {@link #create()} and {@link #within(Supplier)}.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class UniqueScope implements AutoCloseable {
+	private static final UniqueScope GLOBAL = new UniqueScope();
+	private static final ThreadLocal<Deque<UniqueScope>> CURRENT_SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private final Map<Object, Map<Object, Object>> storesByOwner = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private UniqueScope() {
+	}
+
+	/**
+	 * Creates a new scope not bound to the current thread, it is bound by {@link #within(Supplier)}.
+	 *
+	 * @return a new scope
+	 */
+	public static UniqueScope create() {
+		return new UniqueScope();
+	}
+
+	/**
+	 * Opens a new scope bound to the current thread until it is closed.
+	 *
+	 * @return a new scope bound to the current thread
+	 */
+	public static UniqueScope open() {
+		UniqueScope scope = new UniqueScope();
+		CURRENT_SCOPES.get().push(scope);
+		return scope;
+	}
+
+	/**
+	 * Returns the innermost scope bound to the current thread, or the global scope if no scope is bound.
+	 *
+	 * @return the current scope
+	 */
+	public static UniqueScope current() {
+		UniqueScope scope = CURRENT_SCOPES.get().peek();
+		return scope != null ? scope : GLOBAL;
+	}
+
+	public static UniqueScope global() {
+		return GLOBAL;
+	}
+
+	/**
+	 * Binds this scope to the current thread while running the given supplier.
+	 * The values generated in it are not released after running, they are shared by the next run.
+	 *
+	 * @param supplier the supplier to run in this scope
+	 * @param <T>      the type of the result
+	 * @return the result of the given supplier
+	 */
+	public <T> T within(Supplier<T> supplier) {
+		Deque<UniqueScope> scopes = CURRENT_SCOPES.get();
+		scopes.push(this);
+		try {
+			return supplier.get();
+		} finally {
+			scopes.remove(this);
+		}
+	}
+
+	/**
+	 * Releases the values generated in this scope. The values generated after resetting could be the same as before.
+	 */
+	public void reset() {
+		storesByOwner.clear();
+	}
+
+	/**
+	 * Binds this scope to the current thread until {@link #unbind()} is called on the same thread.
+	 * It is for the test frameworks resuming a test on another thread, they bind the scope whenever it is resumed.
+	 */
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public void bind() {
+		CURRENT_SCOPES.get().push(this);
+	}
+
+	/**
+	 * Unbinds this scope from the current thread, the values generated in this scope are not released.
+	 */
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public void unbind() {
+		Deque<UniqueScope> scopes = CURRENT_SCOPES.get();
+		scopes.remove(this);
+		if (scopes.isEmpty()) {
+			CURRENT_SCOPES.remove();
+		}
+	}
+
+	/**
+	 * Unbinds this scope from the current thread and releases the values generated in this scope.
+	 */
+	@Override
+	public void close() {
+		unbind();
+		reset();
+	}
+
+	/**
+	 * Returns the generated values of the given owner within this scope.
+	 * The owner is compared by identity, it should not override {@code equals} and {@code hashCode}.
+	 */
+	Map<Object, Object> getGeneratedValues(Object owner) {
+		return storesByOwner.computeIfAbsent(owner, it -> new ConcurrentHashMap<>());
+	}
+}
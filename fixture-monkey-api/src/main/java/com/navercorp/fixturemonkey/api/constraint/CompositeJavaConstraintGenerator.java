@@ -18,7 +18,10 @@
 
 package com.navercorp.fixturemonkey.api.constraint;
 
+import java.lang.annotation.Annotation;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -93,4 +96,16 @@ public final class CompositeJavaConstraintGenerator implements JavaConstraintGen
 		}
 		return null;
 	}
+
+	/**
+	 * The first generator may return a constraint ignoring the annotations the others honor,
+	 * only its guaranteed constraints are guaranteed.
+	 */
+	@Override
+	public Set<Class<? extends Annotation>> getGuaranteedConstraintTypes() {
+		if (javaConstraintGenerators.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return javaConstraintGenerators.get(0).getGuaranteedConstraintTypes();
+	}
 }
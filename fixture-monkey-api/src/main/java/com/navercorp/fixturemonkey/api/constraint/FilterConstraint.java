@@ -0,0 +1,332 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A predicate describing its constraint, it is pushed down into generation instead of retrying by rejection.
+ * The numeric range and the string length would be the bounds of {@link JavaIntegerConstraint},
+ * {@link JavaDecimalConstraint} and {@link JavaStringConstraint}. The candidates would be chosen directly.
+ * <p>
+ * It is still tested after generation, it works as a normal predicate if the generator can not push it down.
+ * The constraints combined by {@link #and(Predicate)} are pushed down together.
+ * <pre>{@code
+ * fixtureMonkey.giveMeBuilder(Product.class)
+ *     .setPostCondition("price", Long.class, FilterConstraint.between(1000, 5000))
+ *     .setPostCondition("name", String.class, FilterConstraint.length(1, 10))
+ *     .sample();
+ * }</pre>
+ *
+ * @param <T> the type of the value to test
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FilterConstraint<T> implements Predicate<T> {
+	@Nullable
+	private final BigDecimal min;
+	@Nullable
+	private final BigDecimal max;
+	@Nullable
+	private final Integer minLength;
+	@Nullable
+	private final Integer maxLength;
+	private final boolean notNull;
+	@Nullable
+	private final Set<Object> candidates;
+
+	private FilterConstraint(
+		@Nullable BigDecimal min,
+		@Nullable BigDecimal max,
+		@Nullable Integer minLength,
+		@Nullable Integer maxLength,
+		boolean notNull,
+		@Nullable Set<Object> candidates
+	) {
+		this.min = min;
+		this.max = max;
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.notNull = notNull;
+		this.candidates = candidates;
+	}
+
+	public static <T> FilterConstraint<T> notNull() {
+		return new FilterConstraint<>(null, null, null, null, true, null);
+	}
+
+	/**
+	 * Accepts the numbers between {@code min} and {@code max}, both inclusive.
+	 *
+	 * @throws IllegalArgumentException if {@code min} is greater than {@code max}
+	 */
+	public static <T extends Number> FilterConstraint<T> between(Number min, Number max) {
+		BigDecimal minDecimal = toBigDecimal(min);
+		BigDecimal maxDecimal = toBigDecimal(max);
+		if (minDecimal.compareTo(maxDecimal) > 0) {
+			throw new IllegalArgumentException(
+				"Min of FilterConstraint should not be greater than max. min: " + min + ", max: " + max
+			);
+		}
+		return new FilterConstraint<>(minDecimal, maxDecimal, null, null, true, null);
+	}
+
+	public static <T extends Number> FilterConstraint<T> atLeast(Number min) {
+		return new FilterConstraint<>(toBigDecimal(min), null, null, null, true, null);
+	}
+
+	public static <T extends Number> FilterConstraint<T> atMost(Number max) {
+		return new FilterConstraint<>(null, toBigDecimal(max), null, null, true, null);
+	}
+
+	/**
+	 * Accepts the strings of which length is between {@code minLength} and {@code maxLength}, both inclusive.
+	 *
+	 * @throws IllegalArgumentException if {@code minLength} is negative or greater than {@code maxLength}
+	 */
+	public static <T extends CharSequence> FilterConstraint<T> length(int minLength, int maxLength) {
+		if (minLength < 0 || minLength > maxLength) {
+			throw new IllegalArgumentException(
+				"Length of FilterConstraint should be a valid range. minLength: " + minLength
+					+ ", maxLength: " + maxLength
+			);
+		}
+		return new FilterConstraint<>(null, null, minLength, maxLength, true, null);
+	}
+
+	/**
+	 * Accepts only the given candidates.
+	 * A chosen candidate is used as it is, the same instance could be returned by several samples
+	 * and the manipulators of its child properties are not applied to it. Prefer the immutable candidates.
+	 *
+	 * @throws IllegalArgumentException if {@code candidates} is empty
+	 */
+	@SafeVarargs
+	public static <T> FilterConstraint<T> oneOf(T... candidates) {
+		return oneOf(Arrays.asList(candidates));
+	}
+
+	/**
+	 * Accepts only the given candidates.
+	 *
+	 * @throws IllegalArgumentException if {@code candidates} is empty
+	 * @see #oneOf(Object[])
+	 */
+	public static <T> FilterConstraint<T> oneOf(Collection<? extends T> candidates) {
+		if (candidates.isEmpty()) {
+			throw new IllegalArgumentException("Candidates of FilterConstraint should not be empty.");
+		}
+		Set<Object> candidateSet = Collections.unmodifiableSet(new LinkedHashSet<>(candidates));
+		return new FilterConstraint<>(null, null, null, null, !candidateSet.contains(null), candidateSet);
+	}
+
+	@Override
+	public boolean test(@Nullable T value) {
+		if (value == null) {
+			return !notNull;
+		}
+
+		if (candidates != null && !candidates.contains(value)) {
+			return false;
+		}
+
+		if (min != null || max != null) {
+			BigDecimal number = value instanceof Number ? toBigDecimalOrNull((Number)value) : null;
+			if (number == null
+				|| (min != null && number.compareTo(min) < 0)
+				|| (max != null && number.compareTo(max) > 0)) {
+				return false;
+			}
+		}
+
+		if (minLength != null || maxLength != null) {
+			if (!(value instanceof CharSequence)) {
+				return false;
+			}
+			int length = ((CharSequence)value).length();
+			return (minLength == null || length >= minLength) && (maxLength == null || length <= maxLength);
+		}
+		return true;
+	}
+
+	/**
+	 * Combines with the given predicate. If it is a {@link FilterConstraint}, the intersection of both is returned.
+	 * The candidates of the intersection are the ones satisfying both.
+	 */
+	@Override
+	public Predicate<T> and(Predicate<? super T> other) {
+		if (!(other instanceof FilterConstraint)) {
+			return Predicate.super.and(other);
+		}
+
+		return intersect((FilterConstraint<?>)other);
+	}
+
+	public FilterConstraint<T> intersect(FilterConstraint<?> other) {
+		FilterConstraint<T> bounds = new FilterConstraint<>(
+			greater(this.min, other.min),
+			less(this.max, other.max),
+			greater(this.minLength, other.minLength),
+			less(this.maxLength, other.maxLength),
+			this.notNull || other.notNull,
+			null
+		);
+
+		if (this.candidates == null && other.candidates == null) {
+			return bounds;
+		}
+
+		Set<Object> intersectedCandidates = new LinkedHashSet<>();
+		for (Object candidate : this.candidates != null ? this.candidates : other.candidates) {
+			if ((other.candidates == null || other.candidates.contains(candidate))
+				&& bounds.testUnchecked(candidate)) {
+				intersectedCandidates.add(candidate);
+			}
+		}
+
+		return new FilterConstraint<>(
+			bounds.min,
+			bounds.max,
+			bounds.minLength,
+			bounds.maxLength,
+			bounds.notNull,
+			Collections.unmodifiableSet(intersectedCandidates)
+		);
+	}
+
+	public boolean isNotNull() {
+		return notNull;
+	}
+
+	@Nullable
+	public Set<Object> getCandidates() {
+		return candidates;
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean testUnchecked(@Nullable Object value) {
+		return test((T)value);
+	}
+
+	@Nullable
+	public JavaIntegerConstraint toIntegerConstraint() {
+		if (min == null && max == null) {
+			return null;
+		}
+
+		return new JavaIntegerConstraint(
+			min == null ? null : min.setScale(0, RoundingMode.CEILING).toBigIntegerExact(),
+			max == null ? null : max.setScale(0, RoundingMode.FLOOR).toBigIntegerExact()
+		);
+	}
+
+	@Nullable
+	public JavaDecimalConstraint toDecimalConstraint() {
+		if (min == null && max == null) {
+			return null;
+		}
+
+		return new JavaDecimalConstraint(min, min == null ? null : true, max, max == null ? null : true, null);
+	}
+
+	@Nullable
+	public BigInteger getMinLength() {
+		return minLength == null ? null : BigInteger.valueOf(minLength);
+	}
+
+	@Nullable
+	public BigInteger getMaxLength() {
+		return maxLength == null ? null : BigInteger.valueOf(maxLength);
+	}
+
+	/**
+	 * Returns the constraint of all the {@link FilterConstraint}s in the given filters.
+	 *
+	 * @param filters the filters may contain {@link FilterConstraint}
+	 * @return the intersection of {@link FilterConstraint}s, or null if there is none
+	 */
+	@SuppressWarnings("rawtypes")
+	@Nullable
+	public static FilterConstraint<?> extract(Collection<? extends Predicate> filters) {
+		FilterConstraint<?> extracted = null;
+		for (Predicate filter : filters) {
+			if (filter instanceof FilterConstraint) {
+				FilterConstraint<?> filterConstraint = (FilterConstraint<?>)filter;
+				extracted = extracted == null ? filterConstraint : extracted.intersect(filterConstraint);
+			}
+		}
+		return extracted;
+	}
+
+	private static BigDecimal toBigDecimal(Number number) {
+		BigDecimal bigDecimal = toBigDecimalOrNull(number);
+		if (bigDecimal == null) {
+			throw new IllegalArgumentException("Bound of FilterConstraint should be finite. Given: " + number);
+		}
+		return bigDecimal;
+	}
+
+	@Nullable
+	private static BigDecimal toBigDecimalOrNull(Number number) {
+		if (number instanceof BigDecimal) {
+			return (BigDecimal)number;
+		}
+		if (number instanceof BigInteger) {
+			return new BigDecimal((BigInteger)number);
+		}
+		if (number instanceof Double || number instanceof Float) {
+			double value = number.doubleValue();
+			return Double.isNaN(value) || Double.isInfinite(value) ? null : BigDecimal.valueOf(value);
+		}
+		return BigDecimal.valueOf(number.longValue());
+	}
+
+	@Nullable
+	private static <C extends Comparable<C>> C greater(@Nullable C left, @Nullable C right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		return left.compareTo(right) >= 0 ? left : right;
+	}
+
+	@Nullable
+	private static <C extends Comparable<C>> C less(@Nullable C left, @Nullable C right) {
+		if (left == null) {
+			return right;
+		}
+		if (right == null) {
+			return left;
+		}
+		return left.compareTo(right) <= 0 ? left : right;
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import java.lang.annotation.Annotation;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Pushes the {@link FilterConstraint} of the given context down into the constraints of the delegate.
+ * The bounds are narrowed to the intersection of both, the other constraints of the delegate are retained.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FilterConstraintJavaConstraintGenerator implements JavaConstraintGenerator {
+	private final JavaConstraintGenerator delegate;
+
+	public FilterConstraintJavaConstraintGenerator(JavaConstraintGenerator delegate) {
+		this.delegate = delegate;
+	}
+
+	@Nullable
+	@Override
+	public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+		JavaStringConstraint constraint = delegate.generateStringConstraint(context);
+		FilterConstraint<?> filterConstraint = context.getFilterConstraint();
+		if (filterConstraint == null
+			|| (filterConstraint.getMinLength() == null && filterConstraint.getMaxLength() == null)) {
+			return constraint;
+		}
+
+		if (constraint == null) {
+			return new JavaStringConstraint(
+				filterConstraint.getMinLength(),
+				filterConstraint.getMaxLength(),
+				false,
+				filterConstraint.isNotNull(),
+				false,
+				null,
+				false
+			);
+		}
+
+		return new JavaStringConstraint(
+			greater(constraint.getMinSize(), filterConstraint.getMinLength()),
+			less(constraint.getMaxSize(), filterConstraint.getMaxLength()),
+			constraint.isDigits(),
+			constraint.isNotNull() || filterConstraint.isNotNull(),
+			constraint.isNotBlank(),
+			constraint.getPattern(),
+			constraint.isEmail()
+		);
+	}
+
+	@Nullable
+	@Override
+	public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = delegate.generateIntegerConstraint(context);
+		FilterConstraint<?> filterConstraint = context.getFilterConstraint();
+		JavaIntegerConstraint pushedDown = filterConstraint == null ? null : filterConstraint.toIntegerConstraint();
+		if (pushedDown == null) {
+			return constraint;
+		}
+
+		BigInteger min = pushedDown.getMin();
+		BigInteger max = pushedDown.getMax();
+		if (constraint != null) {
+			min = greater(constraint.getMin(), min);
+			max = less(constraint.getMax(), max);
+		}
+
+		Class<?> type = Types.getActualType(context.getResolvedType());
+		return new JavaIntegerConstraint(clampMin(type, min), clampMax(type, max));
+	}
+
+	@Nullable
+	@Override
+	public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+		JavaDecimalConstraint constraint = delegate.generateDecimalConstraint(context);
+		FilterConstraint<?> filterConstraint = context.getFilterConstraint();
+		JavaDecimalConstraint pushedDown = filterConstraint == null ? null : filterConstraint.toDecimalConstraint();
+		if (pushedDown == null) {
+			return constraint;
+		}
+
+		if (constraint == null) {
+			return pushedDown;
+		}
+
+		BigDecimal min = pushedDown.getMin();
+		Boolean minInclusive = pushedDown.getMinInclusive();
+		if (constraint.getMin() != null && (min == null || constraint.getMin().compareTo(min) >= 0)) {
+			min = constraint.getMin();
+			minInclusive = constraint.getMinInclusive();
+		}
+
+		BigDecimal max = pushedDown.getMax();
+		Boolean maxInclusive = pushedDown.getMaxInclusive();
+		if (constraint.getMax() != null && (max == null || constraint.getMax().compareTo(max) <= 0)) {
+			max = constraint.getMax();
+			maxInclusive = constraint.getMaxInclusive();
+		}
+
+		return new JavaDecimalConstraint(min, minInclusive, max, maxInclusive, constraint.getScale());
+	}
+
+	@Nullable
+	@Override
+	public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+		return delegate.generateContainerConstraint(context);
+	}
+
+	@Nullable
+	@Override
+	public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+		return delegate.generateDateTimeConstraint(context);
+	}
+
+	@Override
+	public Set<Class<? extends Annotation>> getGuaranteedConstraintTypes() {
+		return delegate.getGuaranteedConstraintTypes();
+	}
+
+	@Nullable
+	private static BigInteger clampMin(Class<?> type, @Nullable BigInteger min) {
+		BigInteger typeMin = null;
+		if (type == Long.class || type == long.class) {
+			typeMin = BIG_INTEGER_MIN_LONG;
+		} else if (type == Integer.class || type == int.class) {
+			typeMin = BIG_INTEGER_MIN_INT;
+		} else if (type == Short.class || type == short.class) {
+			typeMin = BIG_INTEGER_MIN_SHORT;
+		} else if (type == Byte.class || type == byte.class) {
+			typeMin = BIG_INTEGER_MIN_BYTE;
+		}
+		return greater(min, typeMin);
+	}
+
+	@Nullable
+	private static BigInteger clampMax(Class<?> type, @Nullable BigInteger max) {
+		BigInteger typeMax = null;
+		if (type == Long.class || type == long.class) {
+			typeMax = BIG_INTEGER_MAX_LONG;
+		} else if (type == Integer.class || type == int.class) {
+			typeMax = BIG_INTEGER_MAX_INT;
+		} else if (type == Short.class || type == short.class) {
+			typeMax = BIG_INTEGER_MAX_SHORT;
+		} else if (type == Byte.class || type == byte.class) {
+			typeMax = BIG_INTEGER_MAX_BYTE;
+		}
+		return less(max, typeMax);
+	}
+
+	@Nullable
+	private static BigInteger greater(@Nullable BigInteger left, @Nullable BigInteger right) {
+		if (left == null) {
+			return right;
+		}
+		return right == null ? left : left.max(right);
+	}
+
+	@Nullable
+	private static BigInteger less(@Nullable BigInteger left, @Nullable BigInteger right) {
+		if (left == null) {
+			return right;
+		}
+		return right == null ? left : left.min(right);
+	}
+}
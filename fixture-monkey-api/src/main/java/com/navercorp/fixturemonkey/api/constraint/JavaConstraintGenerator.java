@@ -18,7 +18,10 @@
 
 package com.navercorp.fixturemonkey.api.constraint;
 
+import java.lang.annotation.Annotation;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Set;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -83,4 +86,18 @@ public interface JavaConstraintGenerator {
 
 	@Nullable
 	JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context);
+
+	/**
+	 * Returns the annotation types of the constraints this generator always satisfies by construction.
+	 * A value generated without any manipulation satisfies the constraints of these annotation types,
+	 * so the {@link com.navercorp.fixturemonkey.api.validator.ArbitraryValidator} does not need to validate them.
+	 * <p>
+	 * It should return only the annotation types it honors whenever the annotation is present.
+	 *
+	 * @return the annotation types of the guaranteed constraints, empty by default
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default Set<Class<? extends Annotation>> getGuaranteedConstraintTypes() {
+		return Collections.emptySet();
+	}
 }
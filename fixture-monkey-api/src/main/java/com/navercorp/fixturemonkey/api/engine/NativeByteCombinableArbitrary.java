@@ -0,0 +1,91 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import com.navercorp.fixturemonkey.api.arbitrary.ByteCombinableArbitrary;
+
+/**
+ * A {@link ByteCombinableArbitrary} of the native engine, {@link #nextByte()} draws a value in the range
+ * without boxing and {@link #combined()} boxes the value drawn the same way.
+ * The even and odd variants filter the values in the range.
+ */
+final class NativeByteCombinableArbitrary implements ByteCombinableArbitrary {
+	private final byte min;
+	private final byte max;
+
+	NativeByteCombinableArbitrary(byte min, byte max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Byte combined() {
+		return nextByte();
+	}
+
+	@Override
+	public Byte rawValue() {
+		return nextByte();
+	}
+
+	@Override
+	public byte nextByte() {
+		return (byte)NativeRandomValues.nextLong(min, max);
+	}
+
+	@Override
+	public ByteCombinableArbitrary withRange(byte minValue, byte maxValue) {
+		return new NativeByteCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public ByteCombinableArbitrary positive() {
+		return new NativeByteCombinableArbitrary((byte)1, Byte.MAX_VALUE);
+	}
+
+	@Override
+	public ByteCombinableArbitrary negative() {
+		return new NativeByteCombinableArbitrary(Byte.MIN_VALUE, (byte)-1);
+	}
+
+	@Override
+	public ByteCombinableArbitrary even() {
+		return this.filter(it -> it % 2 == 0);
+	}
+
+	@Override
+	public ByteCombinableArbitrary odd() {
+		return this.filter(it -> it % 2 != 0);
+	}
+
+	@Override
+	public ByteCombinableArbitrary ascii() {
+		return new NativeByteCombinableArbitrary((byte)0, (byte)127);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CharacterCombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+
+/**
+ * A {@link CharacterCombinableArbitrary} of the native engine, {@link #nextChar()} draws a character
+ * without boxing and {@link #combined()} boxes the character drawn the same way.
+ * It draws a printable character if the range is not given.
+ * The alphabetic variant is created by the registered {@link CharacterCombinableArbitrary}.
+ */
+final class NativeCharacterCombinableArbitrary implements CharacterCombinableArbitrary {
+	private final boolean ranged;
+	private final char min;
+	private final char max;
+
+	NativeCharacterCombinableArbitrary() {
+		this.ranged = false;
+		this.min = Character.MIN_VALUE;
+		this.max = Character.MAX_VALUE;
+	}
+
+	private NativeCharacterCombinableArbitrary(char min, char max) {
+		this.ranged = true;
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Character combined() {
+		return nextChar();
+	}
+
+	@Override
+	public Character rawValue() {
+		return nextChar();
+	}
+
+	@Override
+	public char nextChar() {
+		if (!ranged) {
+			return NativeRandomValues.nextCharacter();
+		}
+		return (char)NativeRandomValues.nextLongUniformly(min, max);
+	}
+
+	@Override
+	public CharacterCombinableArbitrary withRange(char minValue, char maxValue) {
+		return new NativeCharacterCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public CharacterCombinableArbitrary alphabetic() {
+		return CombinableArbitrary.characters().alphabetic();
+	}
+
+	@Override
+	public CharacterCombinableArbitrary numeric() {
+		return new NativeCharacterCombinableArbitrary('0', '9');
+	}
+
+	@Override
+	public CharacterCombinableArbitrary ascii() {
+		return new NativeCharacterCombinableArbitrary((char)0, (char)127);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.DoubleCombinableArbitrary;
+
+/**
+ * A {@link DoubleCombinableArbitrary} of the native engine, {@link #nextDouble()} draws a value in the range
+ * without boxing and {@link #combined()} boxes the value drawn the same way.
+ * The scaled variant is created by the registered {@link DoubleCombinableArbitrary}.
+ */
+final class NativeDoubleCombinableArbitrary implements DoubleCombinableArbitrary {
+	private final double min;
+	private final double max;
+
+	NativeDoubleCombinableArbitrary(double min, double max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Double combined() {
+		return nextDouble();
+	}
+
+	@Override
+	public Double rawValue() {
+		return nextDouble();
+	}
+
+	@Override
+	public double nextDouble() {
+		return NativeRandomValues.nextDouble(min, max);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary withRange(double minValue, double maxValue) {
+		return new NativeDoubleCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary positive() {
+		return new NativeDoubleCombinableArbitrary(Double.MIN_VALUE, Double.MAX_VALUE);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary negative() {
+		return new NativeDoubleCombinableArbitrary(-Double.MAX_VALUE, -Double.MIN_VALUE);
+	}
+
+	@Override
+	public DoubleCombinableArbitrary ofScale(int scale) {
+		return CombinableArbitrary.doubles().withRange(min, max).ofScale(scale);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptionsBuilder;
+import com.navercorp.fixturemonkey.api.plugin.Plugin;
+
+/**
+ * Generates the values of the Java types and the Java time types by the native engine instead of jqwik.
+ * The values are drawn from {@link com.navercorp.fixturemonkey.api.random.Randoms} directly,
+ * there is no {@code Shrinkable} or {@code RandomGenerator} to allocate for each value.
+ * <p>
+ * The constraints such as {@code @Size} or {@code @Min} are applied in the same way as
+ * {@link com.navercorp.fixturemonkey.api.jqwik.JqwikPlugin}.
+ * The distribution of the values is different from jqwik, the edge cases are not generated.
+ *
+ * @see NativeJavaTypeArbitraryGeneratorSet
+ * @see NativeJavaTimeArbitraryGeneratorSet
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class NativeEnginePlugin implements Plugin {
+	@Override
+	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
+		optionsBuilder.javaTypeArbitraryGeneratorSet(NativeJavaTypeArbitraryGeneratorSet::new)
+			.javaTimeArbitraryGeneratorSet(NativeJavaTimeArbitraryGeneratorSet::new);
+	}
+}
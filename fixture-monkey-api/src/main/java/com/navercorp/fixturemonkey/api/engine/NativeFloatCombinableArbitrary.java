@@ -0,0 +1,84 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.FloatCombinableArbitrary;
+
+/**
+ * A {@link FloatCombinableArbitrary} of the native engine, {@link #nextFloat()} draws a value in the range
+ * without boxing and {@link #combined()} boxes the value drawn the same way.
+ * The value is clamped to the range since the value is drawn as a double.
+ * The scaled variant is created by the registered {@link FloatCombinableArbitrary}.
+ */
+final class NativeFloatCombinableArbitrary implements FloatCombinableArbitrary {
+	private final float min;
+	private final float max;
+
+	NativeFloatCombinableArbitrary(float min, float max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Float combined() {
+		return nextFloat();
+	}
+
+	@Override
+	public Float rawValue() {
+		return nextFloat();
+	}
+
+	@Override
+	public float nextFloat() {
+		float value = (float)NativeRandomValues.nextDouble(min, max);
+		return Math.min(Math.max(value, min), max);
+	}
+
+	@Override
+	public FloatCombinableArbitrary withRange(float minValue, float maxValue) {
+		return new NativeFloatCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public FloatCombinableArbitrary positive() {
+		return new NativeFloatCombinableArbitrary(Float.MIN_VALUE, Float.MAX_VALUE);
+	}
+
+	@Override
+	public FloatCombinableArbitrary negative() {
+		return new NativeFloatCombinableArbitrary(-Float.MAX_VALUE, -Float.MIN_VALUE);
+	}
+
+	@Override
+	public FloatCombinableArbitrary ofScale(int scale) {
+		return CombinableArbitrary.floats().withRange(min, max).ofScale(scale);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
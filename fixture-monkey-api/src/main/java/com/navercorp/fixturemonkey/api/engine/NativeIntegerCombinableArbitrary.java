@@ -0,0 +1,86 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import com.navercorp.fixturemonkey.api.arbitrary.IntegerCombinableArbitrary;
+
+/**
+ * A {@link IntegerCombinableArbitrary} of the native engine, {@link #nextInt()} draws a value in the range
+ * without boxing and {@link #combined()} boxes the value drawn the same way.
+ * The even and odd variants filter the values in the range.
+ */
+final class NativeIntegerCombinableArbitrary implements IntegerCombinableArbitrary {
+	private final int min;
+	private final int max;
+
+	NativeIntegerCombinableArbitrary(int min, int max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Integer combined() {
+		return nextInt();
+	}
+
+	@Override
+	public Integer rawValue() {
+		return nextInt();
+	}
+
+	@Override
+	public int nextInt() {
+		return (int)NativeRandomValues.nextLong(min, max);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary withRange(int minValue, int maxValue) {
+		return new NativeIntegerCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary positive() {
+		return new NativeIntegerCombinableArbitrary(1, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary negative() {
+		return new NativeIntegerCombinableArbitrary(Integer.MIN_VALUE, -1);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary even() {
+		return this.filter(it -> it % 2 == 0);
+	}
+
+	@Override
+	public IntegerCombinableArbitrary odd() {
+		return this.filter(it -> it % 2 != 0);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -0,0 +1,321 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.JavaTimeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.constraint.JavaDateTimeConstraint;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+
+/**
+ * Generates the values of the Java time types directly from {@link com.navercorp.fixturemonkey.api.random.Randoms}
+ * without jqwik. The default ranges are the same as {@link com.navercorp.fixturemonkey.api.jqwik.JqwikPlugin},
+ * 365 days around now, and ten years around now for {@link Year} and {@link YearMonth}.
+ *
+ * @see NativeEnginePlugin
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class NativeJavaTimeArbitraryGeneratorSet implements JavaTimeArbitraryGeneratorSet {
+	private static final ZoneOffset ZONE_OFFSET = OffsetDateTime.now().getOffset();
+	private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+	private static final long DEFAULT_DAYS = 365L;
+	private static final long DEFAULT_YEARS = 10L;
+	private static final int LEAP_YEAR = 2000;
+	private static final int SECONDS_PER_QUARTER_HOUR = 15 * 60;
+	private static final int MIN_ZONE_OFFSET_QUARTER_HOURS = -12 * 4;
+	private static final int MAX_ZONE_OFFSET_QUARTER_HOURS = 14 * 4;
+	private static final List<ZoneId> ZONE_IDS;
+
+	static {
+		List<String> zoneIds = new ArrayList<>(ZoneId.getAvailableZoneIds());
+		Collections.sort(zoneIds);
+		List<ZoneId> resolvedZoneIds = new ArrayList<>(zoneIds.size());
+		for (String zoneId : zoneIds) {
+			resolvedZoneIds.add(ZoneId.of(zoneId));
+		}
+		ZONE_IDS = Collections.unmodifiableList(resolvedZoneIds);
+	}
+
+	private final JavaConstraintGenerator constraintGenerator;
+
+	public NativeJavaTimeArbitraryGeneratorSet(JavaConstraintGenerator constraintGenerator) {
+		this.constraintGenerator = constraintGenerator;
+	}
+
+	@Override
+	public CombinableArbitrary<Calendar> calendars(ArbitraryGeneratorContext context) {
+		LocalDateTimeRange range = resolveLocalDateTimeRange(context);
+		return CombinableArbitrary.from(() -> {
+			Calendar calendar = Calendar.getInstance();
+			calendar.setTimeInMillis(range.next().atZone(ZONE_ID).toInstant().toEpochMilli());
+			return calendar;
+		});
+	}
+
+	@Override
+	public CombinableArbitrary<Date> dates(ArbitraryGeneratorContext context) {
+		LocalDateTimeRange range = resolveLocalDateTimeRange(context);
+		return CombinableArbitrary.from(() -> Date.from(range.next().atZone(ZONE_ID).toInstant()));
+	}
+
+	@Override
+	public CombinableArbitrary<Instant> instants(ArbitraryGeneratorContext context) {
+		LocalDateTimeRange range = resolveLocalDateTimeRange(context);
+		return CombinableArbitrary.from(() -> range.next().atZone(ZONE_ID).toInstant());
+	}
+
+	@Override
+	public CombinableArbitrary<LocalDate> localDates(ArbitraryGeneratorContext context) {
+		LocalDateTimeRange range = resolveLocalDateTimeRange(context);
+		LocalDate min = range.min.toLocalDate();
+		LocalDate max = range.max.toLocalDate();
+		return CombinableArbitrary.from(
+			() -> LocalDate.ofEpochDay(NativeRandomValues.nextLongUniformly(min.toEpochDay(), max.toEpochDay()))
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<LocalDateTime> localDateTimes(ArbitraryGeneratorContext context) {
+		LocalDateTimeRange range = resolveLocalDateTimeRange(context);
+		return CombinableArbitrary.from(range::next);
+	}
+
+	@Override
+	public CombinableArbitrary<LocalTime> localTimes(ArbitraryGeneratorContext context) {
+		LocalTimeRange range = resolveLocalTimeRange(context);
+		return CombinableArbitrary.from(range::next);
+	}
+
+	@Override
+	public CombinableArbitrary<ZonedDateTime> zonedDateTimes(ArbitraryGeneratorContext context) {
+		LocalDateTimeRange range = resolveLocalDateTimeRange(context);
+		return CombinableArbitrary.from(() -> range.next().atZone(ZONE_ID));
+	}
+
+	@Override
+	public CombinableArbitrary<MonthDay> monthDays(ArbitraryGeneratorContext context) {
+		JavaDateTimeConstraint constraint = constraintGenerator.generateDateTimeConstraint(context);
+		LocalDateTime constraintMin = constraint == null ? null : constraint.getMin();
+		LocalDateTime constraintMax = constraint == null ? null : constraint.getMax();
+
+		long min = Year.of(LEAP_YEAR).atDay(1).toEpochDay();
+		long max = Year.of(LEAP_YEAR).atMonth(12).atEndOfMonth().toEpochDay();
+		if (constraintMin != null) {
+			min = MonthDay.from(constraintMin).atYear(LEAP_YEAR).toEpochDay();
+		}
+		if (constraintMax != null) {
+			max = Math.max(min, MonthDay.from(constraintMax).atYear(LEAP_YEAR).toEpochDay());
+		}
+
+		long resolvedMin = min;
+		long resolvedMax = max;
+		return CombinableArbitrary.from(
+			() -> MonthDay.from(LocalDate.ofEpochDay(NativeRandomValues.nextLongUniformly(resolvedMin, resolvedMax)))
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<OffsetDateTime> offsetDateTimes(ArbitraryGeneratorContext context) {
+		LocalDateTimeRange range = resolveLocalDateTimeRange(context);
+		return CombinableArbitrary.from(() -> range.next().atOffset(ZONE_OFFSET));
+	}
+
+	@Override
+	public CombinableArbitrary<OffsetTime> offsetTimes(ArbitraryGeneratorContext context) {
+		LocalTimeRange range = resolveLocalTimeRange(context);
+		return CombinableArbitrary.from(() -> range.next().atOffset(ZONE_OFFSET));
+	}
+
+	@Override
+	public CombinableArbitrary<Period> periods(ArbitraryGeneratorContext context) {
+		return CombinableArbitrary.from(
+			() -> Period.ofDays((int)NativeRandomValues.nextLongUniformly(-DEFAULT_DAYS, DEFAULT_DAYS))
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<Duration> durations(ArbitraryGeneratorContext context) {
+		long maxSeconds = Duration.ofDays(DEFAULT_DAYS).getSeconds();
+		return CombinableArbitrary.from(() -> {
+			long seconds = NativeRandomValues.nextLongUniformly(-maxSeconds, maxSeconds - 1);
+			return Duration.ofSeconds(seconds, NativeRandomValues.nextLongUniformly(0, 999_999_999L));
+		});
+	}
+
+	@Override
+	public CombinableArbitrary<Year> years(ArbitraryGeneratorContext context) {
+		JavaDateTimeConstraint constraint = constraintGenerator.generateDateTimeConstraint(context);
+		LocalDateTime constraintMin = constraint == null ? null : constraint.getMin();
+		LocalDateTime constraintMax = constraint == null ? null : constraint.getMax();
+		Year now = Year.now();
+
+		long min = constraintMin == null ? now.minusYears(DEFAULT_YEARS).getValue() : constraintMin.getYear() + 1;
+		long max = constraintMax == null ? now.plusYears(DEFAULT_YEARS).getValue() : constraintMax.getYear() - 1;
+		if (min > max) {
+			if (constraintMax == null) {
+				max = min + DEFAULT_YEARS;
+			} else {
+				min = max - DEFAULT_YEARS;
+			}
+		}
+
+		long resolvedMin = Math.max(min, Year.MIN_VALUE);
+		long resolvedMax = Math.min(max, Year.MAX_VALUE);
+		return CombinableArbitrary.from(
+			() -> Year.of((int)NativeRandomValues.nextLongUniformly(resolvedMin, resolvedMax))
+		);
+	}
+
+	@Override
+	public CombinableArbitrary<YearMonth> yearMonths(ArbitraryGeneratorContext context) {
+		JavaDateTimeConstraint constraint = constraintGenerator.generateDateTimeConstraint(context);
+		LocalDateTime constraintMin = constraint == null ? null : constraint.getMin();
+		LocalDateTime constraintMax = constraint == null ? null : constraint.getMax();
+		YearMonth now = YearMonth.now();
+
+		YearMonth min = constraintMin == null
+			? now.minusYears(DEFAULT_YEARS).withMonth(1)
+			: YearMonth.from(constraintMin.plusMonths(1));
+		YearMonth max = constraintMax == null
+			? now.plusYears(DEFAULT_YEARS).withMonth(12)
+			: YearMonth.from(constraintMax.minusMonths(1));
+		if (min.isAfter(max)) {
+			if (constraintMax == null) {
+				max = min.plusYears(DEFAULT_YEARS);
+			} else {
+				min = max.minusYears(DEFAULT_YEARS);
+			}
+		}
+
+		YearMonth resolvedMin = min;
+		long months = resolvedMin.until(max, ChronoUnit.MONTHS);
+		return CombinableArbitrary.from(() -> resolvedMin.plusMonths(NativeRandomValues.nextLongUniformly(0, months)));
+	}
+
+	@Override
+	public CombinableArbitrary<ZoneOffset> zoneOffsets(ArbitraryGeneratorContext context) {
+		return CombinableArbitrary.from(() -> {
+			long quarterHours = NativeRandomValues.nextLongUniformly(
+				MIN_ZONE_OFFSET_QUARTER_HOURS,
+				MAX_ZONE_OFFSET_QUARTER_HOURS
+			);
+			return ZoneOffset.ofTotalSeconds((int)quarterHours * SECONDS_PER_QUARTER_HOUR);
+		});
+	}
+
+	@Override
+	public CombinableArbitrary<ZoneId> zoneIds(ArbitraryGeneratorContext context) {
+		return CombinableArbitrary.from(
+			() -> ZONE_IDS.get((int)NativeRandomValues.nextLongUniformly(0, ZONE_IDS.size() - 1))
+		);
+	}
+
+	private LocalDateTimeRange resolveLocalDateTimeRange(ArbitraryGeneratorContext context) {
+		JavaDateTimeConstraint constraint = constraintGenerator.generateDateTimeConstraint(context);
+		LocalDateTime constraintMin = constraint == null ? null : constraint.getMin();
+		LocalDateTime constraintMax = constraint == null ? null : constraint.getMax();
+		LocalDateTime now = LocalDateTime.now();
+
+		LocalDateTime min = constraintMin == null ? now.minusDays(DEFAULT_DAYS) : constraintMin;
+		LocalDateTime max = constraintMax == null ? now.plusDays(DEFAULT_DAYS) : constraintMax;
+		if (min.isAfter(max)) {
+			if (constraintMax == null) {
+				max = min.plusDays(DEFAULT_DAYS);
+			} else {
+				min = max.minusDays(DEFAULT_DAYS);
+			}
+		}
+		return new LocalDateTimeRange(min, max);
+	}
+
+	private LocalTimeRange resolveLocalTimeRange(ArbitraryGeneratorContext context) {
+		JavaDateTimeConstraint constraint = constraintGenerator.generateDateTimeConstraint(context);
+		LocalDateTime constraintMin = constraint == null ? null : constraint.getMin();
+		LocalDateTime constraintMax = constraint == null ? null : constraint.getMax();
+
+		LocalTime min = constraintMin == null ? LocalTime.MIN : constraintMin.toLocalTime();
+		LocalTime max = constraintMax == null ? LocalTime.MAX : constraintMax.toLocalTime();
+		if (min.isAfter(max)) {
+			if (constraintMax == null) {
+				max = LocalTime.MAX;
+			} else {
+				min = LocalTime.MIN;
+			}
+		}
+		return new LocalTimeRange(min, max);
+	}
+
+	private static final class LocalDateTimeRange {
+		private final LocalDateTime min;
+		private final LocalDateTime max;
+		private final long seconds;
+
+		private LocalDateTimeRange(LocalDateTime min, LocalDateTime max) {
+			this.min = min;
+			this.max = max;
+			this.seconds = Duration.between(min, max).getSeconds();
+		}
+
+		private LocalDateTime next() {
+			LocalDateTime value = min
+				.plusSeconds(NativeRandomValues.nextLongUniformly(0, seconds))
+				.plusNanos(NativeRandomValues.nextLongUniformly(0, 999_999_999L));
+			return value.isAfter(max) ? max : value;
+		}
+	}
+
+	private static final class LocalTimeRange {
+		private final long minNanoOfDay;
+		private final long maxNanoOfDay;
+
+		private LocalTimeRange(LocalTime min, LocalTime max) {
+			this.minNanoOfDay = min.toNanoOfDay();
+			this.maxNanoOfDay = max.toNanoOfDay();
+		}
+
+		private LocalTime next() {
+			return LocalTime.ofNanoOfDay(NativeRandomValues.nextLongUniformly(minNanoOfDay, maxNanoOfDay));
+		}
+	}
+}
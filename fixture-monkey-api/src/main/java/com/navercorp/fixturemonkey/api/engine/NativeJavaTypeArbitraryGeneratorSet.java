@@ -0,0 +1,261 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MAX_BYTE;
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MAX_INT;
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MAX_LONG;
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MAX_SHORT;
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MIN_BYTE;
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MIN_INT;
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MIN_LONG;
+import static com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator.BIG_INTEGER_MIN_SHORT;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.JavaTypeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint.PatternConstraint;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.random.RegexGenerator;
+
+/**
+ * Generates the values of the Java types directly from {@link com.navercorp.fixturemonkey.api.random.Randoms}
+ * without jqwik. It honors the same constraints as {@link com.navercorp.fixturemonkey.api.jqwik.JqwikPlugin}.
+ * The primitive types are generated by the primitive {@link CombinableArbitrary} such as
+ * {@link com.navercorp.fixturemonkey.api.arbitrary.IntegerCombinableArbitrary},
+ * so the elements of the primitive arrays are generated without boxing.
+ *
+ * @see NativeEnginePlugin
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class NativeJavaTypeArbitraryGeneratorSet implements JavaTypeArbitraryGeneratorSet {
+	private static final int DEFAULT_MAX_STRING_LENGTH = 255;
+	private static final int DEFAULT_DECIMAL_SCALE = 2;
+	private static final String DIGITS = "0123456789";
+	private static final String ALPHANUMERICS = "abcdefghijklmnopqrstuvwxyz" + DIGITS;
+	private static final String EMAIL_DOMAIN_SUFFIX = ".com";
+	private static final BigDecimal DEFAULT_DECIMAL_MIN = new BigDecimal(BIG_INTEGER_MIN_LONG);
+	private static final BigDecimal DEFAULT_DECIMAL_MAX = new BigDecimal(BIG_INTEGER_MAX_LONG);
+	private static final BigDecimal DOUBLE_MIN = BigDecimal.valueOf(-Double.MAX_VALUE);
+	private static final BigDecimal DOUBLE_MAX = BigDecimal.valueOf(Double.MAX_VALUE);
+	private static final BigDecimal FLOAT_MIN = BigDecimal.valueOf(-Float.MAX_VALUE);
+	private static final BigDecimal FLOAT_MAX = BigDecimal.valueOf(Float.MAX_VALUE);
+	private static final RegexGenerator REGEX_GENERATOR = new RegexGenerator();
+
+	private final JavaConstraintGenerator constraintGenerator;
+
+	public NativeJavaTypeArbitraryGeneratorSet(JavaConstraintGenerator constraintGenerator) {
+		this.constraintGenerator = constraintGenerator;
+	}
+
+	@Override
+	public CombinableArbitrary<String> strings(ArbitraryGeneratorContext context) {
+		JavaStringConstraint constraint = constraintGenerator.generateStringConstraint(context);
+		if (constraint == null) {
+			return CombinableArbitrary.from(() -> NativeRandomValues.nextString(0, DEFAULT_MAX_STRING_LENGTH, null));
+		}
+
+		int minLength = constraint.getMinSize() == null ? 0 : constraint.getMinSize().intValue();
+		int maxLength = constraint.getMaxSize() == null
+			? Math.max(minLength, DEFAULT_MAX_STRING_LENGTH)
+			: constraint.getMaxSize().intValue();
+		boolean notBlank = constraint.isNotBlank();
+		PatternConstraint pattern = constraint.getPattern();
+
+		if (pattern != null) {
+			return CombinableArbitrary.from(() -> REGEX_GENERATOR.generate(
+				pattern.getRegexp(),
+				pattern.getFlags(),
+				it -> it.length() >= minLength && it.length() <= maxLength && !(notBlank && it.trim().isEmpty())
+			));
+		}
+
+		if (constraint.isEmail()) {
+			return CombinableArbitrary.from(() -> nextEmail(minLength, maxLength));
+		}
+
+		String characters = constraint.isDigits() ? DIGITS : null;
+		int nonBlankMinLength = notBlank ? Math.max(1, minLength) : minLength;
+		return CombinableArbitrary.from(() -> {
+			String value;
+			do {
+				value = NativeRandomValues.nextString(nonBlankMinLength, maxLength, characters);
+			} while (notBlank && value.trim().isEmpty());
+			return value;
+		});
+	}
+
+	@Override
+	public CombinableArbitrary<Character> characters(ArbitraryGeneratorContext context) {
+		return new NativeCharacterCombinableArbitrary();
+	}
+
+	@Override
+	public CombinableArbitrary<Short> shorts(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		long min = min(constraint, BIG_INTEGER_MIN_SHORT);
+		long max = max(constraint, BIG_INTEGER_MAX_SHORT);
+		return new NativeShortCombinableArbitrary((short)min, (short)max);
+	}
+
+	@Override
+	public CombinableArbitrary<Byte> bytes(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		long min = min(constraint, BIG_INTEGER_MIN_BYTE);
+		long max = max(constraint, BIG_INTEGER_MAX_BYTE);
+		return new NativeByteCombinableArbitrary((byte)min, (byte)max);
+	}
+
+	@Override
+	public CombinableArbitrary<Double> doubles(ArbitraryGeneratorContext context) {
+		JavaDecimalConstraint constraint = constraintGenerator.generateDecimalConstraint(context);
+		if (constraint == null) {
+			return new NativeDoubleCombinableArbitrary(-Double.MAX_VALUE, Double.MAX_VALUE);
+		}
+
+		if (constraint.getScale() != null) {
+			return CombinableArbitrary.from(() -> nextBigDecimal(constraint, DOUBLE_MIN, DOUBLE_MAX).doubleValue());
+		}
+
+		double min = constraint.getMin() == null ? -Double.MAX_VALUE : constraint.getMin().doubleValue();
+		double max = constraint.getMax() == null ? Double.MAX_VALUE : constraint.getMax().doubleValue();
+		double inclusiveMin = Boolean.FALSE.equals(constraint.getMinInclusive()) ? Math.nextUp(min) : min;
+		double inclusiveMax = Boolean.FALSE.equals(constraint.getMaxInclusive()) ? Math.nextDown(max) : max;
+		return new NativeDoubleCombinableArbitrary(inclusiveMin, inclusiveMax);
+	}
+
+	@Override
+	public CombinableArbitrary<Float> floats(ArbitraryGeneratorContext context) {
+		JavaDecimalConstraint constraint = constraintGenerator.generateDecimalConstraint(context);
+		if (constraint == null) {
+			return new NativeFloatCombinableArbitrary(-Float.MAX_VALUE, Float.MAX_VALUE);
+		}
+
+		if (constraint.getScale() != null) {
+			return CombinableArbitrary.from(() -> nextBigDecimal(constraint, FLOAT_MIN, FLOAT_MAX).floatValue());
+		}
+
+		float min = constraint.getMin() == null ? -Float.MAX_VALUE : constraint.getMin().floatValue();
+		float max = constraint.getMax() == null ? Float.MAX_VALUE : constraint.getMax().floatValue();
+		float inclusiveMin = Boolean.FALSE.equals(constraint.getMinInclusive()) ? Math.nextUp(min) : min;
+		float inclusiveMax = Boolean.FALSE.equals(constraint.getMaxInclusive()) ? Math.nextDown(max) : max;
+		return new NativeFloatCombinableArbitrary(inclusiveMin, inclusiveMax);
+	}
+
+	@Override
+	public CombinableArbitrary<Integer> integers(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		long min = min(constraint, BIG_INTEGER_MIN_INT);
+		long max = max(constraint, BIG_INTEGER_MAX_INT);
+		return new NativeIntegerCombinableArbitrary((int)min, (int)max);
+	}
+
+	@Override
+	public CombinableArbitrary<Long> longs(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		long min = min(constraint, BIG_INTEGER_MIN_LONG);
+		long max = max(constraint, BIG_INTEGER_MAX_LONG);
+		return new NativeLongCombinableArbitrary(min, max);
+	}
+
+	@Override
+	public CombinableArbitrary<BigInteger> bigIntegers(ArbitraryGeneratorContext context) {
+		JavaIntegerConstraint constraint = constraintGenerator.generateIntegerConstraint(context);
+		BigInteger min = constraint == null || constraint.getMin() == null ? BIG_INTEGER_MIN_LONG : constraint.getMin();
+		BigInteger max = constraint == null || constraint.getMax() == null ? BIG_INTEGER_MAX_LONG : constraint.getMax();
+		BigInteger resolvedMax = min.max(max);
+		return CombinableArbitrary.from(() -> NativeRandomValues.nextBigInteger(min, resolvedMax));
+	}
+
+	@Override
+	public CombinableArbitrary<BigDecimal> bigDecimals(ArbitraryGeneratorContext context) {
+		JavaDecimalConstraint constraint = constraintGenerator.generateDecimalConstraint(context);
+		if (constraint == null) {
+			return CombinableArbitrary.from(() -> NativeRandomValues.nextBigDecimal(
+				DEFAULT_DECIMAL_MIN,
+				true,
+				DEFAULT_DECIMAL_MAX,
+				true,
+				DEFAULT_DECIMAL_SCALE
+			));
+		}
+		return CombinableArbitrary.from(() -> nextBigDecimal(constraint, DEFAULT_DECIMAL_MIN, DEFAULT_DECIMAL_MAX));
+	}
+
+	private static BigDecimal nextBigDecimal(
+		JavaDecimalConstraint constraint,
+		BigDecimal defaultMin,
+		BigDecimal defaultMax
+	) {
+		BigDecimal min = constraint.getMin() == null ? defaultMin : constraint.getMin();
+		BigDecimal max = constraint.getMax() == null ? defaultMax : constraint.getMax();
+		int scale = constraint.getScale() == null ? DEFAULT_DECIMAL_SCALE : constraint.getScale();
+		BigDecimal smallRange = BigDecimal.valueOf(NativeRandomValues.SMALL_NUMBER_BOUND);
+		if (constraint.getMax() == null && min.compareTo(max) > 0) {
+			max = min.add(smallRange);
+		} else if (constraint.getMin() == null && min.compareTo(max) > 0) {
+			min = max.subtract(smallRange);
+		}
+
+		return NativeRandomValues.nextBigDecimal(
+			min,
+			!Boolean.FALSE.equals(constraint.getMinInclusive()),
+			max,
+			!Boolean.FALSE.equals(constraint.getMaxInclusive()),
+			scale
+		);
+	}
+
+	/**
+	 * Generates an email of which local part and domain are alphanumeric, the length is fit to the given range.
+	 */
+	private static String nextEmail(int minLength, int maxLength) {
+		int fixedLength = "@".length() + EMAIL_DOMAIN_SUFFIX.length() + 1;
+		int minLocalLength = Math.max(1, minLength - fixedLength);
+		int maxLocalLength = Math.max(minLocalLength, Math.min(maxLength - fixedLength, 64));
+		return NativeRandomValues.nextString(minLocalLength, maxLocalLength, ALPHANUMERICS)
+			+ "@"
+			+ NativeRandomValues.nextString(1, 1, ALPHANUMERICS)
+			+ EMAIL_DOMAIN_SUFFIX;
+	}
+
+	private static long min(@Nullable JavaIntegerConstraint constraint, BigInteger typeMin) {
+		if (constraint == null || constraint.getMin() == null) {
+			return typeMin.longValueExact();
+		}
+		return constraint.getMin().max(typeMin).longValueExact();
+	}
+
+	private static long max(@Nullable JavaIntegerConstraint constraint, BigInteger typeMax) {
+		if (constraint == null || constraint.getMax() == null) {
+			return typeMax.longValueExact();
+		}
+		return constraint.getMax().min(typeMax).longValueExact();
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.LongCombinableArbitrary;
+
+/**
+ * A {@link LongCombinableArbitrary} of the native engine, {@link #nextLong()} draws a value in the range
+ * without boxing and {@link #combined()} boxes the value drawn the same way.
+ * The even, odd and non-zero variants filter the values in the range,
+ * the multiple variant is created by the registered {@link LongCombinableArbitrary}.
+ */
+final class NativeLongCombinableArbitrary implements LongCombinableArbitrary {
+	private final long min;
+	private final long max;
+
+	NativeLongCombinableArbitrary(long min, long max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Long combined() {
+		return nextLong();
+	}
+
+	@Override
+	public Long rawValue() {
+		return nextLong();
+	}
+
+	@Override
+	public long nextLong() {
+		return NativeRandomValues.nextLong(min, max);
+	}
+
+	@Override
+	public LongCombinableArbitrary withRange(long minValue, long maxValue) {
+		return new NativeLongCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public LongCombinableArbitrary positive() {
+		return new NativeLongCombinableArbitrary(1L, Long.MAX_VALUE);
+	}
+
+	@Override
+	public LongCombinableArbitrary negative() {
+		return new NativeLongCombinableArbitrary(Long.MIN_VALUE, -1L);
+	}
+
+	@Override
+	public LongCombinableArbitrary even() {
+		return this.filter(it -> it % 2 == 0);
+	}
+
+	@Override
+	public LongCombinableArbitrary odd() {
+		return this.filter(it -> it % 2 != 0);
+	}
+
+	@Override
+	public LongCombinableArbitrary nonZero() {
+		return this.filter(it -> it != 0L);
+	}
+
+	@Override
+	public LongCombinableArbitrary multipleOf(long divisor) {
+		return CombinableArbitrary.longs().withRange(min, max).multipleOf(divisor);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
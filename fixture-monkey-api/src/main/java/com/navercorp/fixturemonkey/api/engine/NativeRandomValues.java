@@ -0,0 +1,208 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * Draws the values of the native engine from {@link Randoms#current()}.
+ * Half of the numbers and the lengths are drawn from a small range near zero if it is in the given range,
+ * it is similar to the biased distribution of jqwik.
+ * All the ranges are inclusive,
+ * it throws an {@link IllegalArgumentException} if {@code min} is greater than {@code max}.
+ */
+final class NativeRandomValues {
+	static final long SMALL_NUMBER_BOUND = 1_000L;
+	static final int SMALL_LENGTH_RANGE = 10;
+
+	private static final int MIN_PRINTABLE_CODE_POINT = 0x20;
+	private static final int MAX_BMP_CODE_POINT = 0xD7FF;
+
+	private NativeRandomValues() {
+	}
+
+	static Random random() {
+		return Randoms.current();
+	}
+
+	static long nextLong(long min, long max) {
+		checkRange(min, max);
+		Random random = random();
+		if (random.nextBoolean()) {
+			long smallMin = Math.max(min, -SMALL_NUMBER_BOUND);
+			long smallMax = Math.min(max, SMALL_NUMBER_BOUND);
+			if (smallMin <= smallMax) {
+				return nextLongUniformly(random, smallMin, smallMax);
+			}
+		}
+		return nextLongUniformly(random, min, max);
+	}
+
+	static int nextLength(int min, int max) {
+		checkRange(min, max);
+		Random random = random();
+		if (random.nextBoolean()) {
+			return (int)nextLongUniformly(random, min, Math.min(max, min + SMALL_LENGTH_RANGE));
+		}
+		return (int)nextLongUniformly(random, min, max);
+	}
+
+	static BigInteger nextBigInteger(BigInteger min, BigInteger max) {
+		Random random = random();
+		BigInteger range = max.subtract(min).add(BigInteger.ONE);
+		if (range.bitLength() < Long.SIZE - 1) {
+			return BigInteger.valueOf(nextLong(0, range.longValueExact() - 1)).add(min);
+		}
+
+		BigInteger offset;
+		do {
+			offset = new BigInteger(range.bitLength(), random);
+		} while (offset.compareTo(range) >= 0);
+		return offset.add(min);
+	}
+
+	/**
+	 * Returns a decimal of the given scale between {@code min} and {@code max}.
+	 */
+	static BigDecimal nextBigDecimal(
+		BigDecimal min,
+		boolean minInclusive,
+		BigDecimal max,
+		boolean maxInclusive,
+		int scale
+	) {
+		BigInteger unscaledMin = min.setScale(scale, RoundingMode.CEILING).unscaledValue();
+		if (!minInclusive && new BigDecimal(unscaledMin, scale).compareTo(min) == 0) {
+			unscaledMin = unscaledMin.add(BigInteger.ONE);
+		}
+		BigInteger unscaledMax = max.setScale(scale, RoundingMode.FLOOR).unscaledValue();
+		if (!maxInclusive && new BigDecimal(unscaledMax, scale).compareTo(max) == 0) {
+			unscaledMax = unscaledMax.subtract(BigInteger.ONE);
+		}
+
+		if (unscaledMin.compareTo(unscaledMax) > 0) {
+			throw new IllegalArgumentException(
+				String.format("No decimal of scale %d exists between %s and %s.", scale, min, max)
+			);
+		}
+		return new BigDecimal(nextBigInteger(unscaledMin, unscaledMax), scale);
+	}
+
+	static double nextDouble(double min, double max) {
+		if (!(min <= max)) {
+			throw new IllegalArgumentException(String.format("min %s should not be greater than max %s.", min, max));
+		}
+		Random random = random();
+		if (random.nextBoolean()) {
+			double smallMin = Math.max(min, -SMALL_NUMBER_BOUND);
+			double smallMax = Math.min(max, SMALL_NUMBER_BOUND);
+			if (smallMin <= smallMax) {
+				return nextDoubleUniformly(random, smallMin, smallMax);
+			}
+		}
+		return nextDoubleUniformly(random, min, max);
+	}
+
+	static long nextLongUniformly(long min, long max) {
+		checkRange(min, max);
+		return nextLongUniformly(random(), min, max);
+	}
+
+	static char nextCharacter() {
+		Random random = random();
+		char character;
+		do {
+			character = (char)nextLongUniformly(random, MIN_PRINTABLE_CODE_POINT, MAX_BMP_CODE_POINT);
+		} while (Character.isISOControl(character));
+		return character;
+	}
+
+	static String nextString(int minLength, int maxLength, @Nullable String characters) {
+		int length = nextLength(minLength, maxLength);
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			if (characters == null) {
+				builder.append(nextCharacter());
+			} else {
+				builder.append(characters.charAt(random().nextInt(characters.length())));
+			}
+		}
+		return builder.toString();
+	}
+
+	private static long nextLongUniformly(Random random, long min, long max) {
+		if (min == max) {
+			return min;
+		}
+
+		long bound = max - min + 1;
+		if (bound > 0) {
+			return min + nextBoundedLong(random, bound);
+		}
+
+		// the range overflows, it is wider than half of the long range
+		long value;
+		do {
+			value = random.nextLong();
+		} while (value < min || value > max);
+		return value;
+	}
+
+	/**
+	 * Returns a value between 0 inclusive and {@code bound} exclusive without the modulo bias,
+	 * the values of the last incomplete block of {@code bound} are rejected and drawn again.
+	 */
+	private static long nextBoundedLong(Random random, long bound) {
+		long mask = bound - 1;
+		if ((bound & mask) == 0L) {
+			return random.nextLong() & mask;
+		}
+
+		long bits;
+		long value;
+		do {
+			bits = random.nextLong() >>> 1;
+			value = bits % bound;
+		} while (bits - value + mask < 0L);
+		return value;
+	}
+
+	private static void checkRange(long min, long max) {
+		if (min > max) {
+			throw new IllegalArgumentException(String.format("min %d should not be greater than max %d.", min, max));
+		}
+	}
+
+	private static double nextDoubleUniformly(Random random, double min, double max) {
+		if (min == max) {
+			return min;
+		}
+
+		double fraction = random.nextDouble();
+		double value = min * (1.0d - fraction) + max * fraction;
+		return Math.min(Math.max(value, min), max);
+	}
+}
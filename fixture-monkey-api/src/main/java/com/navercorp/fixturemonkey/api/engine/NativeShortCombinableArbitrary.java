@@ -0,0 +1,133 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ShortCombinableArbitrary;
+
+/**
+ * A {@link ShortCombinableArbitrary} of the native engine, {@link #nextShort()} draws a value in the range
+ * without boxing and {@link #combined()} boxes the value drawn the same way.
+ * The even, odd and non-zero variants filter the values in the range,
+ * the multiple variant is created by the registered {@link ShortCombinableArbitrary}.
+ */
+final class NativeShortCombinableArbitrary implements ShortCombinableArbitrary {
+	private final short min;
+	private final short max;
+
+	NativeShortCombinableArbitrary(short min, short max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Short combined() {
+		return nextShort();
+	}
+
+	@Override
+	public Short rawValue() {
+		return nextShort();
+	}
+
+	@Override
+	public short nextShort() {
+		return (short)NativeRandomValues.nextLong(min, max);
+	}
+
+	@Override
+	public ShortCombinableArbitrary withRange(short minValue, short maxValue) {
+		return new NativeShortCombinableArbitrary(minValue, maxValue);
+	}
+
+	@Override
+	public ShortCombinableArbitrary positive() {
+		return new NativeShortCombinableArbitrary((short)1, Short.MAX_VALUE);
+	}
+
+	@Override
+	public ShortCombinableArbitrary negative() {
+		return new NativeShortCombinableArbitrary(Short.MIN_VALUE, (short)-1);
+	}
+
+	@Override
+	public ShortCombinableArbitrary even() {
+		return this.filter(it -> it % 2 == 0);
+	}
+
+	@Override
+	public ShortCombinableArbitrary odd() {
+		return this.filter(it -> it % 2 != 0);
+	}
+
+	@Override
+	public ShortCombinableArbitrary nonZero() {
+		return this.filter(it -> it != 0);
+	}
+
+	@Override
+	public ShortCombinableArbitrary multipleOf(short value) {
+		return CombinableArbitrary.shorts().withRange(min, max).multipleOf(value);
+	}
+
+	@Override
+	public ShortCombinableArbitrary percentage() {
+		return new NativeShortCombinableArbitrary((short)0, (short)100);
+	}
+
+	@Override
+	public ShortCombinableArbitrary score() {
+		return new NativeShortCombinableArbitrary((short)0, (short)100);
+	}
+
+	@Override
+	public ShortCombinableArbitrary year() {
+		return new NativeShortCombinableArbitrary((short)1900, (short)2100);
+	}
+
+	@Override
+	public ShortCombinableArbitrary month() {
+		return new NativeShortCombinableArbitrary((short)1, (short)12);
+	}
+
+	@Override
+	public ShortCombinableArbitrary day() {
+		return new NativeShortCombinableArbitrary((short)1, (short)31);
+	}
+
+	@Override
+	public ShortCombinableArbitrary hour() {
+		return new NativeShortCombinableArbitrary((short)0, (short)23);
+	}
+
+	@Override
+	public ShortCombinableArbitrary minute() {
+		return new NativeShortCombinableArbitrary((short)0, (short)59);
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
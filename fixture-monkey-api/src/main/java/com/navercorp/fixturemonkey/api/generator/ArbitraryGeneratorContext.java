@@ -25,6 +25,7 @@ import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,7 @@ import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.constraint.FilterConstraint;
 import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.property.Property;
@@ -61,6 +63,8 @@ public final class ArbitraryGeneratorContext implements Traceable {
 	private final AtomicReference<CombinableArbitrary<?>> generated =
 		new AtomicReference<>(CombinableArbitrary.NOT_GENERATED);
 	private final ArbitraryGeneratorLoggingContext loggingContext;
+	@Nullable
+	private final FilterConstraint<?> filterConstraint;
 
 	public ArbitraryGeneratorContext(
 		Property resolvedProperty,
@@ -73,6 +77,35 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		int generateUniqueMaxTries,
 		double nullInject,
 		ArbitraryGeneratorLoggingContext loggingContext
+	) {
+		this(
+			resolvedProperty,
+			property,
+			children,
+			ownerContext,
+			resolveArbitrary,
+			lazyPropertyPath,
+			monkeyGeneratorContext,
+			generateUniqueMaxTries,
+			nullInject,
+			loggingContext,
+			null
+		);
+	}
+
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public ArbitraryGeneratorContext(
+		Property resolvedProperty,
+		ArbitraryProperty property,
+		List<ArbitraryProperty> children,
+		@Nullable ArbitraryGeneratorContext ownerContext,
+		BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, CombinableArbitrary<?>> resolveArbitrary,
+		LazyArbitrary<PropertyPath> lazyPropertyPath,
+		MonkeyGeneratorContext monkeyGeneratorContext,
+		int generateUniqueMaxTries,
+		double nullInject,
+		ArbitraryGeneratorLoggingContext loggingContext,
+		@Nullable FilterConstraint<?> filterConstraint
 	) {
 		this.resolvedProperty = resolvedProperty;
 		this.property = property;
@@ -84,6 +117,7 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		this.generateUniqueMaxTries = generateUniqueMaxTries;
 		this.nullInject = nullInject;
 		this.loggingContext = loggingContext;
+		this.filterConstraint = filterConstraint;
 	}
 
 	public ArbitraryProperty getArbitraryProperty() {
@@ -115,8 +149,7 @@ public final class ArbitraryGeneratorContext implements Traceable {
 	}
 
 	public Map<ArbitraryProperty, CombinableArbitrary<?>> getCombinableArbitrariesByArbitraryProperty() {
-		return arbitraryListByArbitraryProperty.getValue().entrySet().stream()
-			.collect(toMap(Entry::getKey, Entry::getValue));
+		return new HashMap<>(arbitraryListByArbitraryProperty.getValue());
 	}
 
 	public Map<String, CombinableArbitrary<?>> getCombinableArbitrariesByResolvedName() {
@@ -162,6 +195,16 @@ public final class ArbitraryGeneratorContext implements Traceable {
 		return loggingContext;
 	}
 
+	/**
+	 * Returns the {@link FilterConstraint} of the filters applied to this property, it would be pushed down
+	 * into the constraint of generation.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	@Nullable
+	public FilterConstraint<?> getFilterConstraint() {
+		return filterConstraint;
+	}
+
 	public CombinableArbitrary<?> getGenerated() {
 		return generated.get();
 	}
@@ -23,12 +23,28 @@ import org.apiguardian.api.API.Status;
 
 @API(since = "1.0.28", status = Status.EXPERIMENTAL)
 public final class ArbitraryGeneratorLoggingContext {
+	private static final ArbitraryGeneratorLoggingContext ENABLE_LOGGING_FAIL =
+		new ArbitraryGeneratorLoggingContext(true);
+	private static final ArbitraryGeneratorLoggingContext DISABLE_LOGGING_FAIL =
+		new ArbitraryGeneratorLoggingContext(false);
+
 	private final boolean enableLoggingFail;
 
 	public ArbitraryGeneratorLoggingContext(boolean enableLoggingFail) {
 		this.enableLoggingFail = enableLoggingFail;
 	}
 
+	/**
+	 * Returns a shared instance, it is immutable.
+	 *
+	 * @param enableLoggingFail whether to log the failures of generation
+	 * @return the shared {@link ArbitraryGeneratorLoggingContext}
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public static ArbitraryGeneratorLoggingContext of(boolean enableLoggingFail) {
+		return enableLoggingFail ? ENABLE_LOGGING_FAIL : DISABLE_LOGGING_FAIL;
+	}
+
 	public boolean isEnableLoggingFail() {
 		return enableLoggingFail;
 	}
@@ -89,34 +89,22 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 				generated = generated.filter(
 					it -> {
 						String string = (String)it;
-						if (javaStringConstraint.isNotNull() && string == null) {
-							return false;
-						}
-
-						if (javaStringConstraint.isNotBlank()) {
-							if (string == null) {
-								return false;
-							}
-							return !isBlank(string);
+						if (string == null) {
+							return !javaStringConstraint.isNotNull() && !javaStringConstraint.isNotBlank();
 						}
 
-						if (javaStringConstraint.getMinSize() != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(javaStringConstraint.getMinSize())
-								>= 0;
+						if (javaStringConstraint.isNotBlank() && isBlank(string)) {
+							return false;
 						}
 
-						if (javaStringConstraint.getMaxSize() != null) {
-							if (string == null) {
-								return true;
-							}
-							return BigInteger.valueOf(string.length()).compareTo(javaStringConstraint.getMaxSize())
-								<= 0;
+						BigInteger length = BigInteger.valueOf(string.length());
+						if (javaStringConstraint.getMinSize() != null
+							&& length.compareTo(javaStringConstraint.getMinSize()) < 0) {
+							return false;
 						}
 
-						return true;
+						return javaStringConstraint.getMaxSize() == null
+							|| length.compareTo(javaStringConstraint.getMaxSize()) <= 0;
 					}
 				);
 			}
@@ -134,21 +122,19 @@ public final class ValidateArbitraryGenerator implements ArbitraryGenerator {
 						BigDecimal value = toBigDecimal(it);
 
 						if (javaDecimalConstraint.getMin() != null) {
-							if (value.compareTo(javaDecimalConstraint.getMin()) == 0
-								&& Boolean.FALSE.equals(javaDecimalConstraint.getMinInclusive())) {
+							int compared = value.compareTo(javaDecimalConstraint.getMin());
+							if (compared < 0
+								|| (compared == 0 && Boolean.FALSE.equals(javaDecimalConstraint.getMinInclusive()))) {
 								return false;
 							}
-
-							return value.compareTo(javaDecimalConstraint.getMin()) >= 0;
 						}
 
 						if (javaDecimalConstraint.getMax() != null) {
-							if (value.compareTo(javaDecimalConstraint.getMax()) == 0
-								&& Boolean.FALSE.equals(javaDecimalConstraint.getMaxInclusive())) {
+							int compared = value.compareTo(javaDecimalConstraint.getMax());
+							if (compared > 0
+								|| (compared == 0 && Boolean.FALSE.equals(javaDecimalConstraint.getMaxInclusive()))) {
 								return false;
 							}
-
-							return value.compareTo(javaDecimalConstraint.getMax()) <= 0;
 						}
 
 						return true;
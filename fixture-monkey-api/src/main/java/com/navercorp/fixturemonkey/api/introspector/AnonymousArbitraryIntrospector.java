@@ -19,9 +19,9 @@
 package com.navercorp.fixturemonkey.api.introspector;
 
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Proxy;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -29,6 +29,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
@@ -39,6 +40,12 @@ import com.navercorp.fixturemonkey.api.type.Types;
 /**
  * It generates the anonymous object of interface which has no-argument methods.
  * It is a default fallback {@link ArbitraryIntrospector}, if set none of introspectors in the options.
+ * <p>
+ * The anonymous object is a proxy by default. If {@code generateImplementation} is enabled,
+ * it is an instance of the implementation class generated once per interface, which is as fast as a record to use.
+ * The implementation class is generated as a hidden class on JDK 17 or later,
+ * it falls back to the proxy if the hidden class is not supported or the interface is not accessible.
+ * The generated {@code equals} compares the return values of the interface methods like the proxy does.
  */
 @API(since = "0.5.5", status = Status.MAINTAINED)
 public final class AnonymousArbitraryIntrospector implements ArbitraryIntrospector, Matcher {
@@ -46,6 +53,23 @@ public final class AnonymousArbitraryIntrospector implements ArbitraryIntrospect
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(AnonymousArbitraryIntrospector.class);
 
+	private final boolean generateImplementation;
+
+	public AnonymousArbitraryIntrospector() {
+		this(false);
+	}
+
+	/**
+	 * Creates an introspector generating the anonymous object of interface.
+	 *
+	 * @param generateImplementation whether to generate the implementation class of the interface
+	 *                               instead of using the proxy
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public AnonymousArbitraryIntrospector(boolean generateImplementation) {
+		this.generateImplementation = generateImplementation;
+	}
+
 	@Override
 	public boolean match(Property property) {
 		return Modifier.isInterface(Types.getActualType(property.getType()).getModifiers());
@@ -70,40 +94,46 @@ public final class AnonymousArbitraryIntrospector implements ArbitraryIntrospect
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.objectBuilder()
 				.properties(context.getCombinableArbitrariesByArbitraryProperty())
-				.build(
-					arbitrariesByPropertyName -> {
-						List<ArbitraryProperty> childrenProperties = context.getChildren();
-
-						InvocationHandlerBuilder invocationHandlerBuilder = new InvocationHandlerBuilder(
-							type,
-							new HashMap<>());
-
-						for (ArbitraryProperty arbitraryProperty : childrenProperties) {
-							Property childProperty = arbitraryProperty.getObjectProperty().getProperty();
-
-							if (!(childProperty instanceof MethodProperty)) {
-								continue;
-							}
-
-							MethodProperty methodProperty = (MethodProperty)childProperty;
-
-							Object combined = arbitrariesByPropertyName.get(arbitraryProperty);
-							invocationHandlerBuilder.put(methodProperty.getMethodName(), combined);
-						}
-
-						if (invocationHandlerBuilder.isEmpty()) {
-							return null;
-						}
-
-						return type.cast(
-							Proxy.newProxyInstance(
-								type.getClassLoader(),
-								new Class[] {type},
-								invocationHandlerBuilder.build()
-							)
-						);
-					}
-				)
+				.buildBySlots(combine(type))
 		);
 	}
+
+	private Function<List<ArbitraryProperty>, SlotCombinator<Object>> combine(Class<?> type) {
+		return slots -> {
+			List<String> methodNames = new ArrayList<>(slots.size());
+			int[] methodSlots = new int[slots.size()];
+			for (int i = 0; i < methodSlots.length; i++) {
+				Property childProperty = slots.get(i).getObjectProperty().getProperty();
+
+				if (!(childProperty instanceof MethodProperty)) {
+					methodSlots[i] = -1;
+					continue;
+				}
+
+				String methodName = ((MethodProperty)childProperty).getMethodName();
+				int methodSlot = methodNames.indexOf(methodName);
+				if (methodSlot == -1) {
+					methodSlot = methodNames.size();
+					methodNames.add(methodName);
+				}
+				methodSlots[i] = methodSlot;
+			}
+
+			if (methodNames.isEmpty()) {
+				return values -> null;
+			}
+
+			AnonymousInstanceFactory factory =
+				AnonymousInstanceFactory.of(type, methodNames, generateImplementation);
+			return values -> {
+				Object[] methodValues = new Object[factory.size()];
+				for (int i = 0; i < methodSlots.length; i++) {
+					if (methodSlots[i] != -1) {
+						methodValues[methodSlots[i]] = values[i];
+					}
+				}
+				return type.cast(factory.newInstance(methodValues));
+			};
+		};
+	}
 }
@@ -0,0 +1,185 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+
+/**
+ * Creates the anonymous instances of an interface whose no-argument methods return the generated values.
+ * The values are given as an array, each method is bound to an index of it called a slot.
+ * <p>
+ * The slots are resolved once per interface and its methods. The instance is an instance of the implementation class
+ * generated by {@link InterfaceImplementationGenerator} if requested and supported,
+ * otherwise it is a proxy dispatching by {@link AnonymousInvocationHandler}.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+final class AnonymousInstanceFactory {
+	private static final ConcurrentLruCache<FactoryKey, AnonymousInstanceFactory> FACTORIES =
+		new ConcurrentLruCache<>(1024);
+
+	private final Class<?> type;
+	private final String[] methodNames;
+	private final Method[] methodsBySlot;
+	private final Map<Method, Integer> slotsByMethod;
+	private final Map<String, Integer> slotsByMethodName;
+	@Nullable
+	private final Function<Object[], Object> implementationConstructor;
+
+	private AnonymousInstanceFactory(Class<?> type, List<String> methodNames, boolean generateImplementation) {
+		this.type = type;
+		this.methodNames = methodNames.toArray(new String[0]);
+		this.methodsBySlot = new Method[this.methodNames.length];
+		this.slotsByMethodName = new HashMap<>();
+		for (int slot = 0; slot < this.methodNames.length; slot++) {
+			slotsByMethodName.put(this.methodNames[slot], slot);
+		}
+
+		this.slotsByMethod = new HashMap<>();
+		for (Method method : type.getMethods()) {
+			Integer slot = slotsByMethodName.get(method.getName());
+			if (slot == null || method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+
+			slotsByMethod.put(method, slot);
+			Method representative = methodsBySlot[slot];
+			if (representative == null || isMoreSpecific(method, representative)) {
+				methodsBySlot[slot] = method;
+			}
+		}
+
+		this.implementationConstructor = generateImplementation
+			? InterfaceImplementationGenerator.generate(type, this.methodNames, methodsBySlot)
+			: null;
+	}
+
+	/**
+	 * Returns the factory of given interface whose instances return the value of each slot by the method name.
+	 *
+	 * @param type                   the interface to implement
+	 * @param methodNames            the names of the no-argument methods, the index of a name is the slot of it
+	 * @param generateImplementation whether to generate the implementation class instead of using the proxy
+	 * @return the cached factory
+	 */
+	static AnonymousInstanceFactory of(Class<?> type, List<String> methodNames, boolean generateImplementation) {
+		return FACTORIES.computeIfAbsent(
+			new FactoryKey(type, methodNames, generateImplementation),
+			key -> new AnonymousInstanceFactory(type, methodNames, generateImplementation)
+		);
+	}
+
+	int size() {
+		return methodNames.length;
+	}
+
+	/**
+	 * Creates an anonymous instance, it takes the ownership of given values.
+	 *
+	 * @param values the values by the slot
+	 * @return an instance of the interface
+	 */
+	Object newInstance(Object[] values) {
+		if (implementationConstructor != null) {
+			return implementationConstructor.apply(values);
+		}
+
+		return Proxy.newProxyInstance(
+			type.getClassLoader(),
+			new Class[] {type},
+			new AnonymousInvocationHandler(this, values)
+		);
+	}
+
+	Class<?> getType() {
+		return type;
+	}
+
+	String getMethodName(int slot) {
+		return methodNames[slot];
+	}
+
+	@Nullable
+	Method getMethod(int slot) {
+		return methodsBySlot[slot];
+	}
+
+	int getSlot(Method method) {
+		Integer slot = slotsByMethod.get(method);
+		if (slot == null) {
+			slot = slotsByMethodName.get(method.getName());
+		}
+		return slot == null ? -1 : slot;
+	}
+
+	int getSlot(String methodName) {
+		Integer slot = slotsByMethodName.get(methodName);
+		return slot == null ? -1 : slot;
+	}
+
+	private static boolean isMoreSpecific(Method method, Method other) {
+		if (method.isDefault() != other.isDefault()) {
+			return !method.isDefault();
+		}
+		return other.getReturnType() != method.getReturnType()
+			&& other.getReturnType().isAssignableFrom(method.getReturnType());
+	}
+
+	private static final class FactoryKey {
+		private final Class<?> type;
+		private final List<String> methodNames;
+		private final boolean generateImplementation;
+
+		FactoryKey(Class<?> type, List<String> methodNames, boolean generateImplementation) {
+			this.type = type;
+			this.methodNames = methodNames;
+			this.generateImplementation = generateImplementation;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			FactoryKey that = (FactoryKey)obj;
+			return generateImplementation == that.generateImplementation
+				&& type == that.type
+				&& methodNames.equals(that.methodNames);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, methodNames, generateImplementation);
+		}
+	}
+}
@@ -53,17 +53,23 @@ public final class ArrayIntrospector implements ArbitraryIntrospector, Matcher {
 			return ArbitraryIntrospectorResult.NOT_INTROSPECTED;
 		}
 
+		Class<?> componentType = Types.getArrayComponentType(
+			property.getObjectProperty().getProperty().getAnnotatedType()
+		);
+		if (componentType.isPrimitive()) {
+			return new ArbitraryIntrospectorResult(
+				CombinableArbitrary.containerBuilder()
+					.elements(context.getElementCombinableArbitraryList())
+					.buildPrimitiveArray(componentType)
+			);
+		}
+
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.containerBuilder()
 				.elements(context.getElementCombinableArbitraryList())
 				.build(
 					elements -> {
-						ArrayBuilder arrayBuilder = new ArrayBuilder(
-							Types.getArrayComponentType(
-								property.getObjectProperty().getProperty().getAnnotatedType()
-							),
-							elements.size()
-						);
+						ArrayBuilder arrayBuilder = new ArrayBuilder(componentType, elements.size());
 						for (Object element : elements) {
 							arrayBuilder.add(element);
 						}
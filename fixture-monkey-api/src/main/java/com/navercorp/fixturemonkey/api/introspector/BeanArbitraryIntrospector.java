@@ -25,6 +25,7 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,6 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitraryDelegator;
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorLoggingContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
@@ -82,7 +84,7 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 			new CombinableArbitraryDelegator<>(
 				CombinableArbitrary.objectBuilder()
 					.properties(arbitrariesByArbitraryProperty)
-					.build(combine(generated::combined, propertyDescriptorsByPropertyName))
+					.buildBySlots(combine(generated::combined, propertyDescriptorsByPropertyName))
 			)
 		);
 	}
@@ -95,37 +97,48 @@ public final class BeanArbitraryIntrospector implements ArbitraryIntrospector {
 		}
 	}
 
-	private Function<Map<ArbitraryProperty, Object>, Object> combine(
+	private Function<List<ArbitraryProperty>, SlotCombinator<Object>> combine(
 		Supplier<Object> instance,
 		Map<String, PropertyDescriptor> propertyDescriptorsByPropertyName
 	) {
-		return propertyValuesByArbitraryProperty -> {
-			Object object = instance.get();
-			propertyValuesByArbitraryProperty.forEach(
-				(arbitraryProperty, value) -> {
-					Property property = arbitraryProperty.getObjectProperty().getProperty();
-
-					String originPropertyName = property.getName();
-					PropertyDescriptor propertyDescriptor = propertyDescriptorsByPropertyName.get(originPropertyName);
-					Method writeMethod = propertyDescriptor.getWriteMethod();
+		return slots -> {
+			String[] propertyNames = new String[slots.size()];
+			Method[] writeMethods = new Method[slots.size()];
+			for (int i = 0; i < propertyNames.length; i++) {
+				String originPropertyName = slots.get(i).getObjectProperty().getProperty().getName();
+				PropertyDescriptor propertyDescriptor = propertyDescriptorsByPropertyName.get(originPropertyName);
+				propertyNames[i] = originPropertyName;
+				writeMethods[i] = propertyDescriptor == null ? null : propertyDescriptor.getWriteMethod();
+			}
+
+			return values -> {
+				Object object = instance.get();
+				for (int i = 0; i < writeMethods.length; i++) {
+					Object value = values[i];
+					if (value == null) {
+						continue;
+					}
+
+					Method writeMethod = writeMethods[i];
+					if (writeMethod == null) {
+						LOGGER.warn("The '{}' property '{}' may not have a setter",
+							object.getClass().getName(),
+							propertyNames[i]
+						);
+						continue;
+					}
+
 					try {
-						if (value != null) {
-							writeMethod.invoke(object, value);
-						}
+						writeMethod.invoke(object, value);
 					} catch (IllegalAccessException | InvocationTargetException ex) {
 						LOGGER.warn("set bean property is failed. name: {} value: {}",
 							writeMethod.getName(),
 							value,
 							ex);
-					} catch (NullPointerException ex) {
-						LOGGER.warn("The '{}' property '{}' may not have a setter",
-							object.getClass().getName(),
-							originPropertyName,
-							ex);
 					}
 				}
-			);
-			return object;
+				return object;
+			};
 		};
 	}
 
@@ -22,11 +22,8 @@ import java.beans.ConstructorProperties;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Function;
 
@@ -36,6 +33,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorLoggingContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
@@ -86,36 +84,34 @@ public final class ConstructorPropertiesArbitraryIntrospector implements Arbitra
 		return new ArbitraryIntrospectorResult(
 			CombinableArbitrary.objectBuilder()
 				.properties(context.getCombinableArbitrariesByArbitraryProperty())
-				.build(combine(primaryConstructor, parameterNames))
+				.buildBySlots(combine(primaryConstructor, parameterNames))
 		);
 	}
 
-	private static Function<Map<ArbitraryProperty, Object>, Object> combine(
+	private static Function<List<ArbitraryProperty>, SlotCombinator<Object>> combine(
 		Constructor<?> primaryConstructor,
 		String[] parameterNames
 	) {
-		int parameterSize = parameterNames.length;
-
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> valuesByResolvedName = new HashMap<>();
-
-			propertyValuesByArbitraryProperty.forEach(
-				(key, value) -> valuesByResolvedName.put(
-					key.getObjectProperty().getResolvedPropertyName(),
-					value)
-			);
-
-			List<Object> list = new ArrayList<>(parameterSize);
-
-			for (String parameterName : parameterNames) {
-				Object combined = valuesByResolvedName.getOrDefault(
-					parameterName,
-					null
-				);
-
-				list.add(combined);
+		return slots -> {
+			int[] slotIndexes = new int[parameterNames.length];
+			Arrays.fill(slotIndexes, -1);
+			for (int slotIndex = 0; slotIndex < slots.size(); slotIndex++) {
+				String resolvedPropertyName = slots.get(slotIndex).getObjectProperty().getResolvedPropertyName();
+				for (int parameterIndex = 0; parameterIndex < parameterNames.length; parameterIndex++) {
+					if (parameterNames[parameterIndex].equals(resolvedPropertyName)) {
+						slotIndexes[parameterIndex] = slotIndex;
+					}
+				}
 			}
-			return Reflections.newInstance(primaryConstructor, list.toArray());
+
+			return values -> {
+				Object[] arguments = new Object[slotIndexes.length];
+				for (int i = 0; i < slotIndexes.length; i++) {
+					int slotIndex = slotIndexes[i];
+					arguments[i] = slotIndex == -1 ? null : values[slotIndex];
+				}
+				return Reflections.newInstance(primaryConstructor, arguments);
+			};
 		};
 	}
 
@@ -22,6 +22,7 @@ import static com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator.
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -33,6 +34,7 @@ import org.slf4j.LoggerFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitraryDelegator;
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorLoggingContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
@@ -77,7 +79,7 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 			new CombinableArbitraryDelegator<>(
 				CombinableArbitrary.objectBuilder()
 					.properties(arbitrariesByArbitraryProperty)
-					.build(combine(generated::combined, fieldsByPropertyName))
+					.buildBySlots(combine(generated::combined, fieldsByPropertyName))
 			)
 		);
 	}
@@ -90,41 +92,45 @@ public final class FieldReflectionArbitraryIntrospector implements ArbitraryIntr
 		}
 	}
 
-	private Function<Map<ArbitraryProperty, Object>, Object> combine(
+	private Function<List<ArbitraryProperty>, SlotCombinator<Object>> combine(
 		Supplier<Object> instance,
 		Map<String, Field> fieldsByPropertyName
 	) {
-		return propertyValuesByArbitraryProperty -> {
-			Object object = instance.get();
-			propertyValuesByArbitraryProperty.forEach(
-				(arbitraryProperty, value) -> {
-					Property property = arbitraryProperty.getObjectProperty().getProperty();
-					String originPropertyName = property.getName();
-					Field field = fieldsByPropertyName.get(originPropertyName);
+		return slots -> {
+			Field[] fields = new Field[slots.size()];
+			for (int i = 0; i < fields.length; i++) {
+				Property property = slots.get(i).getObjectProperty().getProperty();
+				Field field = fieldsByPropertyName.get(property.getName());
+
+				if (field == null
+					|| (Modifier.isFinal(field.getModifiers()) && Modifier.isStatic(field.getModifiers()))
+					|| Modifier.isTransient(field.getModifiers())) {
+					continue;
+				}
+				fields[i] = field;
+			}
 
-					if (field == null
-						|| (Modifier.isFinal(field.getModifiers()) && Modifier.isStatic(field.getModifiers()))
-						|| Modifier.isTransient(field.getModifiers())) {
-						return;
+			return values -> {
+				Object object = instance.get();
+				for (int i = 0; i < fields.length; i++) {
+					Field field = fields[i];
+					Object value = values[i];
+					if (field == null || value == null) {
+						continue;
 					}
 
-					String resolvePropertyName =
-						arbitraryProperty.getObjectProperty().getResolvedPropertyName();
-
 					try {
-						if (value != null) {
-							field.set(object, value);
-						}
+						field.set(object, value);
 					} catch (IllegalAccessException | IllegalArgumentException ex) {
 						LOGGER.warn("set field by reflection is failed. field: {} value: {}",
-							resolvePropertyName,
+							slots.get(i).getObjectProperty().getResolvedPropertyName(),
 							value,
 							ex
 						);
 					}
-				});
-
-			return object;
+				}
+				return object;
+			};
 		};
 	}
 
@@ -0,0 +1,49 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Generates the implementation class of an interface whose no-argument methods return the values of their slots.
+ * The hidden classes are only available since JDK 15, it generates nothing in this version.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+final class InterfaceImplementationGenerator {
+	private InterfaceImplementationGenerator() {
+	}
+
+	/**
+	 * Generates the implementation class of given interface.
+	 *
+	 * @param type          the interface to implement
+	 * @param methodNames   the method names by the slot
+	 * @param methodsBySlot the methods by the slot
+	 * @return the constructor takes the values by the slot, {@code null} if it could not be generated
+	 */
+	@SuppressWarnings("unused")
+	@Nullable
+	static Function<Object[], Object> generate(Class<?> type, String[] methodNames, Method[] methodsBySlot) {
+		return null;
+	}
+}
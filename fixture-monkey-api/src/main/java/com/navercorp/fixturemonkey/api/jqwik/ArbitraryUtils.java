@@ -31,11 +31,18 @@ import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 @SuppressWarnings("NullableProblems")
 @API(since = "0.6.9", status = Status.MAINTAINED)
 public abstract class ArbitraryUtils {
+	/**
+	 * Converts the jqwik {@link Arbitrary} to {@link CombinableArbitrary}.
+	 * The {@link RandomGenerator} of the arbitrary is built once per thread and reused for the successive values.
+	 *
+	 * @param arbitrary the jqwik arbitrary to convert
+	 * @return a {@link CombinableArbitrary} sampling the given arbitrary
+	 */
 	public static <T> CombinableArbitrary<T> toCombinableArbitrary(Arbitrary<T> arbitrary) {
 		return CombinableArbitrary.from(LazyArbitrary.lazy(
 			() -> {
 				if (arbitrary != null) {
-					return newThreadSafeArbitrary(arbitrary).sample();
+					return ThreadLocalRandomGenerators.sample(arbitrary);
 				}
 				return null;
 			}
@@ -0,0 +1,82 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import java.math.BigDecimal;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.arbitraries.BigDecimalArbitrary;
+
+import com.navercorp.fixturemonkey.api.arbitrary.BigDecimalCombinableArbitrary;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class JqwikBigDecimalCombinableArbitrary implements BigDecimalCombinableArbitrary {
+	private final BigDecimalArbitrary bigDecimalArbitrary;
+
+	public JqwikBigDecimalCombinableArbitrary() {
+		this(Arbitraries.bigDecimals());
+	}
+
+	private JqwikBigDecimalCombinableArbitrary(BigDecimalArbitrary bigDecimalArbitrary) {
+		this.bigDecimalArbitrary = bigDecimalArbitrary;
+	}
+
+	@Override
+	public BigDecimal combined() {
+		return this.bigDecimalArbitrary.sample();
+	}
+
+	@Override
+	public BigDecimal rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public BigDecimalCombinableArbitrary withRange(BigDecimal minValue, BigDecimal maxValue) {
+		return new JqwikBigDecimalCombinableArbitrary(Arbitraries.bigDecimals().between(minValue, maxValue));
+	}
+
+	@Override
+	public BigDecimalCombinableArbitrary positive() {
+		return new JqwikBigDecimalCombinableArbitrary(Arbitraries.bigDecimals().greaterThan(BigDecimal.ZERO));
+	}
+
+	@Override
+	public BigDecimalCombinableArbitrary negative() {
+		return new JqwikBigDecimalCombinableArbitrary(Arbitraries.bigDecimals().lessThan(BigDecimal.ZERO));
+	}
+
+	@Override
+	public BigDecimalCombinableArbitrary ofScale(int scale) {
+		return new JqwikBigDecimalCombinableArbitrary(this.bigDecimalArbitrary.ofScale(scale));
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
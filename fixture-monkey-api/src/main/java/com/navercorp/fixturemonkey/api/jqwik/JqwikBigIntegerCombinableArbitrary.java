@@ -0,0 +1,77 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import java.math.BigInteger;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.arbitraries.BigIntegerArbitrary;
+
+import com.navercorp.fixturemonkey.api.arbitrary.BigIntegerCombinableArbitrary;
+
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class JqwikBigIntegerCombinableArbitrary implements BigIntegerCombinableArbitrary {
+	private final BigIntegerArbitrary bigIntegerArbitrary;
+
+	public JqwikBigIntegerCombinableArbitrary() {
+		this(Arbitraries.bigIntegers());
+	}
+
+	private JqwikBigIntegerCombinableArbitrary(BigIntegerArbitrary bigIntegerArbitrary) {
+		this.bigIntegerArbitrary = bigIntegerArbitrary;
+	}
+
+	@Override
+	public BigInteger combined() {
+		return this.bigIntegerArbitrary.sample();
+	}
+
+	@Override
+	public BigInteger rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public BigIntegerCombinableArbitrary withRange(BigInteger minValue, BigInteger maxValue) {
+		return new JqwikBigIntegerCombinableArbitrary(Arbitraries.bigIntegers().between(minValue, maxValue));
+	}
+
+	@Override
+	public BigIntegerCombinableArbitrary positive() {
+		return new JqwikBigIntegerCombinableArbitrary(Arbitraries.bigIntegers().greaterOrEqual(BigInteger.ONE));
+	}
+
+	@Override
+	public BigIntegerCombinableArbitrary negative() {
+		return new JqwikBigIntegerCombinableArbitrary(Arbitraries.bigIntegers().lessOrEqual(BigInteger.ONE.negate()));
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.arbitraries.DoubleArbitrary;
+
+import com.navercorp.fixturemonkey.api.arbitrary.DoubleCombinableArbitrary;
+
+/**
+ * A {@link DoubleCombinableArbitrary} generated by jqwik.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class JqwikDoubleCombinableArbitrary implements DoubleCombinableArbitrary {
+	private final DoubleArbitrary doubleArbitrary;
+
+	public JqwikDoubleCombinableArbitrary() {
+		this(Arbitraries.doubles());
+	}
+
+	private JqwikDoubleCombinableArbitrary(DoubleArbitrary doubleArbitrary) {
+		this.doubleArbitrary = doubleArbitrary;
+	}
+
+	@Override
+	public Double combined() {
+		return this.doubleArbitrary.sample();
+	}
+
+	@Override
+	public Double rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public DoubleCombinableArbitrary withRange(double minValue, double maxValue) {
+		return new JqwikDoubleCombinableArbitrary(Arbitraries.doubles().between(minValue, maxValue));
+	}
+
+	@Override
+	public DoubleCombinableArbitrary positive() {
+		return new JqwikDoubleCombinableArbitrary(Arbitraries.doubles().greaterThan(0.0));
+	}
+
+	@Override
+	public DoubleCombinableArbitrary negative() {
+		return new JqwikDoubleCombinableArbitrary(Arbitraries.doubles().lessThan(0.0));
+	}
+
+	@Override
+	public DoubleCombinableArbitrary ofScale(int scale) {
+		return new JqwikDoubleCombinableArbitrary(this.doubleArbitrary.ofScale(scale));
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
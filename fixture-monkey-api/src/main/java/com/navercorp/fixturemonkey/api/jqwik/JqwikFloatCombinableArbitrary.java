@@ -0,0 +1,83 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.arbitraries.FloatArbitrary;
+
+import com.navercorp.fixturemonkey.api.arbitrary.FloatCombinableArbitrary;
+
+/**
+ * A {@link FloatCombinableArbitrary} generated by jqwik.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class JqwikFloatCombinableArbitrary implements FloatCombinableArbitrary {
+	private final FloatArbitrary floatArbitrary;
+
+	public JqwikFloatCombinableArbitrary() {
+		this(Arbitraries.floats());
+	}
+
+	private JqwikFloatCombinableArbitrary(FloatArbitrary floatArbitrary) {
+		this.floatArbitrary = floatArbitrary;
+	}
+
+	@Override
+	public Float combined() {
+		return this.floatArbitrary.sample();
+	}
+
+	@Override
+	public Float rawValue() {
+		return this.combined();
+	}
+
+	@Override
+	public FloatCombinableArbitrary withRange(float minValue, float maxValue) {
+		return new JqwikFloatCombinableArbitrary(Arbitraries.floats().between(minValue, maxValue));
+	}
+
+	@Override
+	public FloatCombinableArbitrary positive() {
+		return new JqwikFloatCombinableArbitrary(Arbitraries.floats().greaterThan(0.0f));
+	}
+
+	@Override
+	public FloatCombinableArbitrary negative() {
+		return new JqwikFloatCombinableArbitrary(Arbitraries.floats().lessThan(0.0f));
+	}
+
+	@Override
+	public FloatCombinableArbitrary ofScale(int scale) {
+		return new JqwikFloatCombinableArbitrary(this.floatArbitrary.ofScale(scale));
+	}
+
+	@Override
+	public void clear() {
+		// ignored
+	}
+
+	@Override
+	public boolean fixed() {
+		return false;
+	}
+}
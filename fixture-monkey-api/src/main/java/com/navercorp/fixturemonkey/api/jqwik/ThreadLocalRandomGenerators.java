@@ -0,0 +1,86 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestDescriptor;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
+import net.jqwik.engine.execution.lifecycle.CurrentTestDescriptor;
+
+import com.navercorp.fixturemonkey.api.container.LruCache;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * Samples a jqwik {@link Arbitrary} by reusing its {@link RandomGenerator}.
+ * Building a generator is expensive, it builds all the filters and mappers of the arbitrary chain.
+ * The generators are cached per thread, they are not thread-safe in general.
+ * Like {@link ArbitraryUtils#newThreadSafeArbitrary(Arbitrary)}, the generator is built without edge cases
+ * to avoid depending on the store of the jqwik engine.
+ * <p>
+ * The values are drawn from {@link Randoms#current()}, the same source as {@link Arbitrary#sample()},
+ * so they are reproducible by the seed.
+ */
+final class ThreadLocalRandomGenerators {
+	/**
+	 * The same generation size as {@link Arbitrary#sample()}.
+	 */
+	private static final int GEN_SIZE = 1000;
+	private static final int MAX_CACHE_SIZE = 500;
+	private static final ThreadLocal<LruCache<Arbitrary<?>, RandomGenerator<?>>> GENERATORS_BY_ARBITRARY =
+		ThreadLocal.withInitial(() -> new LruCache<>(MAX_CACHE_SIZE));
+
+	@Nullable
+	private static volatile TestDescriptor sampleDescriptor;
+
+	private ThreadLocalRandomGenerators() {
+	}
+
+	/**
+	 * Some arbitraries require the store of the test descriptor, such as the memoized generators.
+	 * It samples in the descriptor jqwik uses for sampling outside the jqwik engine.
+	 */
+	static <T> T sample(Arbitrary<T> arbitrary) {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return CurrentTestDescriptor.runWithDescriptor(getSampleDescriptor(), () -> draw(arbitrary));
+		}
+		return draw(arbitrary);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T draw(Arbitrary<T> arbitrary) {
+		RandomGenerator<T> generator = (RandomGenerator<T>)GENERATORS_BY_ARBITRARY.get()
+			.computeIfAbsent(arbitrary, it -> it.generator(GEN_SIZE));
+		return generator.next(Randoms.current()).value();
+	}
+
+	/**
+	 * The edge cases are excluded not to draw a random value from the seeded source.
+	 */
+	private static TestDescriptor getSampleDescriptor() {
+		TestDescriptor descriptor = sampleDescriptor;
+		if (descriptor == null) {
+			descriptor = Arbitraries.create(CurrentTestDescriptor::get).withoutEdgeCases().sample();
+			sampleDescriptor = descriptor;
+		}
+		return descriptor;
+	}
+}
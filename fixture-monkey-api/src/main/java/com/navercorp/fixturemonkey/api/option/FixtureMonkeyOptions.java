@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey.api.option;
 
 import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerator.NOT_NULL_INJECT;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -168,6 +169,7 @@ public final class FixtureMonkeyOptions {
 	private final MatcherOperatorRetriever<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers;
 	private final boolean enableLoggingFail;
 	private final List<TreeMatcherOperator<BuilderContextInitializer>> builderContextInitializers;
+	private final Set<Class<? extends Annotation>> guaranteedConstraintTypes;
 
 	public FixtureMonkeyOptions(
 		MatcherOperatorRetriever<PropertyGenerator> propertyGenerators,
@@ -190,7 +192,8 @@ public final class FixtureMonkeyOptions {
 		InstantiatorProcessor instantiatorProcessor,
 		MatcherOperatorRetriever<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers,
 		boolean enableLoggingFail,
-		List<TreeMatcherOperator<BuilderContextInitializer>> builderContextCustomizer
+		List<TreeMatcherOperator<BuilderContextInitializer>> builderContextCustomizer,
+		Set<Class<? extends Annotation>> guaranteedConstraintTypes
 	) {
 		this.propertyGenerators = propertyGenerators;
 		this.defaultPropertyGenerator = defaultPropertyGenerator;
@@ -213,6 +216,7 @@ public final class FixtureMonkeyOptions {
 		this.candidateConcretePropertyResolvers = candidateConcretePropertyResolvers;
 		this.enableLoggingFail = enableLoggingFail;
 		this.builderContextInitializers = builderContextCustomizer;
+		this.guaranteedConstraintTypes = guaranteedConstraintTypes;
 	}
 
 	public static FixtureMonkeyOptionsBuilder builder() {
@@ -336,6 +340,19 @@ public final class FixtureMonkeyOptions {
 		return javaConstraintGenerator;
 	}
 
+	/**
+	 * Returns the annotation types of the constraints which the generation of these options always satisfies.
+	 * It is empty if the introspectors or the generators of the options are customized,
+	 * the values they generate may not satisfy the constraints.
+	 *
+	 * @return the annotation types of the constraints not to validate again
+	 * @see JavaConstraintGenerator#getGuaranteedConstraintTypes()
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public Set<Class<? extends Annotation>> getGuaranteedConstraintTypes() {
+		return guaranteedConstraintTypes;
+	}
+
 	public InstantiatorProcessor getInstantiatorProcessor() {
 		return instantiatorProcessor;
 	}
@@ -25,12 +25,15 @@ import static com.navercorp.fixturemonkey.api.generator.DefaultNullInjectGenerat
 import static com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions.DEFAULT_ARBITRARY_INTROSPECTORS;
 import static com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions.DEFAULT_MAX_UNIQUE_GENERATION_COUNT;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -43,6 +46,7 @@ import org.jspecify.annotations.Nullable;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.arbitrary.JavaTimeArbitraryGeneratorSet;
 import com.navercorp.fixturemonkey.api.arbitrary.JavaTypeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.constraint.FilterConstraintJavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
 import com.navercorp.fixturemonkey.api.container.DecomposableJavaContainer;
 import com.navercorp.fixturemonkey.api.container.DecomposedContainerValueFactory;
@@ -84,6 +88,8 @@ import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 @SuppressWarnings("UnusedReturnValue")
 @API(since = "0.6.0", status = Status.MAINTAINED)
 public final class FixtureMonkeyOptionsBuilder {
+	private static final UnaryOperator<ArbitraryGenerator> IDENTITY_ARBITRARY_GENERATOR_OPERATOR = it -> it;
+
 	private DefaultMatcherOperatorContainer<PropertyGenerator> propertyGenerators;
 	private PropertyGenerator defaultPropertyGenerator = new DefaultPropertyGenerator();
 	private DefaultMatcherOperatorContainer<ObjectPropertyGenerator> arbitraryObjectPropertyGenerators;
@@ -96,7 +102,7 @@ public final class FixtureMonkeyOptionsBuilder {
 	private DefaultMatcherOperatorContainer<ArbitraryContainerInfoGenerator> arbitraryContainerInfoGenerators;
 	private ArbitraryContainerInfoGenerator defaultArbitraryContainerInfoGenerator;
 	private ArbitraryGenerator defaultArbitraryGenerator;
-	private UnaryOperator<ArbitraryGenerator> defaultArbitraryGeneratorOperator = it -> it;
+	private UnaryOperator<ArbitraryGenerator> defaultArbitraryGeneratorOperator = IDENTITY_ARBITRARY_GENERATOR_OPERATOR;
 	private DefaultMatcherOperatorContainer<ArbitraryIntrospector> arbitraryIntrospectors;
 	private final JavaDefaultArbitraryGeneratorBuilder javaDefaultArbitraryGeneratorBuilder =
 		IntrospectedArbitraryGenerator.javaBuilder();
@@ -105,6 +111,7 @@ public final class FixtureMonkeyOptionsBuilder {
 	private boolean nullableElement = false;
 	private boolean enableLoggingFail = true;
 	private UnaryOperator<NullInjectGenerator> defaultNullInjectGeneratorOperator = it -> it;
+	private boolean generationCustomized = false;
 	private ArbitraryValidator defaultArbitraryValidator = (obj) -> {
 	};
 	private DecomposedContainerValueFactory decomposedContainerValueFactory =
@@ -309,6 +316,7 @@ public final class FixtureMonkeyOptionsBuilder {
 		MatcherOperator<NullInjectGenerator> nullInjectGenerator
 	) {
 		this.nullInjectGenerators.addFirst(nullInjectGenerator);
+		this.generationCustomized = true;
 		return this;
 	}
 
@@ -330,6 +338,7 @@ public final class FixtureMonkeyOptionsBuilder {
 
 	public FixtureMonkeyOptionsBuilder defaultNullInjectGenerator(NullInjectGenerator defaultNullInjectGenerator) {
 		this.defaultNullInjectGenerator = defaultNullInjectGenerator;
+		this.generationCustomized = true;
 		return this;
 	}
 
@@ -431,6 +440,7 @@ public final class FixtureMonkeyOptionsBuilder {
 		UnaryOperator<ArbitraryIntrospector> objectIntrospector
 	) {
 		this.javaDefaultArbitraryGeneratorBuilder.objectIntrospector(objectIntrospector);
+		this.generationCustomized = true;
 		return this;
 	}
 
@@ -512,6 +522,7 @@ public final class FixtureMonkeyOptionsBuilder {
 		Function<JavaConstraintGenerator, JavaTypeArbitraryGeneratorSet> generateJavaTypeArbitrarySet
 	) {
 		this.generateJavaTypeArbitrarySet = generateJavaTypeArbitrarySet;
+		this.generationCustomized = true;
 		return this;
 	}
 
@@ -519,6 +530,7 @@ public final class FixtureMonkeyOptionsBuilder {
 		Function<JavaConstraintGenerator, JavaTimeArbitraryGeneratorSet> generateJavaTimeArbitrarySet
 	) {
 		this.generateJavaTimeArbitrarySet = generateJavaTimeArbitrarySet;
+		this.generationCustomized = true;
 		return this;
 	}
 
@@ -595,7 +607,8 @@ public final class FixtureMonkeyOptionsBuilder {
 			this.javaConstraintGenerator = it.apply(this.javaConstraintGenerator);
 		}
 
-		JavaConstraintGenerator resolvedJavaConstraintGenerator = this.javaConstraintGenerator;
+		JavaConstraintGenerator resolvedJavaConstraintGenerator =
+			new FilterConstraintJavaConstraintGenerator(this.javaConstraintGenerator);
 
 		JavaArbitraryResolver javaArbitraryResolver = defaultIfNull(
 			this.javaArbitraryResolver,
@@ -674,6 +687,15 @@ public final class FixtureMonkeyOptionsBuilder {
 
 		defaultArbitraryGenerator = defaultArbitraryGeneratorOperator.apply(defaultArbitraryGenerator);
 
+		// the values of the introspectors, the generators or the null injections customized
+		// may not satisfy the constraints
+		boolean generationCustomized = this.generationCustomized
+			|| arbitraryIntrospectors.getList().size() > DEFAULT_ARBITRARY_INTROSPECTORS.size()
+			|| this.defaultArbitraryGeneratorOperator != IDENTITY_ARBITRARY_GENERATOR_OPERATOR;
+		Set<Class<? extends Annotation>> guaranteedConstraintTypes = generationCustomized
+			? Collections.emptySet()
+			: resolvedJavaConstraintGenerator.getGuaranteedConstraintTypes();
+
 		return new FixtureMonkeyOptions(
 			propertyGenerators,
 			this.defaultPropertyGenerator,
@@ -695,7 +717,8 @@ public final class FixtureMonkeyOptionsBuilder {
 			this.instantiatorProcessor,
 			this.candidateConcretePropertyResolvers,
 			this.enableLoggingFail,
-			this.builderContextInitializers
+			this.builderContextInitializers,
+			guaranteedConstraintTypes
 		);
 	}
 
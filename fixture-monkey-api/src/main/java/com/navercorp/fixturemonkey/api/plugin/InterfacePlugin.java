@@ -44,6 +44,7 @@ public final class InterfacePlugin implements Plugin {
 	private final List<MatcherOperator<CandidateConcretePropertyResolver>> candidateConcretePropertyResolvers =
 		new ArrayList<>();
 	private boolean useAnonymousArbitraryIntrospector = true;
+	private boolean useGeneratedAnonymousImplementation = false;
 
 	/**
 	 * Registers implementations for a given interface.
@@ -190,6 +191,23 @@ public final class InterfacePlugin implements Plugin {
 		return this;
 	}
 
+	/**
+	 * Configures the anonymous arbitrary introspector to generate the implementation class of the interface
+	 * instead of using the proxy. By default, this option is disabled (default value is false).
+	 * The implementation class is generated once per interface as a hidden class on JDK 17 or later,
+	 * it falls back to the proxy if it could not be generated.
+	 * It is only effective when {@link #useAnonymousArbitraryIntrospector(boolean)} is enabled.
+	 *
+	 * @param useGeneratedAnonymousImplementation a boolean flag to enable (true) or disable (false)
+	 *                                            the generated implementation. Default value is false.
+	 * @return the InterfacePlugin instance for fluent chaining
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public InterfacePlugin useGeneratedAnonymousImplementation(boolean useGeneratedAnonymousImplementation) {
+		this.useGeneratedAnonymousImplementation = useGeneratedAnonymousImplementation;
+		return this;
+	}
+
 	@Override
 	public void accept(FixtureMonkeyOptionsBuilder optionsBuilder) {
 		for (MatcherOperator<CandidateConcretePropertyResolver> resolver : candidateConcretePropertyResolvers) {
@@ -197,8 +215,11 @@ public final class InterfacePlugin implements Plugin {
 		}
 
 		if (useAnonymousArbitraryIntrospector) {
+			AnonymousArbitraryIntrospector anonymousArbitraryIntrospector = useGeneratedAnonymousImplementation
+				? new AnonymousArbitraryIntrospector(true)
+				: AnonymousArbitraryIntrospector.INSTANCE;
 			optionsBuilder.fallbackIntrospector(it ->
-				new MatchArbitraryIntrospector(Arrays.asList(it, AnonymousArbitraryIntrospector.INSTANCE))
+				new MatchArbitraryIntrospector(Arrays.asList(it, anonymousArbitraryIntrospector))
 			);
 		}
 	}
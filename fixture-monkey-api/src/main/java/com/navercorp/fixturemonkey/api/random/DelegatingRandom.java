@@ -0,0 +1,83 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.random;
+
+import java.util.Random;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * A {@link Random} delegating to {@link Randoms#current()} whenever it is called.
+ * It follows the seed of the calling thread even if {@link Randoms} replaces the current random after it is created,
+ * so the values of the libraries drawing from it are reproducible by the seed of Fixture Monkey.
+ * It has no state of its own, {@link #setSeed(long)} does not affect the values.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class DelegatingRandom extends Random {
+	public static final DelegatingRandom INSTANCE = new DelegatingRandom();
+
+	private DelegatingRandom() {
+	}
+
+	@Override
+	protected int next(int bits) {
+		return Randoms.current().nextInt() >>> (Integer.SIZE - bits);
+	}
+
+	@Override
+	public int nextInt() {
+		return Randoms.current().nextInt();
+	}
+
+	@Override
+	public int nextInt(int bound) {
+		return Randoms.current().nextInt(bound);
+	}
+
+	@Override
+	public long nextLong() {
+		return Randoms.current().nextLong();
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return Randoms.current().nextBoolean();
+	}
+
+	@Override
+	public float nextFloat() {
+		return Randoms.current().nextFloat();
+	}
+
+	@Override
+	public double nextDouble() {
+		return Randoms.current().nextDouble();
+	}
+
+	@Override
+	public double nextGaussian() {
+		return Randoms.current().nextGaussian();
+	}
+
+	@Override
+	public void nextBytes(byte[] bytes) {
+		Randoms.current().nextBytes(bytes);
+	}
+}
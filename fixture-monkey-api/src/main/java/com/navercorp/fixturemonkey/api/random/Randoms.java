@@ -18,10 +18,13 @@
 
 package com.navercorp.fixturemonkey.api.random;
 
+import java.lang.reflect.Field;
 import java.util.Random;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import net.jqwik.engine.SourceOfRandomness;
 
@@ -35,6 +38,11 @@ import com.navercorp.fixturemonkey.api.engine.EngineUtils;
 @API(since = "0.4.0", status = Status.INTERNAL)
 @SuppressFBWarnings("DMI_RANDOM_USED_ONLY_ONCE")
 public abstract class Randoms {
+	/**
+	 * The golden ratio gamma of {@link java.util.SplittableRandom}.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
 	private static final ThreadLocal<Random> CURRENT;
 	private static final ThreadLocal<Long> SEED;
 
@@ -87,6 +95,48 @@ public abstract class Randoms {
 		return SEED.get();
 	}
 
+	/**
+	 * Derives the seed of the {@code index}-th element of a sequence from the given seed,
+	 * the same way {@link java.util.SplittableRandom} derives the seeds of its splits.
+	 * The derived seeds of the same seed are distinct for each index, so the elements can be generated
+	 * independently in any order or in any thread.
+	 *
+	 * @param seed  the seed of the sequence
+	 * @param index the index of the element in the sequence
+	 * @return the seed of the element, it is never {@code 0L}
+	 */
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public static long splitSeed(long seed, long index) {
+		long mixed = seed + (index + 1) * GOLDEN_GAMMA;
+		mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+		mixed = mixed ^ (mixed >>> 31);
+		return mixed == 0L ? GOLDEN_GAMMA : mixed;
+	}
+
+	/**
+	 * Runs the given supplier with a new random of the given seed.
+	 * The random and the seed of the current thread are restored after running,
+	 * so the current thread keeps generating the values of its own seed.
+	 *
+	 * @param seed     the seed of the random used by the supplier
+	 * @param supplier the supplier to run
+	 * @param <T>      the type of the result
+	 * @return the result of the given supplier
+	 */
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public static <T> T withSeed(long seed, Supplier<T> supplier) {
+		long previousSeed = SEED.get();
+		Random previousRandom = current();
+		initializeGlobalSeed(seed);
+		try {
+			return supplier.get();
+		} finally {
+			SEED.set(previousSeed);
+			restoreCurrent(previousRandom);
+		}
+	}
+
 	public static int nextInt(int bound) {
 		return current().nextInt(bound);
 	}
@@ -108,12 +158,47 @@ public abstract class Randoms {
 		}
 	}
 
+	private static void restoreCurrent(Random random) {
+		CURRENT.set(random);
+		if (!EngineUtils.useJqwikEngine()) {
+			return;
+		}
+
+		ThreadLocal<Random> jqwikCurrent = JqwikCurrentRandom.CURRENT;
+		if (jqwikCurrent != null) {
+			jqwikCurrent.set(random);
+		} else {
+			// jqwik does not expose its random, the next values are still derived from the previous random
+			SourceOfRandomness.create(String.valueOf(random.nextLong()));
+		}
+	}
+
 	private static Random newRandom(final long seed) {
 		return EngineUtils.useJqwikEngine()
 			? SourceOfRandomness.create(String.valueOf(seed))
 			: new XorShiftRandom(seed);
 	}
 
+	/**
+	 * The random of the current thread in jqwik, {@link SourceOfRandomness} has no method to set it back.
+	 */
+	private static final class JqwikCurrentRandom {
+		@Nullable
+		private static final ThreadLocal<Random> CURRENT = resolveCurrent();
+
+		@SuppressWarnings("unchecked")
+		@Nullable
+		private static ThreadLocal<Random> resolveCurrent() {
+			try {
+				Field current = SourceOfRandomness.class.getDeclaredField("current");
+				current.setAccessible(true);
+				return (ThreadLocal<Random>)current.get(null);
+			} catch (NoSuchFieldException | IllegalAccessException | ClassCastException | SecurityException ex) {
+				return null;
+			}
+		}
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
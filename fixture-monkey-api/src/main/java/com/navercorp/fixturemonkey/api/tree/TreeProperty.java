@@ -18,12 +18,13 @@
 
 package com.navercorp.fixturemonkey.api.tree;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
 import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
@@ -40,6 +41,8 @@ public class TreeProperty {
 	private final ObjectProperty objectProperty;
 	private final boolean container;
 	private final List<? extends TypeDefinition> typeDefinitions;
+	@Nullable
+	private volatile ArbitraryProperty arbitraryProperty = null;
 
 	public TreeProperty(
 		ObjectProperty objectProperty,
@@ -70,21 +73,44 @@ public class TreeProperty {
 
 	/**
 	 * It can be converted into {@link ArbitraryProperty} for backward compatibility.
+	 * The converted property of an object is reused for the same nullInject,
+	 * the child properties of a container are not reused because they depend on its size which can be changed.
 	 *
 	 * @param nullInject the nullInject was in {@link ArbitraryProperty} but it is removed because it can be modified.
 	 * @return the ArbitraryProperty
 	 */
 	public ArbitraryProperty toArbitraryProperty(double nullInject) {
+		if (container) {
+			return newArbitraryProperty(nullInject);
+		}
+
+		ArbitraryProperty cached = this.arbitraryProperty;
+		if (cached != null && Double.compare(cached.getNullInject(), nullInject) == 0) {
+			return cached;
+		}
+
+		ArbitraryProperty newArbitraryProperty = newArbitraryProperty(nullInject);
+		this.arbitraryProperty = newArbitraryProperty;
+		return newArbitraryProperty;
+	}
+
+	private ArbitraryProperty newArbitraryProperty(double nullInject) {
+		List<? extends TypeDefinition> typeDefinitions = this.getTypeDefinitions();
+		List<ConcreteTypeDefinition> concreteTypeDefinitions = new ArrayList<>(typeDefinitions.size());
+		for (TypeDefinition typeDefinition : typeDefinitions) {
+			concreteTypeDefinitions.add(
+				new ConcreteTypeDefinition(
+					typeDefinition.getResolvedProperty(),
+					typeDefinition.getPropertyGenerator().generateChildProperties(typeDefinition.getResolvedProperty())
+				)
+			);
+		}
+
 		return new ArbitraryProperty(
 			this.getObjectProperty(),
 			this.isContainer(),
 			nullInject,
-			this.getTypeDefinitions().stream()
-				.map(it -> new ConcreteTypeDefinition(
-					it.getResolvedProperty(),
-					it.getPropertyGenerator().generateChildProperties(it.getResolvedProperty())
-				))
-				.collect(Collectors.toList())
+			concreteTypeDefinitions
 		);
 	}
 
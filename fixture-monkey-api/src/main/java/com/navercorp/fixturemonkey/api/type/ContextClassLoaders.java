@@ -0,0 +1,70 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs a task with the context class loader of another thread.
+ * The worker threads of an executor may not share the context class loader of the caller,
+ * the service providers such as the jqwik engine would not be found without it.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public abstract class ContextClassLoaders {
+	/**
+	 * Runs the given supplier with the given context class loader,
+	 * the context class loader of the current thread is restored after running.
+	 *
+	 * @param contextClassLoader the context class loader used by the supplier
+	 * @param supplier           the supplier to run
+	 * @param <T>                the type of the result
+	 * @return the result of the given supplier
+	 */
+	public static <T> T supplyWith(@Nullable ClassLoader contextClassLoader, Supplier<T> supplier) {
+		Thread currentThread = Thread.currentThread();
+		ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+		currentThread.setContextClassLoader(contextClassLoader);
+		try {
+			return supplier.get();
+		} finally {
+			currentThread.setContextClassLoader(previousClassLoader);
+		}
+	}
+
+	/**
+	 * Runs the given runnable with the given context class loader,
+	 * the context class loader of the current thread is restored after running.
+	 *
+	 * @param contextClassLoader the context class loader used by the runnable
+	 * @param runnable           the runnable to run
+	 */
+	public static void runWith(@Nullable ClassLoader contextClassLoader, Runnable runnable) {
+		supplyWith(
+			contextClassLoader,
+			() -> {
+				runnable.run();
+				return null;
+			}
+		);
+	}
+}
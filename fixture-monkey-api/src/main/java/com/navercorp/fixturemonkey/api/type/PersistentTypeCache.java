@@ -0,0 +1,513 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the introspection results of {@link TypeCache} to a file to share them across JVM runs,
+ * for example the test worker JVMs of a build.
+ * It stores the bean property descriptors and the primary constructor with its parameter names of each class
+ * by their names, the reflection objects are resolved by the names which is cheaper than introspecting again.
+ * <p>
+ * The entries are keyed by the class name and the hash of the class files of the class, its superclasses
+ * and their interfaces.
+ * The stale entry whose class is changed is ignored by the hash mismatch.
+ * <p>
+ * It is disabled by default, it is enabled by the system property {@value #FILE_PROPERTY_NAME}
+ * or {@link #enable(Path)}. The file is loaded lazily at the first lookup
+ * and rewritten atomically at JVM shutdown if any entry is added.
+ * The concurrent JVMs may overwrite the entries of each other, they are introspected again in the next run.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class PersistentTypeCache {
+	public static final String FILE_PROPERTY_NAME = "fixture-monkey.persistent-type-cache";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PersistentTypeCache.class);
+	private static final int MAGIC = 0x464d5443;
+	private static final int VERSION = 2;
+	private static final int NOT_RECORDED = -1;
+	private static final int NO_PRIMARY_CONSTRUCTOR = -2;
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES_BY_NAME;
+	private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean(false);
+
+	@Nullable
+	private static volatile PersistentTypeCache instance;
+	private static volatile boolean initialized = false;
+
+	private final Path file;
+	private final Map<String, CachedType> cachedTypesByClassName = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Long> hashesByType = new ConcurrentHashMap<>();
+	private final AtomicBoolean loaded = new AtomicBoolean(false);
+	private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+	static {
+		Map<String, Class<?>> primitiveTypesByName = new HashMap<>();
+		for (Class<?> primitiveType : new Class<?>[] {boolean.class, byte.class, char.class, short.class,
+			int.class, long.class, float.class, double.class, void.class}) {
+			primitiveTypesByName.put(primitiveType.getName(), primitiveType);
+		}
+		PRIMITIVE_TYPES_BY_NAME = Collections.unmodifiableMap(primitiveTypesByName);
+	}
+
+	PersistentTypeCache(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Enables the persistent cache stored in the given file. It should be called before generating any instances.
+	 *
+	 * @param file the file to store the introspection results, it is created if it does not exist
+	 */
+	public static synchronized void enable(Path file) {
+		instance = new PersistentTypeCache(file);
+		initialized = true;
+
+		if (SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) {
+			Runtime.getRuntime().addShutdownHook(
+				new Thread(PersistentTypeCache::saveInstance, "fixture-monkey-type-cache")
+			);
+		}
+	}
+
+	private static void saveInstance() {
+		PersistentTypeCache persistentTypeCache = instance;
+		if (persistentTypeCache != null) {
+			persistentTypeCache.save();
+		}
+	}
+
+	@Nullable
+	static PersistentTypeCache getInstance() {
+		if (!initialized) {
+			synchronized (PersistentTypeCache.class) {
+				if (!initialized) {
+					String file = System.getProperty(FILE_PROPERTY_NAME);
+					if (file != null && !file.trim().isEmpty()) {
+						enable(Paths.get(file.trim()));
+					}
+					initialized = true;
+				}
+			}
+		}
+		return instance;
+	}
+
+	@Nullable
+	Map<String, PropertyDescriptor> getPropertyDescriptors(Class<?> type) {
+		CachedType cachedType = findCachedType(type);
+		if (cachedType == null || cachedType.propertyDescriptors == null) {
+			return null;
+		}
+
+		try {
+			Map<String, PropertyDescriptor> propertyDescriptorsByName = new ConcurrentHashMap<>();
+			for (CachedPropertyDescriptor cached : cachedType.propertyDescriptors) {
+				Method readMethod = cached.readMethodName.isEmpty() ? null : type.getMethod(cached.readMethodName);
+				Method writeMethod = cached.writeMethodName.isEmpty()
+					? null
+					: type.getMethod(cached.writeMethodName, loadClass(cached.writeParameterTypeName, type));
+				propertyDescriptorsByName.put(
+					cached.name,
+					new PropertyDescriptor(cached.name, readMethod, writeMethod)
+				);
+			}
+			return propertyDescriptorsByName;
+		} catch (NoSuchMethodException | ClassNotFoundException | IntrospectionException | LinkageError ex) {
+			LOGGER.debug("Failed to resolve the persisted property descriptors of {}.", type.getName(), ex);
+			return null;
+		}
+	}
+
+	void putPropertyDescriptors(Class<?> type, Map<String, PropertyDescriptor> propertyDescriptorsByName) {
+		Long hash = getHash(type);
+		if (hash == null) {
+			return;
+		}
+
+		CachedPropertyDescriptor[] propertyDescriptors = propertyDescriptorsByName.values().stream()
+			.map(CachedPropertyDescriptor::from)
+			.toArray(CachedPropertyDescriptor[]::new);
+		update(type, hash, it -> new CachedType(hash, propertyDescriptors, it.constructor));
+	}
+
+	/**
+	 * Returns the persisted primary constructor and its parameter names.
+	 *
+	 * @return {@code null} if not persisted, the entry having the {@code null} key if no primary constructor
+	 */
+	@Nullable
+	Entry<Constructor<?>, String[]> getParameterNamesByConstructor(Class<?> type) {
+		CachedType cachedType = findCachedType(type);
+		if (cachedType == null || cachedType.constructor == null) {
+			return null;
+		}
+
+		CachedConstructor cached = cachedType.constructor;
+		if (cached.parameterTypeNames == null) {
+			return new SimpleEntry<>(null, null);
+		}
+
+		try {
+			Class<?>[] parameterTypes = new Class<?>[cached.parameterTypeNames.length];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				parameterTypes[i] = loadClass(cached.parameterTypeNames[i], type);
+			}
+			return new SimpleEntry<>(type.getDeclaredConstructor(parameterTypes), cached.parameterNames.clone());
+		} catch (NoSuchMethodException | ClassNotFoundException | LinkageError ex) {
+			LOGGER.debug("Failed to resolve the persisted primary constructor of {}.", type.getName(), ex);
+			return null;
+		}
+	}
+
+	void putParameterNamesByConstructor(Class<?> type, @Nullable Entry<Constructor<?>, String[]> entry) {
+		Long hash = getHash(type);
+		if (hash == null) {
+			return;
+		}
+
+		CachedConstructor constructor = entry == null
+			? new CachedConstructor(null, null)
+			: CachedConstructor.from(entry.getKey(), entry.getValue());
+		update(type, hash, it -> new CachedType(hash, it.propertyDescriptors, constructor));
+	}
+
+	@Nullable
+	private CachedType findCachedType(Class<?> type) {
+		load();
+		CachedType cachedType = cachedTypesByClassName.get(type.getName());
+		if (cachedType == null) {
+			return null;
+		}
+
+		Long hash = getHash(type);
+		return hash != null && hash == cachedType.hash ? cachedType : null;
+	}
+
+	private void update(Class<?> type, long hash, UnaryOperator<CachedType> updater) {
+		load();
+		cachedTypesByClassName.compute(type.getName(), (name, cachedType) -> updater.apply(
+			cachedType == null || cachedType.hash != hash ? new CachedType(hash, null, null) : cachedType
+		));
+		dirty.set(true);
+	}
+
+	/**
+	 * Returns the hash of the class files of the given type, its superclasses and the interfaces implemented by them.
+	 *
+	 * @return {@code null} if any class file could not be read, for example the JDK or generated classes
+	 */
+	@Nullable
+	private Long getHash(Class<?> type) {
+		if (type.getClassLoader() == null) {
+			return null;
+		}
+
+		Long hash = hashesByType.get(type);
+		if (hash != null) {
+			return hash;
+		}
+
+		CRC32 crc32 = new CRC32();
+		byte[] buffer = new byte[8192];
+		for (Class<?> current : getHashedTypes(type)) {
+			String resourceName = current.getName().replace('.', '/') + ".class";
+			try (InputStream inputStream = current.getClassLoader().getResourceAsStream(resourceName)) {
+				if (inputStream == null) {
+					return null;
+				}
+
+				int read;
+				while ((read = inputStream.read(buffer)) != -1) {
+					crc32.update(buffer, 0, read);
+				}
+			} catch (IOException ex) {
+				return null;
+			}
+		}
+
+		hash = crc32.getValue();
+		hashesByType.put(type, hash);
+		return hash;
+	}
+
+	/**
+	 * Returns the non-JDK types whose class files affect the introspection of the given type, in a stable order.
+	 */
+	static Set<Class<?>> getHashedTypes(Class<?> type) {
+		Set<Class<?>> hashedTypes = new LinkedHashSet<>();
+		Deque<Class<?>> types = new ArrayDeque<>();
+		types.add(type);
+		while (!types.isEmpty()) {
+			Class<?> current = types.poll();
+			if (current.getClassLoader() == null || !hashedTypes.add(current)) {
+				continue;
+			}
+
+			if (current.getSuperclass() != null) {
+				types.add(current.getSuperclass());
+			}
+			types.addAll(Arrays.asList(current.getInterfaces()));
+		}
+		return hashedTypes;
+	}
+
+	private void load() {
+		if (!loaded.compareAndSet(false, true)) {
+			return;
+		}
+
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				return;
+			}
+
+			int size = input.readInt();
+			for (int i = 0; i < size; i++) {
+				String className = input.readUTF();
+				cachedTypesByClassName.putIfAbsent(className, CachedType.read(input));
+			}
+		} catch (NoSuchFileException ex) {
+			LOGGER.debug("Persistent type cache {} does not exist yet.", file);
+		} catch (IOException | RuntimeException ex) {
+			LOGGER.warn("Failed to load the persistent type cache {}, it would be rewritten.", file, ex);
+		}
+	}
+
+	void save() {
+		if (!dirty.get()) {
+			return;
+		}
+
+		try {
+			Path directory = file.toAbsolutePath().getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+
+			Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try (DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(temporaryFile))
+			)) {
+				Map<String, CachedType> snapshot = new HashMap<>(cachedTypesByClassName);
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeInt(snapshot.size());
+				for (Map.Entry<String, CachedType> entry : snapshot.entrySet()) {
+					output.writeUTF(entry.getKey());
+					entry.getValue().write(output);
+				}
+			}
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException ex) {
+			LOGGER.warn("Failed to save the persistent type cache {}.", file, ex);
+		}
+	}
+
+	private static Class<?> loadClass(String className, Class<?> type) throws ClassNotFoundException {
+		Class<?> primitiveType = PRIMITIVE_TYPES_BY_NAME.get(className);
+		if (primitiveType != null) {
+			return primitiveType;
+		}
+		return Class.forName(className, false, type.getClassLoader());
+	}
+
+	private static final class CachedType {
+		private final long hash;
+		@Nullable
+		private final CachedPropertyDescriptor[] propertyDescriptors;
+		@Nullable
+		private final CachedConstructor constructor;
+
+		private CachedType(
+			long hash,
+			@Nullable CachedPropertyDescriptor[] propertyDescriptors,
+			@Nullable CachedConstructor constructor
+		) {
+			this.hash = hash;
+			this.propertyDescriptors = propertyDescriptors;
+			this.constructor = constructor;
+		}
+
+		private void write(DataOutputStream output) throws IOException {
+			output.writeLong(hash);
+			if (propertyDescriptors == null) {
+				output.writeInt(NOT_RECORDED);
+			} else {
+				output.writeInt(propertyDescriptors.length);
+				for (CachedPropertyDescriptor propertyDescriptor : propertyDescriptors) {
+					propertyDescriptor.write(output);
+				}
+			}
+
+			if (constructor == null) {
+				output.writeInt(NOT_RECORDED);
+			} else {
+				constructor.write(output);
+			}
+		}
+
+		private static CachedType read(DataInputStream input) throws IOException {
+			long hash = input.readLong();
+			CachedPropertyDescriptor[] propertyDescriptors = null;
+			int propertyDescriptorSize = input.readInt();
+			if (propertyDescriptorSize != NOT_RECORDED) {
+				propertyDescriptors = new CachedPropertyDescriptor[propertyDescriptorSize];
+				for (int i = 0; i < propertyDescriptorSize; i++) {
+					propertyDescriptors[i] = CachedPropertyDescriptor.read(input);
+				}
+			}
+			return new CachedType(hash, propertyDescriptors, CachedConstructor.read(input));
+		}
+	}
+
+	private static final class CachedPropertyDescriptor {
+		private final String name;
+		private final String readMethodName;
+		private final String writeMethodName;
+		private final String writeParameterTypeName;
+
+		private CachedPropertyDescriptor(
+			String name,
+			String readMethodName,
+			String writeMethodName,
+			String writeParameterTypeName
+		) {
+			this.name = name;
+			this.readMethodName = readMethodName;
+			this.writeMethodName = writeMethodName;
+			this.writeParameterTypeName = writeParameterTypeName;
+		}
+
+		private static CachedPropertyDescriptor from(PropertyDescriptor propertyDescriptor) {
+			Method readMethod = propertyDescriptor.getReadMethod();
+			Method writeMethod = propertyDescriptor.getWriteMethod();
+			return new CachedPropertyDescriptor(
+				propertyDescriptor.getName(),
+				readMethod == null ? "" : readMethod.getName(),
+				writeMethod == null ? "" : writeMethod.getName(),
+				writeMethod == null ? "" : writeMethod.getParameterTypes()[0].getName()
+			);
+		}
+
+		private void write(DataOutputStream output) throws IOException {
+			output.writeUTF(name);
+			output.writeUTF(readMethodName);
+			output.writeUTF(writeMethodName);
+			output.writeUTF(writeParameterTypeName);
+		}
+
+		private static CachedPropertyDescriptor read(DataInputStream input) throws IOException {
+			return new CachedPropertyDescriptor(input.readUTF(), input.readUTF(), input.readUTF(), input.readUTF());
+		}
+	}
+
+	private static final class CachedConstructor {
+		@Nullable
+		private final String[] parameterTypeNames;
+		@Nullable
+		private final String[] parameterNames;
+
+		private CachedConstructor(@Nullable String[] parameterTypeNames, @Nullable String[] parameterNames) {
+			this.parameterTypeNames = parameterTypeNames;
+			this.parameterNames = parameterNames;
+		}
+
+		private static CachedConstructor from(Constructor<?> constructor, String[] parameterNames) {
+			Class<?>[] parameterTypes = constructor.getParameterTypes();
+			String[] parameterTypeNames = new String[parameterTypes.length];
+			for (int i = 0; i < parameterTypes.length; i++) {
+				parameterTypeNames[i] = parameterTypes[i].getName();
+			}
+			return new CachedConstructor(parameterTypeNames, parameterNames.clone());
+		}
+
+		private void write(DataOutputStream output) throws IOException {
+			if (parameterTypeNames == null || parameterNames == null) {
+				output.writeInt(NO_PRIMARY_CONSTRUCTOR);
+				return;
+			}
+
+			output.writeInt(parameterTypeNames.length);
+			for (String parameterTypeName : parameterTypeNames) {
+				output.writeUTF(parameterTypeName);
+			}
+			output.writeInt(parameterNames.length);
+			for (String parameterName : parameterNames) {
+				output.writeUTF(parameterName);
+			}
+		}
+
+		@Nullable
+		private static CachedConstructor read(DataInputStream input) throws IOException {
+			int parameterTypeSize = input.readInt();
+			if (parameterTypeSize == NOT_RECORDED) {
+				return null;
+			}
+
+			if (parameterTypeSize == NO_PRIMARY_CONSTRUCTOR) {
+				return new CachedConstructor(null, null);
+			}
+
+			String[] parameterTypeNames = new String[parameterTypeSize];
+			for (int i = 0; i < parameterTypeSize; i++) {
+				parameterTypeNames[i] = input.readUTF();
+			}
+			String[] parameterNames = new String[input.readInt()];
+			for (int i = 0; i < parameterNames.length; i++) {
+				parameterNames[i] = input.readUTF();
+			}
+			return new CachedConstructor(parameterTypeNames, parameterNames);
+		}
+	}
+}
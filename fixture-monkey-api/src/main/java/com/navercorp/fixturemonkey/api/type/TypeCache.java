@@ -90,6 +90,14 @@ public abstract class TypeCache {
 
 	public static Map<String, PropertyDescriptor> getPropertyDescriptorsByPropertyName(Class<?> clazz) {
 		return PROPERTY_DESCRIPTORS.computeIfAbsent(clazz, type -> {
+			PersistentTypeCache persistentTypeCache = PersistentTypeCache.getInstance();
+			if (persistentTypeCache != null) {
+				Map<String, PropertyDescriptor> persisted = persistentTypeCache.getPropertyDescriptors(type);
+				if (persisted != null) {
+					return persisted;
+				}
+			}
+
 			Map<String, PropertyDescriptor> result = new ConcurrentHashMap<>();
 			try {
 				PropertyDescriptor[] descriptors = Introspector.getBeanInfo(type)
@@ -102,6 +110,11 @@ public abstract class TypeCache {
 				}
 			} catch (IntrospectionException ex) {
 				LOGGER.warn("Introspect bean property is failed. type: " + clazz, ex);
+				return result;
+			}
+
+			if (persistentTypeCache != null) {
+				persistentTypeCache.putPropertyDescriptors(type, result);
 			}
 			return result;
 		});
@@ -133,58 +146,75 @@ public abstract class TypeCache {
 	public static Entry<Constructor<?>, String[]> getParameterNamesByConstructor(Class<?> clazz) {
 		return PARAMETER_NAMES_BY_PRIMARY_CONSTRUCTOR.computeIfAbsent(clazz,
 			type -> {
-				List<Constructor<?>> possibilities = new ArrayList<>();
-
-				List<Constructor<?>> constructors = getDeclaredConstructors(clazz);
-				for (Constructor<?> constructor : constructors) {
-					Parameter[] parameters = constructor.getParameters();
-					boolean namePresent = Arrays.stream(parameters).anyMatch(Parameter::isNamePresent);
-					boolean parameterEmpty = parameters.length == 0;
-					if (namePresent || parameterEmpty) {
-						possibilities.add(constructor);
-					} else {
-						ConstructorProperties constructorPropertiesAnnotation =
-							constructor.getAnnotation(ConstructorProperties.class);
-
-						if (constructorPropertiesAnnotation != null) {
-							possibilities.add(constructor);
-						}
-					}
+				PersistentTypeCache persistentTypeCache = PersistentTypeCache.getInstance();
+				if (persistentTypeCache == null) {
+					return findParameterNamesByPrimaryConstructor(clazz);
 				}
 
-				boolean constructorPropertiesPresent = possibilities.stream()
-					.anyMatch(it -> it.getAnnotation(ConstructorProperties.class) != null);
-
-				Constructor<?> primaryConstructor;
-				if (constructorPropertiesPresent) {
-					primaryConstructor = possibilities.stream()
-						.filter(it -> it.getAnnotation(ConstructorProperties.class) != null)
-						.findFirst()
-						.orElseThrow(() -> new IllegalArgumentException(
-							"Constructor should have @ConstructorProperties" + clazz.getSimpleName())
-						);
-				} else {
-					primaryConstructor = Constructors.findPrimaryConstructor(
-							clazz,
-							possibilities.toArray(new Constructor[] {})
-						)
-						.orElse(null);
-
-					if (primaryConstructor == null) {
-						return null;
-					}
+				Entry<Constructor<?>, String[]> persisted = persistentTypeCache.getParameterNamesByConstructor(type);
+				if (persisted != null) {
+					return persisted.getKey() == null ? null : persisted;
 				}
 
-				String[] parameterNames = getParameterNames(primaryConstructor);
-				AnnotatedType[] annotatedParameterTypes = primaryConstructor.getAnnotatedParameterTypes();
+				Entry<Constructor<?>, String[]> result = findParameterNamesByPrimaryConstructor(clazz);
+				persistentTypeCache.putParameterNamesByConstructor(type, result);
+				return result;
+			});
+	}
+
+	@Nullable
+	private static Entry<Constructor<?>, String[]> findParameterNamesByPrimaryConstructor(Class<?> clazz) {
+		List<Constructor<?>> possibilities = new ArrayList<>();
+
+		List<Constructor<?>> constructors = getDeclaredConstructors(clazz);
+		for (Constructor<?> constructor : constructors) {
+			Parameter[] parameters = constructor.getParameters();
+			boolean namePresent = Arrays.stream(parameters).anyMatch(Parameter::isNamePresent);
+			boolean parameterEmpty = parameters.length == 0;
+			if (namePresent || parameterEmpty) {
+				possibilities.add(constructor);
+			} else {
+				ConstructorProperties constructorPropertiesAnnotation =
+					constructor.getAnnotation(ConstructorProperties.class);
 
-				if (parameterNames.length != annotatedParameterTypes.length) {
-					throw new IllegalArgumentException(
-						"@ConstructorProperties values size should same as constructor parameter size"
-					);
+				if (constructorPropertiesAnnotation != null) {
+					possibilities.add(constructor);
 				}
-				return new SimpleEntry<>(primaryConstructor, parameterNames);
-			});
+			}
+		}
+
+		boolean constructorPropertiesPresent = possibilities.stream()
+			.anyMatch(it -> it.getAnnotation(ConstructorProperties.class) != null);
+
+		Constructor<?> primaryConstructor;
+		if (constructorPropertiesPresent) {
+			primaryConstructor = possibilities.stream()
+				.filter(it -> it.getAnnotation(ConstructorProperties.class) != null)
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException(
+					"Constructor should have @ConstructorProperties" + clazz.getSimpleName())
+				);
+		} else {
+			primaryConstructor = Constructors.findPrimaryConstructor(
+					clazz,
+					possibilities.toArray(new Constructor[] {})
+				)
+				.orElse(null);
+
+			if (primaryConstructor == null) {
+				return null;
+			}
+		}
+
+		String[] parameterNames = getParameterNames(primaryConstructor);
+		AnnotatedType[] annotatedParameterTypes = primaryConstructor.getAnnotatedParameterTypes();
+
+		if (parameterNames.length != annotatedParameterTypes.length) {
+			throw new IllegalArgumentException(
+				"@ConstructorProperties values size should same as constructor parameter size"
+			);
+		}
+		return new SimpleEntry<>(primaryConstructor, parameterNames);
 	}
 
 	public static void clearCache() {
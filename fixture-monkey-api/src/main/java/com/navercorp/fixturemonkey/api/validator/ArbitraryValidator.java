@@ -18,7 +18,27 @@
 
 package com.navercorp.fixturemonkey.api.validator;
 
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
 public interface ArbitraryValidator {
 	// if arbitrary is not valid throw exception then re-create arbitrary for valid.
 	void validate(Object arbitrary);
+
+	/**
+	 * Validates the given {@code arbitrary} except for the constraints of {@code guaranteedConstraintTypes}.
+	 * The constraints of {@code guaranteedConstraintTypes} are already satisfied by the generation,
+	 * it validates all the constraints in default.
+	 *
+	 * @param arbitrary                 the generated object to validate
+	 * @param guaranteedConstraintTypes the annotation types of the constraints satisfied by the generation
+	 * @see com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator#getGuaranteedConstraintTypes()
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default void validate(Object arbitrary, Set<Class<? extends Annotation>> guaranteedConstraintTypes) {
+		validate(arbitrary);
+	}
 }
@@ -0,0 +1,135 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * An {@link InvocationHandler} of the anonymous instance created by {@link AnonymousInstanceFactory}.
+ * It returns the value of the slot bound to the invoked method, the slot is looked up by the {@link Method}.
+ */
+@SuppressWarnings("unused")
+@API(since = "1.1.16", status = Status.INTERNAL)
+final class AnonymousInvocationHandler implements InvocationHandler {
+	private static final String INVOKE_METHOD = "invoke";
+	private static final Method HASH_CODE_METHOD;
+	private static final Method EQUALS_METHOD;
+	private static final Method TO_STRING_METHOD;
+
+	static {
+		try {
+			HASH_CODE_METHOD = Object.class.getMethod("hashCode");
+			EQUALS_METHOD = Object.class.getMethod("equals", Object.class);
+			TO_STRING_METHOD = Object.class.getMethod("toString");
+		} catch (NoSuchMethodException ex) {
+			throw new ExceptionInInitializerError(ex);
+		}
+	}
+
+	private final AnonymousInstanceFactory factory;
+	private final Object[] values;
+
+	AnonymousInvocationHandler(AnonymousInstanceFactory factory, Object[] values) {
+		this.factory = factory;
+		this.values = values;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		if (method == null) {
+			// invoked by DecomposedContainerValueFactory to decompose the functional interface
+			int slot = factory.getSlot(INVOKE_METHOD);
+			return slot == -1 ? null : values[slot];
+		}
+
+		if (method.isDefault()) {
+			return InvocationHandler.invokeDefault(proxy, method, args);
+		}
+
+		if (method.getDeclaringClass() == Object.class) {
+			if (HASH_CODE_METHOD.equals(method)) {
+				return Arrays.hashCode(values);
+			}
+
+			if (EQUALS_METHOD.equals(method)) {
+				return compareAllReturnValues(args[0]);
+			}
+
+			if (TO_STRING_METHOD.equals(method)) {
+				return toString(proxy);
+			}
+		}
+
+		int slot = factory.getSlot(method);
+		return slot == -1 ? null : values[slot];
+	}
+
+	private boolean compareAllReturnValues(Object other) {
+		if (other == null) {
+			return false;
+		}
+
+		if (!factory.getType().isInstance(other)) {
+			return false;
+		}
+
+		if (Proxy.isProxyClass(other.getClass())) {
+			InvocationHandler otherHandler = Proxy.getInvocationHandler(other);
+			if (otherHandler instanceof AnonymousInvocationHandler
+				&& ((AnonymousInvocationHandler)otherHandler).factory == factory) {
+				return Arrays.equals(values, ((AnonymousInvocationHandler)otherHandler).values);
+			}
+		}
+
+		for (int slot = 0; slot < values.length; slot++) {
+			Method method = factory.getMethod(slot);
+			if (method == null) {
+				continue;
+			}
+
+			try {
+				Object otherValue = method.invoke(other);
+				if (!Objects.equals(values[slot], otherValue)) {
+					return false;
+				}
+			} catch (Exception ex) {
+				throw new IllegalArgumentException("Unexpected error in invoking method " + method.getName(), ex);
+			}
+		}
+
+		return true;
+	}
+
+	private String toString(Object proxy) {
+		StringBuilder builder = new StringBuilder(proxy.getClass().getName()).append('{');
+		for (int slot = 0; slot < values.length; slot++) {
+			if (slot != 0) {
+				builder.append(", ");
+			}
+			builder.append(factory.getMethodName(slot)).append('=').append(values[slot]);
+		}
+		return builder.append('}').toString();
+	}
+}
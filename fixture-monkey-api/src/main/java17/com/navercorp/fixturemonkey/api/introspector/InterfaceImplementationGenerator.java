@@ -0,0 +1,564 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.api.introspector;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.runtime.ObjectMethods;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates the implementation class of an interface whose no-argument methods return the values of their slots.
+ * <p>
+ * The implementation class is defined as a hidden class in the package of the interface.
+ * It has a field for each slot, which is assigned by the constructor taking the values by the slot,
+ * and the abstract methods of the interface return the field of their slot.
+ * The other abstract methods return the default value of their return type like the proxy does.
+ * {@code equals}, {@code hashCode} and {@code toString} are implemented by {@link ObjectMethods}
+ * over the interface methods, they are passed to the hidden class as its class data.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+final class InterfaceImplementationGenerator {
+	private static final Logger LOGGER = LoggerFactory.getLogger(InterfaceImplementationGenerator.class);
+
+	private static final String IMPLEMENTATION_NAME_SUFFIX = "$FixtureMonkeyImplementation";
+	private static final String OBJECT_NAME = "java/lang/Object";
+	private static final String METHOD_HANDLE_NAME = "java/lang/invoke/MethodHandle";
+	private static final String METHOD_HANDLE_DESCRIPTOR = "Ljava/lang/invoke/MethodHandle;";
+	private static final String CLASS_DATA_AT_DESCRIPTOR =
+		"(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;";
+	private static final String CONSTRUCTOR_DESCRIPTOR = "([Ljava/lang/Object;)V";
+
+	private static final MethodType EQUALS_TYPE = MethodType.methodType(boolean.class, Object.class, Object.class);
+	private static final MethodType HASH_CODE_TYPE = MethodType.methodType(int.class, Object.class);
+	private static final MethodType TO_STRING_TYPE = MethodType.methodType(String.class, Object.class);
+	private static final String EQUALS_DESCRIPTOR = "(Ljava/lang/Object;)Z";
+	private static final String HASH_CODE_DESCRIPTOR = "()I";
+	private static final String TO_STRING_DESCRIPTOR = "()Ljava/lang/String;";
+
+	private static final int CLASS_FILE_VERSION = 61;
+	private static final int ACC_PUBLIC = 0x0001;
+	private static final int ACC_PRIVATE = 0x0002;
+	private static final int ACC_FINAL = 0x0010;
+	private static final int ACC_SUPER = 0x0020;
+	private static final int ACC_SYNTHETIC = 0x1000;
+	private static final int REF_INVOKE_STATIC = 6;
+
+	private static final int ACONST_NULL = 0x01;
+	private static final int ICONST_0 = 0x03;
+	private static final int LCONST_0 = 0x09;
+	private static final int FCONST_0 = 0x0b;
+	private static final int DCONST_0 = 0x0e;
+	private static final int BIPUSH = 0x10;
+	private static final int SIPUSH = 0x11;
+	private static final int LDC_W = 0x13;
+	private static final int ALOAD_0 = 0x2a;
+	private static final int ALOAD_1 = 0x2b;
+	private static final int AALOAD = 0x32;
+	private static final int IRETURN = 0xac;
+	private static final int LRETURN = 0xad;
+	private static final int FRETURN = 0xae;
+	private static final int DRETURN = 0xaf;
+	private static final int ARETURN = 0xb0;
+	private static final int RETURN = 0xb1;
+	private static final int GETFIELD = 0xb4;
+	private static final int PUTFIELD = 0xb5;
+	private static final int INVOKEVIRTUAL = 0xb6;
+	private static final int INVOKESPECIAL = 0xb7;
+	private static final int CHECKCAST = 0xc0;
+
+	private InterfaceImplementationGenerator() {
+	}
+
+	/**
+	 * Generates the implementation class of given interface.
+	 *
+	 * @param type          the interface to implement
+	 * @param methodNames   the method names by the slot
+	 * @param methodsBySlot the methods by the slot
+	 * @return the constructor takes the values by the slot, {@code null} if it could not be generated
+	 */
+	@Nullable
+	static Function<Object[], Object> generate(Class<?> type, String[] methodNames, Method[] methodsBySlot) {
+		try {
+			Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			if (!lookup.hasFullPrivilegeAccess()) {
+				return null;
+			}
+
+			Class<?>[] fieldTypes = new Class<?>[methodsBySlot.length];
+			MethodHandle[] getters = new MethodHandle[methodsBySlot.length];
+			Object[] defaultValues = new Object[methodsBySlot.length];
+			for (int slot = 0; slot < methodsBySlot.length; slot++) {
+				Method method = methodsBySlot[slot];
+				if (method == null) {
+					return null;
+				}
+
+				fieldTypes[slot] = method.getReturnType();
+				getters[slot] = lookup.unreflect(method);
+				if (fieldTypes[slot].isPrimitive()) {
+					defaultValues[slot] = Array.get(Array.newInstance(fieldTypes[slot], 1), 0);
+				}
+			}
+
+			String names = String.join(";", methodNames);
+			List<MethodHandle> objectMethods = List.of(
+				objectMethod(lookup, type, "equals", EQUALS_TYPE, names, getters),
+				objectMethod(lookup, type, "hashCode", HASH_CODE_TYPE, names, getters),
+				objectMethod(lookup, type, "toString", TO_STRING_TYPE, names, getters)
+			);
+
+			byte[] classBytes = writeImplementationClass(type, methodNames, fieldTypes);
+			Lookup implementationLookup = lookup.defineHiddenClassWithClassData(classBytes, objectMethods, true);
+			MethodHandle constructor = implementationLookup
+				.findConstructor(implementationLookup.lookupClass(), MethodType.methodType(void.class, Object[].class))
+				.asType(MethodType.methodType(Object.class, Object[].class));
+
+			return values -> newInstance(constructor, defaultValues, values);
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException ex) {
+			LOGGER.debug("Given type {} is failed to generate the implementation. The proxy would be used.", type, ex);
+			return null;
+		}
+	}
+
+	private static Object newInstance(MethodHandle constructor, Object[] defaultValues, Object[] values) {
+		for (int slot = 0; slot < values.length; slot++) {
+			if (values[slot] == null && defaultValues[slot] != null) {
+				values[slot] = defaultValues[slot];
+			}
+		}
+
+		try {
+			return (Object)constructor.invokeExact(values);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable throwable) {
+			throw new IllegalStateException("Unexpected error in instantiating the implementation.", throwable);
+		}
+	}
+
+	private static MethodHandle objectMethod(
+		Lookup lookup,
+		Class<?> type,
+		String methodName,
+		MethodType erasedMethodType,
+		String names,
+		MethodHandle[] getters
+	) {
+		MethodType methodType = erasedMethodType.changeParameterType(0, type);
+		try {
+			CallSite callSite = (CallSite)ObjectMethods.bootstrap(lookup, methodName, methodType, type, names, getters);
+			return callSite.getTarget().asType(erasedMethodType);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable throwable) {
+			throw new IllegalArgumentException("Unexpected error in generating " + methodName, throwable);
+		}
+	}
+
+	private static byte[] writeImplementationClass(Class<?> type, String[] methodNames, Class<?>[] fieldTypes) {
+		ConstantPool constantPool = new ConstantPool();
+		String className = type.getName().replace('.', '/') + IMPLEMENTATION_NAME_SUFFIX;
+		int thisClass = constantPool.classInfo(className);
+		int superClass = constantPool.classInfo(OBJECT_NAME);
+		int interfaceClass = constantPool.classInfo(classInfoName(type));
+		int markerClass = constantPool.classInfo(classInfoName(AnonymousInstance.class));
+		int codeName = constantPool.utf8("Code");
+		int bootstrapMethodsName = constantPool.utf8("BootstrapMethods");
+
+		Map<String, Integer> slotsByMethodName = new HashMap<>();
+		ByteWriter fields = new ByteWriter();
+		int[] fieldRefs = new int[fieldTypes.length];
+		for (int slot = 0; slot < fieldTypes.length; slot++) {
+			String descriptor = fieldTypes[slot].descriptorString();
+			fields.u2(ACC_PRIVATE | ACC_FINAL)
+				.u2(constantPool.utf8(methodNames[slot]))
+				.u2(constantPool.utf8(descriptor))
+				.u2(0);
+			fieldRefs[slot] = constantPool.fieldRef(className, methodNames[slot], descriptor);
+			slotsByMethodName.put(methodNames[slot], slot);
+		}
+
+		MethodsWriter methods = new MethodsWriter(constantPool, codeName);
+		methods.add(
+			ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, 4, 2, constructorCode(constantPool, fieldTypes, fieldRefs)
+		);
+
+		Set<String> signatures = new HashSet<>();
+		signatures.add("equals" + EQUALS_DESCRIPTOR);
+		signatures.add("hashCode" + HASH_CODE_DESCRIPTOR);
+		signatures.add("toString" + TO_STRING_DESCRIPTOR);
+		for (Method method : type.getMethods()) {
+			if (!Modifier.isAbstract(method.getModifiers())) {
+				continue;
+			}
+
+			String descriptor = MethodType.methodType(method.getReturnType(), method.getParameterTypes())
+				.toMethodDescriptorString();
+			if (!signatures.add(method.getName() + descriptor)) {
+				continue;
+			}
+
+			Class<?> returnType = method.getReturnType();
+			Integer slot = method.getParameterCount() == 0 ? slotsByMethodName.get(method.getName()) : null;
+			if (slot != null && isReturnable(fieldTypes[slot], returnType)) {
+				ByteWriter code = new ByteWriter()
+					.u1(ALOAD_0)
+					.u1(GETFIELD).u2(fieldRefs[slot])
+					.u1(returnOpcode(returnType));
+				methods.add(ACC_PUBLIC | ACC_FINAL, method.getName(), descriptor, 2, 1, code);
+				continue;
+			}
+
+			int locals = 1;
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				locals += parameterType == long.class || parameterType == double.class ? 2 : 1;
+			}
+			ByteWriter code = new ByteWriter();
+			if (returnType != void.class) {
+				code.u1(defaultValueOpcode(returnType));
+			}
+			code.u1(returnOpcode(returnType));
+			methods.add(ACC_PUBLIC | ACC_FINAL, method.getName(), descriptor, 2, locals, code);
+		}
+
+		int classDataAt = constantPool.methodHandle(
+			REF_INVOKE_STATIC,
+			constantPool.methodRef("java/lang/invoke/MethodHandles", "classDataAt", CLASS_DATA_AT_DESCRIPTOR)
+		);
+		List<Integer> bootstrapArguments = new ArrayList<>();
+		methods.add(ACC_PUBLIC | ACC_FINAL, "equals", EQUALS_DESCRIPTOR, 3, 2,
+			objectMethodCode(constantPool, bootstrapArguments, "(Ljava/lang/Object;Ljava/lang/Object;)Z", IRETURN));
+		methods.add(ACC_PUBLIC | ACC_FINAL, "hashCode", HASH_CODE_DESCRIPTOR, 2, 1,
+			objectMethodCode(constantPool, bootstrapArguments, "(Ljava/lang/Object;)I", IRETURN));
+		methods.add(ACC_PUBLIC | ACC_FINAL, "toString", TO_STRING_DESCRIPTOR, 2, 1,
+			objectMethodCode(constantPool, bootstrapArguments, "(Ljava/lang/Object;)Ljava/lang/String;", ARETURN));
+
+		ByteWriter bootstrapMethods = new ByteWriter().u2(bootstrapArguments.size());
+		for (int bootstrapArgument : bootstrapArguments) {
+			bootstrapMethods.u2(classDataAt).u2(1).u2(bootstrapArgument);
+		}
+
+		ByteWriter classFile = new ByteWriter()
+			.u4(0xCAFEBABE)
+			.u2(0)
+			.u2(CLASS_FILE_VERSION)
+			.write(constantPool.toByteWriter())
+			.u2(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC)
+			.u2(thisClass)
+			.u2(superClass)
+			.u2(2).u2(interfaceClass).u2(markerClass)
+			.u2(fieldTypes.length).write(fields)
+			.u2(methods.count).write(methods.bytes)
+			.u2(1)
+			.u2(bootstrapMethodsName).u4(bootstrapMethods.size()).write(bootstrapMethods);
+		return classFile.toByteArray();
+	}
+
+	private static ByteWriter constructorCode(ConstantPool constantPool, Class<?>[] fieldTypes, int[] fieldRefs) {
+		ByteWriter code = new ByteWriter()
+			.u1(ALOAD_0)
+			.u1(INVOKESPECIAL).u2(constantPool.methodRef(OBJECT_NAME, "<init>", "()V"));
+
+		for (int slot = 0; slot < fieldTypes.length; slot++) {
+			Class<?> fieldType = fieldTypes[slot];
+			code.u1(ALOAD_0).u1(ALOAD_1);
+			if (slot <= 5) {
+				code.u1(ICONST_0 + slot);
+			} else if (slot <= Byte.MAX_VALUE) {
+				code.u1(BIPUSH).u1(slot);
+			} else {
+				code.u1(SIPUSH).u2(slot);
+			}
+			code.u1(AALOAD);
+
+			if (fieldType.isPrimitive()) {
+				String wrapperName = classInfoName(MethodType.methodType(fieldType).wrap().returnType());
+				code.u1(CHECKCAST).u2(constantPool.classInfo(wrapperName))
+					.u1(INVOKEVIRTUAL).u2(constantPool.methodRef(
+						wrapperName,
+						fieldType.getName() + "Value",
+						"()" + fieldType.descriptorString()
+					));
+			} else if (fieldType != Object.class) {
+				code.u1(CHECKCAST).u2(constantPool.classInfo(classInfoName(fieldType)));
+			}
+			code.u1(PUTFIELD).u2(fieldRefs[slot]);
+		}
+		return code.u1(RETURN);
+	}
+
+	private static ByteWriter objectMethodCode(
+		ConstantPool constantPool,
+		List<Integer> bootstrapArguments,
+		String invokeDescriptor,
+		int returnOpcode
+	) {
+		int classDataIndex = bootstrapArguments.size();
+		bootstrapArguments.add(constantPool.integer(classDataIndex));
+		int methodHandle = constantPool.dynamic(classDataIndex, "_", METHOD_HANDLE_DESCRIPTOR);
+
+		ByteWriter code = new ByteWriter()
+			.u1(LDC_W).u2(methodHandle)
+			.u1(ALOAD_0);
+		if (invokeDescriptor.startsWith("(Ljava/lang/Object;Ljava/lang/Object;)")) {
+			code.u1(ALOAD_1);
+		}
+		return code
+			.u1(INVOKEVIRTUAL).u2(constantPool.methodRef(METHOD_HANDLE_NAME, "invokeExact", invokeDescriptor))
+			.u1(returnOpcode);
+	}
+
+	private static boolean isReturnable(Class<?> fieldType, Class<?> returnType) {
+		if (returnType.isPrimitive()) {
+			return returnType == fieldType;
+		}
+		return !fieldType.isPrimitive() && returnType.isAssignableFrom(fieldType);
+	}
+
+	private static int returnOpcode(Class<?> returnType) {
+		if (returnType == void.class) {
+			return RETURN;
+		} else if (returnType == long.class) {
+			return LRETURN;
+		} else if (returnType == float.class) {
+			return FRETURN;
+		} else if (returnType == double.class) {
+			return DRETURN;
+		} else if (returnType.isPrimitive()) {
+			return IRETURN;
+		}
+		return ARETURN;
+	}
+
+	private static int defaultValueOpcode(Class<?> returnType) {
+		if (returnType == long.class) {
+			return LCONST_0;
+		} else if (returnType == float.class) {
+			return FCONST_0;
+		} else if (returnType == double.class) {
+			return DCONST_0;
+		} else if (returnType.isPrimitive()) {
+			return ICONST_0;
+		}
+		return ACONST_NULL;
+	}
+
+	private static String classInfoName(Class<?> type) {
+		return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+	}
+
+	private static final class MethodsWriter {
+		private final ConstantPool constantPool;
+		private final int codeName;
+		private final ByteWriter bytes = new ByteWriter();
+		private int count;
+
+		MethodsWriter(ConstantPool constantPool, int codeName) {
+			this.constantPool = constantPool;
+			this.codeName = codeName;
+		}
+
+		void add(int access, String name, String descriptor, int maxStack, int maxLocals, ByteWriter code) {
+			bytes.u2(access)
+				.u2(constantPool.utf8(name))
+				.u2(constantPool.utf8(descriptor))
+				.u2(1)
+				.u2(codeName)
+				.u4(12 + code.size())
+				.u2(maxStack)
+				.u2(maxLocals)
+				.u4(code.size())
+				.write(code)
+				.u2(0)
+				.u2(0);
+			count++;
+		}
+	}
+
+	private static final class ConstantPool {
+		private static final int UTF8 = 1;
+		private static final int INTEGER = 3;
+		private static final int CLASS = 7;
+		private static final int FIELD_REF = 9;
+		private static final int METHOD_REF = 10;
+		private static final int NAME_AND_TYPE = 12;
+		private static final int METHOD_HANDLE = 15;
+		private static final int DYNAMIC = 17;
+
+		private final ByteWriter entries = new ByteWriter();
+		private final Map<String, Integer> indexesByEntry = new HashMap<>();
+		private int count = 1;
+
+		int utf8(String value) {
+			String entry = UTF8 + ":" + value;
+			Integer index = indexesByEntry.get(entry);
+			if (index != null) {
+				return index;
+			}
+
+			entries.u1(UTF8).utf8(value);
+			return register(entry);
+		}
+
+		int integer(int value) {
+			String entry = INTEGER + ":" + value;
+			Integer index = indexesByEntry.get(entry);
+			if (index != null) {
+				return index;
+			}
+
+			entries.u1(INTEGER).u4(value);
+			return register(entry);
+		}
+
+		int classInfo(String name) {
+			return reference(CLASS, utf8(name));
+		}
+
+		int fieldRef(String owner, String name, String descriptor) {
+			return reference(FIELD_REF, classInfo(owner), nameAndType(name, descriptor));
+		}
+
+		int methodRef(String owner, String name, String descriptor) {
+			return reference(METHOD_REF, classInfo(owner), nameAndType(name, descriptor));
+		}
+
+		int methodHandle(int referenceKind, int reference) {
+			String entry = METHOD_HANDLE + ":" + referenceKind + ":" + reference;
+			Integer index = indexesByEntry.get(entry);
+			if (index != null) {
+				return index;
+			}
+
+			entries.u1(METHOD_HANDLE).u1(referenceKind).u2(reference);
+			return register(entry);
+		}
+
+		int dynamic(int bootstrapMethod, String name, String descriptor) {
+			return reference(DYNAMIC, bootstrapMethod, nameAndType(name, descriptor));
+		}
+
+		ByteWriter toByteWriter() {
+			return new ByteWriter().u2(count).write(entries);
+		}
+
+		private int nameAndType(String name, String descriptor) {
+			return reference(NAME_AND_TYPE, utf8(name), utf8(descriptor));
+		}
+
+		private int reference(int tag, int... references) {
+			StringBuilder entry = new StringBuilder().append(tag);
+			for (int reference : references) {
+				entry.append(':').append(reference);
+			}
+
+			Integer index = indexesByEntry.get(entry.toString());
+			if (index != null) {
+				return index;
+			}
+
+			entries.u1(tag);
+			for (int reference : references) {
+				entries.u2(reference);
+			}
+			return register(entry.toString());
+		}
+
+		private int register(String entry) {
+			indexesByEntry.put(entry, count);
+			return count++;
+		}
+	}
+
+	private static final class ByteWriter {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		ByteWriter u1(int value) {
+			bytes.write(value);
+			return this;
+		}
+
+		ByteWriter u2(int value) {
+			bytes.write(value >>> 8);
+			bytes.write(value);
+			return this;
+		}
+
+		ByteWriter u4(int value) {
+			u2(value >>> 16);
+			return u2(value);
+		}
+
+		/**
+		 * Writes the string in the modified UTF-8 encoding of the class file format.
+		 */
+		ByteWriter utf8(String value) {
+			ByteArrayOutputStream encoded = new ByteArrayOutputStream(value.length());
+			for (int i = 0; i < value.length(); i++) {
+				char character = value.charAt(i);
+				if (character != 0 && character < 0x80) {
+					encoded.write(character);
+				} else if (character < 0x800) {
+					encoded.write(0xc0 | (character >> 6));
+					encoded.write(0x80 | (character & 0x3f));
+				} else {
+					encoded.write(0xe0 | (character >> 12));
+					encoded.write(0x80 | ((character >> 6) & 0x3f));
+					encoded.write(0x80 | (character & 0x3f));
+				}
+			}
+			u2(encoded.size());
+			bytes.write(encoded.toByteArray(), 0, encoded.size());
+			return this;
+		}
+
+		ByteWriter write(ByteWriter other) {
+			bytes.write(other.toByteArray(), 0, other.size());
+			return this;
+		}
+
+		int size() {
+			return bytes.size();
+		}
+
+		byte[] toByteArray() {
+			return bytes.toByteArray();
+		}
+	}
+}
@@ -55,4 +55,103 @@ public class ArbitraryTest {
 			.combined())
 			.isExactlyInstanceOf(FixedValueFilterMissException.class);
 	}
+
+	@Test
+	void primitiveArrayWrittenByPrimitiveAccessor() {
+		Object actual = CombinableArbitrary.containerBuilder()
+			.element(new NextIntOnlyCombinableArbitrary(1).injectNull(0.0d))
+			.element(new NextIntOnlyCombinableArbitrary(2))
+			.buildPrimitiveArray(int.class)
+			.combined();
+
+		then(actual).isEqualTo(new int[] {1, 2});
+	}
+
+	@Test
+	void primitiveArrayUnboxesCombined() {
+		Object actual = CombinableArbitrary.containerBuilder()
+			.element(CombinableArbitrary.from(1.5d))
+			.element(CombinableArbitrary.from(2.5d))
+			.buildPrimitiveArray(double.class)
+			.combined();
+
+		then(actual).isEqualTo(new double[] {1.5d, 2.5d});
+	}
+
+	@Test
+	void primitiveArrayUnique() {
+		thenThrownBy(() -> CombinableArbitrary.containerBuilder()
+			.element(CombinableArbitrary.from(1))
+			.element(CombinableArbitrary.from(1))
+			.buildPrimitiveArray(int.class)
+			.unique()
+			.combined())
+			.isExactlyInstanceOf(FixedValueFilterMissException.class);
+	}
+
+	@Test
+	void primitiveArrayNotPrimitiveComponentType() {
+		thenThrownBy(() -> CombinableArbitrary.containerBuilder().buildPrimitiveArray(Integer.class))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	/**
+	 * Generates the given value only by {@link #nextInt()}.
+	 */
+	private static final class NextIntOnlyCombinableArbitrary implements IntegerCombinableArbitrary {
+		private final int value;
+
+		private NextIntOnlyCombinableArbitrary(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int nextInt() {
+			return value;
+		}
+
+		@Override
+		public Integer combined() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Integer rawValue() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IntegerCombinableArbitrary withRange(int min, int max) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IntegerCombinableArbitrary positive() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IntegerCombinableArbitrary negative() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IntegerCombinableArbitrary even() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IntegerCombinableArbitrary odd() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void clear() {
+		}
+
+		@Override
+		public boolean fixed() {
+			return false;
+		}
+	}
 }
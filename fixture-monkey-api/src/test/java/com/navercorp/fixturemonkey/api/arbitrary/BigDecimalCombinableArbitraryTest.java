@@ -0,0 +1,60 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BigDecimalCombinableArbitraryTest {
+	@Test
+	void withRange() {
+		// given
+		BigDecimal min = new BigDecimal("1.5");
+		BigDecimal max = new BigDecimal("2.5");
+
+		// when
+		BigDecimal actual = CombinableArbitrary.bigDecimals().withRange(min, max).combined();
+
+		// then
+		then(actual).isBetween(min, max);
+	}
+
+	@Test
+	void positiveOfScale() {
+		// when
+		BigDecimal actual = CombinableArbitrary.bigDecimals().positive().ofScale(1).combined();
+
+		// then
+		then(actual).isPositive();
+		then(actual.scale()).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	void bigIntegersNegative() {
+		// when
+		BigInteger actual = CombinableArbitrary.bigIntegers().negative().combined();
+
+		// then
+		then(actual).isNegative();
+	}
+}
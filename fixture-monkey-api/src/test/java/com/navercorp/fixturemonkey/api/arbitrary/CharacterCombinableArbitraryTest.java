@@ -0,0 +1,56 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class CharacterCombinableArbitraryTest {
+	@Test
+	void withRange() {
+		// when
+		Character actual = CombinableArbitrary.characters().withRange('a', 'c').combined();
+
+		// then
+		then(actual).isBetween('a', 'c');
+	}
+
+	@Test
+	void numeric() {
+		// when
+		char actual = CombinableArbitrary.characters().numeric().nextChar();
+
+		// then
+		then(actual).isBetween('0', '9');
+	}
+
+	@Test
+	void alphabetic() {
+		// when
+		boolean allAlphabetic = IntStream.range(0, 100)
+			.map(i -> CombinableArbitrary.characters().alphabetic().nextChar())
+			.allMatch(it -> (it >= 'a' && it <= 'z') || (it >= 'A' && it <= 'Z'));
+
+		// then
+		then(allAlphabetic).isTrue();
+	}
+}
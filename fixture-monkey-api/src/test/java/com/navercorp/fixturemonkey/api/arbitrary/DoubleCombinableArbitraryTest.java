@@ -0,0 +1,96 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleCombinableArbitraryTest {
+	@Test
+	void combined() {
+		// when
+		Double actual = CombinableArbitrary.doubles().combined();
+
+		// then
+		then(actual).isInstanceOf(Double.class);
+	}
+
+	@Test
+	void withRange() {
+		// when
+		Double actual = CombinableArbitrary.doubles().withRange(1.5, 2.5).combined();
+
+		// then
+		then(actual).isBetween(1.5, 2.5);
+	}
+
+	@Test
+	void positive() {
+		// when
+		Double actual = CombinableArbitrary.doubles().positive().combined();
+
+		// then
+		then(actual).isPositive();
+	}
+
+	@Test
+	void negative() {
+		// when
+		Double actual = CombinableArbitrary.doubles().negative().combined();
+
+		// then
+		then(actual).isNegative();
+	}
+
+	@Test
+	void nextDoubleWithRange() {
+		// given
+		DoubleCombinableArbitrary arbitrary = CombinableArbitrary.doubles().withRange(1.5, 2.5);
+
+		// when
+		boolean allInRange = IntStream.range(0, 100)
+			.mapToDouble(i -> arbitrary.nextDouble())
+			.allMatch(value -> value >= 1.5 && value <= 2.5);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextDoubleOfScale() {
+		// when
+		double actual = CombinableArbitrary.doubles().withRange(0.0, 10.0).ofScale(1).nextDouble();
+
+		// then
+		then(BigDecimal.valueOf(actual).stripTrailingZeros().scale()).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	void nextFloatPositive() {
+		// when
+		float actual = CombinableArbitrary.floats().positive().nextFloat();
+
+		// then
+		then(actual).isPositive();
+	}
+}
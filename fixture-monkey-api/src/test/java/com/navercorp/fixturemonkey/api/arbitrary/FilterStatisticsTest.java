@@ -0,0 +1,60 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class FilterStatisticsTest {
+	@Test
+	void warnedWhenAcceptanceRateLow() {
+		AtomicInteger counter = new AtomicInteger();
+		MonitoredFilter<Integer> rarelyAccepted = new MonitoredFilter<>(it -> it % 50 == 0, () -> "$");
+
+		CombinableArbitrary.from(counter::getAndIncrement)
+			.filter(rarelyAccepted)
+			.combined();
+		for (int i = 0; i < 10; i++) {
+			CombinableArbitrary.from(counter::getAndIncrement)
+				.filter(rarelyAccepted)
+				.combined();
+		}
+
+		then(rarelyAccepted.getAcceptanceRate()).isLessThan(FilterStatistics.WARN_ACCEPTANCE_RATE);
+		then(rarelyAccepted.isWarned()).isTrue();
+	}
+
+	@Test
+	void notWarnedWhenAcceptanceRateHigh() {
+		AtomicInteger counter = new AtomicInteger();
+		MonitoredFilter<Integer> oftenAccepted = new MonitoredFilter<>(it -> it % 2 == 0, () -> "$");
+
+		for (int i = 0; i < 100; i++) {
+			CombinableArbitrary.from(counter::getAndIncrement)
+				.filter(oftenAccepted)
+				.combined();
+		}
+
+		then(oftenAccepted.getAcceptanceRate()).isGreaterThanOrEqualTo(0.5d);
+		then(oftenAccepted.isWarned()).isFalse();
+	}
+}
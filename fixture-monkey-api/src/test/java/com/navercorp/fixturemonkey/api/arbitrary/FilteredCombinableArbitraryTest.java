@@ -0,0 +1,116 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
+
+class FilteredCombinableArbitraryTest {
+	@Test
+	void expensivePredicateTestedAfterCheapPredicates() {
+		// given
+		AtomicInteger counter = new AtomicInteger();
+		List<String> tested = new ArrayList<>();
+		ExpensivePredicate<Integer> expensive = it -> {
+			tested.add("expensive");
+			return true;
+		};
+		Predicate<Integer> cheap = it -> {
+			tested.add("cheap");
+			return it % 2 == 0;
+		};
+
+		// when
+		int actual = CombinableArbitrary.from(() -> counter.getAndIncrement() + 1)
+			.filter(expensive)
+			.filter(cheap)
+			.combined();
+
+		then(actual).isEqualTo(2);
+		then(tested).containsExactly("cheap", "cheap", "expensive");
+	}
+
+	@Test
+	void filterTwiceFlattened() {
+		// given
+		CombinableArbitrary<Integer> filtered = CombinableArbitrary.from(1).filter(it -> it > 0);
+
+		// when
+		CombinableArbitrary<Integer> actual = filtered.filter(it -> it < 2);
+
+		then(actual).isInstanceOf(FilteredCombinableArbitrary.class);
+		then(actual.combined()).isEqualTo(1);
+	}
+
+	@Test
+	void filterList() {
+		// given
+		AtomicInteger counter = new AtomicInteger();
+		List<Predicate<Integer>> predicates = Arrays.asList(it -> it % 2 == 0, it -> it % 3 == 0);
+
+		// when
+		int actual = CombinableArbitrary.from(() -> counter.getAndIncrement() + 1)
+			.filter(100, predicates)
+			.combined();
+
+		then(actual).isEqualTo(6);
+	}
+
+	@Test
+	void filterEmptyListReturnsItself() {
+		CombinableArbitrary<Integer> combinableArbitrary = CombinableArbitrary.from(1);
+
+		CombinableArbitrary<Integer> actual = combinableArbitrary.filter(100, new ArrayList<>());
+
+		then(actual).isSameAs(combinableArbitrary);
+	}
+
+	@Test
+	void failureNotKeptBetweenCalls() {
+		// given
+		AtomicBoolean failing = new AtomicBoolean(true);
+		Supplier<Integer> supplier = () -> {
+			if (failing.get()) {
+				throw new RetryableFilterMissException("first", new IllegalStateException("first"));
+			}
+			return 1;
+		};
+		CombinableArbitrary<Integer> sut = CombinableArbitrary.from(supplier).filter(3, it -> false);
+		thenThrownBy(sut::combined).hasRootCauseInstanceOf(IllegalStateException.class);
+		failing.set(false);
+
+		// when, then
+		thenThrownBy(sut::combined)
+			.isExactlyInstanceOf(RetryableFilterMissException.class)
+			.hasNoCause();
+	}
+}
@@ -298,4 +298,33 @@ class LongCombinableArbitraryTest {
 		then(actual % 3L).isEqualTo(0L);
 	}
 
+	@Test
+	void nextLongWithRange() {
+		// given
+		LongCombinableArbitrary arbitrary = CombinableArbitrary.longs().withRange(100L, 200L);
+
+		// when
+		boolean allInRange = IntStream.range(0, 100)
+			.mapToLong(i -> arbitrary.nextLong())
+			.allMatch(value -> value >= 100L && value <= 200L);
+
+		// then
+		then(allInRange).isTrue();
+	}
+
+	@Test
+	void nextLongEven() {
+		// when
+		boolean allEven = IntStream.range(0, 100)
+			.mapToLong(i -> CombinableArbitrary.longs().even().nextLong())
+			.allMatch(value -> value % 2 == 0);
+
+		// then
+		then(allEven).isTrue();
+	}
+
+	@Test
+	void providerIsResolvedOnce() {
+		then(CombinableArbitrary.longs()).isSameAs(CombinableArbitrary.longs());
+	}
 }
@@ -0,0 +1,119 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class ObjectCombinableArbitraryTest {
+	@Test
+	void buildBySlotsBindsOnce() {
+		// given
+		ArbitraryProperty first = arbitraryProperty(new TypeReference<String>() {
+		});
+		ArbitraryProperty second = arbitraryProperty(new TypeReference<Integer>() {
+		});
+		AtomicInteger bindCount = new AtomicInteger();
+
+		CombinableArbitrary<Map<ArbitraryProperty, Object>> sut = CombinableArbitrary.objectBuilder()
+			.property(first, CombinableArbitrary.from("value"))
+			.property(second, CombinableArbitrary.from(1))
+			.buildBySlots(slots -> {
+				bindCount.incrementAndGet();
+				return values -> toMap(slots, values);
+			});
+
+		// when
+		Map<ArbitraryProperty, Object> actual = sut.combined();
+		sut.combined();
+
+		// then
+		then(actual).containsEntry(first, "value").containsEntry(second, 1);
+		then(bindCount).hasValue(1);
+	}
+
+	@Test
+	void buildGivesMapView() {
+		// given
+		ArbitraryProperty first = arbitraryProperty(new TypeReference<String>() {
+		});
+		ArbitraryProperty second = arbitraryProperty(new TypeReference<Integer>() {
+		});
+
+		CombinableArbitrary<Map<ArbitraryProperty, Object>> sut = CombinableArbitrary.objectBuilder()
+			.property(first, CombinableArbitrary.from("value"))
+			.property(second, CombinableArbitrary.from((Object)null))
+			.build(it -> it);
+
+		// when
+		Map<ArbitraryProperty, Object> actual = sut.combined();
+
+		// then
+		then(actual).hasSize(2);
+		then(actual.get(first)).isEqualTo("value");
+		then(actual.containsKey(second)).isTrue();
+		then(actual.get(second)).isNull();
+		then(new HashMap<>(actual)).isEqualTo(actual);
+		thenThrownBy(() -> actual.put(first, "other")).isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void buildWithoutProperties() {
+		CombinableArbitrary<Integer> sut = CombinableArbitrary.objectBuilder()
+			.build(Map::size);
+
+		then(sut.combined()).isEqualTo(0);
+		then(sut.fixed()).isTrue();
+	}
+
+	private static ArbitraryProperty arbitraryProperty(TypeReference<?> typeReference) {
+		return new ArbitraryProperty(
+			new ObjectProperty(
+				new RootProperty(typeReference.getAnnotatedType()),
+				PropertyNameResolver.IDENTITY,
+				null
+			),
+			false,
+			0.0d,
+			Collections.emptyList()
+		);
+	}
+
+	private static Map<ArbitraryProperty, Object> toMap(List<ArbitraryProperty> slots, Object[] values) {
+		Map<ArbitraryProperty, Object> map = new HashMap<>();
+		for (int i = 0; i < values.length; i++) {
+			map.put(slots.get(i), values[i]);
+		}
+		return map;
+	}
+}
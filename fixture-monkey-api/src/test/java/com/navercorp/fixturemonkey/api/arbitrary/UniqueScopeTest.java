@@ -0,0 +1,123 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.arbitrary;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
+
+class UniqueScopeTest {
+	@Test
+	void uniqueWithinScope() {
+		CombinableArbitrary<Integer> sut = alternating().unique();
+
+		try (UniqueScope ignored = UniqueScope.open()) {
+			then(sut.combined()).isNotEqualTo(sut.combined());
+			thenThrownBy(sut::combined).isExactlyInstanceOf(RetryableFilterMissException.class);
+		}
+	}
+
+	@Test
+	void closeReleasesGeneratedValues() {
+		CombinableArbitrary<Integer> sut = alternating().unique();
+
+		try (UniqueScope ignored = UniqueScope.open()) {
+			sut.combined();
+			sut.combined();
+		}
+
+		try (UniqueScope ignored = UniqueScope.open()) {
+			then(sut.combined()).isNotEqualTo(sut.combined());
+		}
+	}
+
+	@Test
+	void resetReleasesGeneratedValues() {
+		CombinableArbitrary<Integer> sut = alternating().unique();
+
+		try (UniqueScope scope = UniqueScope.open()) {
+			sut.combined();
+			sut.combined();
+
+			scope.reset();
+
+			then(sut.combined()).isNotEqualTo(sut.combined());
+		}
+	}
+
+	@Test
+	void nestedScopeNotShared() {
+		CombinableArbitrary<Integer> sut = alternating().unique();
+
+		try (UniqueScope ignored = UniqueScope.open()) {
+			sut.combined();
+			sut.combined();
+
+			try (UniqueScope nested = UniqueScope.open()) {
+				then(UniqueScope.current()).isSameAs(nested);
+				then(sut.combined()).isNotEqualTo(sut.combined());
+			}
+
+			thenThrownBy(sut::combined).isExactlyInstanceOf(RetryableFilterMissException.class);
+		}
+	}
+
+	@Test
+	void withinSharedByRuns() {
+		CombinableArbitrary<Integer> sut = alternating().unique();
+		UniqueScope scope = UniqueScope.create();
+
+		Integer first = scope.within(sut::combined);
+		Integer second = scope.within(sut::combined);
+
+		then(first).isNotEqualTo(second);
+		then(UniqueScope.current()).isSameAs(UniqueScope.global());
+	}
+
+	@Test
+	void bindKeepsValuesAfterUnbind() {
+		CombinableArbitrary<Integer> sut = alternating().unique();
+		UniqueScope scope = UniqueScope.create();
+
+		scope.bind();
+		Integer first = sut.combined();
+		scope.unbind();
+		then(UniqueScope.current()).isSameAs(UniqueScope.global());
+
+		scope.bind();
+		Integer second = sut.combined();
+		scope.unbind();
+		then(first).isNotEqualTo(second);
+	}
+
+	@Test
+	void currentWithoutScopeReturnsGlobal() {
+		then(UniqueScope.current()).isSameAs(UniqueScope.global());
+	}
+
+	private static CombinableArbitrary<Integer> alternating() {
+		AtomicInteger counter = new AtomicInteger();
+		return CombinableArbitrary.from(() -> counter.getAndIncrement() % 2);
+	}
+}
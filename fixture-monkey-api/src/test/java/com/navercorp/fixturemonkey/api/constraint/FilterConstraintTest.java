@@ -0,0 +1,132 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.constraint;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+class FilterConstraintTest {
+	@Test
+	void between() {
+		FilterConstraint<Integer> sut = FilterConstraint.between(1, 3);
+
+		then(sut.test(1)).isTrue();
+		then(sut.test(3)).isTrue();
+		then(sut.test(0)).isFalse();
+		then(sut.test(4)).isFalse();
+		then(sut.test(null)).isFalse();
+	}
+
+	@Test
+	void betweenDecimalToIntegerConstraint() {
+		JavaIntegerConstraint actual = FilterConstraint.between(0.5, 3.5).toIntegerConstraint();
+
+		then(actual.getMin()).isEqualTo(BigInteger.ONE);
+		then(actual.getMax()).isEqualTo(BigInteger.valueOf(3));
+	}
+
+	@Test
+	void betweenInverted() {
+		thenThrownBy(() -> FilterConstraint.between(3, 1))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void lengthTest() {
+		FilterConstraint<String> sut = FilterConstraint.length(2, 3);
+
+		then(sut.test("ab")).isTrue();
+		then(sut.test("a")).isFalse();
+		then(sut.test("abcd")).isFalse();
+	}
+
+	@Test
+	void lengthInverted() {
+		thenThrownBy(() -> FilterConstraint.length(3, 2))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void lengthNegative() {
+		thenThrownBy(() -> FilterConstraint.length(-1, 2))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void oneOf() {
+		FilterConstraint<String> sut = FilterConstraint.oneOf("a", "b");
+
+		then(sut.test("a")).isTrue();
+		then(sut.test("c")).isFalse();
+		then(sut.test(null)).isFalse();
+	}
+
+	@Test
+	void oneOfContainsNull() {
+		FilterConstraint<String> sut = FilterConstraint.oneOf(Arrays.asList("a", null));
+
+		then(sut.test(null)).isTrue();
+		then(sut.isNotNull()).isFalse();
+	}
+
+	@Test
+	void andIntersects() {
+		Predicate<Long> actual = FilterConstraint.<Long>between(0, 10)
+			.and(FilterConstraint.between(5, 20))
+			.and(FilterConstraint.oneOf(3L, 7L, 15L));
+
+		then(actual).isInstanceOf(FilterConstraint.class);
+		FilterConstraint<Long> constraint = (FilterConstraint<Long>)actual;
+		then(constraint.getCandidates()).containsExactly(7L);
+		then(constraint.toDecimalConstraint().getMin()).isEqualByComparingTo(BigDecimal.valueOf(5));
+		then(constraint.toDecimalConstraint().getMax()).isEqualByComparingTo(BigDecimal.TEN);
+		then(constraint.test(7L)).isTrue();
+		then(constraint.test(3L)).isFalse();
+	}
+
+	@Test
+	void andNotFilterConstraint() {
+		Predicate<Integer> actual = FilterConstraint.<Integer>between(0, 10).and(it -> it % 2 == 0);
+
+		then(actual).isNotInstanceOf(FilterConstraint.class);
+		then(actual.test(4)).isTrue();
+		then(actual.test(5)).isFalse();
+	}
+
+	@Test
+	void extract() {
+		FilterConstraint<?> actual = FilterConstraint.extract(Arrays.<Predicate<?>>asList(
+			FilterConstraint.notNull(),
+			it -> true,
+			FilterConstraint.length(1, 5)
+		));
+
+		then(actual).isNotNull();
+		then(actual.isNotNull()).isTrue();
+		then(actual.getMinLength()).isEqualTo(BigInteger.ONE);
+		then(actual.getMaxLength()).isEqualTo(BigInteger.valueOf(5));
+	}
+}
@@ -0,0 +1,326 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.arbitrary.IntegerCombinableArbitrary;
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.constraint.JavaContainerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaDateTimeConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaDecimalConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaIntegerConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint;
+import com.navercorp.fixturemonkey.api.constraint.JavaStringConstraint.PatternConstraint;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+
+class NativeEngineTest {
+	@RepeatedTest(30)
+	void integersInRange() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.integerConstraint =
+			new JavaIntegerConstraint(BigInteger.valueOf(5), BigInteger.valueOf(10));
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		Integer actual = sut.integers(null).combined();
+
+		// then
+		then(actual).isBetween(5, 10);
+	}
+
+	@RepeatedTest(30)
+	void nextIntInRange() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.integerConstraint =
+			new JavaIntegerConstraint(BigInteger.valueOf(5), BigInteger.valueOf(10));
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		int actual = ((IntegerCombinableArbitrary)sut.integers(null)).nextInt();
+
+		// then
+		then(actual).isBetween(5, 10);
+	}
+
+	@RepeatedTest(30)
+	void bytesClampedToTypeRange() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.integerConstraint = new JavaIntegerConstraint(BigInteger.valueOf(100), null);
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		Byte actual = sut.bytes(null).combined();
+
+		// then
+		then(actual).isBetween((byte)100, Byte.MAX_VALUE);
+	}
+
+	@RepeatedTest(30)
+	void stringsLength() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.stringConstraint = new JavaStringConstraint(
+			BigInteger.valueOf(3),
+			BigInteger.valueOf(5),
+			false,
+			false,
+			true,
+			null,
+			false
+		);
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		String actual = sut.strings(null).combined();
+
+		// then
+		then(actual).hasSizeBetween(3, 5);
+		then(actual.trim()).isNotEmpty();
+	}
+
+	@RepeatedTest(30)
+	void stringsDigits() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.stringConstraint = new JavaStringConstraint(
+			BigInteger.ONE,
+			BigInteger.TEN,
+			true,
+			false,
+			false,
+			null,
+			false
+		);
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		String actual = sut.strings(null).combined();
+
+		// then
+		then(actual).containsOnlyDigits();
+	}
+
+	@RepeatedTest(30)
+	void stringsPattern() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.stringConstraint = new JavaStringConstraint(
+			null,
+			null,
+			false,
+			false,
+			false,
+			new PatternConstraint("[a-c]{4}", new int[0]),
+			false
+		);
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		String actual = sut.strings(null).combined();
+
+		// then
+		then(actual).matches("[a-c]{4}");
+	}
+
+	@RepeatedTest(30)
+	void stringsEmail() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.stringConstraint = new JavaStringConstraint(
+			null,
+			null,
+			false,
+			false,
+			false,
+			null,
+			true
+		);
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		String actual = sut.strings(null).combined();
+
+		// then
+		then(actual).matches("[a-z0-9]+@[a-z0-9]+\\.com");
+	}
+
+	@RepeatedTest(30)
+	void bigDecimalsScale() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.decimalConstraint = new JavaDecimalConstraint(
+			BigDecimal.ZERO,
+			false,
+			BigDecimal.ONE,
+			true,
+			1
+		);
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		BigDecimal actual = sut.bigDecimals(null).combined();
+
+		// then
+		then(actual.scale()).isEqualTo(1);
+		then(actual).isGreaterThan(BigDecimal.ZERO).isLessThanOrEqualTo(BigDecimal.ONE);
+	}
+
+	@RepeatedTest(30)
+	void doublesExclusive() {
+		// given
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.decimalConstraint = new JavaDecimalConstraint(
+			BigDecimal.ZERO,
+			false,
+			BigDecimal.ONE,
+			false,
+			null
+		);
+		NativeJavaTypeArbitraryGeneratorSet sut = new NativeJavaTypeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		Double actual = sut.doubles(null).combined();
+
+		// then
+		then(actual).isStrictlyBetween(0.0d, 1.0d);
+	}
+
+	@RepeatedTest(30)
+	void localDateTimesInRange() {
+		// given
+		LocalDateTime min = LocalDateTime.of(2000, 1, 1, 0, 0);
+		LocalDateTime max = LocalDateTime.of(2000, 1, 2, 0, 0);
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.dateTimeConstraint = new JavaDateTimeConstraint(() -> min, () -> max);
+		NativeJavaTimeArbitraryGeneratorSet sut = new NativeJavaTimeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		LocalDateTime actual = sut.localDateTimes(null).combined();
+
+		// then
+		then(actual).isBetween(min, max);
+	}
+
+	@RepeatedTest(30)
+	void localDateTimesAfterDefaultRange() {
+		// given
+		LocalDateTime min = LocalDateTime.now().plusYears(5);
+		FixedConstraintGenerator constraintGenerator = new FixedConstraintGenerator();
+		constraintGenerator.dateTimeConstraint = new JavaDateTimeConstraint(() -> min, null);
+		NativeJavaTimeArbitraryGeneratorSet sut = new NativeJavaTimeArbitraryGeneratorSet(constraintGenerator);
+
+		// when
+		LocalDateTime actual = sut.localDateTimes(null).combined();
+
+		// then
+		then(actual).isAfterOrEqualTo(min);
+	}
+
+	@RepeatedTest(30)
+	void yearsDefaultRange() {
+		// given
+		NativeJavaTimeArbitraryGeneratorSet sut =
+			new NativeJavaTimeArbitraryGeneratorSet(JavaConstraintGenerator.DEFAULT_JAVA_CONSTRAINT_GENERATOR);
+		int now = Year.now().getValue();
+
+		// when
+		Year actual = sut.years(null).combined();
+
+		// then
+		then(actual.getValue()).isBetween(now - 10, now + 10);
+	}
+
+	@Test
+	void allTimeTypes() {
+		NativeJavaTimeArbitraryGeneratorSet sut =
+			new NativeJavaTimeArbitraryGeneratorSet(JavaConstraintGenerator.DEFAULT_JAVA_CONSTRAINT_GENERATOR);
+
+		IntStream.range(0, 100).forEach(it -> {
+			then(sut.calendars(null).combined()).isNotNull();
+			then(sut.dates(null).combined()).isNotNull();
+			then(sut.instants(null).combined()).isNotNull();
+			then(sut.localDates(null).combined()).isNotNull();
+			then(sut.localTimes(null).combined()).isNotNull();
+			then(sut.zonedDateTimes(null).combined()).isNotNull();
+			then(sut.monthDays(null).combined()).isNotNull();
+			then(sut.offsetDateTimes(null).combined()).isNotNull();
+			then(sut.offsetTimes(null).combined()).isNotNull();
+			then(sut.periods(null).combined()).isNotNull();
+			then(sut.durations(null).combined()).isNotNull();
+			then(sut.yearMonths(null).combined()).isNotNull();
+			then(sut.zoneOffsets(null).combined()).isNotNull();
+			then(sut.zoneIds(null).combined()).isNotNull();
+		});
+	}
+
+	private static final class FixedConstraintGenerator implements JavaConstraintGenerator {
+		@Nullable
+		private JavaStringConstraint stringConstraint;
+		@Nullable
+		private JavaIntegerConstraint integerConstraint;
+		@Nullable
+		private JavaDecimalConstraint decimalConstraint;
+		@Nullable
+		private JavaDateTimeConstraint dateTimeConstraint;
+
+		@Override
+		@Nullable
+		public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
+			return stringConstraint;
+		}
+
+		@Override
+		@Nullable
+		public JavaIntegerConstraint generateIntegerConstraint(ArbitraryGeneratorContext context) {
+			return integerConstraint;
+		}
+
+		@Override
+		@Nullable
+		public JavaDecimalConstraint generateDecimalConstraint(ArbitraryGeneratorContext context) {
+			return decimalConstraint;
+		}
+
+		@Override
+		@Nullable
+		public JavaContainerConstraint generateContainerConstraint(ArbitraryGeneratorContext context) {
+			return null;
+		}
+
+		@Override
+		@Nullable
+		public JavaDateTimeConstraint generateDateTimeConstraint(ArbitraryGeneratorContext context) {
+			return dateTimeConstraint;
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.engine;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+class NativeRandomValuesTest {
+	@Test
+	void nextLengthThrowsWhenMinGreaterThanMax() {
+		thenThrownBy(() -> NativeRandomValues.nextLength(5, 3))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("min 5 should not be greater than max 3");
+	}
+
+	@Test
+	void nextLongUniformlyThrowsWhenMinGreaterThanMax() {
+		thenThrownBy(() -> NativeRandomValues.nextLongUniformly(1, 0))
+			.isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@RepeatedTest(30)
+	void nextLongUniformlyInRange() {
+		// when
+		long actual = NativeRandomValues.nextLongUniformly(-3, 7);
+
+		// then
+		then(actual).isBetween(-3L, 7L);
+	}
+
+	@Test
+	void nextLongUniformlyNotBiased() {
+		// given
+		long bound = 3L << 61;
+		long firstThird = 1L << 61;
+		int count = 20_000;
+
+		// when
+		int actual = 0;
+		for (int i = 0; i < count; i++) {
+			if (NativeRandomValues.nextLongUniformly(0, bound - 1) < firstThird) {
+				actual++;
+			}
+		}
+
+		// then
+		// the modulo of a random long falls into the first third 3 of 8 times
+		then((double)actual / count).isBetween(0.31d, 0.355d);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.jqwik;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.EdgeCases;
+import net.jqwik.api.RandomGenerator;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+class ArbitraryUtilsTest {
+	@Test
+	void toCombinableArbitraryBuildsGeneratorOnce() {
+		// given
+		AtomicInteger generatorCount = new AtomicInteger();
+		Arbitrary<Integer> delegate = Arbitraries.integers().between(0, 100);
+		Arbitrary<Integer> arbitrary = new Arbitrary<Integer>() {
+			@Override
+			public RandomGenerator<Integer> generator(int genSize) {
+				generatorCount.incrementAndGet();
+				return delegate.generator(genSize);
+			}
+
+			@Override
+			public EdgeCases<Integer> edgeCases(int maxEdgeCases) {
+				return delegate.edgeCases(maxEdgeCases);
+			}
+		};
+		CombinableArbitrary<Integer> sut = ArbitraryUtils.toCombinableArbitrary(arbitrary);
+
+		// when
+		List<Integer> actual = IntStream.range(0, 10)
+			.mapToObj(it -> sut.combined())
+			.collect(Collectors.toList());
+
+		// then
+		then(actual).allSatisfy(it -> then(it).isBetween(0, 100));
+		then(generatorCount).hasValue(1);
+	}
+
+	@Test
+	void toCombinableArbitraryReproducibleBySeed() {
+		// given
+		Arbitrary<String> arbitrary = Arbitraries.strings().alpha().ofMaxLength(10);
+
+		// when
+		Randoms.newGlobalSeed(1234L);
+		List<String> actual = sample(arbitrary);
+		Randoms.newGlobalSeed(1234L);
+		List<String> expected = sample(arbitrary);
+
+		// then
+		then(actual).isEqualTo(expected);
+	}
+
+	private static List<String> sample(Arbitrary<String> arbitrary) {
+		CombinableArbitrary<String> combinableArbitrary = ArbitraryUtils.toCombinableArbitrary(arbitrary);
+		return IntStream.range(0, 10)
+			.mapToObj(it -> combinableArbitrary.combined())
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.api.tree;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
+import com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.DefaultTypeDefinition;
+import com.navercorp.fixturemonkey.api.property.LazyPropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class TreePropertyTest {
+	@Test
+	void toArbitraryPropertyReusedWithSameNullInject() {
+		// given
+		TreeProperty treeProperty = treeProperty(false);
+
+		// when
+		ArbitraryProperty actual = treeProperty.toArbitraryProperty(0.2d);
+
+		then(treeProperty.toArbitraryProperty(0.2d)).isSameAs(actual);
+	}
+
+	@Test
+	void toArbitraryPropertyRecreatedWithDifferentNullInject() {
+		// given
+		TreeProperty treeProperty = treeProperty(false);
+		ArbitraryProperty previous = treeProperty.toArbitraryProperty(0.2d);
+
+		// when
+		ArbitraryProperty actual = treeProperty.toArbitraryProperty(0.0d);
+
+		then(actual).isNotSameAs(previous);
+		then(actual.getNullInject()).isEqualTo(0.0d);
+		then(actual.getConcreteTypeDefinitions())
+			.isEqualTo(previous.getConcreteTypeDefinitions());
+	}
+
+	@Test
+	void toArbitraryPropertyNotReusedForContainer() {
+		// given
+		TreeProperty treeProperty = treeProperty(true);
+
+		// when
+		ArbitraryProperty actual = treeProperty.toArbitraryProperty(0.2d);
+
+		then(treeProperty.toArbitraryProperty(0.2d)).isNotSameAs(actual);
+	}
+
+	private static TreeProperty treeProperty(boolean container) {
+		RootProperty rootProperty = new RootProperty(new TypeReference<Sample>() {
+		}.getAnnotatedType());
+
+		return new TreeProperty(
+			new ObjectProperty(rootProperty, PropertyNameResolver.IDENTITY, null),
+			container,
+			Collections.singletonList(
+				new DefaultTypeDefinition(rootProperty, new LazyPropertyGenerator(new DefaultPropertyGenerator()))
+			)
+		);
+	}
+
+	static class Sample {
+		private String name;
+		private int value;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import lombok.Getter;
+import lombok.Setter;
+
+class PersistentTypeCacheTest {
+	@TempDir
+	Path directory;
+
+	@Test
+	void propertyDescriptorsPersisted() {
+		Path file = directory.resolve("type-cache.bin");
+		Map<String, PropertyDescriptor> expected = TypeCache.getPropertyDescriptorsByPropertyName(BeanObject.class);
+		PersistentTypeCache persistentTypeCache = new PersistentTypeCache(file);
+		persistentTypeCache.putPropertyDescriptors(BeanObject.class, expected);
+		persistentTypeCache.save();
+
+		Map<String, PropertyDescriptor> actual =
+			new PersistentTypeCache(file).getPropertyDescriptors(BeanObject.class);
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void primaryConstructorPersisted() throws NoSuchMethodException {
+		Path file = directory.resolve("type-cache.bin");
+		Constructor<ConstructorObject> constructor =
+			ConstructorObject.class.getDeclaredConstructor(String.class, int.class);
+		PersistentTypeCache persistentTypeCache = new PersistentTypeCache(file);
+		persistentTypeCache.putParameterNamesByConstructor(
+			ConstructorObject.class,
+			new SimpleEntry<>(constructor, new String[] {"str", "integer"})
+		);
+		persistentTypeCache.save();
+
+		Entry<Constructor<?>, String[]> actual =
+			new PersistentTypeCache(file).getParameterNamesByConstructor(ConstructorObject.class);
+
+		then(actual).isNotNull();
+		then(actual.getKey()).isEqualTo(constructor);
+		then(actual.getValue()).containsExactly("str", "integer");
+	}
+
+	@Test
+	void absentPrimaryConstructorPersisted() {
+		Path file = directory.resolve("type-cache.bin");
+		PersistentTypeCache persistentTypeCache = new PersistentTypeCache(file);
+		persistentTypeCache.putParameterNamesByConstructor(BeanObject.class, null);
+		persistentTypeCache.save();
+
+		Entry<Constructor<?>, String[]> actual =
+			new PersistentTypeCache(file).getParameterNamesByConstructor(BeanObject.class);
+
+		then(actual).isNotNull();
+		then(actual.getKey()).isNull();
+	}
+
+	@Test
+	void notPersistedIfNotChanged() {
+		Path file = directory.resolve("type-cache.bin");
+
+		new PersistentTypeCache(file).save();
+
+		then(Files.exists(file)).isFalse();
+	}
+
+	@Test
+	void corruptedFileIgnored() throws IOException {
+		Path file = directory.resolve("type-cache.bin");
+		Files.write(file, new byte[] {1, 2, 3});
+
+		Map<String, PropertyDescriptor> actual = new PersistentTypeCache(file).getPropertyDescriptors(BeanObject.class);
+
+		then(actual).isNull();
+	}
+
+	@Test
+	void interfacesHashed() {
+		then(PersistentTypeCache.getHashedTypes(InterfaceObject.class))
+			.containsExactly(InterfaceObject.class, NamedInterface.class);
+	}
+
+	@Getter
+	@Setter
+	public static class BeanObject {
+		private String str;
+		private int integer;
+	}
+
+	public static class ConstructorObject {
+		private final String str;
+		private final int integer;
+
+		public ConstructorObject(String str, int integer) {
+			this.str = str;
+			this.integer = integer;
+		}
+	}
+
+	public interface NamedInterface {
+		default String getName() {
+			return "name";
+		}
+	}
+
+	public static class InterfaceObject implements NamedInterface {
+	}
+}
@@ -0,0 +1,18 @@
+plugins {
+    id("com.navercorp.fixturemonkey.gradle.plugin.java-conventions")
+    id("com.navercorp.fixturemonkey.gradle.plugin.maven-publish-conventions")
+}
+
+dependencies {
+    api(projects.fixtureMonkey)
+
+    testImplementation(libs.junit.jupiter.engine)
+    testImplementation(libs.assertj.core)
+    testAnnotationProcessor(sourceSets.main.get().output)
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform {
+        includeEngines("junit-jupiter")
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Marks the type to generate the introspection index at compile time.
+ * The types could be listed by the annotation processor option {@code fixturemonkey.apt.targets} as well,
+ * which is a comma-separated list of the fully qualified class names.
+ * <p>
+ * The index is generated only for non-generic concrete classes which are accessible in their package.
+ * The type is not indexed if any constructor parameter, field or setter of it is annotated,
+ * the annotations are read by reflection.
+ *
+ * @see com.navercorp.fixturemonkey.apt.plugin.FixtureIndexPlugin
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface FixtureTarget {
+}
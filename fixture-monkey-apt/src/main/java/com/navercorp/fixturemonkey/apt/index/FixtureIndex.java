@@ -0,0 +1,61 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.index;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+
+/**
+ * The introspection index of a type generated by
+ * {@link com.navercorp.fixturemonkey.apt.processor.FixtureIndexProcessor}.
+ * It replaces the reflective discovery of the properties and the reflective instantiation of the type.
+ *
+ * @param <T> the type of indexed
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public interface FixtureIndex<T> {
+	/**
+	 * The suffix of the generated index class name, it is generated in the same package of the indexed type.
+	 * The enclosing types of the nested type are joined by underscores, for example {@code Outer_Inner_FixtureIndex}.
+	 */
+	String CLASS_NAME_SUFFIX = "_FixtureIndex";
+
+	Class<T> getType();
+
+	/**
+	 * Returns the properties of the type in the order of the values given to {@link #assemble(Object[])}.
+	 * The constructor parameters come first, followed by the properties having a setter.
+	 *
+	 * @return the properties of the type
+	 */
+	List<Property> getProperties();
+
+	/**
+	 * Creates an instance by calling the constructor and the setters directly.
+	 * The setter is not called if the value is {@code null}.
+	 *
+	 * @param values the values of the properties in the order of {@link #getProperties()}
+	 * @return the created instance
+	 */
+	T assemble(Object[] values);
+}
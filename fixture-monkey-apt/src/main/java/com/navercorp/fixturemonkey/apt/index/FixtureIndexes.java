@@ -0,0 +1,78 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.index;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Finds the generated {@link FixtureIndex} of the type by its class name convention.
+ * The index is loaded by the class loader of the type, the result is cached including absence.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FixtureIndexes {
+	private static final Map<Class<?>, Optional<FixtureIndex<?>>> INDEXES_BY_TYPE = new ConcurrentHashMap<>();
+
+	private FixtureIndexes() {
+	}
+
+	@Nullable
+	public static FixtureIndex<?> find(Class<?> type) {
+		return INDEXES_BY_TYPE.computeIfAbsent(type, FixtureIndexes::load).orElse(null);
+	}
+
+	public static String getIndexClassName(Class<?> type) {
+		StringBuilder simpleName = new StringBuilder(type.getSimpleName());
+		for (Class<?> enclosing = type.getEnclosingClass(); enclosing != null;
+			enclosing = enclosing.getEnclosingClass()) {
+			simpleName.insert(0, enclosing.getSimpleName() + "_");
+		}
+
+		Package typePackage = type.getPackage();
+		String packagePrefix = typePackage == null || typePackage.getName().isEmpty()
+			? ""
+			: typePackage.getName() + ".";
+		return packagePrefix + simpleName + FixtureIndex.CLASS_NAME_SUFFIX;
+	}
+
+	private static Optional<FixtureIndex<?>> load(Class<?> type) {
+		if (type.isPrimitive() || type.isArray() || type.isInterface() || type.getClassLoader() == null) {
+			return Optional.empty();
+		}
+
+		try {
+			Class<?> indexType = Class.forName(getIndexClassName(type), true, type.getClassLoader());
+			if (!FixtureIndex.class.isAssignableFrom(indexType)) {
+				return Optional.empty();
+			}
+
+			FixtureIndex<?> index = (FixtureIndex<?>)indexType.getDeclaredConstructor().newInstance();
+			return index.getType() == type ? Optional.of(index) : Optional.empty();
+		} catch (ClassNotFoundException | LinkageError ex) {
+			return Optional.empty();
+		} catch (ReflectiveOperationException ex) {
+			throw new IllegalArgumentException("Failed to load the fixture index of " + type.getName(), ex);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.index;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+
+/**
+ * A property generated by {@link com.navercorp.fixturemonkey.apt.processor.FixtureIndexProcessor}.
+ * It reads the value by the generated direct call of the field or the getter.
+ * If neither is accessible from the generated index, it reads the value of the field by reflection.
+ * <p>
+ * It has no annotations, the annotated types are not indexed.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class IndexedProperty implements Property {
+	private final Class<?> declaringType;
+	private final String name;
+	private final AnnotatedType annotatedType;
+	@Nullable
+	private final Function<Object, Object> getter;
+
+	public IndexedProperty(
+		Class<?> declaringType,
+		String name,
+		AnnotatedType annotatedType,
+		@Nullable Function<Object, Object> getter
+	) {
+		this.declaringType = declaringType;
+		this.name = name;
+		this.annotatedType = annotatedType;
+		this.getter = getter;
+	}
+
+	public Class<?> getDeclaringType() {
+		return declaringType;
+	}
+
+	@Override
+	public Type getType() {
+		return annotatedType.getType();
+	}
+
+	@Override
+	public AnnotatedType getAnnotatedType() {
+		return annotatedType;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public List<Annotation> getAnnotations() {
+		return Collections.emptyList();
+	}
+
+	@Nullable
+	@Override
+	public Object getValue(Object instance) {
+		if (getter != null) {
+			return getter.apply(instance);
+		}
+
+		Field field = TypeCache.getFieldsByName(declaringType).get(name);
+		if (field == null) {
+			throw new IllegalArgumentException(
+				"Can not extract value. type: " + declaringType.getName() + ", propertyName: " + name
+			);
+		}
+
+		try {
+			field.setAccessible(true);
+			return field.get(instance);
+		} catch (IllegalAccessException ex) {
+			throw new IllegalArgumentException(
+				"Can not extract value. obj: " + instance + ", fieldName: " + name,
+				ex
+			);
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		IndexedProperty that = (IndexedProperty)obj;
+		return declaringType.equals(that.declaringType)
+			&& name.equals(that.name)
+			&& getType().equals(that.getType());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(declaringType, name, getType());
+	}
+
+	@Override
+	public String toString() {
+		return "IndexedProperty{"
+			+ "declaringType=" + declaringType.getName()
+			+ ", name='" + name + '\''
+			+ ", annotatedType=" + annotatedType
+			+ '}';
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.introspector;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
+import com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
+import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.apt.index.FixtureIndex;
+import com.navercorp.fixturemonkey.apt.index.FixtureIndexes;
+import com.navercorp.fixturemonkey.apt.property.IndexedPropertyGenerator;
+
+/**
+ * Introspects the type by the generated {@link FixtureIndex} of it.
+ * The instance is created by the generated direct calls of the constructor and the setters.
+ * It introspects by the given {@link ArbitraryIntrospector} if the type is not indexed.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class IndexedArbitraryIntrospector implements ArbitraryIntrospector {
+	private static final PropertyGenerator INDEXED_PROPERTY_GENERATOR =
+		new IndexedPropertyGenerator(DefaultPropertyGenerator.FIELD_METHOD_PROPERTY_GENERATOR);
+
+	private final ArbitraryIntrospector delegate;
+
+	public IndexedArbitraryIntrospector(ArbitraryIntrospector delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
+		FixtureIndex<?> index = FixtureIndexes.find(Types.getActualType(context.getResolvedType()));
+		if (index == null) {
+			return delegate.introspect(context);
+		}
+
+		return new ArbitraryIntrospectorResult(
+			CombinableArbitrary.objectBuilder()
+				.properties(context.getCombinableArbitrariesByArbitraryProperty())
+				.buildBySlots(combine(index))
+		);
+	}
+
+	/**
+	 * Resolves the position in the index of each slot once, the values are assembled without looking up by name.
+	 */
+	private static Function<List<ArbitraryProperty>, SlotCombinator<Object>> combine(FixtureIndex<?> index) {
+		return slots -> {
+			List<Property> properties = index.getProperties();
+			int[] positions = new int[slots.size()];
+			for (int slotIndex = 0; slotIndex < slots.size(); slotIndex++) {
+				String propertyName = slots.get(slotIndex).getObjectProperty().getProperty().getName();
+				positions[slotIndex] = -1;
+				for (int position = 0; position < properties.size(); position++) {
+					if (properties.get(position).getName().equals(propertyName)) {
+						positions[slotIndex] = position;
+						break;
+					}
+				}
+			}
+
+			int propertyCount = properties.size();
+			return values -> {
+				Object[] assembled = new Object[propertyCount];
+				for (int slotIndex = 0; slotIndex < positions.length; slotIndex++) {
+					int position = positions[slotIndex];
+					if (position != -1) {
+						assembled[position] = values[slotIndex];
+					}
+				}
+				return index.assemble(assembled);
+			};
+		};
+	}
+
+	@Nullable
+	@Override
+	public PropertyGenerator getRequiredPropertyGenerator(Property property) {
+		if (FixtureIndexes.find(Types.getActualType(property.getType())) == null) {
+			return delegate.getRequiredPropertyGenerator(property);
+		}
+
+		return INDEXED_PROPERTY_GENERATOR;
+	}
+}
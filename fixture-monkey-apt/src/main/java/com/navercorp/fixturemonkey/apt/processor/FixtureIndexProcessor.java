@@ -0,0 +1,381 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.apt.FixtureTarget;
+
+/**
+ * Generates the {@link com.navercorp.fixturemonkey.apt.index.FixtureIndex} of the types annotated with
+ * {@link FixtureTarget} or listed by the option {@value #TARGETS_OPTION}.
+ * <p>
+ * The index has the properties of the constructor parameters and the setters,
+ * which are resolved at compile time, and the direct calls of the constructor, the setters and the getters.
+ * The constructor annotated with {@link java.beans.ConstructorProperties} is used first,
+ * otherwise the accessible constructor with the most parameters is used.
+ * <p>
+ * The type not supported is not indexed with a note, it would be introspected by reflection.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+@SupportedAnnotationTypes("com.navercorp.fixturemonkey.apt.FixtureTarget")
+@SupportedOptions(FixtureIndexProcessor.TARGETS_OPTION)
+public final class FixtureIndexProcessor extends AbstractProcessor {
+	public static final String TARGETS_OPTION = "fixturemonkey.apt.targets";
+
+	private static final String CONSTRUCTOR_PROPERTIES = "java.beans.ConstructorProperties";
+
+	private final Set<String> indexedTypeNames = new HashSet<>();
+	private boolean configuredTargetsProcessed = false;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		List<TypeElement> targets = new ArrayList<>(
+			ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(FixtureTarget.class))
+		);
+
+		if (!configuredTargetsProcessed) {
+			configuredTargetsProcessed = true;
+			targets.addAll(getConfiguredTargets());
+		}
+
+		for (TypeElement target : targets) {
+			if (indexedTypeNames.add(target.getQualifiedName().toString())) {
+				index(target);
+			}
+		}
+		return false;
+	}
+
+	private List<TypeElement> getConfiguredTargets() {
+		String configuredTargets = processingEnv.getOptions().get(TARGETS_OPTION);
+		if (configuredTargets == null || configuredTargets.trim().isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<TypeElement> targets = new ArrayList<>();
+		for (String typeName : configuredTargets.split(",")) {
+			TypeElement target = processingEnv.getElementUtils().getTypeElement(typeName.trim());
+			if (target == null) {
+				processingEnv.getMessager().printMessage(
+					Kind.WARNING,
+					"Fixture index target " + typeName.trim() + " is not found."
+				);
+				continue;
+			}
+			targets.add(target);
+		}
+		return targets;
+	}
+
+	private void index(TypeElement type) {
+		try {
+			List<IndexedPropertySource> properties = resolveProperties(type);
+			writeSource(type, properties);
+		} catch (NotIndexableException ex) {
+			processingEnv.getMessager().printMessage(
+				Kind.NOTE,
+				type.getQualifiedName() + " is not indexed, " + ex.getMessage(),
+				type
+			);
+		}
+	}
+
+	private List<IndexedPropertySource> resolveProperties(TypeElement type) {
+		checkIndexable(type);
+
+		ExecutableElement constructor = findConstructor(type);
+		List<String> parameterNames = getParameterNames(constructor);
+		List<? extends VariableElement> parameters = constructor.getParameters();
+
+		List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(type);
+		Map<String, VariableElement> fieldsByName = new LinkedHashMap<>();
+		for (VariableElement field : ElementFilter.fieldsIn(members)) {
+			if (!field.getModifiers().contains(Modifier.STATIC)) {
+				fieldsByName.putIfAbsent(field.getSimpleName().toString(), field);
+			}
+		}
+
+		Map<String, IndexedPropertySource> propertiesByName = new LinkedHashMap<>();
+		for (int i = 0; i < parameters.size(); i++) {
+			VariableElement parameter = parameters.get(i);
+			String name = parameterNames.get(i);
+			checkNotAnnotated(parameter, name);
+			checkNotAnnotated(fieldsByName.get(name), name);
+			checkIndexable(parameter.asType(), name);
+
+			propertiesByName.put(
+				name,
+				new IndexedPropertySource(name, parameter.asType(), null, findGetter(type, name, members))
+			);
+		}
+
+		for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+			String methodName = method.getSimpleName().toString();
+			if (!methodName.startsWith("set") || methodName.length() == 3
+				|| method.getParameters().size() != 1
+				|| method.getModifiers().contains(Modifier.STATIC)
+				|| !method.getThrownTypes().isEmpty()
+				|| !isAccessible(type, method)) {
+				continue;
+			}
+
+			String name = decapitalize(methodName.substring(3));
+			if (propertiesByName.containsKey(name)) {
+				continue;
+			}
+
+			VariableElement parameter = method.getParameters().get(0);
+			checkNotAnnotated(method, name);
+			checkNotAnnotated(parameter, name);
+			checkNotAnnotated(fieldsByName.get(name), name);
+			checkIndexable(parameter.asType(), name);
+
+			propertiesByName.put(
+				name,
+				new IndexedPropertySource(name, parameter.asType(), methodName, findGetter(type, name, members))
+			);
+		}
+
+		return new ArrayList<>(propertiesByName.values());
+	}
+
+	private void checkIndexable(TypeElement type) {
+		if (type.getKind() != ElementKind.CLASS && !"RECORD".equals(type.getKind().name())) {
+			throw new NotIndexableException("it is not a class.");
+		}
+
+		if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+			throw new NotIndexableException("it is abstract.");
+		}
+
+		if (!type.getTypeParameters().isEmpty()) {
+			throw new NotIndexableException("it is generic.");
+		}
+
+		Element element = type;
+		while (element instanceof TypeElement) {
+			if (element.getModifiers().contains(Modifier.PRIVATE)) {
+				throw new NotIndexableException("it is not accessible in its package.");
+			}
+
+			Element enclosing = element.getEnclosingElement();
+			if (enclosing instanceof TypeElement && !element.getModifiers().contains(Modifier.STATIC)) {
+				throw new NotIndexableException("it is an inner class.");
+			}
+			element = enclosing;
+		}
+	}
+
+	private void checkIndexable(TypeMirror typeMirror, String name) {
+		if (!isIndexable(typeMirror)) {
+			throw new NotIndexableException("the type of property " + name + " is generic or unresolved.");
+		}
+	}
+
+	private boolean isIndexable(TypeMirror typeMirror) {
+		if (typeMirror.getKind().isPrimitive()) {
+			return true;
+		}
+
+		switch (typeMirror.getKind()) {
+			case ARRAY:
+				return isIndexable(((ArrayType)typeMirror).getComponentType());
+			case DECLARED:
+				return ((DeclaredType)typeMirror).getTypeArguments().stream().allMatch(this::isIndexable);
+			case WILDCARD:
+				WildcardType wildcardType = (WildcardType)typeMirror;
+				return (wildcardType.getExtendsBound() == null || isIndexable(wildcardType.getExtendsBound()))
+					&& (wildcardType.getSuperBound() == null || isIndexable(wildcardType.getSuperBound()));
+			default:
+				return false;
+		}
+	}
+
+	private void checkNotAnnotated(Element element, String name) {
+		if (element != null
+			&& (!element.getAnnotationMirrors().isEmpty() || !element.asType().getAnnotationMirrors().isEmpty())) {
+			throw new NotIndexableException("property " + name + " is annotated.");
+		}
+	}
+
+	private ExecutableElement findConstructor(TypeElement type) {
+		List<ExecutableElement> constructors = new ArrayList<>();
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (isAccessible(type, constructor) && constructor.getThrownTypes().isEmpty()) {
+				constructors.add(constructor);
+			}
+		}
+
+		for (ExecutableElement constructor : constructors) {
+			if (findConstructorProperties(constructor) != null) {
+				return constructor;
+			}
+		}
+
+		return constructors.stream()
+			.max((left, right) -> Integer.compare(left.getParameters().size(), right.getParameters().size()))
+			.orElseThrow(() -> new NotIndexableException("it has no accessible constructor."));
+	}
+
+	private List<String> getParameterNames(ExecutableElement constructor) {
+		AnnotationMirror constructorProperties = findConstructorProperties(constructor);
+		if (constructorProperties == null) {
+			List<String> parameterNames = new ArrayList<>();
+			for (VariableElement parameter : constructor.getParameters()) {
+				parameterNames.add(parameter.getSimpleName().toString());
+			}
+			return parameterNames;
+		}
+
+		List<String> parameterNames = new ArrayList<>();
+		for (AnnotationValue annotationValue : constructorProperties.getElementValues().values()) {
+			for (Object value : (List<?>)annotationValue.getValue()) {
+				parameterNames.add((String)((AnnotationValue)value).getValue());
+			}
+		}
+
+		if (parameterNames.size() != constructor.getParameters().size()) {
+			throw new NotIndexableException("@ConstructorProperties does not match the parameters.");
+		}
+		return parameterNames;
+	}
+
+	private AnnotationMirror findConstructorProperties(ExecutableElement constructor) {
+		for (AnnotationMirror annotationMirror : constructor.getAnnotationMirrors()) {
+			TypeElement annotationType = (TypeElement)annotationMirror.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().contentEquals(CONSTRUCTOR_PROPERTIES)) {
+				return annotationMirror;
+			}
+		}
+		return null;
+	}
+
+	private String findGetter(TypeElement type, String name, List<? extends Element> members) {
+		for (VariableElement field : ElementFilter.fieldsIn(members)) {
+			if (field.getSimpleName().contentEquals(name)
+				&& !field.getModifiers().contains(Modifier.STATIC)
+				&& isAccessible(type, field)) {
+				return name;
+			}
+		}
+
+		String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		List<String> getterNames = Arrays.asList("get" + capitalized, "is" + capitalized);
+		for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+			if (getterNames.contains(method.getSimpleName().toString())
+				&& method.getParameters().isEmpty()
+				&& method.getReturnType().getKind() != TypeKind.VOID
+				&& method.getThrownTypes().isEmpty()
+				&& !method.getModifiers().contains(Modifier.STATIC)
+				&& isAccessible(type, method)) {
+				return method.getSimpleName() + "()";
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The generated index is in the same package of the type, it could access the package-private members.
+	 */
+	private boolean isAccessible(TypeElement type, Element member) {
+		Set<Modifier> modifiers = member.getModifiers();
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			return true;
+		}
+
+		if (modifiers.contains(Modifier.PRIVATE)) {
+			return false;
+		}
+
+		PackageElement typePackage = processingEnv.getElementUtils().getPackageOf(type);
+		PackageElement memberPackage = processingEnv.getElementUtils().getPackageOf(member);
+		return typePackage.getQualifiedName().contentEquals(memberPackage.getQualifiedName());
+	}
+
+	private void writeSource(TypeElement type, List<IndexedPropertySource> properties) {
+		FixtureIndexSource source = new FixtureIndexSource(processingEnv, type, properties);
+		try {
+			JavaFileObject sourceFile = processingEnv.getFiler()
+				.createSourceFile(source.getQualifiedClassName(), type);
+			try (Writer writer = sourceFile.openWriter()) {
+				writer.write(source.generate());
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(
+				Kind.ERROR,
+				"Failed to write the fixture index of " + type.getQualifiedName() + ", " + ex.getMessage(),
+				type
+			);
+		}
+	}
+
+	private static String decapitalize(String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+			return name;
+		}
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private static final class NotIndexableException extends RuntimeException {
+		NotIndexableException(String message) {
+			super(message, null, false, false);
+		}
+	}
+}
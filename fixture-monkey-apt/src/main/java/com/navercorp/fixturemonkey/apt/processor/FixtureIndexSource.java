@@ -0,0 +1,199 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.processor;
+
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import com.navercorp.fixturemonkey.apt.index.FixtureIndex;
+
+/**
+ * Renders the source code of {@link FixtureIndex} of the type.
+ * All the type names are fully qualified not to import them.
+ */
+final class FixtureIndexSource {
+	private static final String INDEX_TYPE = "com.navercorp.fixturemonkey.apt.index.FixtureIndex";
+	private static final String INDEXED_PROPERTY_TYPE = "com.navercorp.fixturemonkey.apt.index.IndexedProperty";
+	private static final String PROPERTY_TYPE = "com.navercorp.fixturemonkey.api.property.Property";
+	private static final String TYPES_TYPE = "com.navercorp.fixturemonkey.api.type.Types";
+	private static final String TYPE_REFERENCE_TYPE = "com.navercorp.fixturemonkey.api.type.TypeReference";
+
+	private final ProcessingEnvironment processingEnv;
+	private final TypeElement type;
+	private final List<IndexedPropertySource> properties;
+	private final String packageName;
+	private final String className;
+
+	FixtureIndexSource(ProcessingEnvironment processingEnv, TypeElement type, List<IndexedPropertySource> properties) {
+		this.processingEnv = processingEnv;
+		this.type = type;
+		this.properties = properties;
+		this.packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		this.className = getSimpleClassName(type) + FixtureIndex.CLASS_NAME_SUFFIX;
+	}
+
+	String getQualifiedClassName() {
+		return packageName.isEmpty() ? className : packageName + "." + className;
+	}
+
+	String generate() {
+		String typeName = type.getQualifiedName().toString();
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source.append("/**\n * Generated by ").append(FixtureIndexProcessor.class.getName()).append(".\n */\n")
+			.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+			.append("public final class ").append(className)
+			.append(" implements ").append(INDEX_TYPE).append('<').append(typeName).append("> {\n");
+
+		source.append("\tprivate static final java.util.List<").append(PROPERTY_TYPE).append("> PROPERTIES =\n")
+			.append("\t\tjava.util.Collections.unmodifiableList(java.util.Arrays.<").append(PROPERTY_TYPE)
+			.append(">asList(");
+		for (int i = 0; i < properties.size(); i++) {
+			IndexedPropertySource property = properties.get(i);
+			source.append(i == 0 ? "\n" : ",\n")
+				.append("\t\t\tnew ").append(INDEXED_PROPERTY_TYPE).append("(\n")
+				.append("\t\t\t\t").append(typeName).append(".class,\n")
+				.append("\t\t\t\t\"").append(property.getName()).append("\",\n")
+				.append("\t\t\t\t").append(annotatedTypeExpression(property.getType())).append(",\n")
+				.append("\t\t\t\t").append(getterExpression(typeName, property)).append('\n')
+				.append("\t\t\t)");
+		}
+		source.append("\n\t\t));\n\n");
+
+		source.append("\t@Override\n")
+			.append("\tpublic java.lang.Class<").append(typeName).append("> getType() {\n")
+			.append("\t\treturn ").append(typeName).append(".class;\n")
+			.append("\t}\n\n");
+
+		source.append("\t@Override\n")
+			.append("\tpublic java.util.List<").append(PROPERTY_TYPE).append("> getProperties() {\n")
+			.append("\t\treturn PROPERTIES;\n")
+			.append("\t}\n\n");
+
+		source.append("\t@Override\n")
+			.append("\tpublic ").append(typeName).append(" assemble(java.lang.Object[] values) {\n")
+			.append("\t\t").append(typeName).append(" instance = new ").append(typeName).append('(');
+		boolean firstArgument = true;
+		for (int i = 0; i < properties.size(); i++) {
+			IndexedPropertySource property = properties.get(i);
+			if (!property.isConstructorParameter()) {
+				continue;
+			}
+			source.append(firstArgument ? "\n" : ",\n")
+				.append("\t\t\t").append(castExpression(property.getType(), "values[" + i + "]"));
+			firstArgument = false;
+		}
+		source.append(firstArgument ? ");\n" : "\n\t\t);\n");
+
+		for (int i = 0; i < properties.size(); i++) {
+			IndexedPropertySource property = properties.get(i);
+			if (property.isConstructorParameter()) {
+				continue;
+			}
+			source.append("\t\tif (values[").append(i).append("] != null) {\n")
+				.append("\t\t\tinstance.").append(property.getSetterName()).append('(')
+				.append(castExpression(property.getType(), "values[" + i + "]")).append(");\n")
+				.append("\t\t}\n");
+		}
+		source.append("\t\treturn instance;\n")
+			.append("\t}\n")
+			.append("}\n");
+		return source.toString();
+	}
+
+	private String annotatedTypeExpression(TypeMirror typeMirror) {
+		if (isGeneric(typeMirror)) {
+			return "new " + TYPE_REFERENCE_TYPE + "<" + typeMirror + ">() {\n\t\t\t\t}.getAnnotatedType()";
+		}
+
+		String className = typeMirror.getKind().isPrimitive()
+			? typeMirror.toString()
+			: processingEnv.getTypeUtils().erasure(typeMirror).toString();
+		return TYPES_TYPE + ".generateAnnotatedTypeWithoutAnnotation(" + className + ".class)";
+	}
+
+	private boolean isGeneric(TypeMirror typeMirror) {
+		if (typeMirror.getKind() == TypeKind.ARRAY) {
+			return isGeneric(((ArrayType)typeMirror).getComponentType());
+		}
+
+		return typeMirror.getKind() == TypeKind.DECLARED
+			&& !((DeclaredType)typeMirror).getTypeArguments().isEmpty();
+	}
+
+	private static String getterExpression(String typeName, IndexedPropertySource property) {
+		if (property.getGetterExpression() == null) {
+			return "null";
+		}
+
+		return "it -> ((" + typeName + ")it)." + property.getGetterExpression();
+	}
+
+	private String castExpression(TypeMirror typeMirror, String value) {
+		if (!typeMirror.getKind().isPrimitive()) {
+			return "(" + typeMirror + ")" + value;
+		}
+
+		String boxedType = processingEnv.getTypeUtils().boxedClass((PrimitiveType)typeMirror)
+			.getQualifiedName()
+			.toString();
+		return value + " == null ? " + defaultValue(typeMirror.getKind()) + " : (" + boxedType + ")" + value;
+	}
+
+	private static String defaultValue(TypeKind typeKind) {
+		switch (typeKind) {
+			case BOOLEAN:
+				return "false";
+			case CHAR:
+				return "'\\0'";
+			case BYTE:
+				return "(byte)0";
+			case SHORT:
+				return "(short)0";
+			case LONG:
+				return "0L";
+			case FLOAT:
+				return "0F";
+			case DOUBLE:
+				return "0D";
+			default:
+				return "0";
+		}
+	}
+
+	private static String getSimpleClassName(TypeElement type) {
+		StringBuilder simpleName = new StringBuilder(type.getSimpleName());
+		for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement;
+			enclosing = enclosing.getEnclosingElement()) {
+			simpleName.insert(0, enclosing.getSimpleName() + "_");
+		}
+		return simpleName.toString();
+	}
+}
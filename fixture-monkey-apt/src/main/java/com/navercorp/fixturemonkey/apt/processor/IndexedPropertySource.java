@@ -0,0 +1,64 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.processor;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * A property of the type to index resolved at compile time.
+ */
+final class IndexedPropertySource {
+	private final String name;
+	private final TypeMirror type;
+	private final String setterName;
+	private final String getterExpression;
+
+	/**
+	 * @param name             the name of property
+	 * @param type             the type of property
+	 * @param setterName       the name of the setter, {@code null} if it is a constructor parameter
+	 * @param getterExpression the accessible field name or getter call, {@code null} if it is not accessible
+	 */
+	IndexedPropertySource(String name, TypeMirror type, String setterName, String getterExpression) {
+		this.name = name;
+		this.type = type;
+		this.setterName = setterName;
+		this.getterExpression = getterExpression;
+	}
+
+	String getName() {
+		return name;
+	}
+
+	TypeMirror getType() {
+		return type;
+	}
+
+	String getSetterName() {
+		return setterName;
+	}
+
+	boolean isConstructorParameter() {
+		return setterName == null;
+	}
+
+	String getGetterExpression() {
+		return getterExpression;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt.property;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
+import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.apt.index.FixtureIndex;
+import com.navercorp.fixturemonkey.apt.index.FixtureIndexes;
+
+/**
+ * Generates the child properties by the generated {@link FixtureIndex} of the type without reflection.
+ * It generates by the given {@link PropertyGenerator} if the type is not indexed.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class IndexedPropertyGenerator implements PropertyGenerator {
+	private final PropertyGenerator delegate;
+
+	public IndexedPropertyGenerator(PropertyGenerator delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public List<Property> generateChildProperties(Property property) {
+		FixtureIndex<?> index = FixtureIndexes.find(Types.getActualType(property.getType()));
+		if (index == null) {
+			return delegate.generateChildProperties(property);
+		}
+
+		return index.getProperties();
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.apt.FixtureIndexTestSpecs.AnnotatedObject;
+import com.navercorp.fixturemonkey.apt.FixtureIndexTestSpecs.ConstructorObject;
+import com.navercorp.fixturemonkey.apt.FixtureIndexTestSpecs.NestedObject;
+import com.navercorp.fixturemonkey.apt.FixtureIndexTestSpecs.SetterObject;
+import com.navercorp.fixturemonkey.apt.index.FixtureIndex;
+import com.navercorp.fixturemonkey.apt.index.FixtureIndexes;
+import com.navercorp.fixturemonkey.apt.plugin.FixtureIndexPlugin;
+
+class FixtureIndexPluginTest {
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.plugin(new FixtureIndexPlugin())
+		.defaultNotNull(true)
+		.build();
+
+	@Test
+	void indexGenerated() {
+		FixtureIndex<?> actual = FixtureIndexes.find(ConstructorObject.class);
+
+		then(actual).isNotNull();
+		then(actual.getProperties().stream().map(Property::getName).collect(Collectors.toList()))
+			.containsExactly("str", "integer", "strings");
+	}
+
+	@Test
+	void annotatedTypeNotIndexed() {
+		FixtureIndex<?> actual = FixtureIndexes.find(AnnotatedObject.class);
+
+		then(actual).isNull();
+	}
+
+	@RepeatedTest(30)
+	void sampleConstructorObject() {
+		ConstructorObject actual = SUT.giveMeOne(ConstructorObject.class);
+
+		then(actual.getStr()).isNotNull();
+		then(actual.getStrings()).isNotNull();
+	}
+
+	@RepeatedTest(30)
+	void setConstructorObject() {
+		ConstructorObject actual = SUT.giveMeBuilder(ConstructorObject.class)
+			.set("str", "expected")
+			.set("integer", 1)
+			.size("strings", 2)
+			.sample();
+
+		then(actual.getStr()).isEqualTo("expected");
+		then(actual.getInteger()).isEqualTo(1);
+		then(actual.getStrings()).hasSize(2);
+	}
+
+	@RepeatedTest(30)
+	void setSetterObject() {
+		SetterObject actual = SUT.giveMeBuilder(SetterObject.class)
+			.set("str", "expected")
+			.set("value", 1L)
+			.sample();
+
+		then(actual.getStr()).isEqualTo("expected");
+		then(actual.getValue()).isEqualTo(1L);
+	}
+
+	@RepeatedTest(30)
+	void setNestedObject() {
+		ConstructorObject expected = new ConstructorObject("expected", 1, Arrays.asList("a", "b"));
+
+		NestedObject actual = SUT.giveMeBuilder(NestedObject.class)
+			.set("object", expected)
+			.sample();
+
+		then(actual.object.getStr()).isEqualTo("expected");
+		then(actual.object.getInteger()).isEqualTo(1);
+		then(actual.object.getStrings()).containsExactly("a", "b");
+	}
+
+	@RepeatedTest(30)
+	void setNestedObjectProperty() {
+		NestedObject actual = SUT.giveMeBuilder(NestedObject.class)
+			.set("object.str", "expected")
+			.sample();
+
+		then(actual.object.getStr()).isEqualTo("expected");
+	}
+
+	@RepeatedTest(30)
+	void sampleNotIndexed() {
+		AnnotatedObject actual = SUT.giveMeBuilder(AnnotatedObject.class)
+			.set("str", "expected")
+			.sample();
+
+		then(actual.getStr()).isEqualTo("expected");
+	}
+}
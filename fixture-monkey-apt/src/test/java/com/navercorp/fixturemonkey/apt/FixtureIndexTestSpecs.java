@@ -0,0 +1,102 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.apt;
+
+import java.util.List;
+
+class FixtureIndexTestSpecs {
+	@FixtureTarget
+	public static class ConstructorObject {
+		private final String str;
+		private final int integer;
+		private final List<String> strings;
+
+		public ConstructorObject(String str, int integer, List<String> strings) {
+			this.str = str;
+			this.integer = integer;
+			this.strings = strings;
+		}
+
+		public String getStr() {
+			return str;
+		}
+
+		public int getInteger() {
+			return integer;
+		}
+
+		public List<String> getStrings() {
+			return strings;
+		}
+	}
+
+	@FixtureTarget
+	public static class SetterObject {
+		private String str;
+		private long value;
+
+		public String getStr() {
+			return str;
+		}
+
+		public void setStr(String str) {
+			this.str = str;
+		}
+
+		public long getValue() {
+			return value;
+		}
+
+		public void setValue(long value) {
+			this.value = value;
+		}
+	}
+
+	@FixtureTarget
+	public static class NestedObject {
+		final ConstructorObject object;
+		private String str;
+
+		NestedObject(ConstructorObject object) {
+			this.object = object;
+		}
+
+		public String getStr() {
+			return str;
+		}
+
+		public void setStr(String str) {
+			this.str = str;
+		}
+	}
+
+	@FixtureTarget
+	public static class AnnotatedObject {
+		@Deprecated
+		private String str;
+
+		public String getStr() {
+			return str;
+		}
+
+		public void setStr(String str) {
+			this.str = str;
+		}
+	}
+}
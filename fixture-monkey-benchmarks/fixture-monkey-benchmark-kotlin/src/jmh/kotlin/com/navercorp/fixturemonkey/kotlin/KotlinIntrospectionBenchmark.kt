@@ -0,0 +1,76 @@
+package com.navercorp.fixturemonkey.kotlin
+
+import com.navercorp.fixturemonkey.FixtureMonkey
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+import kotlin.reflect.full.memberProperties
+import kotlin.reflect.full.primaryConstructor
+
+/**
+ * Measures the first introspection of the Kotlin classes in a fresh JVM,
+ * the reflection caches are populated only once in a JVM, so each measurement is a single shot of a new fork.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(20)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+open class KotlinIntrospectionBenchmark {
+    @Benchmark
+    fun introspectByKotlinReflect(blackhole: Blackhole) {
+        for (type in ORDER_SHEET_TYPES) {
+            val kotlinClass = type.kotlin
+            blackhole.consume(kotlinClass.primaryConstructor?.parameters)
+            blackhole.consume(kotlinClass.memberProperties)
+        }
+    }
+
+    @Benchmark
+    fun introspectByKotlinMetadataReader(blackhole: Blackhole) {
+        for (type in ORDER_SHEET_TYPES) {
+            blackhole.consume(KotlinMetadataReader.read(type))
+        }
+    }
+
+    @Benchmark
+    fun firstSampleByKotlinReflect(blackhole: Blackhole) {
+        val fixtureMonkey = FixtureMonkey.builder()
+            .plugin(KotlinPlugin())
+            .build()
+        blackhole.consume(fixtureMonkey.giveMeOne(KotlinOrderSheet::class.java))
+    }
+
+    @Benchmark
+    fun firstSampleByKotlinMetadataReader(blackhole: Blackhole) {
+        val fixtureMonkey = FixtureMonkey.builder()
+            .plugin(KotlinPlugin().useKotlinMetadataReader(true))
+            .build()
+        blackhole.consume(fixtureMonkey.giveMeOne(KotlinOrderSheet::class.java))
+    }
+
+    companion object {
+        private val ORDER_SHEET_TYPES = listOf(
+            KotlinOrderSheet::class.java,
+            KotlinOrderSheet.OrderSheetProduct::class.java,
+            KotlinOrderSheet.OrderSheetItem::class.java,
+            KotlinOrderSheet.OrderSheetElement::class.java,
+            KotlinOrderSheet.OrderSheetMerchant::class.java,
+            KotlinOrderSheet.OrderSheetDeliveryPolicy::class.java,
+            KotlinOrderSheet.OrderSheetDeliveryBundlePolicy::class.java,
+            KotlinOrderSheet.OrderSheetDeliveryFee::class.java,
+            KotlinOrderSheet.OrderSheetBundleDeliveryFee::class.java,
+            KotlinOrderSheet.OrderSheetRewardPointPolicy::class.java,
+        )
+    }
+}
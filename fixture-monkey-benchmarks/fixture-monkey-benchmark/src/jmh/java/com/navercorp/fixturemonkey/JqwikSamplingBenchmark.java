@@ -0,0 +1,108 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.MonkeyStringArbitrary;
+import com.navercorp.fixturemonkey.api.jqwik.ArbitraryUtils;
+
+/**
+ * Compares sampling the jqwik arbitraries by building a new generator for each value
+ * with {@link ArbitraryUtils#toCombinableArbitrary(Arbitrary)} which reuses the generator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JqwikSamplingBenchmark {
+	private static final int COUNT = 10_000;
+
+	private final Arbitrary<String> strings = new MonkeyStringArbitrary()
+		.filterCharacter(it -> !Character.isISOControl(it))
+		.ofMaxLength(255);
+	private final Arbitrary<Integer> integers = Arbitraries.integers();
+	private final Arbitrary<Long> longs = Arbitraries.longs();
+	private final Arbitrary<BigDecimal> bigDecimals = Arbitraries.bigDecimals().ofScale(2);
+
+	@Benchmark
+	public void stringsNewGenerator(Blackhole blackhole) {
+		sampleWithNewGenerator(strings, blackhole);
+	}
+
+	@Benchmark
+	public void stringsReusedGenerator(Blackhole blackhole) {
+		sampleWithReusedGenerator(strings, blackhole);
+	}
+
+	@Benchmark
+	public void integersNewGenerator(Blackhole blackhole) {
+		sampleWithNewGenerator(integers, blackhole);
+	}
+
+	@Benchmark
+	public void integersReusedGenerator(Blackhole blackhole) {
+		sampleWithReusedGenerator(integers, blackhole);
+	}
+
+	@Benchmark
+	public void longsNewGenerator(Blackhole blackhole) {
+		sampleWithNewGenerator(longs, blackhole);
+	}
+
+	@Benchmark
+	public void longsReusedGenerator(Blackhole blackhole) {
+		sampleWithReusedGenerator(longs, blackhole);
+	}
+
+	@Benchmark
+	public void bigDecimalsNewGenerator(Blackhole blackhole) {
+		sampleWithNewGenerator(bigDecimals, blackhole);
+	}
+
+	@Benchmark
+	public void bigDecimalsReusedGenerator(Blackhole blackhole) {
+		sampleWithReusedGenerator(bigDecimals, blackhole);
+	}
+
+	private static <T> void sampleWithNewGenerator(Arbitrary<T> arbitrary, Blackhole blackhole) {
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(ArbitraryUtils.newThreadSafeArbitrary(arbitrary).sample());
+		}
+	}
+
+	private static <T> void sampleWithReusedGenerator(Arbitrary<T> arbitrary, Blackhole blackhole) {
+		CombinableArbitrary<T> combinableArbitrary = ArbitraryUtils.toCombinableArbitrary(arbitrary);
+		for (int i = 0; i < COUNT; i++) {
+			blackhole.consume(combinableArbitrary.combined());
+		}
+	}
+}
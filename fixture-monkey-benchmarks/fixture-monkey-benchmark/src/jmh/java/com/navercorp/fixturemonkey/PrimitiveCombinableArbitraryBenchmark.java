@@ -0,0 +1,120 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.IntegerCombinableArbitrary;
+import com.navercorp.fixturemonkey.api.constraint.JavaConstraintGenerator;
+import com.navercorp.fixturemonkey.api.engine.NativeJavaTypeArbitraryGeneratorSet;
+
+/**
+ * Compares assembling the primitive arrays from the elements generated by the boxing
+ * {@link CombinableArbitrary#combined()} with the primitive accessors
+ * such as {@link IntegerCombinableArbitrary#nextInt()}.
+ * The elements are generated by the native engine, the jqwik engine boxes the values by itself.
+ * Run it with the GC profiler, {@code -prof gc}, to compare the allocation per generated array.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PrimitiveCombinableArbitraryBenchmark {
+	private static final int SIZE = 1_000;
+
+	private CombinableArbitrary<Object> boxedIntArray;
+	private CombinableArbitrary<Object> intArray;
+	private CombinableArbitrary<Object> boxedDoubleArray;
+	private CombinableArbitrary<Object> doubleArray;
+
+	@Setup
+	public void setUp() {
+		NativeJavaTypeArbitraryGeneratorSet generatorSet =
+			new NativeJavaTypeArbitraryGeneratorSet(JavaConstraintGenerator.DEFAULT_JAVA_CONSTRAINT_GENERATOR);
+		List<CombinableArbitrary<?>> integers = new ArrayList<>(SIZE);
+		List<CombinableArbitrary<?>> doubles = new ArrayList<>(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			integers.add(generatorSet.integers(null).injectNull(0.0d));
+			doubles.add(generatorSet.doubles(null).injectNull(0.0d));
+		}
+
+		boxedIntArray = boxedArray(integers, int.class);
+		intArray = CombinableArbitrary.containerBuilder().elements(integers).buildPrimitiveArray(int.class);
+		boxedDoubleArray = boxedArray(doubles, double.class);
+		doubleArray = CombinableArbitrary.containerBuilder().elements(doubles).buildPrimitiveArray(double.class);
+	}
+
+	@Benchmark
+	public void intArrayBoxed(Blackhole blackhole) {
+		blackhole.consume(boxedIntArray.combined());
+	}
+
+	@Benchmark
+	public void intArray(Blackhole blackhole) {
+		blackhole.consume(intArray.combined());
+	}
+
+	@Benchmark
+	public void doubleArrayBoxed(Blackhole blackhole) {
+		blackhole.consume(boxedDoubleArray.combined());
+	}
+
+	@Benchmark
+	public void doubleArray(Blackhole blackhole) {
+		blackhole.consume(doubleArray.combined());
+	}
+
+	@Benchmark
+	public void resolveProvider(Blackhole blackhole) {
+		for (int i = 0; i < SIZE; i++) {
+			blackhole.consume(CombinableArbitrary.integers());
+		}
+	}
+
+	/**
+	 * Assembles the array the way before the primitive accessors, it sets the combined values reflectively.
+	 */
+	private static CombinableArbitrary<Object> boxedArray(
+		List<CombinableArbitrary<?>> elements,
+		Class<?> componentType
+	) {
+		return CombinableArbitrary.containerBuilder()
+			.elements(elements)
+			.build(values -> {
+				Object array = Array.newInstance(componentType, values.size());
+				for (int i = 0; i < values.size(); i++) {
+					Array.set(array, i, values.get(i));
+				}
+				return array;
+			});
+	}
+}
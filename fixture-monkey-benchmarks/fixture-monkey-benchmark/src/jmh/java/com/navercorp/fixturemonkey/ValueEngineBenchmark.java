@@ -0,0 +1,111 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.navercorp.fixturemonkey.api.engine.NativeEnginePlugin;
+import com.navercorp.fixturemonkey.api.jqwik.JqwikPlugin;
+import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin;
+
+/**
+ * Compares the value engines per type, jqwik is the default engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ValueEngineBenchmark {
+	private static final int COUNT = 500;
+
+	@Param({"jqwik", "native"})
+	private String engine;
+
+	private FixtureMonkey sut;
+
+	@Setup
+	public void setUp() {
+		FixtureMonkeyBuilder builder = FixtureMonkey.builder()
+			.plugin(new JavaxValidationPlugin())
+			.defaultNotNull(true);
+
+		if ("native".equals(engine)) {
+			builder.plugin(new NativeEnginePlugin());
+		} else {
+			builder.plugin(new JqwikPlugin());
+		}
+		sut = builder.build();
+	}
+
+	@Benchmark
+	public void strings(Blackhole blackhole) {
+		blackhole.consume(sample(String.class));
+	}
+
+	@Benchmark
+	public void integers(Blackhole blackhole) {
+		blackhole.consume(sample(Integer.class));
+	}
+
+	@Benchmark
+	public void longs(Blackhole blackhole) {
+		blackhole.consume(sample(Long.class));
+	}
+
+	@Benchmark
+	public void doubles(Blackhole blackhole) {
+		blackhole.consume(sample(Double.class));
+	}
+
+	@Benchmark
+	public void bigDecimals(Blackhole blackhole) {
+		blackhole.consume(sample(BigDecimal.class));
+	}
+
+	@Benchmark
+	public void localDateTimes(Blackhole blackhole) {
+		blackhole.consume(sample(LocalDateTime.class));
+	}
+
+	@Benchmark
+	public void orderSheets(Blackhole blackhole) {
+		blackhole.consume(sample(OrderSheet.class));
+	}
+
+	private <T> List<T> sample(Class<T> type) {
+		List<T> result = new ArrayList<>(COUNT);
+		for (int i = 0; i < COUNT; i++) {
+			result.add(sut.giveMeOne(type));
+		}
+		return result;
+	}
+}
@@ -12,6 +12,7 @@ dependencies {
     testAnnotationProcessor(libs.lombok)
 
     testImplementation(projects.fixtureMonkey)
+    testImplementation(libs.assertj.core)
     testImplementation(libs.lombok)
     implementation(libs.kotlin.stdlib.jdk8)
 }
@@ -0,0 +1,36 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.datafaker.arbitrary
+
+import com.navercorp.fixturemonkey.api.random.DelegatingRandom
+import com.navercorp.fixturemonkey.api.random.Randoms
+import net.datafaker.Faker
+import net.datafaker.service.RandomService
+import java.util.Locale
+
+/**
+ * Provides the [Faker]s of each locale, they are created once per thread since loading the dictionaries is costly.
+ * The randomness of the [Faker]s comes from [Randoms], so the values are reproducible by the seed of Fixture Monkey.
+ */
+internal object Fakers {
+    private val FAKERS_BY_LOCALE: ThreadLocal<MutableMap<Locale, Faker>> = ThreadLocal.withInitial { HashMap() }
+
+    fun get(locale: Locale): Faker =
+        FAKERS_BY_LOCALE.get().getOrPut(locale) { Faker(locale, RandomService(DelegatingRandom.INSTANCE)) }
+}
@@ -0,0 +1,71 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.datafaker.introspector
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache
+import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.datafaker.arbitrary.DataFakerStringArbitrary
+
+/**
+ * The kind of the string generated by Datafaker, it is classified by the name of the property.
+ * The keywords are checked in the order of declaration, for example, `userName` is [NAME].
+ */
+internal enum class DataFakerFieldType(private val keywords: List<String>) {
+    NAME(listOf("name")),
+    ADDRESS(listOf("address", "city")),
+    EMAIL(listOf("email")),
+    PHONE(listOf("phone")),
+    CREDIT_CARD(listOf("creditcard")),
+    NONE(emptyList()),
+    ;
+
+    @Suppress("UNCHECKED_CAST")
+    fun arbitrary(): CombinableArbitrary<*> = when (this) {
+        NAME -> DataFakerStringArbitrary.name() as CombinableArbitrary<*>
+        ADDRESS -> DataFakerStringArbitrary.address() as CombinableArbitrary<*>
+        EMAIL -> DataFakerStringArbitrary.internet() as CombinableArbitrary<*>
+        PHONE -> DataFakerStringArbitrary.phoneNumber() as CombinableArbitrary<*>
+        CREDIT_CARD -> DataFakerStringArbitrary.finance() as CombinableArbitrary<*>
+        NONE -> error("No DataFaker arbitrary found for $this")
+    }
+
+    companion object {
+        private val FIELD_TYPES_BY_NAME = ConcurrentLruCache<String, DataFakerFieldType>(2048)
+
+        /**
+         * Returns the classification of the given property, it is computed once per property name.
+         * It is not cached by the property, since the properties of the same type may be equal regardless of the name.
+         */
+        fun of(property: Property): DataFakerFieldType {
+            val fieldName = property.name ?: return NONE
+            if (Types.getActualType(property.type) != String::class.java) {
+                return NONE
+            }
+
+            return FIELD_TYPES_BY_NAME.computeIfAbsent(fieldName) { classify(it) }
+        }
+
+        private fun classify(fieldName: String): DataFakerFieldType {
+            val lowerCaseFieldName = fieldName.lowercase()
+            return values().firstOrNull { type -> type.keywords.any { lowerCaseFieldName.contains(it) } } ?: NONE
+        }
+    }
+}
@@ -19,9 +19,13 @@
 package com.navercorp.fixturemonkey.datafaker.property
 
 import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.datafaker.introspector.DataFakerFieldType
 
+/**
+ * A property generated by Datafaker, it is equal only to itself so that its values are not cached.
+ */
 class DataFakerStringProperty(private val originalProperty: Property) : Property {
-    private val uniqueId = System.nanoTime().toString() + Math.random().toString()
+    internal val fieldType: DataFakerFieldType = DataFakerFieldType.of(originalProperty)
 
     override fun getType() = originalProperty.type
     override fun getAnnotatedType() = originalProperty.annotatedType
@@ -30,13 +34,10 @@ class DataFakerStringProperty(private val originalProperty: Property) : Property
     override fun getValue(instance: Any?) = originalProperty.getValue(instance)
     override fun isNullable() = originalProperty.isNullable
 
-    override fun hashCode(): Int = uniqueId.hashCode()
+    override fun hashCode(): Int = System.identityHashCode(this)
 
-    override fun equals(other: Any?): Boolean {
-        if (this === other) return true
-        if (other !is DataFakerStringProperty) return false
-        return uniqueId == other.uniqueId
-    }
+    override fun equals(other: Any?): Boolean = this === other
 
-    override fun toString(): String = "DataFakerNonCacheable(${originalProperty.name}:$uniqueId)"
+    override fun toString(): String =
+        "DataFakerNonCacheable(${originalProperty.name}:${Integer.toHexString(System.identityHashCode(this))})"
 }
@@ -0,0 +1,94 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.datafaker.arbitrary
+
+import com.navercorp.fixturemonkey.api.random.Randoms
+import net.jqwik.api.Example
+import org.assertj.core.api.BDDAssertions.then
+import java.util.Locale
+import java.util.concurrent.Executors
+
+class FakersTest {
+    @Example
+    fun sameSeedGeneratesSameValues() {
+        // given
+        Randoms.newGlobalSeed(SEED)
+        val expected = List(SAMPLE_COUNT) { DataFakerStringArbitrary.name().fullName() }
+
+        // when
+        Randoms.newGlobalSeed(SEED)
+        val actual = List(SAMPLE_COUNT) { DataFakerStringArbitrary.name().fullName() }
+
+        // then
+        then(actual).isEqualTo(expected)
+    }
+
+    @Example
+    fun fakerCachedPerLocale() {
+        // when
+        val actual = Fakers.get(Locale.ENGLISH)
+
+        // then
+        then(actual).isSameAs(Fakers.get(Locale.ENGLISH))
+        then(actual).isNotSameAs(Fakers.get(Locale.KOREAN))
+    }
+
+    @Example
+    fun fakerNotSharedBetweenThreads() {
+        // given
+        val executor = Executors.newSingleThreadExecutor()
+
+        try {
+            // when
+            val actual = executor.submit<Any> { Fakers.get(Locale.ENGLISH) }.get()
+
+            // then
+            then(actual).isNotSameAs(Fakers.get(Locale.ENGLISH))
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+    @Example
+    fun sameSeedGeneratesSameValuesInAnotherThread() {
+        // given
+        val executor = Executors.newSingleThreadExecutor()
+        Randoms.newGlobalSeed(SEED)
+        val expected = List(SAMPLE_COUNT) { DataFakerStringArbitrary.name().fullName() }
+
+        try {
+            // when
+            val actual = executor.submit<List<String>> {
+                Randoms.newGlobalSeed(SEED)
+                List(SAMPLE_COUNT) { DataFakerStringArbitrary.name().fullName() }
+            }.get()
+
+            // then
+            then(actual).isEqualTo(expected)
+        } finally {
+            executor.shutdown()
+        }
+    }
+
+    companion object {
+        private const val SEED = 12345L
+        private const val SAMPLE_COUNT = 10
+    }
+}
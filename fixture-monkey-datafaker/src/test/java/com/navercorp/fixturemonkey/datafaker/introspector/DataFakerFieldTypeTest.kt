@@ -0,0 +1,82 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.datafaker.introspector
+
+import com.navercorp.fixturemonkey.api.property.FieldProperty
+import net.jqwik.api.Example
+import org.assertj.core.api.BDDAssertions.then
+
+class DataFakerFieldTypeTest {
+    @Example
+    fun name() {
+        then(fieldTypeOf("userName")).isEqualTo(DataFakerFieldType.NAME)
+    }
+
+    @Example
+    fun address() {
+        then(fieldTypeOf("homeAddress")).isEqualTo(DataFakerFieldType.ADDRESS)
+        then(fieldTypeOf("city")).isEqualTo(DataFakerFieldType.ADDRESS)
+    }
+
+    @Example
+    fun email() {
+        then(fieldTypeOf("email")).isEqualTo(DataFakerFieldType.EMAIL)
+    }
+
+    @Example
+    fun phone() {
+        then(fieldTypeOf("phoneNumber")).isEqualTo(DataFakerFieldType.PHONE)
+    }
+
+    @Example
+    fun creditCard() {
+        then(fieldTypeOf("creditCardNumber")).isEqualTo(DataFakerFieldType.CREDIT_CARD)
+    }
+
+    @Example
+    fun keywordInDeclaredOrder() {
+        then(fieldTypeOf("cityName")).isEqualTo(DataFakerFieldType.NAME)
+    }
+
+    @Example
+    fun noKeyword() {
+        then(fieldTypeOf("description")).isEqualTo(DataFakerFieldType.NONE)
+    }
+
+    @Example
+    fun notString() {
+        then(fieldTypeOf("name")).isEqualTo(DataFakerFieldType.NONE)
+    }
+
+    private fun fieldTypeOf(fieldName: String): DataFakerFieldType =
+        DataFakerFieldType.of(FieldProperty(DataFakerFieldTypeSpec::class.java.getDeclaredField(fieldName)))
+
+    class DataFakerFieldTypeSpec(
+        val userName: String,
+        val homeAddress: String,
+        val city: String,
+        val email: String,
+        val phoneNumber: String,
+        val creditCardNumber: String,
+        val cityName: String,
+        val description: String,
+        val name: Int,
+    )
+}
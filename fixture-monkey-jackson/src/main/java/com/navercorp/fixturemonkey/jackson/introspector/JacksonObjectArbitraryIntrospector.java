@@ -26,6 +26,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -42,8 +43,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryProperty;
+import com.navercorp.fixturemonkey.api.generator.ObjectProperty;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
 import com.navercorp.fixturemonkey.api.property.CompositeProperty;
@@ -82,56 +85,52 @@ public final class JacksonObjectArbitraryIntrospector implements ArbitraryIntros
 			new JacksonCombinableArbitrary<>(
 				CombinableArbitrary.objectBuilder()
 					.properties(context.getCombinableArbitrariesByArbitraryProperty())
-					.build(combineAsJson(property)),
+					.buildBySlots(combineAsJson(property)),
 				map -> objectMapper.convertValue(map, type)
 			)
 		);
 	}
 
 	@SuppressWarnings("unchecked")
-	private Function<Map<ArbitraryProperty, Object>, Object> combineAsJson(Property property) {
-		return propertyValuesByArbitraryProperty -> {
-			Map<String, Object> map = initializeMap(property);
-
-			propertyValuesByArbitraryProperty.entrySet()
-				.stream()
-				.filter(it -> isJacksonSerializableProperty(it.getKey().getObjectProperty().getProperty()))
-				.forEach(
-					entry -> {
-						ArbitraryProperty arbitraryProperty = entry.getKey();
-						Object value = entry.getValue();
-
-						String resolvePropertyName = arbitraryProperty.getObjectProperty()
-							.getResolvedPropertyName();
-
-						if (value != null) {
-							Object jsonFormatted = arbitraryProperty.getObjectProperty()
-								.getProperty()
-								.getAnnotation(JsonFormat.class)
-								.map(it -> format(value, it))
-								.orElse(value);
-
-							JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property,
-								JsonTypeInfo.class);
-							if (jsonTypeInfo == null) {
-								map.put(resolvePropertyName, jsonFormatted);
-							} else {
-								if (jsonTypeInfo.include() == As.WRAPPER_OBJECT) {
-									String typeIdentifier = getJsonTypeInfoIdentifier(
-										jsonTypeInfo,
-										property
-									);
-
-									Map<String, Object> typeJson =
-										(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
-									typeJson.put(resolvePropertyName, jsonFormatted);
-									map.put(typeIdentifier, typeJson);
-								}
-							}
-						}
+	private Function<List<ArbitraryProperty>, SlotCombinator<Object>> combineAsJson(Property property) {
+		return slots -> {
+			JsonTypeInfo jsonTypeInfo = getJacksonAnnotation(property, JsonTypeInfo.class);
+			String typeIdentifier = jsonTypeInfo != null && jsonTypeInfo.include() == As.WRAPPER_OBJECT
+				? getJsonTypeInfoIdentifier(jsonTypeInfo, property)
+				: null;
+
+			String[] resolvedPropertyNames = new String[slots.size()];
+			JsonFormat[] jsonFormats = new JsonFormat[slots.size()];
+			for (int i = 0; i < slots.size(); i++) {
+				ObjectProperty objectProperty = slots.get(i).getObjectProperty();
+				if (!isJacksonSerializableProperty(objectProperty.getProperty())) {
+					continue;
+				}
+				resolvedPropertyNames[i] = objectProperty.getResolvedPropertyName();
+				jsonFormats[i] = objectProperty.getProperty().getAnnotation(JsonFormat.class).orElse(null);
+			}
+
+			return values -> {
+				Map<String, Object> map = initializeMap(property);
+				for (int i = 0; i < values.length; i++) {
+					String resolvedPropertyName = resolvedPropertyNames[i];
+					Object value = values[i];
+					if (resolvedPropertyName == null || value == null) {
+						continue;
 					}
-				);
-			return map;
+
+					Object jsonFormatted = jsonFormats[i] == null ? value : format(value, jsonFormats[i]);
+					if (jsonTypeInfo == null) {
+						map.put(resolvedPropertyName, jsonFormatted);
+					} else if (typeIdentifier != null) {
+						Map<String, Object> typeJson =
+							(Map<String, Object>)map.getOrDefault(typeIdentifier, new HashMap<>());
+						typeJson.put(resolvedPropertyName, jsonFormatted);
+						map.put(typeIdentifier, typeJson);
+					}
+				}
+				return map;
+			};
 		};
 	}
 
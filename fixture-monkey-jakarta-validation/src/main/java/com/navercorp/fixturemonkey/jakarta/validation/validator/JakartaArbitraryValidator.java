@@ -18,7 +18,16 @@
 
 package com.navercorp.fixturemonkey.jakarta.validation.validator;
 
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
@@ -28,13 +37,46 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
 
 import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
 import com.navercorp.fixturemonkey.api.validator.ArbitraryValidator;
 
 @API(since = "0.5.6", status = Status.MAINTAINED)
 public final class JakartaArbitraryValidator implements ArbitraryValidator {
+	/**
+	 * The numeric constraints are not guaranteed on a {@link CharSequence} property,
+	 * the string generated for it does not reflect them.
+	 */
+	private static final Set<Class<? extends Annotation>> NUMERIC_CONSTRAINT_TYPES = Collections.unmodifiableSet(
+		new HashSet<>(
+			Arrays.asList(
+				Min.class,
+				Max.class,
+				DecimalMin.class,
+				DecimalMax.class,
+				Positive.class,
+				PositiveOrZero.class,
+				Negative.class,
+				NegativeOrZero.class
+			)
+		)
+	);
+
 	private Validator validator;
+	private final Map<Class<?>, ValidationPlan> validationPlansByType = new ConcurrentHashMap<>();
+	private volatile Set<Class<? extends Annotation>> plannedGuaranteedConstraintTypes = Collections.emptySet();
 
 	public JakartaArbitraryValidator() {
 		try {
@@ -47,19 +89,165 @@ public final class JakartaArbitraryValidator implements ArbitraryValidator {
 	@Override
 	public void validate(Object arbitrary) {
 		if (this.validator != null) {
-			Set<ConstraintViolation<Object>> violations = this.validator.validate(arbitrary);
-
-			Set<String> constraintViolationPropertyNames = violations.stream()
-				.map(ConstraintViolation::getPropertyPath)
-				.map(Path::toString)
-				.collect(Collectors.toSet());
-
-			if (!violations.isEmpty()) {
-				throw new ValidationFailedException(
-					"DefaultArbitraryValidator ConstraintViolations. type: " + arbitrary.getClass(),
-					constraintViolationPropertyNames
-				);
+			throwIfViolated(arbitrary, this.validator.validate(arbitrary));
+		}
+	}
+
+	/**
+	 * Validates only the properties having a constraint not in {@code guaranteedConstraintTypes}
+	 * by {@link Validator#validateProperty(Object, String, Class[])}.
+	 * It validates the whole object if it has a class-level constraint or a cascaded property
+	 * which may not be valid, and skips the validation if all the constraints are guaranteed.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	@Override
+	public void validate(Object arbitrary, Set<Class<? extends Annotation>> guaranteedConstraintTypes) {
+		if (this.validator == null) {
+			return;
+		}
+
+		if (guaranteedConstraintTypes.isEmpty()) {
+			validate(arbitrary);
+			return;
+		}
+
+		ValidationPlan validationPlan = getValidationPlan(arbitrary.getClass(), guaranteedConstraintTypes);
+		if (validationPlan.isFull()) {
+			validate(arbitrary);
+			return;
+		}
+
+		for (String propertyName : validationPlan.getPropertyNames()) {
+			throwIfViolated(arbitrary, this.validator.validateProperty(arbitrary, propertyName));
+		}
+	}
+
+	private ValidationPlan getValidationPlan(
+		Class<?> type,
+		Set<Class<? extends Annotation>> guaranteedConstraintTypes
+	) {
+		if (!guaranteedConstraintTypes.equals(plannedGuaranteedConstraintTypes)) {
+			validationPlansByType.clear();
+			plannedGuaranteedConstraintTypes = guaranteedConstraintTypes;
+		}
+
+		return validationPlansByType.computeIfAbsent(
+			type,
+			it -> newValidationPlan(it, guaranteedConstraintTypes, new HashSet<>())
+		);
+	}
+
+	private ValidationPlan newValidationPlan(
+		Class<?> type,
+		Set<Class<? extends Annotation>> guaranteedConstraintTypes,
+		Set<Class<?>> visitedTypes
+	) {
+		BeanDescriptor beanDescriptor = this.validator.getConstraintsForClass(type);
+		if (!beanDescriptor.isBeanConstrained()) {
+			return ValidationPlan.SKIP;
+		}
+
+		if (!visitedTypes.add(type)
+			|| !isGuaranteed(beanDescriptor.getConstraintDescriptors(), guaranteedConstraintTypes, type)) {
+			return ValidationPlan.FULL;
+		}
+
+		List<String> propertyNames = new ArrayList<>();
+		for (PropertyDescriptor propertyDescriptor : beanDescriptor.getConstrainedProperties()) {
+			Class<?> elementClass = propertyDescriptor.getElementClass();
+			if (propertyDescriptor.isCascaded()
+				&& !isGuaranteedCascade(elementClass, guaranteedConstraintTypes, visitedTypes)) {
+				return ValidationPlan.FULL;
+			}
+
+			boolean guaranteed = isGuaranteed(
+				propertyDescriptor.getConstraintDescriptors(),
+				guaranteedConstraintTypes,
+				elementClass
+			);
+			for (ContainerElementTypeDescriptor elementDescriptor
+				: propertyDescriptor.getConstrainedContainerElementTypes()) {
+				if (elementDescriptor.isCascaded()
+					|| !elementDescriptor.getConstrainedContainerElementTypes().isEmpty()) {
+					return ValidationPlan.FULL;
+				}
+				guaranteed = false;
 			}
+
+			if (!guaranteed) {
+				propertyNames.add(propertyDescriptor.getPropertyName());
+			}
+		}
+		return propertyNames.isEmpty() ? ValidationPlan.SKIP : new ValidationPlan(false, propertyNames);
+	}
+
+	/**
+	 * The elements of a cascaded container are not guaranteed, the container type has no constraints of its elements.
+	 */
+	private boolean isGuaranteedCascade(
+		Class<?> type,
+		Set<Class<? extends Annotation>> guaranteedConstraintTypes,
+		Set<Class<?>> visitedTypes
+	) {
+		if (type.isArray()
+			|| Iterable.class.isAssignableFrom(type)
+			|| Map.class.isAssignableFrom(type)
+			|| Optional.class.isAssignableFrom(type)) {
+			return false;
+		}
+		return newValidationPlan(type, guaranteedConstraintTypes, visitedTypes) == ValidationPlan.SKIP;
+	}
+
+	private static boolean isGuaranteed(
+		Set<ConstraintDescriptor<?>> constraintDescriptors,
+		Set<Class<? extends Annotation>> guaranteedConstraintTypes,
+		Class<?> constrainedType
+	) {
+		boolean charSequence = CharSequence.class.isAssignableFrom(constrainedType);
+		for (ConstraintDescriptor<?> constraintDescriptor : constraintDescriptors) {
+			Class<? extends Annotation> annotationType = constraintDescriptor.getAnnotation().annotationType();
+			if (!guaranteedConstraintTypes.contains(annotationType)
+				|| (charSequence && NUMERIC_CONSTRAINT_TYPES.contains(annotationType))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void throwIfViolated(Object arbitrary, Set<ConstraintViolation<Object>> violations) {
+		if (violations.isEmpty()) {
+			return;
+		}
+
+		Set<String> constraintViolationPropertyNames = violations.stream()
+			.map(ConstraintViolation::getPropertyPath)
+			.map(Path::toString)
+			.collect(Collectors.toSet());
+
+		throw new ValidationFailedException(
+			"DefaultArbitraryValidator ConstraintViolations. type: " + arbitrary.getClass(),
+			constraintViolationPropertyNames
+		);
+	}
+
+	private static final class ValidationPlan {
+		private static final ValidationPlan SKIP = new ValidationPlan(false, Collections.emptyList());
+		private static final ValidationPlan FULL = new ValidationPlan(true, Collections.emptyList());
+
+		private final boolean full;
+		private final List<String> propertyNames;
+
+		private ValidationPlan(boolean full, List<String> propertyNames) {
+			this.full = full;
+			this.propertyNames = propertyNames;
+		}
+
+		private boolean isFull() {
+			return full;
+		}
+
+		private List<String> getPropertyNames() {
+			return propertyNames;
 		}
 	}
 }
@@ -42,7 +42,9 @@ import java.util.regex.Pattern;
 import net.jqwik.api.Property;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult;
 import com.navercorp.fixturemonkey.jakarta.validation.plugin.JakartaValidationPlugin;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.BigDecimalIntrospectorSpec;
 import com.navercorp.fixturemonkey.jakarta.validation.spec.BigIntegerIntrospectorSpec;
@@ -485,4 +487,32 @@ class JakartaValidationFixtureMonkeyTest {
 			.isExactlyInstanceOf(RetryableFilterMissException.class)
 			.hasMessageContaining("failed due to property \"not");
 	}
+
+	@Property(tries = 1)
+	void setNotValidValueForGuaranteedConstraint() {
+		thenThrownBy(
+			() -> SUT.giveMeBuilder(StringIntrospectorSpec.class)
+				.set("size", "a")
+				.sample()
+		)
+			.getCause()
+			.isExactlyInstanceOf(RetryableFilterMissException.class)
+			.hasMessageContaining("size");
+	}
+
+	@Property(tries = 1)
+	void optionsIntrospectorValueValidated() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new JakartaValidationPlugin())
+			.pushExactTypeArbitraryIntrospector(
+				IntIntrospectorSpec.class,
+				context -> new ArbitraryIntrospectorResult(CombinableArbitrary.from(IntIntrospectorSpec::new))
+			)
+			.build();
+
+		thenThrownBy(() -> sut.giveMeOne(IntIntrospectorSpec.class))
+			.getCause()
+			.isExactlyInstanceOf(RetryableFilterMissException.class)
+			.hasMessageContaining("minValue");
+	}
 }
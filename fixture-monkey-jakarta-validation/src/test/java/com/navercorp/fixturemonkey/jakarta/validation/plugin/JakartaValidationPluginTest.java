@@ -0,0 +1,90 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.jakarta.validation.plugin;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.engine.NativeJavaTimeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.engine.NativeJavaTypeArbitraryGeneratorSet;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptionsBuilder;
+
+class JakartaValidationPluginTest {
+	@Test
+	void guaranteedConstraintTypes() {
+		// when
+		Set<Class<? extends Annotation>> actual = optionsBuilder().build().getGuaranteedConstraintTypes();
+
+		then(actual).isNotEmpty();
+	}
+
+	@Test
+	void objectIntrospectorNotGuaranteed() {
+		// when
+		Set<Class<? extends Annotation>> actual = optionsBuilder()
+			.objectIntrospector(it -> FieldReflectionArbitraryIntrospector.INSTANCE)
+			.build()
+			.getGuaranteedConstraintTypes();
+
+		then(actual).isEmpty();
+	}
+
+	@Test
+	void javaTypeArbitraryGeneratorSetNotGuaranteed() {
+		// when
+		Set<Class<? extends Annotation>> actual = optionsBuilder()
+			.javaTypeArbitraryGeneratorSet(NativeJavaTypeArbitraryGeneratorSet::new)
+			.build()
+			.getGuaranteedConstraintTypes();
+
+		then(actual).isEmpty();
+	}
+
+	@Test
+	void javaTimeArbitraryGeneratorSetNotGuaranteed() {
+		// when
+		Set<Class<? extends Annotation>> actual = optionsBuilder()
+			.javaTimeArbitraryGeneratorSet(NativeJavaTimeArbitraryGeneratorSet::new)
+			.build()
+			.getGuaranteedConstraintTypes();
+
+		then(actual).isEmpty();
+	}
+
+	@Test
+	void defaultNullInjectGeneratorNotGuaranteed() {
+		// when
+		Set<Class<? extends Annotation>> actual = optionsBuilder()
+			.defaultNullInjectGenerator(context -> 1.0d)
+			.build()
+			.getGuaranteedConstraintTypes();
+
+		then(actual).isEmpty();
+	}
+
+	private static FixtureMonkeyOptionsBuilder optionsBuilder() {
+		return FixtureMonkeyOptions.builder().plugin(new JakartaValidationPlugin());
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.fixturemonkey.jakarta.validation.validator;
+
+import static org.assertj.core.api.BDDAssertions.thenNoException;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
+import com.navercorp.fixturemonkey.jakarta.validation.introspector.JakartaValidationConstraintGenerator;
+
+class JakartaArbitraryValidatorTest {
+	private static final Set<Class<? extends Annotation>> GUARANTEED_CONSTRAINT_TYPES =
+		new JakartaValidationConstraintGenerator().getGuaranteedConstraintTypes();
+
+	private final JakartaArbitraryValidator validator = new JakartaArbitraryValidator();
+
+	@Test
+	void validateGuaranteedConstraintSkipped() {
+		SizeObject sizeObject = new SizeObject("abc");
+
+		thenNoException().isThrownBy(() -> validator.validate(sizeObject, GUARANTEED_CONSTRAINT_TYPES));
+	}
+
+	@Test
+	void validateWithoutGuaranteedConstraint() {
+		SizeObject sizeObject = new SizeObject("abc");
+
+		thenThrownBy(() -> validator.validate(sizeObject))
+			.isExactlyInstanceOf(ValidationFailedException.class);
+	}
+
+	@Test
+	void validateNotGuaranteedProperty() {
+		PatternObject patternObject = new PatternObject("abc", "abc");
+
+		thenThrownBy(() -> validator.validate(patternObject, GUARANTEED_CONSTRAINT_TYPES))
+			.isExactlyInstanceOf(ValidationFailedException.class);
+	}
+
+	@Test
+	void validateCascadedNotGuaranteedProperty() {
+		CascadeObject cascadeObject = new CascadeObject(new PatternObject("a", "abc"));
+
+		thenThrownBy(() -> validator.validate(cascadeObject, GUARANTEED_CONSTRAINT_TYPES))
+			.isExactlyInstanceOf(ValidationFailedException.class);
+	}
+
+	@Test
+	void validateGuaranteedCascadedProperty() {
+		CascadeSizeObject cascadeSizeObject = new CascadeSizeObject(new SizeObject("abc"));
+
+		thenNoException().isThrownBy(() -> validator.validate(cascadeSizeObject, GUARANTEED_CONSTRAINT_TYPES));
+	}
+
+	@Test
+	void validateChangedGuaranteedConstraintTypes() {
+		SizeObject sizeObject = new SizeObject("abc");
+		validator.validate(sizeObject, GUARANTEED_CONSTRAINT_TYPES);
+
+		thenThrownBy(() -> validator.validate(sizeObject, new HashSet<>(Arrays.asList(Pattern.class))))
+			.isExactlyInstanceOf(ValidationFailedException.class);
+	}
+
+	@Test
+	void validateNumericConstraintOnCharSequence() {
+		MaxStringObject maxStringObject = new MaxStringObject("10");
+
+		thenThrownBy(() -> validator.validate(maxStringObject, GUARANTEED_CONSTRAINT_TYPES))
+			.isExactlyInstanceOf(ValidationFailedException.class);
+	}
+
+	@Test
+	void validateNumericConstraintSkipped() {
+		MaxIntObject maxIntObject = new MaxIntObject(10);
+
+		thenNoException().isThrownBy(() -> validator.validate(maxIntObject, GUARANTEED_CONSTRAINT_TYPES));
+	}
+
+	static class SizeObject {
+		@Size(max = 1)
+		private final String value;
+
+		SizeObject(String value) {
+			this.value = value;
+		}
+	}
+
+	static class PatternObject {
+		@Size(max = 1)
+		private final String size;
+
+		@Pattern(regexp = "[0-9]+")
+		private final String pattern;
+
+		PatternObject(String size, String pattern) {
+			this.size = size;
+			this.pattern = pattern;
+		}
+	}
+
+	static class CascadeObject {
+		@Valid
+		private final PatternObject value;
+
+		CascadeObject(PatternObject value) {
+			this.value = value;
+		}
+	}
+
+	static class CascadeSizeObject {
+		@Valid
+		private final SizeObject value;
+
+		CascadeSizeObject(SizeObject value) {
+			this.value = value;
+		}
+	}
+
+	static class MaxStringObject {
+		@Max(5)
+		private final String value;
+
+		MaxStringObject(String value) {
+			this.value = value;
+		}
+	}
+
+	static class MaxIntObject {
+		@Max(5)
+		private final int value;
+
+		MaxIntObject(int value) {
+			this.value = value;
+		}
+	}
+}
@@ -18,12 +18,16 @@
 
 package com.navercorp.fixturemonkey.javax.validation.introspector;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import javax.validation.constraints.DecimalMax;
@@ -62,6 +66,31 @@ import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 public final class JavaxValidationConstraintGenerator implements JavaConstraintGenerator {
+	/**
+	 * The constraints are satisfied by the constraints generated below and the filters of
+	 * {@link com.navercorp.fixturemonkey.api.generator.ValidateArbitraryGenerator}.
+	 * The others, such as {@link Pattern}, {@link Email}, {@link Digits} or the date-time constraints depending on
+	 * the time of validation, are left to the validator.
+	 * The numeric constraints such as {@link Min} are guaranteed only for the numeric properties,
+	 * the validator checks them on a {@link CharSequence} property.
+	 */
+	private static final Set<Class<? extends Annotation>> GUARANTEED_CONSTRAINT_TYPES = Collections.unmodifiableSet(
+		new HashSet<>(
+			Arrays.asList(
+				Size.class,
+				NotBlank.class,
+				Min.class,
+				Max.class,
+				DecimalMin.class,
+				DecimalMax.class,
+				Positive.class,
+				PositiveOrZero.class,
+				Negative.class,
+				NegativeOrZero.class
+			)
+		)
+	);
+
 	@Override
 	@Nullable
 	public JavaStringConstraint generateStringConstraint(ArbitraryGeneratorContext context) {
@@ -408,4 +437,9 @@ public final class JavaxValidationConstraintGenerator implements JavaConstraintG
 
 		return new JavaDateTimeConstraint(min, max);
 	}
+
+	@Override
+	public Set<Class<? extends Annotation>> getGuaranteedConstraintTypes() {
+		return GUARANTEED_CONSTRAINT_TYPES;
+	}
 }
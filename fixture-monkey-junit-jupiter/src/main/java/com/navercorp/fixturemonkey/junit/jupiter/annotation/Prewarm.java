@@ -0,0 +1,60 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.junit.jupiter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.junit.jupiter.extension.FixtureMonkeyPrewarmExtension;
+
+/**
+ * Declares the types to prewarm by {@link FixtureMonkeyPrewarmExtension}.
+ * The same declaration is prewarmed only once per engine run, even if it is declared in several test classes.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE})
+public @interface Prewarm {
+	/**
+	 * The types to prewarm.
+	 */
+	Class<?>[] value() default {};
+
+	/**
+	 * The packages to scan the classes to prewarm. The sub-packages are scanned as well.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * The supplier of {@link FixtureMonkey} to prewarm. It should have a no-argument constructor.
+	 * If not specified, the global default {@link FixtureMonkey} of
+	 * {@link com.navercorp.fixturemonkey.junit.jupiter.extension.FixtureMonkeyParameterExtension} is prewarmed.
+	 */
+	Class<? extends Supplier<FixtureMonkey>> fixtureMonkeySupplier() default
+		FixtureMonkeyPrewarmExtension.GlobalDefaultFixtureMonkeySupplier.class;
+}
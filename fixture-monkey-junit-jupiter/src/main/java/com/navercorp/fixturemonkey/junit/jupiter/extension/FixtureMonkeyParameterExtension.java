@@ -42,6 +42,10 @@ public final class FixtureMonkeyParameterExtension implements ParameterResolver
 		GLOBAL_DEFAULT_FIXTURE_MONKEY = fixtureMonkey;
 	}
 
+	static FixtureMonkey getGlobalDefaultFixtureMonkey() {
+		return GLOBAL_DEFAULT_FIXTURE_MONKEY;
+	}
+
 	@Override
 	public boolean supportsParameter(
 		ParameterContext parameterContext,
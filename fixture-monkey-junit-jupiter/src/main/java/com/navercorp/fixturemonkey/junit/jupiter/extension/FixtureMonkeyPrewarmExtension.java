@@ -0,0 +1,138 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.junit.jupiter.extension;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.junit.jupiter.annotation.Prewarm;
+import com.navercorp.fixturemonkey.prewarm.PrewarmResult;
+
+/**
+ * This extension prewarms the types declared by {@link Prewarm} before the tests of the class are executed.
+ * <p>
+ * Prewarming runs in the background, the tests are not blocked by it.
+ * The tests sampling the types before prewarming is done would pay the cost of introspection as usual.
+ * The same declaration is prewarmed only once per engine run, it is shared by all test classes declaring it.
+ * <p>
+ * The types failed to prewarm are logged as a warning, they would fail in the same way when they are sampled.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FixtureMonkeyPrewarmExtension implements BeforeAllCallback {
+	private static final Logger LOGGER = LoggerFactory.getLogger(FixtureMonkeyPrewarmExtension.class);
+	private static final Namespace NAMESPACE = Namespace.create(FixtureMonkeyPrewarmExtension.class);
+
+	private final Logger logger;
+
+	public FixtureMonkeyPrewarmExtension() {
+		this(LOGGER);
+	}
+
+	FixtureMonkeyPrewarmExtension(Logger logger) {
+		this.logger = logger;
+	}
+
+	@Override
+	public void beforeAll(ExtensionContext context) {
+		AnnotationSupport.findAnnotation(context.getRequiredTestClass(), Prewarm.class)
+			.ifPresent(prewarm -> startPrewarming(context, prewarm));
+	}
+
+	private void startPrewarming(ExtensionContext context, Prewarm prewarm) {
+		List<Object> key = Arrays.asList(
+			Arrays.asList(prewarm.value()),
+			Arrays.asList(prewarm.basePackages()),
+			prewarm.fixtureMonkeySupplier()
+		);
+
+		context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(
+			key,
+			it -> prewarmAsync(prewarm, key),
+			CompletableFuture.class
+		);
+	}
+
+	/**
+	 * Prewarms in the background, the failures are logged when it completes.
+	 */
+	CompletableFuture<PrewarmResult> prewarmAsync(Prewarm prewarm, Object key) {
+		return CompletableFuture.supplyAsync(() -> prewarm(prewarm))
+			.whenComplete((result, throwable) -> logResult(key, result, throwable));
+	}
+
+	private PrewarmResult prewarm(Prewarm prewarm) {
+		FixtureMonkey fixtureMonkey = ReflectionSupport.newInstance(prewarm.fixtureMonkeySupplier()).get();
+
+		PrewarmResult typesResult = fixtureMonkey.prewarm(Arrays.asList(prewarm.value()));
+		if (prewarm.basePackages().length == 0) {
+			return typesResult;
+		}
+
+		PrewarmResult packagesResult = fixtureMonkey.prewarmPackages(prewarm.basePackages());
+		return merge(typesResult, packagesResult);
+	}
+
+	private static PrewarmResult merge(PrewarmResult first, PrewarmResult second) {
+		List<Type> prewarmedTypes = new ArrayList<>(first.getPrewarmedTypes());
+		prewarmedTypes.addAll(second.getPrewarmedTypes());
+
+		Map<Type, Throwable> failuresByType = new HashMap<>(first.getFailuresByType());
+		failuresByType.putAll(second.getFailuresByType());
+		return new PrewarmResult(prewarmedTypes, failuresByType);
+	}
+
+	private void logResult(Object key, PrewarmResult result, Throwable throwable) {
+		if (throwable != null) {
+			logger.warn("Prewarming {} failed.", key, throwable);
+			return;
+		}
+
+		if (result.hasFailures()) {
+			logger.warn("Prewarming {} could not introspect the types {}.", key, result.getFailuresByType().keySet());
+		}
+	}
+
+	/**
+	 * Supplies the global default {@link FixtureMonkey} of {@link FixtureMonkeyParameterExtension}.
+	 * It is the default value of {@link Prewarm#fixtureMonkeySupplier()}.
+	 */
+	public static final class GlobalDefaultFixtureMonkeySupplier implements Supplier<FixtureMonkey> {
+		@Override
+		public FixtureMonkey get() {
+			return FixtureMonkeyParameterExtension.getGlobalDefaultFixtureMonkey();
+		}
+	}
+}
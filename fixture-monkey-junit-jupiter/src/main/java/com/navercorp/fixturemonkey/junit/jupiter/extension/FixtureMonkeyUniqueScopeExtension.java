@@ -0,0 +1,52 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.junit.jupiter.extension;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueScope;
+
+/**
+ * This extension opens a {@link UniqueScope} before each test method and closes it after the test method.
+ * The unique values generated in a test method are released after it, the next test method does not depend on them.
+ * <p>
+ * The scope is bound to the thread running the test method.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FixtureMonkeyUniqueScopeExtension implements BeforeEachCallback, AfterEachCallback {
+	private static final Namespace NAMESPACE = Namespace.create(FixtureMonkeyUniqueScopeExtension.class);
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+		context.getStore(NAMESPACE).put(context.getUniqueId(), UniqueScope.open());
+	}
+
+	@Override
+	public void afterEach(ExtensionContext context) {
+		UniqueScope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), UniqueScope.class);
+		if (scope != null) {
+			scope.close();
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.junit.jupiter.extension;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.event.EventRecodingLogger;
+import org.slf4j.event.Level;
+import org.slf4j.event.SubstituteLoggingEvent;
+import org.slf4j.helpers.SubstituteLogger;
+
+import lombok.Data;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
+import com.navercorp.fixturemonkey.junit.jupiter.annotation.Prewarm;
+
+@ExtendWith(FixtureMonkeyPrewarmExtension.class)
+@Prewarm(
+	value = {
+		FixtureMonkeyPrewarmExtensionTest.PrewarmObject.class,
+		FixtureMonkeyPrewarmExtensionTest.WarmedObject.class
+	},
+	fixtureMonkeySupplier = FixtureMonkeyPrewarmExtensionTest.PrewarmFixtureMonkeySupplier.class
+)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FixtureMonkeyPrewarmExtensionTest {
+	private static final PropertyGenerator DEFAULT_PROPERTY_GENERATOR = new DefaultPropertyGenerator();
+	private static final CountDownLatch WARMED = new CountDownLatch(1);
+	private static final AtomicReference<Thread> WARMING_THREAD = new AtomicReference<>();
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.pushExactTypePropertyGenerator(
+			WarmedObject.class,
+			property -> {
+				WARMING_THREAD.compareAndSet(null, Thread.currentThread());
+				WARMED.countDown();
+				return DEFAULT_PROPERTY_GENERATOR.generateChildProperties(property);
+			}
+		)
+		.build();
+
+	@Test
+	@Order(1)
+	void prewarmWarmsTypesBeforeSampled() throws InterruptedException {
+		// when
+		boolean warmed = WARMED.await(10, TimeUnit.SECONDS);
+
+		// WarmedObject is never sampled by the tests, only the prewarming thread generates its properties
+		then(warmed).isTrue();
+		then(WARMING_THREAD.get()).isNotSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void sampleWhilePrewarming() {
+		PrewarmObject actual = SUT.giveMeOne(PrewarmObject.class);
+
+		then(actual).isNotNull();
+	}
+
+	@Test
+	void prewarmFailureLogged() {
+		// given
+		Queue<SubstituteLoggingEvent> events = new ConcurrentLinkedQueue<>();
+		EventRecodingLogger logger = new EventRecodingLogger(new SubstituteLogger("test", events, false), events);
+		FixtureMonkeyPrewarmExtension sut = new FixtureMonkeyPrewarmExtension(logger);
+		Prewarm prewarm = FailingPrewarm.class.getAnnotation(Prewarm.class);
+
+		// when
+		thenThrownBy(() -> sut.prewarmAsync(prewarm, "failing").join())
+			.isExactlyInstanceOf(CompletionException.class)
+			.hasRootCauseExactlyInstanceOf(IllegalStateException.class)
+			.satisfies(thrown -> {
+				then(events).hasSize(1);
+				SubstituteLoggingEvent event = events.peek();
+				then(event.getLevel()).isEqualTo(Level.WARN);
+				then(event.getArgumentArray()).contains(thrown);
+			});
+	}
+
+	public static class PrewarmFixtureMonkeySupplier implements Supplier<FixtureMonkey> {
+		@Override
+		public FixtureMonkey get() {
+			return SUT;
+		}
+	}
+
+	public static class FailingFixtureMonkeySupplier implements Supplier<FixtureMonkey> {
+		@Override
+		public FixtureMonkey get() {
+			throw new IllegalStateException("FixtureMonkey is not available.");
+		}
+	}
+
+	@Prewarm(value = PrewarmObject.class, fixtureMonkeySupplier = FailingFixtureMonkeySupplier.class)
+	static class FailingPrewarm {
+	}
+
+	@Data
+	public static class PrewarmObject {
+		private String str;
+		private List<Integer> integers;
+	}
+
+	@Data
+	public static class WarmedObject {
+		private String str;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.junit.jupiter.extension;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueScope;
+
+@ExtendWith(FixtureMonkeyUniqueScopeExtension.class)
+class FixtureMonkeyUniqueScopeExtensionTest {
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+	private static final CombinableArbitrary<Integer> UNIQUE = CombinableArbitrary
+		.from(() -> COUNTER.getAndIncrement() % 2)
+		.unique();
+
+	@RepeatedTest(3)
+	void uniqueValuesReleasedAfterEachTest() {
+		then(UniqueScope.current()).isNotSameAs(UniqueScope.global());
+		then(UNIQUE.combined()).isNotEqualTo(UNIQUE.combined());
+	}
+}
@@ -9,4 +9,7 @@ dependencies {
     api(libs.kotest.property.jvm)
 
     implementation(libs.kotlin.reflect)
+    implementation(libs.kotlinx.coroutines.core)
+
+    compileOnly(libs.kotest.framework.api.jvm)
 }
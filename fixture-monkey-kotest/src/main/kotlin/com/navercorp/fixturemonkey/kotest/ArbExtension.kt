@@ -30,7 +30,6 @@ import com.navercorp.fixturemonkey.kotlin.propertyExpressionGenerator
 import com.navercorp.fixturemonkey.kotlin.type.toTypeReference
 import io.kotest.property.Arb
 import io.kotest.property.arbitrary.arbitrary
-import io.kotest.property.arbitrary.single
 import java.util.function.Supplier
 import kotlin.reflect.KProperty1
 import kotlin.reflect.full.isSubtypeOf
@@ -51,6 +50,45 @@ inline fun <reified T> FixtureMonkey.giveMeArb(): Arb<T> {
     }
 }
 
+/**
+ * Returns an [Arb] which samples [batchSize] values of [T] at once and draws them one by one.
+ * The [ArbitraryBuilder] is resolved once per batch instead of once per value, it is useful for many iterations.
+ */
+inline fun <reified T> FixtureMonkey.giveMeArb(batchSize: Int): Arb<T> {
+    require(batchSize > 0) { "batchSize must be positive. batchSize: $batchSize" }
+
+    if (batchSize == 1 || typeOf<T>().isSubtypeOf(typeOf<ArbitraryBuilder<*>>())) {
+        return giveMeArb()
+    }
+
+    val arbitraryBuilder = this.giveMeKotlinBuilder<T>()
+    return batchedArb(batchSize) { arbitraryBuilder.sampleList(it) }
+}
+
+/**
+ * Returns the batch size of the [Arb]s for the given iterations, it is bounded by [MAX_BATCH_SIZE]
+ * so that many iterations do not sample all the values at once.
+ */
+@PublishedApi
+internal fun batchSizeOf(iterations: Int): Int = iterations.coerceIn(1, MAX_BATCH_SIZE)
+
+@PublishedApi
+internal const val MAX_BATCH_SIZE = 64
+
+@PublishedApi
+internal fun <T> batchedArb(batchSize: Int, sampleBatch: (Int) -> List<T>): Arb<T> {
+    val sampled = ArrayDeque<T>(batchSize)
+
+    return arbitrary {
+        synchronized(sampled) {
+            if (sampled.isEmpty()) {
+                sampled.addAll(sampleBatch(batchSize))
+            }
+            sampled.removeFirst()
+        }
+    }
+}
+
 inline fun <reified T> FixtureMonkey.giveMeArb(crossinline applyBuilder: KotlinTypeDefaultArbitraryBuilder<T>.() -> ArbitraryBuilder<T>): Arb<T> =
     arbitrary {
         applyBuilder.invoke(this@giveMeArb.giveMeKotlinBuilder()).sample()
@@ -58,14 +96,14 @@ inline fun <reified T> FixtureMonkey.giveMeArb(crossinline applyBuilder: KotlinT
 
 fun <T : Any?> ArbitraryBuilder<T>.setArb(expression: String, arb: Arb<Any>): ArbitraryBuilder<T> = this.set(
     expression,
-    Supplier { arb.single() }
+    Supplier { arb.sampleValue() }
 )
 
 fun <T : Any?> ArbitraryBuilder<T>.setArb(propertySelector: PropertySelector, arb: Arb<Any>): ArbitraryBuilder<T> =
     this.set(
         propertySelector,
-        Supplier { arb.single() }
+        Supplier { arb.sampleValue() }
     )
 
 fun <T : Any?> ArbitraryBuilder<T>.setArb(p: KProperty1<T, Any?>, arb: Arb<Any>): ArbitraryBuilder<T> =
-    this.set(propertyExpressionGenerator(p), Supplier { arb.single() })
+    this.set(propertyExpressionGenerator(p), Supplier { arb.sampleValue() })
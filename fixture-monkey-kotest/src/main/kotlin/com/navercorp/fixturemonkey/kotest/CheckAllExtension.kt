@@ -21,6 +21,7 @@
 package com.navercorp.fixturemonkey.kotest
 
 import com.navercorp.fixturemonkey.FixtureMonkey
+import com.navercorp.fixturemonkey.kotlin.giveMeOne
 import io.kotest.property.PropTestConfig
 import io.kotest.property.PropertyContext
 import io.kotest.property.checkAll
@@ -32,7 +33,7 @@ suspend inline fun <reified A> FixtureMonkey.checkAll(
 suspend inline fun <reified A> FixtureMonkey.checkAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A) -> Unit,
-) = checkAll(iterations, giveMeArb(), function)
+) = checkAll(iterations, giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A> FixtureMonkey.checkAll(
     config: PropTestConfig,
@@ -43,7 +44,7 @@ suspend inline fun <reified A> FixtureMonkey.checkAll(
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A) -> Unit,
-) = checkAll(iterations, config, giveMeArb(), function)
+) = checkAll(iterations, config, giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A, reified B> FixtureMonkey.checkAll(
     noinline function: suspend PropertyContext.(a: A, b: B) -> Unit,
@@ -52,7 +53,7 @@ suspend inline fun <reified A, reified B> FixtureMonkey.checkAll(
 suspend inline fun <reified A, reified B> FixtureMonkey.checkAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B) -> Unit,
-) = checkAll(iterations, giveMeArb(), giveMeArb(), function)
+) = checkAll(iterations, giveMeArb(batchSizeOf(iterations)), giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A, reified B> FixtureMonkey.checkAll(
     config: PropTestConfig,
@@ -63,7 +64,7 @@ suspend inline fun <reified A, reified B> FixtureMonkey.checkAll(
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B) -> Unit,
-) = checkAll(iterations, config, giveMeArb(), giveMeArb(), function)
+) = checkAll(iterations, config, giveMeArb(batchSizeOf(iterations)), giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A, reified B, reified C> FixtureMonkey.checkAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C) -> Unit,
@@ -72,7 +73,13 @@ suspend inline fun <reified A, reified B, reified C> FixtureMonkey.checkAll(
 suspend inline fun <reified A, reified B, reified C> FixtureMonkey.checkAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C) -> Unit,
-) = checkAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C> FixtureMonkey.checkAll(
     config: PropTestConfig,
@@ -83,7 +90,14 @@ suspend inline fun <reified A, reified B, reified C> FixtureMonkey.checkAll(
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C) -> Unit,
-) = checkAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.checkAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D) -> Unit,
@@ -92,7 +106,14 @@ suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.ch
 suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.checkAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D) -> Unit,
-) = checkAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.checkAll(
     config: PropTestConfig,
@@ -103,7 +124,15 @@ suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.ch
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D) -> Unit,
-) = checkAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E> FixtureMonkey.checkAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E) -> Unit,
@@ -112,7 +141,15 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E> Fixtu
 suspend inline fun <reified A, reified B, reified C, reified D, reified E> FixtureMonkey.checkAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E) -> Unit,
-) = checkAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E> FixtureMonkey.checkAll(
     config: PropTestConfig,
@@ -123,7 +160,16 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E> Fixtu
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E) -> Unit,
-) = checkAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E, reified F> FixtureMonkey.checkAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E, f: F) -> Unit,
@@ -132,7 +178,16 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E, reifi
 suspend inline fun <reified A, reified B, reified C, reified D, reified E, reified F> FixtureMonkey.checkAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E, f: F) -> Unit,
-) = checkAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E, reified F> FixtureMonkey.checkAll(
     config: PropTestConfig,
@@ -143,4 +198,68 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E, reifi
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E, f: F) -> Unit,
-) = checkAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = checkAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
+
+/**
+ * Runs the property [iterations] times, the inputs are generated by [concurrency] threads in advance.
+ * The input of each iteration has its own seed, a failure reports the iteration and its seed.
+ */
+suspend inline fun <reified A> FixtureMonkey.checkAll(
+    iterations: Int,
+    concurrency: Int,
+    noinline function: suspend PropertyContext.(a: A) -> Unit,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    PropTestConfig(),
+    { this.giveMeOne<A>() },
+    function,
+)
+
+suspend inline fun <reified A> FixtureMonkey.checkAll(
+    iterations: Int,
+    concurrency: Int,
+    config: PropTestConfig,
+    noinline function: suspend PropertyContext.(a: A) -> Unit,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    config,
+    { this.giveMeOne<A>() },
+    function,
+)
+
+suspend inline fun <reified A, reified B> FixtureMonkey.checkAll(
+    iterations: Int,
+    concurrency: Int,
+    noinline function: suspend PropertyContext.(a: A, b: B) -> Unit,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    PropTestConfig(),
+    { this.giveMeOne<A>() to this.giveMeOne<B>() },
+    { (a, b) -> function(a, b) },
+)
+
+suspend inline fun <reified A, reified B> FixtureMonkey.checkAll(
+    iterations: Int,
+    concurrency: Int,
+    config: PropTestConfig,
+    noinline function: suspend PropertyContext.(a: A, b: B) -> Unit,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    config,
+    { this.giveMeOne<A>() to this.giveMeOne<B>() },
+    { (a, b) -> function(a, b) },
+)
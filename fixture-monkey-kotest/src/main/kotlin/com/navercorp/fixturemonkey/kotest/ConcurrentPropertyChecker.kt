@@ -0,0 +1,94 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotest
+
+import com.navercorp.fixturemonkey.api.random.Randoms
+import io.kotest.property.PropTestConfig
+import io.kotest.property.PropertyContext
+import kotlinx.coroutines.Deferred
+import kotlinx.coroutines.async
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.launch
+import java.util.concurrent.Executors
+
+/**
+ * Checks the property with the inputs generated by [concurrency] threads.
+ * The input of each iteration is generated by its own seed derived from the seed of [config] if it is set,
+ * otherwise from the current seed. The inputs are the same regardless of the thread generating them,
+ * and the same as the values sampled by the other concurrent samplers of Fixture Monkey with the same seed.
+ * The property is checked in the order of iterations while the next inputs are being generated.
+ *
+ * @param generate generates an input, it should be thread-safe
+ * @throws AssertionError if the property fails, it reports the iteration and the seed of the input
+ */
+@PublishedApi
+internal suspend fun <T> checkAllConcurrently(
+    iterations: Int,
+    concurrency: Int,
+    config: PropTestConfig,
+    generate: () -> T,
+    property: suspend PropertyContext.(T) -> Unit,
+): PropertyContext {
+    require(iterations > 0) { "iterations must be positive. iterations: $iterations" }
+    require(concurrency > 0) { "concurrency must be positive. concurrency: $concurrency" }
+
+    val baseSeed = config.seed ?: Randoms.currentSeed()
+    val context = PropertyContext(config)
+
+    Executors.newFixedThreadPool(concurrency).asCoroutineDispatcher().use { dispatcher ->
+        coroutineScope {
+            val inputs = Channel<Deferred<T>>(capacity = concurrency)
+            launch {
+                for (iteration in 0 until iterations) {
+                    val seed = seedOf(baseSeed, iteration)
+                    inputs.send(
+                        async(dispatcher) {
+                            Randoms.newGlobalSeed(seed)
+                            generate()
+                        }
+                    )
+                }
+                inputs.close()
+            }
+
+            var iteration = 0
+            for (input in inputs) {
+                val value = input.await()
+                context.markEvaluation()
+                try {
+                    context.property(value)
+                    context.markSuccess()
+                } catch (throwable: Throwable) {
+                    context.markFailure()
+                    throw AssertionError(
+                        "Property failed at iteration $iteration, its input is generated by seed " +
+                            "${seedOf(baseSeed, iteration)}. input: $value",
+                        throwable
+                    )
+                }
+                iteration++
+            }
+        }
+    }
+    return context
+}
+
+private fun seedOf(baseSeed: Long, iteration: Int): Long = Randoms.splitSeed(baseSeed, iteration.toLong())
@@ -0,0 +1,62 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotest
+
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueScope
+import io.kotest.core.extensions.TestCaseExtension
+import io.kotest.core.test.TestCase
+import io.kotest.core.test.TestResult
+import kotlinx.coroutines.ThreadContextElement
+import kotlinx.coroutines.withContext
+import kotlin.coroutines.CoroutineContext
+
+/**
+ * Opens a [UniqueScope] for each test and closes it after the test, the unique values are not shared between tests.
+ *
+ * A test may be resumed on another thread, so the scope is carried by the coroutine context of the test
+ * and bound to whichever thread runs it. The tests running concurrently do not affect each other.
+ *
+ * ```
+ * class ProductSpec : StringSpec({
+ *     extension(FixtureMonkeyUniqueScopeListener)
+ * })
+ * ```
+ */
+object FixtureMonkeyUniqueScopeListener : TestCaseExtension {
+    override suspend fun intercept(testCase: TestCase, execute: suspend (TestCase) -> TestResult): TestResult {
+        val scope = UniqueScope.create()
+        return try {
+            withContext(UniqueScopeContextElement(scope)) { execute(testCase) }
+        } finally {
+            scope.close()
+        }
+    }
+}
+
+private class UniqueScopeContextElement(
+    private val scope: UniqueScope,
+) : ThreadContextElement<Unit> {
+    override val key: CoroutineContext.Key<*> = Key
+
+    override fun updateThreadContext(context: CoroutineContext) = scope.bind()
+
+    override fun restoreThreadContext(context: CoroutineContext, oldState: Unit) = scope.unbind()
+
+    companion object Key : CoroutineContext.Key<UniqueScopeContextElement>
+}
@@ -21,6 +21,7 @@
 package com.navercorp.fixturemonkey.kotest
 
 import com.navercorp.fixturemonkey.FixtureMonkey
+import com.navercorp.fixturemonkey.kotlin.giveMeOne
 import io.kotest.property.PropTestConfig
 import io.kotest.property.PropertyContext
 import io.kotest.property.forAll
@@ -32,7 +33,7 @@ suspend inline fun <reified A> FixtureMonkey.forAll(
 suspend inline fun <reified A> FixtureMonkey.forAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A) -> Boolean,
-) = forAll(iterations, giveMeArb(), function)
+) = forAll(iterations, giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A> FixtureMonkey.forAll(
     config: PropTestConfig,
@@ -43,7 +44,7 @@ suspend inline fun <reified A> FixtureMonkey.forAll(
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A) -> Boolean,
-) = forAll(iterations, config, giveMeArb(), function)
+) = forAll(iterations, config, giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A, reified B> FixtureMonkey.forAll(
     noinline function: suspend PropertyContext.(a: A, b: B) -> Boolean,
@@ -52,7 +53,7 @@ suspend inline fun <reified A, reified B> FixtureMonkey.forAll(
 suspend inline fun <reified A, reified B> FixtureMonkey.forAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B) -> Boolean,
-) = forAll(iterations, giveMeArb(), giveMeArb(), function)
+) = forAll(iterations, giveMeArb(batchSizeOf(iterations)), giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A, reified B> FixtureMonkey.forAll(
     config: PropTestConfig,
@@ -63,7 +64,7 @@ suspend inline fun <reified A, reified B> FixtureMonkey.forAll(
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B) -> Boolean,
-) = forAll(iterations, config, giveMeArb(), giveMeArb(), function)
+) = forAll(iterations, config, giveMeArb(batchSizeOf(iterations)), giveMeArb(batchSizeOf(iterations)), function)
 
 suspend inline fun <reified A, reified B, reified C> FixtureMonkey.forAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C) -> Boolean,
@@ -72,7 +73,13 @@ suspend inline fun <reified A, reified B, reified C> FixtureMonkey.forAll(
 suspend inline fun <reified A, reified B, reified C> FixtureMonkey.forAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C) -> Boolean,
-) = forAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C> FixtureMonkey.forAll(
     config: PropTestConfig,
@@ -83,7 +90,14 @@ suspend inline fun <reified A, reified B, reified C> FixtureMonkey.forAll(
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C) -> Boolean,
-) = forAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.forAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D) -> Boolean,
@@ -92,7 +106,14 @@ suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.fo
 suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.forAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D) -> Boolean,
-) = forAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.forAll(
     config: PropTestConfig,
@@ -103,7 +124,15 @@ suspend inline fun <reified A, reified B, reified C, reified D> FixtureMonkey.fo
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D) -> Boolean,
-) = forAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E> FixtureMonkey.forAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E) -> Boolean,
@@ -112,7 +141,15 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E> Fixtu
 suspend inline fun <reified A, reified B, reified C, reified D, reified E> FixtureMonkey.forAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E) -> Boolean,
-) = forAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E> FixtureMonkey.forAll(
     config: PropTestConfig,
@@ -123,7 +160,16 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E> Fixtu
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E) -> Boolean,
-) = forAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E, reified F> FixtureMonkey.forAll(
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E, f: F) -> Boolean,
@@ -132,7 +178,16 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E, reifi
 suspend inline fun <reified A, reified B, reified C, reified D, reified E, reified F> FixtureMonkey.forAll(
     iterations: Int,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E, f: F) -> Boolean,
-) = forAll(iterations, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
 
 suspend inline fun <reified A, reified B, reified C, reified D, reified E, reified F> FixtureMonkey.forAll(
     config: PropTestConfig,
@@ -143,4 +198,68 @@ suspend inline fun <reified A, reified B, reified C, reified D, reified E, reifi
     iterations: Int,
     config: PropTestConfig,
     noinline function: suspend PropertyContext.(a: A, b: B, c: C, d: D, e: E, f: F) -> Boolean,
-) = forAll(iterations, config, giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), giveMeArb(), function)
+) = forAll(
+    iterations,
+    config,
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    giveMeArb(batchSizeOf(iterations)),
+    function,
+)
+
+/**
+ * Runs the property [iterations] times, the inputs are generated by [concurrency] threads in advance.
+ * The input of each iteration has its own seed, a failure reports the iteration and its seed.
+ */
+suspend inline fun <reified A> FixtureMonkey.forAll(
+    iterations: Int,
+    concurrency: Int,
+    noinline function: suspend PropertyContext.(a: A) -> Boolean,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    PropTestConfig(),
+    { this.giveMeOne<A>() },
+    { a -> check(function(a)) { "Property returned false" } },
+)
+
+suspend inline fun <reified A> FixtureMonkey.forAll(
+    iterations: Int,
+    concurrency: Int,
+    config: PropTestConfig,
+    noinline function: suspend PropertyContext.(a: A) -> Boolean,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    config,
+    { this.giveMeOne<A>() },
+    { a -> check(function(a)) { "Property returned false" } },
+)
+
+suspend inline fun <reified A, reified B> FixtureMonkey.forAll(
+    iterations: Int,
+    concurrency: Int,
+    noinline function: suspend PropertyContext.(a: A, b: B) -> Boolean,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    PropTestConfig(),
+    { this.giveMeOne<A>() to this.giveMeOne<B>() },
+    { (a, b) -> check(function(a, b)) { "Property returned false" } },
+)
+
+suspend inline fun <reified A, reified B> FixtureMonkey.forAll(
+    iterations: Int,
+    concurrency: Int,
+    config: PropTestConfig,
+    noinline function: suspend PropertyContext.(a: A, b: B) -> Boolean,
+) = checkAllConcurrently(
+    iterations,
+    concurrency,
+    config,
+    { this.giveMeOne<A>() to this.giveMeOne<B>() },
+    { (a, b) -> check(function(a, b)) { "Property returned false" } },
+)
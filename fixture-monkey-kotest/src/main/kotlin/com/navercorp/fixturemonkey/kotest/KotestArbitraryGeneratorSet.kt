@@ -44,7 +44,6 @@ import io.kotest.property.arbitrary.map
 import io.kotest.property.arbitrary.offsetDateTime
 import io.kotest.property.arbitrary.period
 import io.kotest.property.arbitrary.short
-import io.kotest.property.arbitrary.single
 import io.kotest.property.arbitrary.yearMonth
 import io.kotest.property.arbitrary.zoneId
 import io.kotest.property.arbitrary.zoneOffset
@@ -93,7 +92,7 @@ class KotestJavaArbitraryGeneratorSet(
     }
 
     override fun characters(context: ArbitraryGeneratorContext): CombinableArbitrary<Char> =
-        CombinableArbitrary.from { Arb.char().single() }
+        CombinableArbitrary.from { Arb.char().sampleValue() }
 
     override fun shorts(context: ArbitraryGeneratorContext): CombinableArbitrary<Short> {
         val integerConstraint = constraintGenerator.generateIntegerConstraint(context)
@@ -103,9 +102,9 @@ class KotestJavaArbitraryGeneratorSet(
                 val min = integerConstraint.min?.toShort() ?: Short.MIN_VALUE
                 val max = integerConstraint.max?.toShort() ?: Short.MAX_VALUE
 
-                Arb.short(min = min, max = max).single()
+                Arb.short(min = min, max = max).sampleValue()
             } else {
-                Arb.short().single()
+                Arb.short().sampleValue()
             }
         }
     }
@@ -118,9 +117,9 @@ class KotestJavaArbitraryGeneratorSet(
                 val min = integerConstraint.min?.toByte() ?: Byte.MIN_VALUE
                 val max = integerConstraint.max?.toByte() ?: Byte.MAX_VALUE
 
-                Arb.byte(min = min, max = max).single()
+                Arb.byte(min = min, max = max).sampleValue()
             } else {
-                Arb.byte().single()
+                Arb.byte().sampleValue()
             }
         }
     }
@@ -151,9 +150,9 @@ class KotestJavaArbitraryGeneratorSet(
 
                     Arb.double(min = min, max = max)
                 }.map { if (scale != null) it.ofScale(scale) else it }
-                    .single()
+                    .sampleValue()
             } else {
-                Arb.double().single()
+                Arb.double().sampleValue()
             }
         }
     }
@@ -184,9 +183,9 @@ class KotestJavaArbitraryGeneratorSet(
 
                     Arb.float(min = min, max = max)
                 }.map { if (scale != null) it.ofScale(scale) else it }
-                    .single()
+                    .sampleValue()
             } else {
-                Arb.float().single()
+                Arb.float().sampleValue()
             }
         }
     }
@@ -227,9 +226,9 @@ class KotestJavaArbitraryGeneratorSet(
                 val min = integerConstraint.min?.toInt() ?: Int.MIN_VALUE
                 val max = integerConstraint.max?.toInt() ?: Int.MAX_VALUE
 
-                Arb.bigInt(min..max).single()
+                Arb.bigInt(min..max).sampleValue()
             } else {
-                Arb.bigInt(maxNumBits = 21).single()
+                Arb.bigInt(maxNumBits = 21).sampleValue()
             }
         }
     }
@@ -260,9 +259,9 @@ class KotestJavaArbitraryGeneratorSet(
 
                     Arb.bigDecimal(min = min, max = max)
                 }.map { if (scale != null) it.setScale(scale, RoundingMode.DOWN) else it }
-                    .single()
+                    .sampleValue()
             } else {
-                Arb.bigDecimal().single()
+                Arb.bigDecimal().sampleValue()
             }
         }
     }
@@ -282,7 +281,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
             } else {
                 Arb.zonedDateTime()
             }
-                .map { zonedDateTime -> GregorianCalendar.from(zonedDateTime) }.single()
+                .map { zonedDateTime -> GregorianCalendar.from(zonedDateTime) }.sampleValue()
         }
     }
 
@@ -300,7 +299,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                     maxValue = Instant.now().plus(Duration.ofDays(365)),
                 )
             }
-                .map { instant -> Date.from(instant) }.single()
+                .map { instant -> Date.from(instant) }.sampleValue()
         }
     }
 
@@ -314,7 +313,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.instant(minValue = minValue, maxValue = maxValue)
             } else {
                 Arb.instant()
-            }.single()
+            }.sampleValue()
         }
     }
 
@@ -328,7 +327,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.localDate(minDate = minValue, maxDate = maxValue)
             } else {
                 Arb.localDate()
-            }.single()
+            }.sampleValue()
         }
     }
 
@@ -342,7 +341,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.localDateTime(minLocalDateTime = minValue, maxLocalDateTime = maxValue)
             } else {
                 Arb.localDateTime()
-            }.single()
+            }.sampleValue()
         }
     }
 
@@ -356,7 +355,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.localTime().filter { it in minValue..maxValue }
             } else {
                 Arb.localTime()
-            }.single()
+            }.sampleValue()
         }
     }
 
@@ -370,7 +369,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.zonedDateTime(minValue = minValue, maxValue = maxValue)
             } else {
                 Arb.zonedDateTime()
-            }.single()
+            }.sampleValue()
         }
     }
 
@@ -384,7 +383,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.zonedDateTime(minValue = minValue, maxValue = maxValue)
             } else {
                 Arb.zonedDateTime()
-            }.map { zonedDateTime -> MonthDay.from(zonedDateTime) }.single()
+            }.map { zonedDateTime -> MonthDay.from(zonedDateTime) }.sampleValue()
         }
     }
 
@@ -398,7 +397,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.offsetDateTime(minValue = minValue, maxValue = maxValue)
             } else {
                 Arb.offsetDateTime()
-            }.single()
+            }.sampleValue()
         }
     }
 
@@ -412,15 +411,15 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.offsetDateTime(minValue = minValue, maxValue = maxValue)
             } else {
                 Arb.offsetDateTime()
-            }.map { offsetDateTime -> offsetDateTime.toOffsetTime() }.single()
+            }.map { offsetDateTime -> offsetDateTime.toOffsetTime() }.sampleValue()
         }
     }
 
     override fun periods(context: ArbitraryGeneratorContext): CombinableArbitrary<Period> =
-        CombinableArbitrary.from { Arb.period().single() }
+        CombinableArbitrary.from { Arb.period().sampleValue() }
 
     override fun durations(context: ArbitraryGeneratorContext): CombinableArbitrary<Duration> =
-        CombinableArbitrary.from { Arb.duration().map { it.toJavaDuration() }.single() }
+        CombinableArbitrary.from { Arb.duration().map { it.toJavaDuration() }.sampleValue() }
 
     override fun years(context: ArbitraryGeneratorContext): CombinableArbitrary<Year> {
         val dateTimeConstraint = constraintGenerator.generateDateTimeConstraint(context)
@@ -434,7 +433,7 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.yearMonth(minYearMonth = minValue, maxYearMonth = maxValue)
             } else {
                 Arb.yearMonth()
-            }.map { yearMonth -> Year.of(yearMonth.year) }.single()
+            }.map { yearMonth -> Year.of(yearMonth.year) }.sampleValue()
         }
     }
 
@@ -450,15 +449,15 @@ class KotestJavaTimeArbitraryGeneratorSet(
                 Arb.yearMonth(minYearMonth = minValue, maxYearMonth = maxValue)
             } else {
                 Arb.yearMonth()
-            }.single()
+            }.sampleValue()
         }
     }
 
     override fun zoneOffsets(context: ArbitraryGeneratorContext): CombinableArbitrary<ZoneOffset> =
-        CombinableArbitrary.from { Arb.zoneOffset().single() }
+        CombinableArbitrary.from { Arb.zoneOffset().sampleValue() }
 
     override fun zoneIds(context: ArbitraryGeneratorContext?): CombinableArbitrary<ZoneId> =
-        CombinableArbitrary.from { Arb.zoneId().single() }
+        CombinableArbitrary.from { Arb.zoneId().sampleValue() }
 
     companion object {
         val DEFAULT_ZONE_OFFSET: ZoneOffset = OffsetTime.now().offset
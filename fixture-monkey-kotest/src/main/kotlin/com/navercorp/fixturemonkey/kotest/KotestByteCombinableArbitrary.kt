@@ -21,41 +21,53 @@ package com.navercorp.fixturemonkey.kotest
 import com.navercorp.fixturemonkey.api.arbitrary.ByteCombinableArbitrary
 import io.kotest.property.Arb
 import io.kotest.property.arbitrary.byte
-import io.kotest.property.arbitrary.filter
-import io.kotest.property.arbitrary.single
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status
 import java.util.function.Predicate
 
+/**
+ * A [ByteCombinableArbitrary] backed by Kotest [Arb], it is sampled by the seed of Fixture Monkey.
+ * The range replaces the given [Arb] and the parity replaces the previous parity, the other filters are kept.
+ */
 @API(since = "1.1.15", status = Status.EXPERIMENTAL)
-class KotestByteCombinableArbitrary(private val arb: Arb<Byte> = Arb.byte()) : ByteCombinableArbitrary {
-    override fun combined(): Byte = arb.single()
+class KotestByteCombinableArbitrary private constructor(
+    private val rangeArb: Arb<Byte>,
+    private val parity: ((Byte) -> Boolean)?,
+    private val predicates: List<(Byte) -> Boolean>,
+) : ByteCombinableArbitrary {
+    private val arb: Arb<Byte> = rangeArb.filterAll(listOfNotNull(parity) + predicates)
+
+    @JvmOverloads
+    constructor(arb: Arb<Byte> = Arb.byte()) : this(arb, null, emptyList())
+
+    override fun combined(): Byte = arb.sampleValue()
 
     override fun rawValue(): Byte = this.combined()
 
     override fun withRange(min: Byte, max: Byte): ByteCombinableArbitrary =
-        KotestByteCombinableArbitrary(Arb.byte().filter { it in min..max })
+        KotestByteCombinableArbitrary(Arb.byte(min = min, max = max), parity, predicates)
 
-    override fun positive(): ByteCombinableArbitrary =
-        KotestByteCombinableArbitrary(Arb.byte().filter { it > 0 })
+    override fun positive(): ByteCombinableArbitrary = this.withRange(1, Byte.MAX_VALUE)
 
-    override fun negative(): ByteCombinableArbitrary =
-        KotestByteCombinableArbitrary(Arb.byte().filter { it < 0 })
+    override fun negative(): ByteCombinableArbitrary = this.withRange(Byte.MIN_VALUE, -1)
 
-    override fun even(): ByteCombinableArbitrary =
-        KotestByteCombinableArbitrary(Arb.byte().filter { it % 2 == 0 })
+    override fun even(): ByteCombinableArbitrary = this.withParity { it % 2 == 0 }
 
-    override fun odd(): ByteCombinableArbitrary =
-        KotestByteCombinableArbitrary(Arb.byte().filter { it % 2 != 0 })
+    override fun odd(): ByteCombinableArbitrary = this.withParity { it % 2 != 0 }
 
-    override fun ascii(): ByteCombinableArbitrary =
-        KotestByteCombinableArbitrary(Arb.byte().filter { it in 0..127 })
+    override fun ascii(): ByteCombinableArbitrary = this.withRange(0, Byte.MAX_VALUE)
 
     override fun filter(tries: Int, predicate: Predicate<Byte>): ByteCombinableArbitrary =
-        KotestByteCombinableArbitrary(Arb.byte().filter(predicate::test))
+        this.withPredicate(predicate::test)
 
     override fun clear() {
     }
 
     override fun fixed(): Boolean = false
+
+    private fun withParity(parity: (Byte) -> Boolean): ByteCombinableArbitrary =
+        KotestByteCombinableArbitrary(rangeArb, parity, predicates)
+
+    private fun withPredicate(predicate: (Byte) -> Boolean): ByteCombinableArbitrary =
+        KotestByteCombinableArbitrary(rangeArb, parity, predicates + predicate)
 }
@@ -20,41 +20,56 @@ package com.navercorp.fixturemonkey.kotest
 
 import com.navercorp.fixturemonkey.api.arbitrary.IntegerCombinableArbitrary
 import io.kotest.property.Arb
-import io.kotest.property.arbitrary.filter
 import io.kotest.property.arbitrary.int
 import io.kotest.property.arbitrary.negativeInt
 import io.kotest.property.arbitrary.positiveInt
-import io.kotest.property.arbitrary.single
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status
 import java.util.function.Predicate
 
+/**
+ * An [IntegerCombinableArbitrary] backed by Kotest [Arb], it is sampled by the seed of Fixture Monkey.
+ * The range replaces the given [Arb] and the parity replaces the previous parity, the other filters are kept.
+ */
 @API(since = "1.1.12", status = Status.EXPERIMENTAL)
-class KotestIntegerCombinableArbitrary(private val arb: Arb<Int> = Arb.int()) : IntegerCombinableArbitrary {
-    override fun combined(): Int = arb.single()
+class KotestIntegerCombinableArbitrary private constructor(
+    private val rangeArb: Arb<Int>,
+    private val parity: ((Int) -> Boolean)?,
+    private val predicates: List<(Int) -> Boolean>,
+) : IntegerCombinableArbitrary {
+    private val arb: Arb<Int> = rangeArb.filterAll(listOfNotNull(parity) + predicates)
+
+    @JvmOverloads
+    constructor(arb: Arb<Int> = Arb.int()) : this(arb, null, emptyList())
+
+    override fun combined(): Int = arb.sampleValue()
 
     override fun rawValue(): Int = this.combined()
 
     override fun withRange(min: Int, max: Int): IntegerCombinableArbitrary =
-        KotestIntegerCombinableArbitrary(Arb.int(min..max))
+        KotestIntegerCombinableArbitrary(Arb.int(min..max), parity, predicates)
 
     override fun positive(): IntegerCombinableArbitrary =
-        KotestIntegerCombinableArbitrary(Arb.positiveInt())
+        KotestIntegerCombinableArbitrary(Arb.positiveInt(), parity, predicates)
 
     override fun negative(): IntegerCombinableArbitrary =
-        KotestIntegerCombinableArbitrary(Arb.negativeInt())
+        KotestIntegerCombinableArbitrary(Arb.negativeInt(), parity, predicates)
 
-    override fun even(): IntegerCombinableArbitrary =
-        KotestIntegerCombinableArbitrary(Arb.int().filter { it % 2 == 0 })
+    override fun even(): IntegerCombinableArbitrary = this.withParity { it % 2 == 0 }
 
-    override fun odd(): IntegerCombinableArbitrary =
-        KotestIntegerCombinableArbitrary(Arb.int().filter { it % 2 != 0 })
+    override fun odd(): IntegerCombinableArbitrary = this.withParity { it % 2 != 0 }
 
     override fun filter(tries: Int, predicate: Predicate<Int>): IntegerCombinableArbitrary =
-        KotestIntegerCombinableArbitrary(Arb.int().filter { predicate.test(it) })
+        this.withPredicate(predicate::test)
 
     override fun clear() {
     }
 
     override fun fixed(): Boolean = false
+
+    private fun withParity(parity: (Int) -> Boolean): IntegerCombinableArbitrary =
+        KotestIntegerCombinableArbitrary(rangeArb, parity, predicates)
+
+    private fun withPredicate(predicate: (Int) -> Boolean): IntegerCombinableArbitrary =
+        KotestIntegerCombinableArbitrary(rangeArb, parity, predicates + predicate)
 }
@@ -20,58 +20,71 @@ package com.navercorp.fixturemonkey.kotest
 
 import com.navercorp.fixturemonkey.api.arbitrary.LongCombinableArbitrary
 import io.kotest.property.Arb
-import io.kotest.property.arbitrary.filter
 import io.kotest.property.arbitrary.long
 import io.kotest.property.arbitrary.map
 import io.kotest.property.arbitrary.negativeLong
 import io.kotest.property.arbitrary.positiveLong
-import io.kotest.property.arbitrary.single
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status
 import java.util.function.Predicate
 
+/**
+ * A [LongCombinableArbitrary] backed by Kotest [Arb], it is sampled by the seed of Fixture Monkey.
+ * The range replaces the given [Arb], the parity and the divisor replace the previous ones, the other filters are kept.
+ */
 @API(since = "1.1.16", status = Status.EXPERIMENTAL)
-class KotestLongCombinableArbitrary(private val arb: Arb<Long> = Arb.long()) : LongCombinableArbitrary {
-    override fun combined(): Long = arb.single()
+class KotestLongCombinableArbitrary private constructor(
+    private val rangeArb: Arb<Long>,
+    private val divisor: Long?,
+    private val parity: ((Long) -> Boolean)?,
+    private val predicates: List<(Long) -> Boolean>,
+) : LongCombinableArbitrary {
+    private val arb: Arb<Long> = (if (divisor == null) rangeArb else rangeArb.map { toMultipleOf(it, divisor) })
+        .filterAll(listOfNotNull(parity) + predicates)
+
+    @JvmOverloads
+    constructor(arb: Arb<Long> = Arb.long()) : this(arb, null, null, emptyList())
+
+    override fun combined(): Long = arb.sampleValue()
 
     override fun rawValue(): Long = this.combined()
 
     override fun withRange(min: Long, max: Long): LongCombinableArbitrary =
-        KotestLongCombinableArbitrary(Arb.long(min..max))
+        KotestLongCombinableArbitrary(Arb.long(min..max), divisor, parity, predicates)
 
-    override fun positive(): LongCombinableArbitrary = KotestLongCombinableArbitrary(Arb.positiveLong())
+    override fun positive(): LongCombinableArbitrary =
+        KotestLongCombinableArbitrary(Arb.positiveLong(), divisor, parity, predicates)
 
-    override fun negative(): LongCombinableArbitrary = KotestLongCombinableArbitrary(Arb.negativeLong())
+    override fun negative(): LongCombinableArbitrary =
+        KotestLongCombinableArbitrary(Arb.negativeLong(), divisor, parity, predicates)
 
-    override fun even(): LongCombinableArbitrary =
-        KotestLongCombinableArbitrary(Arb.long().map(::toEven))
+    override fun even(): LongCombinableArbitrary = this.withParity { it % 2L == 0L }
 
-    override fun odd(): LongCombinableArbitrary =
-        KotestLongCombinableArbitrary(Arb.long().map(::toOdd))
+    override fun odd(): LongCombinableArbitrary = this.withParity { it % 2L != 0L }
 
-    override fun nonZero(): LongCombinableArbitrary =
-        KotestLongCombinableArbitrary(Arb.long().map(::ensureNonZero))
+    override fun nonZero(): LongCombinableArbitrary = this.withPredicate { it != 0L }
 
-    override fun multipleOf(divisor: Long): LongCombinableArbitrary =
-        KotestLongCombinableArbitrary(Arb.long().map { toMultipleOf(it, divisor) })
+    override fun multipleOf(divisor: Long): LongCombinableArbitrary {
+        require(divisor != 0L) { "divisor must not be zero." }
+        return KotestLongCombinableArbitrary(rangeArb, divisor, parity, predicates)
+    }
 
     override fun filter(tries: Int, predicate: Predicate<Long>): LongCombinableArbitrary =
-        KotestLongCombinableArbitrary(Arb.long().filter(predicate::test))
+        this.withPredicate(predicate::test)
 
     override fun clear() {
     }
 
     override fun fixed(): Boolean = false
 
-    companion object {
-        private fun toEven(value: Long): Long = value and -2L
-
-        private fun toOdd(value: Long): Long = toEven(value) or 1L
+    private fun withParity(parity: (Long) -> Boolean): LongCombinableArbitrary =
+        KotestLongCombinableArbitrary(rangeArb, divisor, parity, predicates)
 
-        private fun ensureNonZero(value: Long): Long = if (value == 0L) 1L else value
+    private fun withPredicate(predicate: (Long) -> Boolean): LongCombinableArbitrary =
+        KotestLongCombinableArbitrary(rangeArb, divisor, parity, predicates + predicate)
 
+    companion object {
         private fun toMultipleOf(value: Long, divisor: Long): Long {
-            require(divisor != 0L) { "divisor must not be zero." }
             val remainder = value % divisor
             return if (remainder == 0L) value else value - remainder
         }
@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotest
+
+import com.navercorp.fixturemonkey.api.random.DelegatingRandom
+import com.navercorp.fixturemonkey.api.random.Randoms
+import io.kotest.property.Arb
+import io.kotest.property.RandomSource
+import io.kotest.property.arbitrary.filter
+import kotlin.random.Random
+import kotlin.random.asKotlinRandom
+
+/**
+ * Provides the [RandomSource] of the current thread, it draws from [Randoms.current].
+ * The values sampled by Kotest [Arb]s follow the seed of Fixture Monkey.
+ */
+internal object KotestRandomSources {
+    private val RANDOMS_DELEGATE: Random = DelegatingRandom.INSTANCE.asKotlinRandom()
+
+    private val RANDOM_SOURCE: ThreadLocal<RandomSource?> = ThreadLocal()
+
+    fun current(): RandomSource {
+        val seed = Randoms.currentSeed()
+        val randomSource = RANDOM_SOURCE.get()
+        if (randomSource != null && randomSource.seed == seed) {
+            return randomSource
+        }
+
+        return RandomSource(RANDOMS_DELEGATE, seed).also { RANDOM_SOURCE.set(it) }
+    }
+}
+
+/**
+ * Returns a value of the [Arb] sampled by the seeded [RandomSource] of the current thread.
+ */
+internal fun <T> Arb<T>.sampleValue(): T = this.sample(KotestRandomSources.current()).value
+
+internal fun <T> Arb<T>.filterAll(predicates: List<(T) -> Boolean>): Arb<T> =
+    if (predicates.isEmpty()) this else this.filter { value -> predicates.all { it(value) } }
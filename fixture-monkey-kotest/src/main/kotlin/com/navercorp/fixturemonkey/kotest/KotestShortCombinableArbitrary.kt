@@ -20,66 +20,70 @@ package com.navercorp.fixturemonkey.kotest
 
 import com.navercorp.fixturemonkey.api.arbitrary.ShortCombinableArbitrary
 import io.kotest.property.Arb
-import io.kotest.property.arbitrary.filter
 import io.kotest.property.arbitrary.short
-import io.kotest.property.arbitrary.single
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status
 import java.util.function.Predicate
 
+/**
+ * A [ShortCombinableArbitrary] backed by Kotest [Arb], it is sampled by the seed of Fixture Monkey.
+ * The range replaces the given [Arb] and the parity replaces the previous parity, the other filters are kept.
+ */
 @API(since = "1.1.16", status = Status.EXPERIMENTAL)
-class KotestShortCombinableArbitrary(private val arb: Arb<Short> = Arb.short()) : ShortCombinableArbitrary {
-    override fun combined(): Short = arb.single()
+class KotestShortCombinableArbitrary private constructor(
+    private val rangeArb: Arb<Short>,
+    private val parity: ((Short) -> Boolean)?,
+    private val predicates: List<(Short) -> Boolean>,
+) : ShortCombinableArbitrary {
+    private val arb: Arb<Short> = rangeArb.filterAll(listOfNotNull(parity) + predicates)
+
+    @JvmOverloads
+    constructor(arb: Arb<Short> = Arb.short()) : this(arb, null, emptyList())
+
+    override fun combined(): Short = arb.sampleValue()
 
-    override fun rawValue(): Short = arb.single()
+    override fun rawValue(): Short = this.combined()
 
     override fun withRange(min: Short, max: Short): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in min..max })
+        KotestShortCombinableArbitrary(Arb.short(min = min, max = max), parity, predicates)
 
-    override fun positive(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it > 0 })
+    override fun positive(): ShortCombinableArbitrary = this.withRange(1, Short.MAX_VALUE)
 
-    override fun negative(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it < 0 })
+    override fun negative(): ShortCombinableArbitrary = this.withRange(Short.MIN_VALUE, -1)
 
-    override fun even(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it % 2 == 0 })
+    override fun even(): ShortCombinableArbitrary = this.withParity { it % 2 == 0 }
 
-    override fun odd(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it % 2 != 0 })
+    override fun odd(): ShortCombinableArbitrary = this.withParity { it % 2 != 0 }
 
-    override fun nonZero(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it != 0.toShort() })
+    override fun nonZero(): ShortCombinableArbitrary = this.withPredicate { it != 0.toShort() }
 
-    override fun multipleOf(value: Short): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it % value == 0 })
+    override fun multipleOf(value: Short): ShortCombinableArbitrary = this.withPredicate { it % value == 0 }
 
-    override fun percentage(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in 0..100 })
+    override fun percentage(): ShortCombinableArbitrary = this.withRange(0, 100)
 
-    override fun score(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in 0..100 })
+    override fun score(): ShortCombinableArbitrary = this.withRange(0, 100)
 
-    override fun year(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in 1900..2100 })
+    override fun year(): ShortCombinableArbitrary = this.withRange(1900, 2100)
 
-    override fun month(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in 1..12 })
+    override fun month(): ShortCombinableArbitrary = this.withRange(1, 12)
 
-    override fun day(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in 1..31 })
+    override fun day(): ShortCombinableArbitrary = this.withRange(1, 31)
 
-    override fun hour(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in 0..23 })
+    override fun hour(): ShortCombinableArbitrary = this.withRange(0, 23)
 
-    override fun minute(): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(Arb.short().filter { it in 0..59 })
+    override fun minute(): ShortCombinableArbitrary = this.withRange(0, 59)
 
     override fun filter(tries: Int, predicate: Predicate<Short>): ShortCombinableArbitrary =
-        KotestShortCombinableArbitrary(arb.filter(predicate::test))
+        this.withPredicate(predicate::test)
 
     override fun clear() {
     }
 
     override fun fixed(): Boolean = false
+
+    private fun withParity(parity: (Short) -> Boolean): ShortCombinableArbitrary =
+        KotestShortCombinableArbitrary(rangeArb, parity, predicates)
+
+    private fun withPredicate(predicate: (Short) -> Boolean): ShortCombinableArbitrary =
+        KotestShortCombinableArbitrary(rangeArb, parity, predicates + predicate)
 }
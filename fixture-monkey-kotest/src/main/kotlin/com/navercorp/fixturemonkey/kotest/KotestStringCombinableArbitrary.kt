@@ -24,59 +24,65 @@ import io.kotest.property.arbitrary.Codepoint
 import io.kotest.property.arbitrary.ascii
 import io.kotest.property.arbitrary.codepoints
 import io.kotest.property.arbitrary.filter
-import io.kotest.property.arbitrary.single
+import io.kotest.property.arbitrary.int
+import io.kotest.property.arbitrary.map
+import io.kotest.property.arbitrary.of
 import io.kotest.property.arbitrary.string
 import org.apiguardian.api.API
 import org.apiguardian.api.API.Status.EXPERIMENTAL
 import java.util.function.Predicate
 
+/**
+ * A [StringCombinableArbitrary] backed by Kotest [Arb], it is sampled by the seed of Fixture Monkey.
+ * The character set is kept when the length is changed.
+ */
 @API(since = "1.1.12", status = EXPERIMENTAL)
-class KotestStringCombinableArbitrary(private val arb: Arb<String> = Arb.string()) : StringCombinableArbitrary {
-    override fun combined(): String = arb.single()
+class KotestStringCombinableArbitrary private constructor(
+    private val arb: Arb<String>,
+    private val codepoints: Arb<Codepoint>?,
+) : StringCombinableArbitrary {
+    @JvmOverloads
+    constructor(arb: Arb<String> = Arb.string()) : this(arb, null)
+
+    override fun combined(): String = arb.sampleValue()
 
-    override fun rawValue(): String = arb.single()
+    override fun rawValue(): String = this.combined()
 
     override fun filter(tries: Int, predicate: Predicate<String>): StringCombinableArbitrary =
-        KotestStringCombinableArbitrary(arb.filter { predicate.test(it) })
+        KotestStringCombinableArbitrary(arb.filter { predicate.test(it) }, codepoints)
 
     override fun withLength(min: Int, max: Int): StringCombinableArbitrary =
-        KotestStringCombinableArbitrary(Arb.string(min..max))
-
-    override fun alphabetic(): StringCombinableArbitrary = KotestStringCombinableArbitrary(
-        Arb.string(
-            codepoints = Arb.codepoints().filter { it.value.toChar() in 'a'..'z' || it.value.toChar() in 'A'..'Z' }
-        )
-    )
-
-    override fun ascii(): StringCombinableArbitrary = KotestStringCombinableArbitrary(
-        Arb.string(codepoints = Codepoint.ascii())
-    )
-
-    override fun numeric(): StringCombinableArbitrary = KotestStringCombinableArbitrary(
-        Arb.string(
-            codepoints = Arb.codepoints().filter { it.value.toChar() in '0'..'9' }
-        )
-    )
-
-    override fun korean(): StringCombinableArbitrary = KotestStringCombinableArbitrary(
-        Arb.string(
-            codepoints = Arb.codepoints().filter { it.value.toChar() in '가'..'힣' }
-        )
-    )
+        if (codepoints == null) {
+            KotestStringCombinableArbitrary(Arb.string(min..max))
+        } else {
+            KotestStringCombinableArbitrary(Arb.string(min..max, codepoints), codepoints)
+        }
+
+    override fun alphabetic(): StringCombinableArbitrary = withCodepoints(ALPHABETIC_CODEPOINTS)
+
+    override fun ascii(): StringCombinableArbitrary = withCodepoints(Codepoint.ascii())
+
+    override fun numeric(): StringCombinableArbitrary = withCodepoints(NUMERIC_CODEPOINTS)
+
+    override fun korean(): StringCombinableArbitrary = withCodepoints(KOREAN_CODEPOINTS)
 
     override fun filterCharacter(tries: Int, predicate: Predicate<Char>): StringCombinableArbitrary =
-        KotestStringCombinableArbitrary(
-            Arb.string(
-                codepoints = Arb.codepoints().filter { predicate.test(it.value.toChar()) }
-            )
-        )
+        withCodepoints((codepoints ?: Arb.codepoints()).filter { predicate.test(it.value.toChar()) })
 
     override fun clear() {
     }
 
     override fun fixed(): Boolean = false
 
+    private fun withCodepoints(codepoints: Arb<Codepoint>): StringCombinableArbitrary =
+        KotestStringCombinableArbitrary(Arb.string(codepoints = codepoints), codepoints)
+
     companion object {
-        private const val MAX_ASCII_CODEPOINT: Int = 0x007F
+        private val ALPHABETIC_CODEPOINTS: Arb<Codepoint> =
+            Arb.of((('a'..'z') + ('A'..'Z')).map { Codepoint(it.code) })
+
+        private val NUMERIC_CODEPOINTS: Arb<Codepoint> = Arb.int('0'.code..'9'.code).map(::Codepoint)
+
+        private val KOREAN_CODEPOINTS: Arb<Codepoint> = Arb.int('가'.code..'힣'.code).map(::Codepoint)
     }
 }
@@ -6,6 +6,7 @@ plugins {
 
 dependencies {
     api(projects.fixtureMonkey)
+    api(libs.kotlinx.coroutines.core)
 
     implementation(libs.kotlin.reflect)
 
@@ -32,6 +32,8 @@ import com.navercorp.fixturemonkey.customizer.InnerSpec
 import com.navercorp.fixturemonkey.experimental.ExperimentalArbitraryBuilder
 import net.jqwik.api.Arbitrary
 import net.jqwik.api.Combinators
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.Executor
 import java.util.function.BiConsumer
 import java.util.function.BiFunction
 import java.util.function.Consumer
@@ -246,6 +248,14 @@ open class KotlinTypeDefaultArbitraryBuilder<T> internal constructor(val delegat
 
     override fun sampleStream(): Stream<T> = delegate.sampleStream()
 
+    override fun sampleAsync(executor: Executor): CompletableFuture<T> = delegate.sampleAsync(executor)
+
+    override fun sampleListAsync(size: Int, executor: Executor): CompletableFuture<List<T>> =
+        delegate.sampleListAsync(size, executor)
+
+    override fun sampleShard(seed: Long, shardIndex: Int, shardCount: Int, count: Long): Stream<T> =
+        delegate.sampleShard(seed, shardIndex, shardCount, count)
+
     override fun copy(): KotlinTypeDefaultArbitraryBuilder<T> =
         InternalKotlinTypeDefaultArbitraryBuilder(delegate.copy())
 
@@ -0,0 +1,92 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin
+
+import com.navercorp.fixturemonkey.FixtureMonkey
+import com.navercorp.fixturemonkey.api.random.Randoms
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.launch
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status.EXPERIMENTAL
+import kotlin.streams.asSequence
+
+/**
+ * Returns an infinite [Flow] of [T], it is the same as `giveMeKotlinBuilder<T>().sampleFlow(concurrency)`.
+ *
+ * @see sampleFlow
+ */
+@API(since = "1.1.16", status = EXPERIMENTAL)
+inline fun <reified T : Any?> FixtureMonkey.giveMeFlow(
+    concurrency: Int = 1,
+    dispatcher: CoroutineDispatcher = Dispatchers.Default,
+): Flow<T> = this.giveMeKotlinBuilder<T>().sampleFlow(concurrency, dispatcher)
+
+/**
+ * Returns an infinite [Sequence] of the values sampled by the builder.
+ */
+@API(since = "1.1.16", status = EXPERIMENTAL)
+fun <T : Any?> KotlinTypeDefaultArbitraryBuilder<T>.sampleSequence(): Sequence<T> = this.sampleStream().asSequence()
+
+/**
+ * Returns an infinite cold [Flow] of the values sampled by the builder.
+ * The values are generated by [concurrency] producers on the [dispatcher], each producer samples a copy of the builder.
+ * Each producer generates at most one value ahead, so it waits until the collector catches up.
+ * Producing stops when the collection is cancelled or completed, for example by `take`.
+ *
+ * The n-th value is generated by its own seed derived from the current seed and n by [Randoms.splitSeed].
+ * The values are emitted in order, they are the same regardless of [concurrency]
+ * and the same as the values of `sampleShard` with the current seed.
+ */
+@API(since = "1.1.16", status = EXPERIMENTAL)
+fun <T : Any?> KotlinTypeDefaultArbitraryBuilder<T>.sampleFlow(
+    concurrency: Int = 1,
+    dispatcher: CoroutineDispatcher = Dispatchers.Default,
+): Flow<T> {
+    require(concurrency > 0) { "concurrency must be positive. concurrency: $concurrency" }
+
+    val snapshot = this.copy()
+    return flow {
+        val baseSeed = Randoms.currentSeed()
+        coroutineScope {
+            val producers = List(concurrency) { producerIndex ->
+                val builder = snapshot.copy()
+                val values = Channel<T>(capacity = 1)
+                launch(dispatcher) {
+                    var index = producerIndex.toLong()
+                    while (true) {
+                        values.send(Randoms.withSeed(Randoms.splitSeed(baseSeed, index)) { builder.sample() })
+                        index += concurrency
+                    }
+                }
+                values
+            }
+
+            var index = 0
+            while (true) {
+                emit(producers[index].receive())
+                index = (index + 1) % concurrency
+            }
+        }
+    }
+}
@@ -35,28 +35,61 @@ import com.navercorp.fixturemonkey.kotlin.generator.TripleContainerPropertyGener
 import com.navercorp.fixturemonkey.kotlin.generator.TripleDecomposedContainerValueFactory
 import com.navercorp.fixturemonkey.kotlin.instantiator.KotlinInstantiatorProcessor
 import com.navercorp.fixturemonkey.kotlin.introspector.KotlinDurationIntrospector
+import com.navercorp.fixturemonkey.kotlin.introspector.KotlinMetadataPrimaryConstructorArbitraryIntrospector
+import com.navercorp.fixturemonkey.kotlin.introspector.KotlinValueClassArbitraryIntrospector
 import com.navercorp.fixturemonkey.kotlin.introspector.PairIntrospector
 import com.navercorp.fixturemonkey.kotlin.introspector.PrimaryConstructorArbitraryIntrospector
 import com.navercorp.fixturemonkey.kotlin.introspector.TripleIntrospector
 import com.navercorp.fixturemonkey.kotlin.matcher.Matchers.DURATION_TYPE_MATCHER
 import com.navercorp.fixturemonkey.kotlin.matcher.Matchers.PAIR_TYPE_MATCHER
 import com.navercorp.fixturemonkey.kotlin.matcher.Matchers.TRIPLE_TYPE_MATCHER
+import com.navercorp.fixturemonkey.kotlin.matcher.Matchers.VALUE_CLASS_TYPE_MATCHER
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import com.navercorp.fixturemonkey.kotlin.property.KotlinMetadataPropertyGenerator
 import com.navercorp.fixturemonkey.kotlin.property.KotlinPropertyGenerator
 import com.navercorp.fixturemonkey.kotlin.type.actualType
 import com.navercorp.fixturemonkey.kotlin.type.cachedKotlin
 import com.navercorp.fixturemonkey.kotlin.type.isKotlinLambda
 import com.navercorp.fixturemonkey.kotlin.type.isKotlinType
 import org.apiguardian.api.API
+import org.apiguardian.api.API.Status.EXPERIMENTAL
 import org.apiguardian.api.API.Status.MAINTAINED
 import java.lang.reflect.Modifier
 
 @API(since = "0.4.0", status = MAINTAINED)
 class KotlinPlugin : Plugin {
+    private var kotlinMetadataReader = false
+
+    /**
+     * Generates the properties and instantiates the Kotlin classes by reading `@kotlin.Metadata`
+     * instead of kotlin-reflect, which is expensive to load for each class.
+     * The classes it can not instantiate without kotlin-reflect, such as inner classes, still use kotlin-reflect.
+     * Value classes are instantiated by their compiler-generated methods as well,
+     * their nodes are kept in the tree, so it saves the kotlin-reflect calls, not the nodes.
+     *
+     * @see KotlinMetadataReader
+     */
+    @API(since = "1.1.16", status = EXPERIMENTAL)
+    fun useKotlinMetadataReader(kotlinMetadataReader: Boolean): KotlinPlugin = apply {
+        this.kotlinMetadataReader = kotlinMetadataReader
+    }
+
     override fun accept(optionsBuilder: FixtureMonkeyOptionsBuilder) {
+        val primaryConstructorArbitraryIntrospector = if (kotlinMetadataReader) {
+            KotlinMetadataPrimaryConstructorArbitraryIntrospector.INSTANCE
+        } else {
+            PrimaryConstructorArbitraryIntrospector.INSTANCE
+        }
+        val kotlinPropertyGenerator = if (kotlinMetadataReader) {
+            KotlinMetadataPropertyGenerator()
+        } else {
+            KotlinPropertyGenerator()
+        }
+
         optionsBuilder.objectIntrospector {
             MatchArbitraryIntrospector(
                 listOf(
-                    PrimaryConstructorArbitraryIntrospector.INSTANCE,
+                    primaryConstructorArbitraryIntrospector,
                     it
                 )
             )
@@ -66,7 +99,7 @@ class KotlinPlugin : Plugin {
                     listOf(
                         MatcherOperator(
                             { property -> property.type.actualType().isKotlinType() },
-                            KotlinPropertyGenerator()
+                            kotlinPropertyGenerator
                         ),
                         MatcherOperator({ true }, DefaultPropertyGenerator())
                     )
@@ -127,5 +160,19 @@ class KotlinPlugin : Plugin {
                 TripleDecomposedContainerValueFactory(),
             )
             .instantiatorProcessor(KotlinInstantiatorProcessor())
+
+        if (kotlinMetadataReader) {
+            optionsBuilder
+                .insertFirstPropertyGenerator(
+                    MatcherOperator(
+                        VALUE_CLASS_TYPE_MATCHER,
+                        KotlinValueClassArbitraryIntrospector.PROPERTY_GENERATOR,
+                    ),
+                )
+                .insertFirstArbitraryIntrospector(
+                    VALUE_CLASS_TYPE_MATCHER,
+                    KotlinValueClassArbitraryIntrospector.INSTANCE,
+                )
+        }
     }
 }
@@ -0,0 +1,221 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.introspector
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
+import com.navercorp.fixturemonkey.api.matcher.Matcher
+import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator
+import com.navercorp.fixturemonkey.api.type.TypeCache
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinClassMetadata
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinParameterMetadata
+import com.navercorp.fixturemonkey.kotlin.property.KotlinMetadataConstructorParameterPropertyGenerator
+import com.navercorp.fixturemonkey.kotlin.type.KotlinValueClasses
+import com.navercorp.fixturemonkey.kotlin.type.actualType
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+import java.lang.reflect.Constructor
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Modifier
+
+/**
+ * Instantiates a Kotlin class by its primary constructor, which is resolved by `@kotlin.Metadata`
+ * instead of kotlin-reflect. The omitted parameters with default values are passed to
+ * the synthetic constructor generated for the default values.
+ *
+ * The parameters declared as value classes are unboxed, the Java constructor takes the underlying values.
+ * The classes it can not instantiate by the Java constructors, such as value classes or inner classes,
+ * are delegated to [PrimaryConstructorArbitraryIntrospector].
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+class KotlinMetadataPrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector, Matcher {
+    override fun match(property: Property): Boolean {
+        val metadata = KotlinMetadataReader.read(property.type.actualType()) ?: return false
+        return !metadata.isObject && metadata.primaryConstructor != null
+    }
+
+    override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
+        val type = Types.getActualType(context.resolvedType)
+        if (Modifier.isAbstract(type.modifiers)) {
+            return ArbitraryIntrospectorResult.NOT_INTROSPECTED
+        }
+
+        val primaryConstructor = JAVA_PRIMARY_CONSTRUCTORS.get(type)
+            ?: return PrimaryConstructorArbitraryIntrospector.INSTANCE.introspect(context)
+        val parameters = primaryConstructor.parameters
+
+        return ArbitraryIntrospectorResult(
+            CombinableArbitrary.objectBuilder()
+                .properties(context.combinableArbitrariesByArbitraryProperty)
+                .buildBySlots { slots ->
+                    val slotIndexes = parameters.map { parameter ->
+                        slots.indexOfLast { it.objectProperty.property.name == parameter.name }
+                    }.toIntArray()
+
+                    SlotCombinator { values ->
+                        val arguments = arrayOfNulls<Any?>(parameters.size)
+                        var masks: IntArray? = null
+                        for ((index, parameter) in parameters.withIndex()) {
+                            val slotIndex = slotIndexes[index]
+                            val resolvedArbitrary = if (slotIndex == -1) null else values[slotIndex]
+                            val useDefaultValue = resolvedArbitrary == null &&
+                                parameter.declaresDefaultValue &&
+                                !parameter.isNullable &&
+                                primaryConstructor.defaultsConstructor != null
+
+                            if (useDefaultValue) {
+                                if (masks == null) {
+                                    masks = IntArray((parameters.size + Int.SIZE_BITS - 1) / Int.SIZE_BITS)
+                                }
+                                masks[index / Int.SIZE_BITS] = masks[index / Int.SIZE_BITS] or
+                                    (1 shl (index % Int.SIZE_BITS))
+                                arguments[index] = defaultValue(primaryConstructor.constructor.parameterTypes[index])
+                            } else {
+                                arguments[index] = resolvedArbitrary
+                            }
+                        }
+
+                        primaryConstructor.newInstance(arguments, masks)
+                    }
+                },
+        )
+    }
+
+    override fun getRequiredPropertyGenerator(p: Property): PropertyGenerator = PROPERTY_GENERATOR
+
+    private class JavaPrimaryConstructor(
+        val constructor: Constructor<*>,
+        val defaultsConstructor: Constructor<*>?,
+        val parameters: List<KotlinParameterMetadata>,
+        private val unboxedParameters: BooleanArray,
+    ) {
+        fun newInstance(arguments: Array<Any?>, masks: IntArray?): Any? = try {
+            for (index in arguments.indices) {
+                val argument = arguments[index]
+                if (unboxedParameters[index] && argument != null) {
+                    arguments[index] = KotlinValueClasses.unbox(argument)
+                }
+            }
+
+            if (masks == null) {
+                constructor.newInstance(*arguments)
+            } else {
+                defaultsConstructor!!.newInstance(*arguments, *masks.toTypedArray(), null)
+            }
+        } catch (ex: InvocationTargetException) {
+            throw ex.targetException
+        }
+    }
+
+    companion object {
+        val INSTANCE = KotlinMetadataPrimaryConstructorArbitraryIntrospector()
+        internal val PROPERTY_GENERATOR = KotlinMetadataConstructorParameterPropertyGenerator()
+        private const val DEFAULT_CONSTRUCTOR_MARKER = "kotlin.jvm.internal.DefaultConstructorMarker"
+
+        private val JAVA_PRIMARY_CONSTRUCTORS = object : ClassValue<JavaPrimaryConstructor?>() {
+            override fun computeValue(type: Class<*>): JavaPrimaryConstructor? =
+                KotlinMetadataReader.read(type)?.let { resolveJavaPrimaryConstructor(it) }
+        }
+
+        /**
+         * Resolves the Java constructor of the primary constructor.
+         * The constructor would be found by the JVM descriptor in the metadata if it exists,
+         * otherwise by the number of parameters and the types of the fields named after the parameters.
+         */
+        private fun resolveJavaPrimaryConstructor(metadata: KotlinClassMetadata): JavaPrimaryConstructor? {
+            val primaryConstructor = metadata.primaryConstructor ?: return null
+            if (metadata.isValueClass || metadata.isInner) {
+                return null
+            }
+
+            val parameters = primaryConstructor.parameters
+            val candidates = TypeCache.getDeclaredConstructors(metadata.type)
+                .filter { !it.isSynthetic && it.parameterCount == parameters.size }
+
+            val jvmDescriptor = primaryConstructor.jvmDescriptor
+            val constructor = if (jvmDescriptor != null) {
+                candidates.firstOrNull { it.descriptor() == jvmDescriptor }
+            } else {
+                val fieldsByName = TypeCache.getFieldsByName(metadata.type)
+                candidates.singleOrNull()
+                    ?: candidates.firstOrNull { candidate ->
+                        candidate.parameterTypes.withIndex().all { (index, parameterType) ->
+                            fieldsByName[parameters[index].name]?.type == parameterType
+                        }
+                    }
+            } ?: return null
+
+            val maskCount = (parameters.size + Int.SIZE_BITS - 1) / Int.SIZE_BITS
+            val defaultsConstructor = TypeCache.getDeclaredConstructors(metadata.type)
+                .firstOrNull {
+                    val parameterTypes = it.parameterTypes
+                    it.isSynthetic &&
+                        parameterTypes.size == parameters.size + maskCount + 1 &&
+                        parameterTypes.last().name == DEFAULT_CONSTRUCTOR_MARKER &&
+                        parameterTypes.copyOf(parameters.size).contentEquals(constructor.parameterTypes)
+                }
+
+            val unboxedParameters = BooleanArray(parameters.size) { index ->
+                val valueClass = parameters[index].className
+                    ?.let { KotlinMetadataReader.loadClass(it, metadata.type.classLoader) }
+                    ?.takeIf { KotlinValueClasses.isValueClass(it) }
+                valueClass != null && constructor.parameterTypes[index] != valueClass
+            }
+
+            constructor.isAccessible = true
+            defaultsConstructor?.isAccessible = true
+            return JavaPrimaryConstructor(constructor, defaultsConstructor, parameters, unboxedParameters)
+        }
+
+        private fun Constructor<*>.descriptor(): String =
+            parameterTypes.joinToString(separator = "", prefix = "(", postfix = ")V") { it.descriptor() }
+
+        private fun Class<*>.descriptor(): String = when {
+            this == Int::class.javaPrimitiveType -> "I"
+            this == Long::class.javaPrimitiveType -> "J"
+            this == Boolean::class.javaPrimitiveType -> "Z"
+            this == Byte::class.javaPrimitiveType -> "B"
+            this == Char::class.javaPrimitiveType -> "C"
+            this == Short::class.javaPrimitiveType -> "S"
+            this == Float::class.javaPrimitiveType -> "F"
+            this == Double::class.javaPrimitiveType -> "D"
+            this == Void.TYPE -> "V"
+            isArray -> name.replace('.', '/')
+            else -> "L" + name.replace('.', '/') + ";"
+        }
+
+        private fun defaultValue(type: Class<*>): Any? = when (type) {
+            Int::class.javaPrimitiveType -> 0
+            Long::class.javaPrimitiveType -> 0L
+            Boolean::class.javaPrimitiveType -> false
+            Byte::class.javaPrimitiveType -> 0.toByte()
+            Char::class.javaPrimitiveType -> 0.toChar()
+            Short::class.javaPrimitiveType -> 0.toShort()
+            Float::class.javaPrimitiveType -> 0f
+            Double::class.javaPrimitiveType -> 0.0
+            else -> null
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.introspector
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator
+import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
+import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
+import com.navercorp.fixturemonkey.api.matcher.Matcher
+import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.kotlin.property.KotlinValueClassPropertyGenerator
+import com.navercorp.fixturemonkey.kotlin.type.KotlinValueClasses
+import com.navercorp.fixturemonkey.kotlin.type.actualType
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+
+/**
+ * Generates an instance of a Kotlin value class by `constructor-impl` and `box-impl`, which run its `init` blocks.
+ * It does not resolve the primary constructor nor call it by kotlin-reflect.
+ * It is used only if [com.navercorp.fixturemonkey.kotlin.KotlinPlugin.useKotlinMetadataReader] is enabled.
+ *
+ * The value class node is not collapsed into its underlying node, the tree has as many nodes as
+ * the kotlin-reflect path. It only replaces the reflective instantiation.
+ * The value class itself could be set as a whole, and the underlying value could be manipulated
+ * by the expressions through the value class, such as `amount.value`.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+class KotlinValueClassArbitraryIntrospector : ArbitraryIntrospector, Matcher {
+    override fun match(property: Property): Boolean = KotlinValueClasses.isBoxable(property.type.actualType())
+
+    override fun introspect(context: ArbitraryGeneratorContext): ArbitraryIntrospectorResult {
+        val valueClass = Types.getActualType(context.resolvedType)
+        val underlyingField = KotlinValueClasses.getUnderlyingField(valueClass)
+            ?: return ArbitraryIntrospectorResult.NOT_INTROSPECTED
+
+        return ArbitraryIntrospectorResult(
+            CombinableArbitrary.objectBuilder()
+                .properties(context.combinableArbitrariesByArbitraryProperty)
+                .buildBySlots { slots ->
+                    val slotIndex = slots.indexOfFirst { it.objectProperty.property.name == underlyingField.name }
+
+                    SlotCombinator { values ->
+                        KotlinValueClasses.box(valueClass, if (slotIndex == -1) null else values[slotIndex])
+                    }
+                },
+        )
+    }
+
+    override fun getRequiredPropertyGenerator(p: Property): PropertyGenerator = PROPERTY_GENERATOR
+
+    companion object {
+        val INSTANCE = KotlinValueClassArbitraryIntrospector()
+        internal val PROPERTY_GENERATOR: PropertyGenerator = KotlinValueClassPropertyGenerator()
+    }
+}
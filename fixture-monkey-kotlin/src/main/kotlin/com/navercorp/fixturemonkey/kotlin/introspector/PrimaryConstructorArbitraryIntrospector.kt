@@ -19,6 +19,7 @@
 package com.navercorp.fixturemonkey.kotlin.introspector
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
+import com.navercorp.fixturemonkey.api.arbitrary.SlotCombinator
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospectorResult
@@ -62,19 +63,24 @@ class PrimaryConstructorArbitraryIntrospector : ArbitraryIntrospector, Matcher {
         return ArbitraryIntrospectorResult(
             CombinableArbitrary.objectBuilder()
                 .properties(context.combinableArbitrariesByArbitraryProperty)
-                .build {
-                    val arbitrariesByPropertyName: Map<String?, Any?> =
-                        it.mapKeys { map -> map.key.objectProperty.property.name }
-                    val generatedByParameters = mutableMapOf<KParameter, Any?>()
+                .buildBySlots { slots ->
+                    val parameters = constructor.parameters
+                    val slotIndexes = parameters.map { parameter ->
+                        slots.indexOfLast { it.objectProperty.property.name == parameter.name }
+                    }.toIntArray()
 
-                    for (parameter in constructor.parameters) {
-                        val resolvedArbitrary = arbitrariesByPropertyName[parameter.name]
-                        if (resolvedArbitrary != null || !parameter.isOptional || parameter.type.isMarkedNullable) {
-                            generatedByParameters[parameter] = resolvedArbitrary
+                    SlotCombinator { values ->
+                        val generatedByParameters = HashMap<KParameter, Any?>(parameters.size * 2)
+                        for ((index, parameter) in parameters.withIndex()) {
+                            val slotIndex = slotIndexes[index]
+                            val resolvedArbitrary = if (slotIndex == -1) null else values[slotIndex]
+                            if (resolvedArbitrary != null || !parameter.isOptional || parameter.type.isMarkedNullable) {
+                                generatedByParameters[parameter] = resolvedArbitrary
+                            }
                         }
-                    }
 
-                    constructor.callBy(generatedByParameters)
+                        constructor.callBy(generatedByParameters)
+                    }
                 },
         )
     }
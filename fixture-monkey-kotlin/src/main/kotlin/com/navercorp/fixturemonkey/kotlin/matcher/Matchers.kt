@@ -2,7 +2,10 @@ package com.navercorp.fixturemonkey.kotlin.matcher
 
 import com.navercorp.fixturemonkey.api.matcher.AssignableTypeMatcher
 import com.navercorp.fixturemonkey.api.matcher.DoubleGenericTypeMatcher
+import com.navercorp.fixturemonkey.api.matcher.Matcher
 import com.navercorp.fixturemonkey.api.matcher.TripleGenericTypeMatcher
+import com.navercorp.fixturemonkey.kotlin.type.KotlinValueClasses
+import com.navercorp.fixturemonkey.kotlin.type.actualType
 import kotlin.time.Duration
 
 object Matchers {
@@ -11,4 +14,11 @@ object Matchers {
     val TRIPLE_TYPE_MATCHER = AssignableTypeMatcher(Triple::class.java).intersect(TripleGenericTypeMatcher())
 
     val DURATION_TYPE_MATCHER = AssignableTypeMatcher(Duration::class.java)
+
+    /**
+     * Matches the value classes which could be boxed by `box-impl`, except for [Duration] having its own introspector.
+     */
+    val VALUE_CLASS_TYPE_MATCHER = Matcher { property ->
+        KotlinValueClasses.isBoxable(property.type.actualType()) && !DURATION_TYPE_MATCHER.match(property)
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.metadata
+
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+
+/**
+ * The declarations of a Kotlin class read from its `@kotlin.Metadata` by [KotlinMetadataReader].
+ * It contains only what the fixture generation needs, the members inherited from the super classes are not included.
+ *
+ * @property primaryConstructor the primary constructor, `null` if the class does not declare it
+ * @property properties the properties declared in the class, in the order of the metadata
+ * @property valueClassUnderlyingPropertyName the name of the property wrapped by the value class
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+data class KotlinClassMetadata(
+    val type: Class<*>,
+    val isData: Boolean,
+    val isValueClass: Boolean,
+    val isInner: Boolean,
+    val isObject: Boolean,
+    val isSealed: Boolean,
+    val isAbstract: Boolean,
+    val primaryConstructor: KotlinConstructorMetadata?,
+    val properties: List<KotlinPropertyMetadata>,
+    val valueClassUnderlyingPropertyName: String?,
+)
+
+/**
+ * @property jvmDescriptor the JVM descriptor of the constructor,
+ * it exists only if the compiler could not derive it from the parameter types.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+data class KotlinConstructorMetadata(
+    val parameters: List<KotlinParameterMetadata>,
+    val jvmDescriptor: String?,
+)
+
+/**
+ * @property className the binary name of the declared class of the parameter type,
+ * `null` if it is a type parameter or could not be resolved
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+data class KotlinParameterMetadata(
+    val name: String,
+    val isNullable: Boolean,
+    val declaresDefaultValue: Boolean,
+    val className: String?,
+)
+
+/**
+ * @property className the binary name of the declared class of the return type,
+ * `null` if it is a type parameter or could not be resolved
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+data class KotlinPropertyMetadata(
+    val name: String,
+    val isNullable: Boolean,
+    val className: String?,
+)
@@ -0,0 +1,504 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.metadata
+
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+import org.slf4j.LoggerFactory
+import java.nio.charset.StandardCharsets
+
+/**
+ * Reads the declarations of a Kotlin class from `@kotlin.Metadata` without kotlin-reflect.
+ * It decodes only the protobuf fields of the class, the primary constructor and the properties,
+ * the others are skipped.
+ *
+ * The results are cached by [ClassValue], they are not evicted while the class is alive
+ * and the reads after the first one do not take any lock.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+object KotlinMetadataReader {
+    private val LOGGER = LoggerFactory.getLogger(KotlinMetadataReader::class.java)
+
+    private const val CLASS_KIND = 1
+    private const val UTF8_MODE_MARKER = '\u0000'
+
+    private val CLASS_METADATA = object : ClassValue<KotlinClassMetadata?>() {
+        override fun computeValue(type: Class<*>): KotlinClassMetadata? = readClassMetadata(type)
+    }
+
+    private val MEMBER_PROPERTIES = object : ClassValue<List<KotlinPropertyMetadata>>() {
+        override fun computeValue(type: Class<*>): List<KotlinPropertyMetadata> = collectMemberProperties(type)
+    }
+
+    /**
+     * Returns the metadata of the given type.
+     *
+     * @return `null` if the given type is not a Kotlin class, such as a Java class, a file facade or a lambda
+     */
+    fun read(type: Class<*>): KotlinClassMetadata? = CLASS_METADATA.get(type)
+
+    /**
+     * Returns the properties of the given type including the properties declared in the Kotlin super classes.
+     * The properties declared in the given type come first, an overridden property appears only once.
+     */
+    fun readMemberProperties(type: Class<*>): List<KotlinPropertyMetadata> = MEMBER_PROPERTIES.get(type)
+
+    /**
+     * Loads the class of the given binary name without initializing it.
+     *
+     * @return `null` if the class could not be loaded,
+     * the Kotlin built-in types such as `kotlin.String` are not loaded.
+     */
+    fun loadClass(className: String, classLoader: ClassLoader?): Class<*>? = try {
+        Class.forName(className, false, classLoader)
+    } catch (ex: ClassNotFoundException) {
+        null
+    } catch (ex: LinkageError) {
+        null
+    }
+
+    private fun collectMemberProperties(type: Class<*>): List<KotlinPropertyMetadata> {
+        val properties = LinkedHashMap<String, KotlinPropertyMetadata>()
+        var current: Class<*>? = type
+        while (current != null && current != Any::class.java) {
+            read(current)?.properties?.forEach { properties.putIfAbsent(it.name, it) }
+            current = current.superclass
+        }
+        return properties.values.toList()
+    }
+
+    private fun readClassMetadata(type: Class<*>): KotlinClassMetadata? {
+        val metadata = type.getAnnotation(Metadata::class.java) ?: return null
+        if (metadata.kind != CLASS_KIND) {
+            return null
+        }
+
+        return try {
+            val bytes = decodeBytes(metadata.data1)
+            val reader = ProtoReader(bytes, 0, bytes.size)
+            // the string table is written ahead of the class, prefixed by its length
+            val nameResolver = NameResolver(metadata.data2, reader.readMessage())
+            ClassProtoParser(type, nameResolver).parse(reader)
+        } catch (ex: RuntimeException) {
+            LOGGER.debug("Failed to read the kotlin metadata of {}.", type, ex)
+            null
+        }
+    }
+
+    private fun decodeBytes(data: Array<String>): ByteArray {
+        if (data.isNotEmpty() && data[0].isNotEmpty() && data[0][0] == UTF8_MODE_MARKER) {
+            return stringsToBytes(data, 1)
+        }
+
+        val bytes = stringsToBytes(data, 0)
+        for (i in bytes.indices) {
+            bytes[i] = ((bytes[i] + 0x7F) and 0x7F).toByte()
+        }
+        return decode7to8(bytes)
+    }
+
+    private fun stringsToBytes(data: Array<String>, offset: Int): ByteArray {
+        val length = data.sumOf { it.length } - offset
+        val bytes = ByteArray(length)
+        var index = 0
+        for ((stringIndex, string) in data.withIndex()) {
+            val start = if (stringIndex == 0) offset else 0
+            for (charIndex in start until string.length) {
+                bytes[index++] = string[charIndex].code.toByte()
+            }
+        }
+        return bytes
+    }
+
+    /**
+     * The older compilers store each byte in 7 bits, it restores the 8 bits bytes.
+     */
+    private fun decode7to8(data: ByteArray): ByteArray {
+        val resultLength = 7 * data.size / 8
+        val result = ByteArray(resultLength)
+        var byteIndex = 0
+        var bit = 0
+        for (i in 0 until resultLength) {
+            val firstPart = (data[byteIndex].toInt() and 0xFF) ushr bit
+            byteIndex++
+            val secondPart = (data[byteIndex].toInt() and ((1 shl (bit + 1)) - 1)) shl (7 - bit)
+            result[i] = (firstPart + secondPart).toByte()
+            if (bit == 6) {
+                byteIndex++
+                bit = 0
+            } else {
+                bit++
+            }
+        }
+        return result
+    }
+
+    /**
+     * Parses `kotlin.metadata.ProtoBuf.Class`, the field numbers follow `metadata.proto` of the Kotlin compiler.
+     */
+    private class ClassProtoParser(
+        private val type: Class<*>,
+        private val nameResolver: NameResolver,
+    ) {
+        private val types = mutableListOf<ProtoReader>()
+        private var firstNullableTypeIndex = -1
+
+        fun parse(reader: ProtoReader): KotlinClassMetadata {
+            var flags = 6
+            var underlyingPropertyName: Int? = null
+            val constructors = mutableListOf<ProtoReader>()
+            val properties = mutableListOf<ProtoReader>()
+
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    1 -> flags = reader.readInt()
+                    8 -> constructors.add(reader.readMessage())
+                    10 -> properties.add(reader.readMessage())
+                    17 -> underlyingPropertyName = reader.readInt()
+                    30 -> readTypeTable(reader.readMessage())
+                    else -> reader.skip(tag and 7)
+                }
+            }
+
+            val modality = (flags ushr 4) and 0x3
+            val classKind = (flags ushr 6) and 0x7
+            val valueClassUnderlyingPropertyName = underlyingPropertyName?.let(nameResolver::getString)
+            return KotlinClassMetadata(
+                type = type,
+                isData = flags and (1 shl 10) != 0,
+                isValueClass = flags and (1 shl 13) != 0 || valueClassUnderlyingPropertyName != null,
+                isInner = flags and (1 shl 9) != 0,
+                isObject = classKind == OBJECT_KIND || classKind == COMPANION_OBJECT_KIND,
+                isSealed = modality == SEALED_MODALITY,
+                isAbstract = modality == ABSTRACT_MODALITY || classKind == INTERFACE_KIND,
+                primaryConstructor = constructors.map(::parseConstructor).firstOrNull { it.first }?.second,
+                properties = properties.mapNotNull(::parseProperty),
+                valueClassUnderlyingPropertyName = valueClassUnderlyingPropertyName,
+            )
+        }
+
+        private fun readTypeTable(reader: ProtoReader) {
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    1 -> types.add(reader.readMessage())
+                    2 -> firstNullableTypeIndex = reader.readInt()
+                    else -> reader.skip(tag and 7)
+                }
+            }
+        }
+
+        /**
+         * Returns whether it is the primary constructor with the parsed constructor.
+         */
+        private fun parseConstructor(reader: ProtoReader): Pair<Boolean, KotlinConstructorMetadata> {
+            var flags = 6
+            val parameters = mutableListOf<KotlinParameterMetadata>()
+            var jvmDescriptor: String? = null
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    1 -> flags = reader.readInt()
+                    2 -> parameters.add(parseValueParameter(reader.readMessage()))
+                    JVM_SIGNATURE_FIELD -> jvmDescriptor = parseJvmDescriptor(reader.readMessage())
+                    else -> reader.skip(tag and 7)
+                }
+            }
+            val secondary = flags and (1 shl 4) != 0
+            return !secondary to KotlinConstructorMetadata(parameters, jvmDescriptor)
+        }
+
+        private fun parseJvmDescriptor(reader: ProtoReader): String? {
+            var descriptor: String? = null
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    2 -> descriptor = nameResolver.getString(reader.readInt())
+                    else -> reader.skip(tag and 7)
+                }
+            }
+            return descriptor
+        }
+
+        private fun parseValueParameter(reader: ProtoReader): KotlinParameterMetadata {
+            var flags = 0
+            var name = ""
+            var parameterType: TypeInfo? = null
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    1 -> flags = reader.readInt()
+                    2 -> name = nameResolver.getString(reader.readInt())
+                    3 -> parameterType = parseType(reader.readMessage())
+                    5 -> parameterType = typeOf(reader.readInt())
+                    else -> reader.skip(tag and 7)
+                }
+            }
+            return KotlinParameterMetadata(
+                name = name,
+                isNullable = parameterType?.nullable ?: false,
+                declaresDefaultValue = flags and (1 shl 1) != 0,
+                className = parameterType?.className,
+            )
+        }
+
+        /**
+         * The extension properties declared in the class are excluded, they are not the state of the class.
+         */
+        private fun parseProperty(reader: ProtoReader): KotlinPropertyMetadata? {
+            var name = ""
+            var returnType: TypeInfo? = null
+            var extension = false
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    2 -> name = nameResolver.getString(reader.readInt())
+                    3 -> returnType = parseType(reader.readMessage())
+                    9 -> returnType = typeOf(reader.readInt())
+                    5, 10 -> {
+                        extension = true
+                        reader.skip(tag and 7)
+                    }
+
+                    else -> reader.skip(tag and 7)
+                }
+            }
+            if (extension) {
+                return null
+            }
+            return KotlinPropertyMetadata(name, returnType?.nullable ?: false, returnType?.className)
+        }
+
+        private fun typeOf(typeIndex: Int): TypeInfo? {
+            val typeReader = types.getOrNull(typeIndex) ?: return null
+            val typeInfo = parseType(typeReader.copy())
+            val nullableByTable = firstNullableTypeIndex in 0..typeIndex
+            return if (nullableByTable) typeInfo.copy(nullable = true) else typeInfo
+        }
+
+        private fun parseType(reader: ProtoReader): TypeInfo {
+            var nullable = false
+            var className: String? = null
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    3 -> nullable = reader.readInt() != 0
+                    6 -> className = nameResolver.getClassName(reader.readInt())
+                    else -> reader.skip(tag and 7)
+                }
+            }
+            return TypeInfo(nullable, className)
+        }
+    }
+
+    private data class TypeInfo(val nullable: Boolean, val className: String?)
+
+    /**
+     * Resolves the string indexes of the metadata by `JvmProtoBuf.StringTableTypes`,
+     * the strings are stored in `d2` and the records describe how to transform them.
+     */
+    private class NameResolver(private val strings: Array<String>, stringTableTypes: ProtoReader) {
+        private val records = mutableListOf<StringRecord>()
+        private val localNameIndexes = mutableSetOf<Int>()
+
+        init {
+            while (stringTableTypes.hasNext()) {
+                val tag = stringTableTypes.readInt()
+                when (tag ushr 3) {
+                    1 -> {
+                        val record = parseRecord(stringTableTypes.readMessage())
+                        repeat(record.range) { records.add(record) }
+                    }
+
+                    5 -> localNameIndexes.addAll(stringTableTypes.readInts(tag and 7))
+                    else -> stringTableTypes.skip(tag and 7)
+                }
+            }
+        }
+
+        fun getString(index: Int): String {
+            val record = records.getOrNull(index)
+            var string = when {
+                record?.string != null -> record.string
+                record?.predefinedIndex != null -> return PREDEFINED_STRING
+                else -> strings[index]
+            }
+            if (record == null) {
+                return string
+            }
+
+            val substringIndex = record.substringIndex
+            if (substringIndex.size >= 2) {
+                val begin = substringIndex[0]
+                val end = substringIndex[1]
+                if (begin in 0..end && end <= string.length) {
+                    string = string.substring(begin, end)
+                }
+            }
+            val replaceChar = record.replaceChar
+            if (replaceChar.size >= 2) {
+                string = string.replace(replaceChar[0].toChar(), replaceChar[1].toChar())
+            }
+            when (record.operation) {
+                INTERNAL_TO_CLASS_ID -> string = string.replace('$', '.')
+                DESC_TO_CLASS_ID -> {
+                    if (string.length >= 2) {
+                        string = string.substring(1, string.length - 1)
+                    }
+                    string = string.replace('$', '.')
+                }
+            }
+            return string
+        }
+
+        /**
+         * Converts the class id such as `a/b/Outer.Inner` into the binary name `a.b.Outer$Inner`.
+         * The local classes and the predefined Kotlin types are not resolved.
+         */
+        fun getClassName(index: Int): String? {
+            if (index in localNameIndexes) {
+                return null
+            }
+
+            val classId = getString(index)
+            if (classId == PREDEFINED_STRING || classId.startsWith(".")) {
+                return null
+            }
+
+            val packageEnd = classId.lastIndexOf('/') + 1
+            return classId.substring(0, packageEnd).replace('/', '.') + classId.substring(packageEnd).replace('.', '$')
+        }
+
+        private fun parseRecord(reader: ProtoReader): StringRecord {
+            var range = 1
+            var predefinedIndex: Int? = null
+            var string: String? = null
+            var operation = 0
+            var substringIndex = emptyList<Int>()
+            var replaceChar = emptyList<Int>()
+            while (reader.hasNext()) {
+                val tag = reader.readInt()
+                when (tag ushr 3) {
+                    1 -> range = reader.readInt()
+                    2 -> predefinedIndex = reader.readInt()
+                    3 -> operation = reader.readInt()
+                    4 -> substringIndex = substringIndex + reader.readInts(tag and 7)
+                    5 -> replaceChar = replaceChar + reader.readInts(tag and 7)
+                    6 -> string = reader.readString()
+                    else -> reader.skip(tag and 7)
+                }
+            }
+            return StringRecord(range, predefinedIndex, string, operation, substringIndex, replaceChar)
+        }
+    }
+
+    private class StringRecord(
+        val range: Int,
+        val predefinedIndex: Int?,
+        val string: String?,
+        val operation: Int,
+        val substringIndex: List<Int>,
+        val replaceChar: List<Int>,
+    )
+
+    private class ProtoReader(
+        private val bytes: ByteArray,
+        private var position: Int,
+        private val limit: Int,
+    ) {
+        private val start = position
+
+        fun hasNext(): Boolean = position < limit
+
+        fun copy(): ProtoReader = ProtoReader(bytes, start, limit)
+
+        fun readInt(): Int = readVarint().toInt()
+
+        fun readVarint(): Long {
+            var shift = 0
+            var result = 0L
+            while (shift < 64) {
+                val byte = bytes[position++].toInt()
+                result = result or ((byte and 0x7F).toLong() shl shift)
+                if (byte and 0x80 == 0) {
+                    return result
+                }
+                shift += 7
+            }
+            throw IllegalStateException("Malformed varint in kotlin metadata.")
+        }
+
+        fun readMessage(): ProtoReader {
+            val length = readInt()
+            val message = ProtoReader(bytes, position, position + length)
+            position += length
+            return message
+        }
+
+        fun readString(): String {
+            val length = readInt()
+            val string = String(bytes, position, length, StandardCharsets.UTF_8)
+            position += length
+            return string
+        }
+
+        fun readInts(wireType: Int): List<Int> {
+            if (wireType != LENGTH_DELIMITED) {
+                return listOf(readInt())
+            }
+
+            val packed = readMessage()
+            val values = mutableListOf<Int>()
+            while (packed.hasNext()) {
+                values.add(packed.readInt())
+            }
+            return values
+        }
+
+        fun skip(wireType: Int) {
+            when (wireType) {
+                VARINT -> readVarint()
+                FIXED64 -> position += 8
+                LENGTH_DELIMITED -> {
+                    val length = readInt()
+                    position += length
+                }
+
+                FIXED32 -> position += 4
+                else -> throw IllegalStateException("Unsupported wire type $wireType in kotlin metadata.")
+            }
+        }
+    }
+
+    private const val VARINT = 0
+    private const val FIXED64 = 1
+    private const val LENGTH_DELIMITED = 2
+    private const val FIXED32 = 5
+
+    private const val INTERFACE_KIND = 1
+    private const val OBJECT_KIND = 5
+    private const val COMPANION_OBJECT_KIND = 6
+    private const val ABSTRACT_MODALITY = 2
+    private const val SEALED_MODALITY = 3
+    private const val JVM_SIGNATURE_FIELD = 100
+    private const val INTERNAL_TO_CLASS_ID = 1
+    private const val DESC_TO_CLASS_ID = 2
+    private const val PREDEFINED_STRING = "<predefined>"
+}
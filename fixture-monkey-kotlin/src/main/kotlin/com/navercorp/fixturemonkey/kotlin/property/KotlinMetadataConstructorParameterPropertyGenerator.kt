@@ -0,0 +1,60 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.property
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache
+import com.navercorp.fixturemonkey.api.property.FieldPropertyGenerator
+import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+
+/**
+ * Generates the parameter properties of the primary constructor by `@kotlin.Metadata` instead of kotlin-reflect.
+ * It is an alternative to [KotlinConstructorParameterPropertyGenerator].
+ * As it does, only the parameters declared as properties are generated,
+ * the property is generated based on the Java field of the given type.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+internal class KotlinMetadataConstructorParameterPropertyGenerator : PropertyGenerator {
+    private val parameterPropertiesCache = ConcurrentLruCache<Property, List<Property>>(2048)
+
+    override fun generateChildProperties(property: Property): List<Property> =
+        parameterPropertiesCache.computeIfAbsent(property) { _ ->
+            val type = Types.getActualType(property.type)
+            val primaryConstructor = KotlinMetadataReader.read(type)?.primaryConstructor
+                ?: return@computeIfAbsent emptyList()
+
+            val javaProperties = JAVA_FIELD_PROPERTY_GENERATOR.generateChildProperties(property)
+                .filter { it.name != null }
+                .associateBy { it.name!! }
+
+            primaryConstructor.parameters.mapNotNull { parameter ->
+                javaProperties[parameter.name]?.let {
+                    KotlinMetadataProperty.of(type, it, parameter.isNullable, parameter.className)
+                }
+            }
+        }
+
+    companion object {
+        private val JAVA_FIELD_PROPERTY_GENERATOR = FieldPropertyGenerator({ true }) { true }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.property
+
+import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import com.navercorp.fixturemonkey.kotlin.type.KotlinAnnotatedType
+import java.lang.reflect.AnnotatedType
+import java.lang.reflect.Type
+
+/**
+ * A Java property of a Kotlin class whose nullability is given by `@kotlin.Metadata`.
+ * If the declared type is a value class, the type of the property would be the value class
+ * instead of the underlying type of the Java field.
+ */
+internal data class KotlinMetadataProperty(
+    private val annotatedType: AnnotatedType,
+    private val javaProperty: Property,
+    private val nullable: Boolean,
+) : Property {
+    override fun getType(): Type = annotatedType.type
+
+    override fun getAnnotatedType(): AnnotatedType = annotatedType
+
+    override fun getName(): String? = javaProperty.name
+
+    override fun getAnnotations(): List<Annotation> = javaProperty.annotations
+
+    override fun getValue(instance: Any?): Any? = javaProperty.getValue(instance)
+
+    override fun isNullable(): Boolean = nullable
+
+    companion object {
+        fun of(ownerType: Class<*>, javaProperty: Property, nullable: Boolean, className: String?): Property {
+            val valueClass = className
+                ?.takeIf { Types.getActualType(javaProperty.type).name != it }
+                ?.let { KotlinMetadataReader.loadClass(it, ownerType.classLoader) }
+                ?.takeIf { KotlinMetadataReader.read(it)?.isValueClass == true }
+
+            val annotatedType = if (valueClass != null) {
+                KotlinAnnotatedType(valueClass, javaProperty.annotations.toTypedArray())
+            } else {
+                javaProperty.annotatedType
+            }
+            return KotlinMetadataProperty(annotatedType, javaProperty, nullable)
+        }
+    }
+}
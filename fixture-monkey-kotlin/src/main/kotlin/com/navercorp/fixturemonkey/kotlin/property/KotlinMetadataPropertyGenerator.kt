@@ -0,0 +1,69 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.property
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache
+import com.navercorp.fixturemonkey.api.property.DefaultPropertyGenerator
+import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinPropertyMetadata
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+
+/**
+ * Generates the properties of Kotlin classes by `@kotlin.Metadata` instead of kotlin-reflect.
+ * It is an alternative to [KotlinPropertyGenerator], the properties are the Java properties
+ * ordered and typed by the Kotlin properties. The Java properties not declared in Kotlin come after them.
+ *
+ * @see KotlinMetadataReader
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+class KotlinMetadataPropertyGenerator(
+    private val javaDelegatePropertyGenerator: PropertyGenerator = DefaultPropertyGenerator(),
+    private val propertyFilter: (KotlinPropertyMetadata) -> Boolean = { true },
+) : PropertyGenerator {
+    private val objectChildPropertiesCache = ConcurrentLruCache<Property, List<Property>>(2048)
+
+    override fun generateChildProperties(property: Property): List<Property> =
+        objectChildPropertiesCache.computeIfAbsent(property) {
+            val type = Types.getActualType(property.type)
+            val javaProperties = javaDelegatePropertyGenerator.generateChildProperties(property)
+                .filter { it.name != null }
+                .associateByTo(LinkedHashMap()) { it.name!! }
+
+            val properties = mutableListOf<Property>()
+            for (kotlinProperty in KotlinMetadataReader.readMemberProperties(type)) {
+                val javaProperty = javaProperties.remove(kotlinProperty.name) ?: continue
+                if (propertyFilter(kotlinProperty)) {
+                    properties.add(
+                        KotlinMetadataProperty.of(
+                            type,
+                            javaProperty,
+                            kotlinProperty.isNullable,
+                            kotlinProperty.className,
+                        ),
+                    )
+                }
+            }
+            properties.addAll(javaProperties.values)
+            properties
+        }
+}
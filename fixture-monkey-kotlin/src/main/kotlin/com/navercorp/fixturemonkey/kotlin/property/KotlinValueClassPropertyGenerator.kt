@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.property
+
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache
+import com.navercorp.fixturemonkey.api.property.FieldProperty
+import com.navercorp.fixturemonkey.api.property.Property
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator
+import com.navercorp.fixturemonkey.api.type.Types
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import com.navercorp.fixturemonkey.kotlin.type.KotlinValueClasses
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+
+/**
+ * Generates the only property of a Kotlin value class, the underlying property.
+ * Its type is the type of the Java field, which is the type `box-impl` takes,
+ * even if the underlying property is declared as another value class.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+internal class KotlinValueClassPropertyGenerator : PropertyGenerator {
+    private val underlyingPropertiesCache = ConcurrentLruCache<Property, List<Property>>(2048)
+
+    override fun generateChildProperties(property: Property): List<Property> =
+        underlyingPropertiesCache.computeIfAbsent(property) {
+            val valueClass = Types.getActualType(property.type)
+            val underlyingField = KotlinValueClasses.getUnderlyingField(valueClass)
+                ?: return@computeIfAbsent emptyList()
+            val nullable = KotlinMetadataReader.read(valueClass)
+                ?.properties
+                ?.firstOrNull { it.name == underlyingField.name }
+                ?.isNullable
+                ?: false
+
+            val annotatedType =
+                Types.resolveWithTypeReferenceGenerics(property.annotatedType, underlyingField.annotatedType)
+            listOf(KotlinMetadataProperty(annotatedType, FieldProperty(annotatedType, underlyingField), nullable))
+        }
+}
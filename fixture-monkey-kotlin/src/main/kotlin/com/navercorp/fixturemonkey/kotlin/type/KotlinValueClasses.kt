@@ -0,0 +1,113 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.type
+
+import com.navercorp.fixturemonkey.api.type.TypeCache
+import com.navercorp.fixturemonkey.kotlin.metadata.KotlinMetadataReader
+import org.apiguardian.api.API
+import org.apiguardian.api.API.Status
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType
+import java.lang.reflect.Field
+
+/**
+ * Boxes and unboxes the instances of Kotlin value classes by the `constructor-impl`, `box-impl` and `unbox-impl`
+ * methods generated by the compiler, instead of calling the constructor by kotlin-reflect.
+ * Boxing calls `constructor-impl` first, which runs the `init` blocks of the value class.
+ * The method handles are resolved once per value class.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+object KotlinValueClasses {
+    private val OBJECT_TO_OBJECT = MethodType.methodType(Any::class.java, Any::class.java)
+
+    private val VALUE_CLASS_HANDLES = object : ClassValue<ValueClassHandles?>() {
+        override fun computeValue(type: Class<*>): ValueClassHandles? = resolveValueClassHandles(type)
+    }
+
+    fun isValueClass(type: Class<*>): Boolean = KotlinMetadataReader.read(type)?.isValueClass == true
+
+    /**
+     * Returns the Java field holding the underlying value of the given value class.
+     */
+    fun getUnderlyingField(valueClass: Class<*>): Field? = VALUE_CLASS_HANDLES.get(valueClass)?.underlyingField
+
+    /**
+     * Returns whether the given value class could be boxed and unboxed without kotlin-reflect.
+     */
+    fun isBoxable(valueClass: Class<*>): Boolean = VALUE_CLASS_HANDLES.get(valueClass) != null
+
+    /**
+     * Returns an instance of the given value class wrapping the underlying value.
+     * It returns null if the underlying value is null and the underlying type is primitive,
+     * since the value class could not be instantiated.
+     */
+    fun box(valueClass: Class<*>, underlyingValue: Any?): Any? {
+        val handles = requireHandles(valueClass)
+        if (underlyingValue == null && handles.underlyingField.type.isPrimitive) {
+            return null
+        }
+        return handles.box.invoke(underlyingValue)
+    }
+
+    fun unbox(value: Any): Any? = requireHandles(value.javaClass).unbox.invoke(value)
+
+    private fun requireHandles(valueClass: Class<*>): ValueClassHandles =
+        requireNotNull(VALUE_CLASS_HANDLES.get(valueClass)) { "$valueClass is not a boxable value class." }
+
+    private fun resolveValueClassHandles(type: Class<*>): ValueClassHandles? {
+        val metadata = KotlinMetadataReader.read(type) ?: return null
+        val underlyingPropertyName = metadata.valueClassUnderlyingPropertyName ?: return null
+        val underlyingField = TypeCache.getFieldsByName(type)[underlyingPropertyName] ?: return null
+
+        return try {
+            val constructorMethod = type.getDeclaredMethod(CONSTRUCTOR_METHOD_NAME, underlyingField.type)
+            val boxMethod = type.getDeclaredMethod(BOX_METHOD_NAME, underlyingField.type)
+            val unboxMethod = type.getDeclaredMethod(UNBOX_METHOD_NAME)
+            constructorMethod.isAccessible = true
+            boxMethod.isAccessible = true
+            unboxMethod.isAccessible = true
+
+            val lookup = MethodHandles.lookup()
+            val constructAndBox = MethodHandles.filterReturnValue(
+                lookup.unreflect(constructorMethod),
+                lookup.unreflect(boxMethod),
+            )
+            ValueClassHandles(
+                underlyingField,
+                constructAndBox.asType(OBJECT_TO_OBJECT),
+                lookup.unreflect(unboxMethod).asType(OBJECT_TO_OBJECT),
+            )
+        } catch (ex: NoSuchMethodException) {
+            null
+        } catch (ex: IllegalAccessException) {
+            null
+        }
+    }
+
+    private class ValueClassHandles(
+        val underlyingField: Field,
+        val box: MethodHandle,
+        val unbox: MethodHandle,
+    )
+
+    private const val CONSTRUCTOR_METHOD_NAME = "constructor-impl"
+    private const val BOX_METHOD_NAME = "box-impl"
+    private const val UNBOX_METHOD_NAME = "unbox-impl"
+}
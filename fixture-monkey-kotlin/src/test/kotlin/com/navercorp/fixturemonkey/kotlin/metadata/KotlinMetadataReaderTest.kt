@@ -0,0 +1,129 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.kotlin.metadata
+
+import org.assertj.core.api.BDDAssertions.then
+import org.junit.jupiter.api.Test
+
+class KotlinMetadataReaderTest {
+    @Test
+    fun readPrimaryConstructor() {
+        // when
+        val actual = KotlinMetadataReader.read(MetadataSample::class.java)?.primaryConstructor
+
+        then(actual).isNotNull
+        then(actual!!.parameters).containsExactly(
+            KotlinParameterMetadata("intValue", false, false, null),
+            KotlinParameterMetadata("nullableValue", true, false, null),
+            KotlinParameterMetadata("defaultValue", false, true, null),
+            KotlinParameterMetadata("wrapped", false, false, WrappedValue::class.java.name),
+        )
+    }
+
+    @Test
+    fun readPropertiesInDeclaredOrder() {
+        // when
+        val actual = KotlinMetadataReader.read(MetadataSample::class.java)!!.properties.map { it.name }
+
+        then(actual).containsExactlyInAnyOrder("intValue", "nullableValue", "defaultValue", "wrapped", "computed")
+    }
+
+    @Test
+    fun readDataClass() {
+        // when
+        val actual = KotlinMetadataReader.read(MetadataDataSample::class.java)!!
+
+        then(actual.isData).isTrue()
+        then(actual.isValueClass).isFalse()
+        then(actual.isObject).isFalse()
+    }
+
+    @Test
+    fun readValueClass() {
+        // when
+        val actual = KotlinMetadataReader.read(WrappedValue::class.java)!!
+
+        then(actual.isValueClass).isTrue()
+        then(actual.valueClassUnderlyingPropertyName).isEqualTo("value")
+    }
+
+    @Test
+    fun readObject() {
+        // when
+        val actual = KotlinMetadataReader.read(MetadataObject::class.java)!!
+
+        then(actual.isObject).isTrue()
+    }
+
+    @Test
+    fun readSealedClass() {
+        // when
+        val actual = KotlinMetadataReader.read(MetadataSealed::class.java)!!
+
+        then(actual.isSealed).isTrue()
+        then(actual.isAbstract).isFalse()
+    }
+
+    @Test
+    fun readJavaClass() {
+        // when
+        val actual = KotlinMetadataReader.read(String::class.java)
+
+        then(actual).isNull()
+    }
+
+    @Test
+    fun readMemberPropertiesIncludingSuperClass() {
+        // when
+        val actual = KotlinMetadataReader.readMemberProperties(MetadataChild::class.java).map { it.name }
+
+        then(actual).containsExactly("childValue", "parentValue")
+    }
+
+    @Test
+    fun readCached() {
+        // when
+        val actual = KotlinMetadataReader.read(MetadataSample::class.java)
+
+        then(actual).isSameAs(KotlinMetadataReader.read(MetadataSample::class.java))
+    }
+}
+
+@JvmInline
+value class WrappedValue(val value: String)
+
+class MetadataSample(
+    val intValue: Int,
+    val nullableValue: String?,
+    val defaultValue: String = "default",
+    val wrapped: WrappedValue,
+) {
+    val computed: String
+        get() = defaultValue
+}
+
+data class MetadataDataSample(val value: String)
+
+object MetadataObject
+
+sealed class MetadataSealed
+
+open class MetadataParent(val parentValue: String)
+
+class MetadataChild(val childValue: String) : MetadataParent(childValue)
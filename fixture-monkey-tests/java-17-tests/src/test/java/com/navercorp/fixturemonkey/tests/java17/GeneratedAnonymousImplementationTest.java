@@ -0,0 +1,167 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.tests.java17;
+
+import static com.navercorp.fixturemonkey.tests.TestEnvironment.TEST_COUNT;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.introspector.AnonymousInstance;
+import com.navercorp.fixturemonkey.api.plugin.InterfacePlugin;
+
+class GeneratedAnonymousImplementationTest {
+	private static final FixtureMonkey SUT = FixtureMonkey.builder()
+		.defaultNotNull(true)
+		.plugin(
+			new InterfacePlugin()
+				.useGeneratedAnonymousImplementation(true)
+		)
+		.build();
+
+	@RepeatedTest(TEST_COUNT)
+	void sampleGeneratedImplementation() {
+		Interface actual = SUT.giveMeOne(Interface.class);
+
+		then(actual).isInstanceOf(AnonymousInstance.class);
+		then(Proxy.isProxyClass(actual.getClass())).isFalse();
+		then(actual.string()).isNotNull();
+		then(actual.list()).isNotNull();
+	}
+
+	@RepeatedTest(TEST_COUNT)
+	void setGeneratedImplementation() {
+		Interface actual = SUT.giveMeBuilder(Interface.class)
+			.set("string", "test")
+			.set("integer", 123)
+			.set("flag", true)
+			.size("list", 2)
+			.sample();
+
+		then(actual.string()).isEqualTo("test");
+		then(actual.integer()).isEqualTo(123);
+		then(actual.flag()).isTrue();
+		then(actual.list()).hasSize(2);
+	}
+
+	@Test
+	void equalsComparesReturnValues() {
+		Interface one = SUT.giveMeBuilder(Interface.class)
+			.set("string", "test")
+			.set("integer", 123)
+			.set("flag", false)
+			.set("list", List.of("a"))
+			.sample();
+		Interface another = SUT.giveMeBuilder(Interface.class)
+			.set("string", "test")
+			.set("integer", 123)
+			.set("flag", false)
+			.set("list", List.of("a"))
+			.sample();
+		Interface implementation = new Interface() {
+			@Override
+			public String string() {
+				return "test";
+			}
+
+			@Override
+			public int integer() {
+				return 123;
+			}
+
+			@Override
+			public boolean flag() {
+				return false;
+			}
+
+			@Override
+			public List<String> list() {
+				return List.of("a");
+			}
+
+			@Override
+			public String withParameter(String parameter) {
+				return parameter;
+			}
+		};
+
+		then(one).isEqualTo(another);
+		then(one.hashCode()).isEqualTo(another.hashCode());
+		then(one).isEqualTo(implementation);
+		then(one.toString()).contains("string=test", "integer=123");
+	}
+
+	@RepeatedTest(TEST_COUNT)
+	void methodWithParameterReturnsNull() {
+		String actual = SUT.giveMeOne(Interface.class).withParameter("test");
+
+		then(actual).isNull();
+	}
+
+	@RepeatedTest(TEST_COUNT)
+	void defaultMethodNotOverridden() {
+		DefaultMethodInterface actual = SUT.giveMeOne(DefaultMethodInterface.class);
+
+		then(actual.value()).isNotNull();
+		then(actual.defaultMethod()).isEqualTo("default");
+	}
+
+	@RepeatedTest(TEST_COUNT)
+	void setInheritedCovariantMethod() {
+		CovariantInterface actual = SUT.giveMeBuilder(CovariantInterface.class)
+			.set("value", "test")
+			.sample();
+
+		then(actual.value()).isEqualTo("test");
+		then(((SuperInterface)actual).value()).isEqualTo("test");
+	}
+
+	public interface Interface {
+		String string();
+
+		int integer();
+
+		boolean flag();
+
+		List<String> list();
+
+		String withParameter(String parameter);
+	}
+
+	public interface DefaultMethodInterface {
+		String value();
+
+		default String defaultMethod() {
+			return "default";
+		}
+	}
+
+	public interface SuperInterface {
+		CharSequence value();
+	}
+
+	public interface CovariantInterface extends SuperInterface {
+		@Override
+		String value();
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tests.java17;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.publisher.SamplePublishers;
+
+class SamplePublisherTest {
+	private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2);
+
+	@AfterAll
+	static void tearDown() {
+		EXECUTOR.shutdownNow();
+	}
+
+	@Test
+	void samplePublisherEmitsRequestedCount() throws InterruptedException {
+		// given
+		FixtureMonkey sut = FixtureMonkey.create();
+		CollectingSubscriber<String> subscriber = new CollectingSubscriber<>(3, 5);
+
+		// when
+		SamplePublishers.samplePublisher(sut.giveMeBuilder(String.class), EXECUTOR, 2).subscribe(subscriber);
+
+		then(subscriber.await()).isTrue();
+		Thread.sleep(100);
+		then(subscriber.values).hasSize(5);
+		then(subscriber.error.get()).isNull();
+	}
+
+	@Test
+	void samplePublisherWithSameSeedEmitsSameValues() throws InterruptedException {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder().seed(12345L).build();
+		Flow.Publisher<String> publisher =
+			SamplePublishers.samplePublisher(sut.giveMeBuilder(String.class), EXECUTOR, 4);
+		CollectingSubscriber<String> first = new CollectingSubscriber<>(10, 10);
+		CollectingSubscriber<String> second = new CollectingSubscriber<>(10, 10);
+
+		// when
+		publisher.subscribe(first);
+		publisher.subscribe(second);
+
+		then(first.await()).isTrue();
+		then(second.await()).isTrue();
+		then(first.values).isEqualTo(second.values);
+	}
+
+	@Test
+	void samplePublisherSignalsErrorWhenRequestIsNotPositive() throws InterruptedException {
+		// given
+		FixtureMonkey sut = FixtureMonkey.create();
+		CollectingSubscriber<String> subscriber = new CollectingSubscriber<>(0, 0);
+
+		// when
+		SamplePublishers.samplePublisher(sut.giveMeBuilder(String.class), EXECUTOR, 2).subscribe(subscriber);
+
+		then(subscriber.await()).isTrue();
+		then(subscriber.error.get()).isExactlyInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void samplePublisherRestoresRandomOfExecutorThread() throws InterruptedException {
+		// given
+		FixtureMonkey sut = FixtureMonkey.create();
+		Randoms.newGlobalSeed(12345L);
+		long expected = Randoms.current().nextLong();
+		Randoms.newGlobalSeed(12345L);
+		CollectingSubscriber<String> subscriber = new CollectingSubscriber<>(5, 5);
+
+		// when
+		SamplePublishers.samplePublisher(sut.giveMeBuilder(String.class), Runnable::run, 2).subscribe(subscriber);
+
+		then(subscriber.await()).isTrue();
+		then(Randoms.current().nextLong()).isEqualTo(expected);
+		then(Randoms.currentSeed()).isEqualTo(12345L);
+	}
+
+	/**
+	 * Requests {@code request} values at a time and cancels after receiving {@code limit} values.
+	 */
+	private static final class CollectingSubscriber<T> implements Flow.Subscriber<T> {
+		private final long request;
+		private final int limit;
+		private final List<T> values = new CopyOnWriteArrayList<>();
+		private final AtomicReference<Throwable> error = new AtomicReference<>();
+		private final CountDownLatch finished = new CountDownLatch(1);
+		private Flow.Subscription subscription;
+
+		private CollectingSubscriber(long request, int limit) {
+			this.request = request;
+			this.limit = limit;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(request);
+		}
+
+		@Override
+		public void onNext(T item) {
+			values.add(item);
+			if (values.size() == limit) {
+				subscription.cancel();
+				finished.countDown();
+			} else if (values.size() % request == 0) {
+				subscription.request(request);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error.set(throwable);
+			finished.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			finished.countDown();
+		}
+
+		private boolean await() throws InterruptedException {
+			return finished.await(10, TimeUnit.SECONDS);
+		}
+	}
+}
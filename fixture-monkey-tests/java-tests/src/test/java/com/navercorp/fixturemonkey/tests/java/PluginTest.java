@@ -230,4 +230,20 @@ class PluginTest {
 		// then
 		then(actual.getCreditCard()).isNotBlank();
 	}
+
+	@RepeatedTest(TEST_COUNT)
+	void dataFakerPluginValidatesSize() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultNotNull(true)
+			.plugin(new JavaxValidationPlugin())
+			.plugin(new DataFakerPlugin())
+			.build();
+
+		// when
+		String actual = sut.giveMeOne(DataFakerSpecs.SizedUser.class).getFullName();
+
+		// then
+		then(actual).hasSizeLessThanOrEqualTo(12);
+	}
 }
@@ -1,5 +1,7 @@
 package com.navercorp.fixturemonkey.tests.java.specs;
 
+import javax.validation.constraints.Size;
+
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -22,4 +24,12 @@ public class DataFakerSpecs {
 	public static class Finance {
 		private String creditCard;
 	}
+
+	@NoArgsConstructor
+	@Getter
+	@Setter
+	public static class SizedUser {
+		@Size(max = 12)
+		private String fullName;
+	}
 }
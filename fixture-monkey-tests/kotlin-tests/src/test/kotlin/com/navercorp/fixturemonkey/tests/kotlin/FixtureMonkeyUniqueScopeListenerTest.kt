@@ -0,0 +1,57 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tests.kotlin
+
+import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueScope
+import com.navercorp.fixturemonkey.kotest.FixtureMonkeyUniqueScopeListener
+import io.kotest.core.spec.style.StringSpec
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import java.util.concurrent.atomic.AtomicInteger
+
+class FixtureMonkeyUniqueScopeListenerTest : StringSpec({
+    extension(FixtureMonkeyUniqueScopeListener)
+
+    "uniqueValuesReleasedAfterTest" {
+        UniqueScope.current() shouldNotBeSameInstanceAs UniqueScope.global()
+        UNIQUE.combined() shouldNotBe UNIQUE.combined()
+    }
+    "uniqueValuesReleasedAfterAnotherTest" {
+        UNIQUE.combined() shouldNotBe UNIQUE.combined()
+    }
+    "scopeFollowsTestResumedOnAnotherThread" {
+        val scope = UniqueScope.current()
+
+        withContext(Dispatchers.IO) {
+            UniqueScope.current() shouldBeSameInstanceAs scope
+        }
+        UniqueScope.current() shouldBeSameInstanceAs scope
+    }
+}) {
+    companion object {
+        private val COUNTER = AtomicInteger()
+        private val UNIQUE: CombinableArbitrary<Int> = CombinableArbitrary
+            .from { COUNTER.getAndIncrement() % 2 }
+            .unique()
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.tests.kotlin
+
+import com.navercorp.fixturemonkey.FixtureMonkey
+import com.navercorp.fixturemonkey.api.random.Randoms
+import com.navercorp.fixturemonkey.kotlin.KotlinPlugin
+import com.navercorp.fixturemonkey.kotlin.giveMeFlow
+import com.navercorp.fixturemonkey.kotlin.giveMeKotlinBuilder
+import com.navercorp.fixturemonkey.kotlin.sampleFlow
+import com.navercorp.fixturemonkey.kotlin.sampleSequence
+import kotlinx.coroutines.asCoroutineDispatcher
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import kotlin.streams.toList
+import org.assertj.core.api.BDDAssertions.then
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Executors
+
+class FlowTest {
+    @Test
+    fun giveMeFlow() {
+        // when
+        val actual = runBlocking { SUT.giveMeFlow<StringObject>(concurrency = 4).take(100).toList() }
+
+        then(actual).hasSize(100)
+        then(actual).allMatch { it.value != null }
+    }
+
+    @Test
+    fun sampleFlowSet() {
+        // when
+        val actual = runBlocking {
+            SUT.giveMeKotlinBuilder<StringObject>()
+                .set("value", "test")
+                .sampleFlow(concurrency = 2)
+                .take(10)
+                .toList()
+        }
+
+        then(actual).allMatch { it.value == "test" }
+    }
+
+    @Test
+    fun sampleFlowSameSeedRegardlessOfConcurrency() {
+        // given
+        Randoms.newGlobalSeed(SEED)
+        val expected = runBlocking { SUT.giveMeFlow<StringObject>(concurrency = 1).take(20).toList() }
+
+        // when
+        Randoms.newGlobalSeed(SEED)
+        val actual = runBlocking { SUT.giveMeFlow<StringObject>(concurrency = 4).take(20).toList() }
+
+        then(actual).isEqualTo(expected)
+    }
+
+    @Test
+    fun sampleFlowSameAsSampleShard() {
+        // given
+        val expected = SUT.giveMeKotlinBuilder<StringObject>().sampleShard(SEED, 0, 1, 20).toList()
+        Randoms.newGlobalSeed(SEED)
+
+        // when
+        val actual = runBlocking { SUT.giveMeFlow<StringObject>(concurrency = 4).take(20).toList() }
+
+        then(actual).isEqualTo(expected)
+    }
+
+    @Test
+    fun sampleFlowRestoresRandomOfDispatcherThread() {
+        // given
+        val executor = Executors.newSingleThreadExecutor()
+        try {
+            val dispatcher = executor.asCoroutineDispatcher()
+            runBlocking(dispatcher) { Randoms.newGlobalSeed(SEED) }
+
+            // when
+            runBlocking {
+                SUT.giveMeKotlinBuilder<StringObject>().sampleFlow(dispatcher = dispatcher).take(10).toList()
+            }
+
+            val actual = runBlocking(dispatcher) { Randoms.currentSeed() }
+            then(actual).isEqualTo(SEED)
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun sampleSequence() {
+        // when
+        val actual = SUT.giveMeKotlinBuilder<StringObject>()
+            .set("value", "test")
+            .sampleSequence()
+            .take(10)
+            .toList()
+
+        then(actual).hasSize(10)
+        then(actual).allMatch { it.value == "test" }
+    }
+
+    data class StringObject(val value: String)
+
+    companion object {
+        private const val SEED = 12345L
+
+        private val SUT = FixtureMonkey.builder()
+            .plugin(KotlinPlugin())
+            .build()
+    }
+}
@@ -20,6 +20,7 @@ package com.navercorp.fixturemonkey.tests.kotlin
 
 import com.navercorp.fixturemonkey.FixtureMonkey
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary
+import com.navercorp.fixturemonkey.api.random.Randoms
 import com.navercorp.fixturemonkey.javax.validation.plugin.JavaxValidationPlugin
 import com.navercorp.fixturemonkey.kotest.KotestIntegerCombinableArbitrary
 import com.navercorp.fixturemonkey.kotest.KotestByteCombinableArbitrary
@@ -35,7 +36,9 @@ import com.navercorp.fixturemonkey.kotlin.giveMeOne
 import com.navercorp.fixturemonkey.kotlin.setPostCondition
 import com.navercorp.fixturemonkey.tests.TestEnvironment.TEST_COUNT
 import io.kotest.property.Arb
+import io.kotest.property.RandomSource
 import io.kotest.property.arbitrary.single
+import io.kotest.property.arbitrary.take
 import io.kotest.property.arbs.geo.zipcodes
 import org.assertj.core.api.BDDAssertions.then
 import org.junit.jupiter.api.RepeatedTest
@@ -1217,7 +1220,50 @@ class KotestInJunitTest {
         then(actual).isBetween(100, 1000)
     }
 
+    @RepeatedTest(TEST_COUNT)
+    fun kotestIntegerCombinableArbitraryKeepsRangeWithEven() {
+        val actual = KotestIntegerCombinableArbitrary().withRange(1, 100).even().combined()
+
+        then(actual).isBetween(1, 100).isEven()
+    }
+
+    @RepeatedTest(TEST_COUNT)
+    fun kotestIntegerCombinableArbitraryKeepsFilterWithRange() {
+        val actual = KotestIntegerCombinableArbitrary().filter { it % 3 == 0 }.withRange(1, 100).combined()
+
+        then(actual).isBetween(1, 100)
+        then(actual % 3).isEqualTo(0)
+    }
+
+    @RepeatedTest(TEST_COUNT)
+    fun kotestStringCombinableArbitraryKeepsKoreanWithLength() {
+        val actual = KotestStringCombinableArbitrary().korean().withLength(3, 5).combined()
+
+        then(actual).hasSizeBetween(3, 5)
+        then(actual.all { it in '가'..'힣' }).isTrue()
+    }
+
+    @Test
+    fun kotestCombinableArbitrarySameSeedReturnsSameValue() {
+        Randoms.newGlobalSeed(SEED)
+        val expected = List(10) { KotestLongCombinableArbitrary().combined() }
+
+        Randoms.newGlobalSeed(SEED)
+        val actual = List(10) { KotestLongCombinableArbitrary().combined() }
+
+        then(actual).isEqualTo(expected)
+    }
+
+    @Test
+    fun giveMeArbWithBatchSize() {
+        val actual = SUT.giveMeArb<String>(10).take(25, RandomSource.default()).toList()
+
+        then(actual).hasSize(25)
+    }
+
     companion object {
+        private const val SEED = 12345L
+
         private val SUT: FixtureMonkey = FixtureMonkey.builder()
             .plugin(JavaxValidationPlugin())
             .plugin(KotestPlugin())
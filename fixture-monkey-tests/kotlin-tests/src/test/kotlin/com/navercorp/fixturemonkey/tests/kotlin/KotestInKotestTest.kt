@@ -22,14 +22,22 @@ import com.navercorp.fixturemonkey.ArbitraryBuilder
 import com.navercorp.fixturemonkey.FixtureMonkey
 import com.navercorp.fixturemonkey.kotest.KotestPlugin
 import com.navercorp.fixturemonkey.kotest.checkAll
+import com.navercorp.fixturemonkey.kotest.forAll
 import com.navercorp.fixturemonkey.kotest.giveMeArb
 import com.navercorp.fixturemonkey.kotlin.KotlinPlugin
+import com.navercorp.fixturemonkey.kotlin.giveMeBuilder
+import io.kotest.assertions.throwables.shouldThrow
 import io.kotest.core.spec.style.StringSpec
 import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.ints.shouldBeInRange
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.string.shouldContain
 import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import io.kotest.property.PropTestConfig
 import io.kotest.property.forAll
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Supplier
 
 class KotestInKotestTest : StringSpec({
     "checkAll" {
@@ -55,6 +63,58 @@ class KotestInKotestTest : StringSpec({
             a == "test"
         }
     }
+    "checkAllIterationsSampledInBatches" {
+        val sampledCount = AtomicInteger()
+        val sut = FixtureMonkey.builder()
+            .plugin(KotestPlugin())
+            .plugin(KotlinPlugin())
+            .register(StringObject::class.java) {
+                it.giveMeBuilder<StringObject>()
+                    .set("value", Supplier { sampledCount.incrementAndGet().toString() })
+            }
+            .build()
+        var sampledCountBeforeFirstIteration = 0
+
+        sut.checkAll(1000) { _: StringObject ->
+            if (sampledCountBeforeFirstIteration == 0) {
+                sampledCountBeforeFirstIteration = sampledCount.get()
+            }
+        }
+
+        sampledCountBeforeFirstIteration shouldBeInRange 1..64
+    }
+    "checkAllConcurrently" {
+        val context = SUT.checkAll(100, 4) { stringObject: StringObject, int: Int ->
+            stringObject.value shouldNotBe null
+            int shouldBe int
+        }
+
+        context.successes() shouldBe 100
+    }
+    "checkAllConcurrentlyUsesConfigSeed" {
+        val actual = mutableListOf<String>()
+
+        SUT.checkAll(10, 2, PropTestConfig(seed = 12345L)) { string: String ->
+            actual.add(string)
+        }
+
+        actual shouldBe SUT.giveMeBuilder<String>().sampleShard(12345L, 0, 1, 10).toList()
+    }
+    "forAllConcurrently" {
+        SUT.forAll(100, 4) { stringObject: StringObject ->
+            stringObject.value != null
+        }
+    }
+    "checkAllConcurrentlyReportsSeed" {
+        val exception = shouldThrow<AssertionError> {
+            SUT.checkAll(10, 2) { _: String ->
+                throw IllegalStateException("failed")
+            }
+        }
+
+        exception.message shouldContain "iteration 0"
+        exception.message shouldContain "seed"
+    }
 }) {
     companion object {
         val SUT: FixtureMonkey = FixtureMonkey.builder()
@@ -24,6 +24,7 @@ import com.navercorp.fixturemonkey.kotlin.giveMeKotlinBuilder
 import com.navercorp.fixturemonkey.kotlin.giveMeOne
 import com.navercorp.fixturemonkey.kotlin.instantiator.instantiateBy
 import org.assertj.core.api.BDDAssertions.then
+import org.assertj.core.api.BDDAssertions.thenThrownBy
 import org.junit.jupiter.api.Test
 
 class ValueClassTest {
@@ -113,11 +114,110 @@ class ValueClassTest {
         then(actual).isNotNull
     }
 
+    @Test
+    fun setValueClassUnderlyingProperty() {
+        class ValueClassObject(val foo: Foo)
+
+        val actual: ValueClassObject = SUT.giveMeKotlinBuilder<ValueClassObject>()
+            .set("foo.bar", "hello")
+            .sample()
+
+        then(actual.foo.bar).isEqualTo("hello")
+    }
+
+    @Test
+    fun nestedValueClass() {
+        val actual: NestedFoo = SUT.giveMeOne()
+
+        then(actual.foo.bar).isNotNull
+    }
+
+    @Test
+    fun primitiveValueClass() {
+        val actual: Amount = SUT.giveMeKotlinBuilder<Amount>()
+            .set("value", 1000L)
+            .sample()
+
+        then(actual).isEqualTo(Amount(1000L))
+    }
+
+    @Test
+    fun valueClassPropertyByKotlinMetadataReader() {
+        val actual: ValueClassProperties = KOTLIN_METADATA_SUT.giveMeKotlinBuilder<ValueClassProperties>()
+            .setNotNull("amount")
+            .sample()
+
+        then(actual.foo.bar).isNotNull
+        then(actual.amount).isNotNull
+    }
+
+    @Test
+    fun setValueClassPropertyByKotlinMetadataReader() {
+        val actual: ValueClassProperties = KOTLIN_METADATA_SUT.giveMeKotlinBuilder<ValueClassProperties>()
+            .set("foo", Foo("hello"))
+            .set("amount.value", 1000L)
+            .sample()
+
+        then(actual.foo).isEqualTo(Foo("hello"))
+        then(actual.amount).isEqualTo(Amount(1000L))
+    }
+
+    @Test
+    fun valueClassInitBlock() {
+        thenThrownBy {
+            SUT.giveMeKotlinBuilder<PositiveAmount>()
+                .set("value", -1L)
+                .sample()
+        }.hasStackTraceContaining("value should be positive")
+    }
+
+    @Test
+    fun valueClassInitBlockSatisfied() {
+        val actual: PositiveAmount = SUT.giveMeKotlinBuilder<PositiveAmount>()
+            .set("value", 1L)
+            .sample()
+
+        then(actual.value).isEqualTo(1L)
+    }
+
+    @Test
+    fun nullPrimitiveUnderlyingValue() {
+        val actual: ValueClassProperties = KOTLIN_METADATA_SUT.giveMeKotlinBuilder<ValueClassProperties>()
+            .setNull("amount.value")
+            .sample()
+
+        then(actual.amount).isNull()
+    }
+
     @JvmInline
     value class Foo(
         val bar: String,
     )
 
+    @JvmInline
+    value class NestedFoo(
+        val foo: Foo,
+    )
+
+    @JvmInline
+    value class Amount(
+        val value: Long,
+    )
+
+    @JvmInline
+    value class PositiveAmount(
+        val value: Long,
+    ) {
+        init {
+            require(value > 0) { "value should be positive" }
+        }
+    }
+
+    class ValueClassProperties(
+        val foo: Foo,
+        val amount: Amount?,
+    )
+
     @JvmInline
     value class FooWithPrivateConstructor private constructor(
         val bar: String
@@ -137,5 +237,10 @@ class ValueClassTest {
         private val SUT = FixtureMonkey.builder()
             .plugin(KotlinPlugin())
             .build()
+
+        private val KOTLIN_METADATA_SUT = FixtureMonkey.builder()
+            .plugin(KotlinPlugin().useKotlinMetadataReader(true))
+            .defaultNotNull(true)
+            .build()
     }
 }
@@ -1,8 +1,27 @@
 plugins {
+    alias(libs.plugins.mrjar)
     id("com.navercorp.fixturemonkey.gradle.plugin.java-conventions")
     id("com.navercorp.fixturemonkey.gradle.plugin.maven-publish-conventions")
 }
 
+val multiReleaseVersions = intArrayOf(17)
+
+multiRelease {
+    targetVersions(8, *multiReleaseVersions)
+}
+
+// Multi release version dependency will extend from default version dependency
+multiReleaseVersions.forEach { releaseVersion ->
+    configurations.filter { configuration -> configuration.name.startsWith("java$releaseVersion") }
+        .forEach { configuration ->
+            val defaultVersionConfigurationName = configuration.name
+                .removePrefix("java$releaseVersion")
+                .replaceFirstChar { it.lowercase() }
+
+            configuration.extendsFrom(configurations.getByName(defaultVersionConfigurationName))
+        }
+}
+
 dependencies {
     runtimeOnly(projects.fixtureMonkeyEngine)
     api(projects.fixtureMonkeyApi)
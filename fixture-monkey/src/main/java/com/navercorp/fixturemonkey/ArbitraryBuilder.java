@@ -19,6 +19,8 @@
 package com.navercorp.fixturemonkey;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -531,6 +533,49 @@ public interface ArbitraryBuilder<T> {
 	 */
 	Stream<T> sampleStream();
 
+	/**
+	 * Generate a single sample value asynchronously by the given {@link Executor}.
+	 * The manipulations are copied when it is called, the manipulations applied after it do not affect the value.
+	 * The seed of the value is drawn from the current random, so it is reproducible by the seed.
+	 *
+	 * @param executor the executor generating the value
+	 * @return a future of the generated instance
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	CompletableFuture<T> sampleAsync(Executor executor);
+
+	/**
+	 * Generate sample value list asynchronously by the given {@link Executor}.
+	 * The list is split into chunks generated in parallel, each chunk samples its own copy of this builder.
+	 * The n-th element is generated by the n-th seed derived from the current random,
+	 * so the list does not depend on how it is split.
+	 *
+	 * @param size     the size of the list
+	 * @param executor the executor generating the chunks
+	 * @return a future of the list of generated instances
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	CompletableFuture<List<T>> sampleListAsync(int size, Executor executor);
+
+	/**
+	 * Generate the slice of a shard of the logical stream of {@code count} instances.
+	 * The k-th instance of the logical stream is always generated by the seed derived from {@code seed} and k,
+	 * so the shards can be generated independently in different processes or nodes
+	 * and the concatenation of the slices in order of the shard index is the same as the stream of a single shard.
+	 * <p>
+	 * The values are not unique between the instances, since an instance does not depend on the instances before it.
+	 * The values generated by {@link CombinableArbitrary#unique()} are unique only within an instance.
+	 * The random of the current thread is restored after generating each instance.
+	 *
+	 * @param seed       the seed of the logical stream, it should be the same for all shards
+	 * @param shardIndex the index of the shard, from 0 to {@code shardCount - 1}
+	 * @param shardCount the number of the shards
+	 * @param count      the number of the instances of the logical stream
+	 * @return a stream of the instances of the shard
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	Stream<T> sampleShard(long seed, int shardIndex, int shardCount, long count);
+
 	/**
 	 * Copy an {@link ArbitraryBuilder} instance. All manipulations would be copied.
 	 *
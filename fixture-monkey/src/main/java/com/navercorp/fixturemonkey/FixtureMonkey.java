@@ -20,14 +20,19 @@ package com.navercorp.fixturemonkey;
 
 import static java.util.stream.Collectors.toList;
 
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import net.jqwik.api.Arbitrary;
 
@@ -47,8 +52,11 @@ import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
 import com.navercorp.fixturemonkey.builder.JavaTypeDefaultTypeArbitraryBuilder;
 import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
 import com.navercorp.fixturemonkey.customizer.MonkeyManipulatorFactory;
+import com.navercorp.fixturemonkey.customizer.RegisteredArbitraryBuilderIndex;
 import com.navercorp.fixturemonkey.experimental.ExperimentalArbitraryBuilder;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
+import com.navercorp.fixturemonkey.prewarm.FixtureMonkeyPrewarmer;
+import com.navercorp.fixturemonkey.prewarm.PrewarmResult;
 import com.navercorp.fixturemonkey.resolver.ArbitraryResolver;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
 
@@ -59,6 +67,8 @@ public final class FixtureMonkey {
 	private final MonkeyContext monkeyContext;
 	private final MonkeyManipulatorFactory monkeyManipulatorFactory;
 	private final MonkeyExpressionFactory monkeyExpressionFactory;
+	@Nullable
+	private volatile RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex;
 
 	public FixtureMonkey(
 		FixtureMonkeyOptions fixtureMonkeyOptions,
@@ -77,6 +87,8 @@ public final class FixtureMonkey {
 		this.monkeyExpressionFactory = monkeyExpressionFactory;
 		initializeRegisteredArbitraryBuilders(registeredArbitraryBuildersWithPriority);
 		initializeNamedArbitraryBuilderMap(registeredPriorityMatchersByName);
+		this.registeredArbitraryBuilderIndex =
+			RegisteredArbitraryBuilderIndex.from(monkeyContext.getRegisteredArbitraryBuilders());
 	}
 
 	public static FixtureMonkeyBuilder builder() {
@@ -116,7 +128,8 @@ public final class FixtureMonkey {
 			new ArbitraryResolver(
 				manipulatorOptimizer,
 				monkeyManipulatorFactory,
-				monkeyContext
+				monkeyContext,
+				this::getRegisteredArbitraryBuilderIndex
 			),
 			monkeyManipulatorFactory,
 			monkeyExpressionFactory,
@@ -139,7 +152,8 @@ public final class FixtureMonkey {
 			new ArbitraryResolver(
 				manipulatorOptimizer,
 				monkeyManipulatorFactory,
-				monkeyContext
+				monkeyContext,
+				this::getRegisteredArbitraryBuilderIndex
 			),
 			monkeyManipulatorFactory,
 			monkeyExpressionFactory,
@@ -186,6 +200,27 @@ public final class FixtureMonkey {
 		return this.giveMe(typeReference).limit(size).collect(toList());
 	}
 
+	/**
+	 * Generates the slice of the shard {@code shardIndex} out of {@code count} instances of the given type.
+	 *
+	 * @see ArbitraryBuilder#sampleShard(long, int, int, long)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> Stream<T> giveMeShard(Class<T> type, long seed, int shardIndex, int shardCount, long count) {
+		return this.giveMeBuilder(type).sampleShard(seed, shardIndex, shardCount, count);
+	}
+
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public <T> Stream<T> giveMeShard(
+		TypeReference<T> typeReference,
+		long seed,
+		int shardIndex,
+		int shardCount,
+		long count
+	) {
+		return this.giveMeBuilder(typeReference).sampleShard(seed, shardIndex, shardCount, count);
+	}
+
 	public <T> T giveMeOne(Class<T> type) {
 		return this.giveMe(type, 1).get(0);
 	}
@@ -202,6 +237,60 @@ public final class FixtureMonkey {
 		return this.giveMeBuilder(typeReference).build();
 	}
 
+	/**
+	 * Populates the caches used in generating the given types and all types reachable from them
+	 * in parallel on the {@link ForkJoinPool#commonPool()}.
+	 * It prevents the reflection cost of the first generation of each type from being paid in the first test.
+	 *
+	 * @param types the types to prewarm
+	 * @return the result of prewarming, including the types failed to introspect
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public PrewarmResult prewarm(Collection<? extends Type> types) {
+		return prewarm(types, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Populates the caches used in generating the given types and all types reachable from them
+	 * in parallel on the given {@link ForkJoinPool}.
+	 *
+	 * @param types        the types to prewarm
+	 * @param forkJoinPool the pool to run prewarming
+	 * @return the result of prewarming, including the types failed to introspect
+	 * @see #prewarm(Collection)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public PrewarmResult prewarm(Collection<? extends Type> types, ForkJoinPool forkJoinPool) {
+		return new FixtureMonkeyPrewarmer(this, fixtureMonkeyOptions).prewarm(types, forkJoinPool);
+	}
+
+	/**
+	 * Populates the caches used in generating the concrete classes in the given packages and their sub-packages
+	 * in parallel on the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param basePackages the packages to scan the classes to prewarm
+	 * @return the result of prewarming, including the types failed to introspect
+	 * @see #prewarm(Collection)
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public PrewarmResult prewarmPackages(String... basePackages) {
+		return new FixtureMonkeyPrewarmer(this, fixtureMonkeyOptions)
+			.prewarmPackages(Arrays.asList(basePackages), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the index of the registered builders.
+	 * The registered builders may be sampled while they are being initialized,
+	 * the index is not cached until all of them are registered.
+	 */
+	private RegisteredArbitraryBuilderIndex getRegisteredArbitraryBuilderIndex() {
+		RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex = this.registeredArbitraryBuilderIndex;
+		if (registeredArbitraryBuilderIndex == null) {
+			return RegisteredArbitraryBuilderIndex.from(monkeyContext.getRegisteredArbitraryBuilders());
+		}
+		return registeredArbitraryBuilderIndex;
+	}
+
 	private void initializeRegisteredArbitraryBuilders(
 		List<PriorityMatcherOperator<Function<FixtureMonkey,
 			? extends ArbitraryBuilder<?>>>> registeredArbitraryBuildersWithPriority
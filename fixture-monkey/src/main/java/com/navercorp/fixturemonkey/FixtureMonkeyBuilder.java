@@ -64,8 +64,8 @@ import com.navercorp.fixturemonkey.experimental.ExperimentalFixtureMonkeyOptions
 import com.navercorp.fixturemonkey.expression.ArbitraryExpressionFactory;
 import com.navercorp.fixturemonkey.expression.MonkeyExpressionFactory;
 import com.navercorp.fixturemonkey.expression.StrictModeMonkeyExpressionFactory;
+import com.navercorp.fixturemonkey.resolver.DefaultManipulatorOptimizer;
 import com.navercorp.fixturemonkey.resolver.ManipulatorOptimizer;
-import com.navercorp.fixturemonkey.resolver.NoneManipulatorOptimizer;
 import com.navercorp.fixturemonkey.seed.SeedFileLoader;
 
 @SuppressWarnings("unused")
@@ -81,7 +81,7 @@ public final class FixtureMonkeyBuilder {
 		registeredArbitraryBuildersWithPriority = new ArrayList<>();
 	private final Map<String, PriorityMatcherOperator<Function<FixtureMonkey, ? extends ArbitraryBuilder<?>>>>
 		registeredPriorityMatchersByName = new HashMap<>();
-	private ManipulatorOptimizer manipulatorOptimizer = new NoneManipulatorOptimizer();
+	private ManipulatorOptimizer manipulatorOptimizer = new DefaultManipulatorOptimizer();
 	private MonkeyExpressionFactory monkeyExpressionFactory = new ArbitraryExpressionFactory();
 	private boolean experimentalFileSeedEnabled = false;
 	private long seed = System.nanoTime();
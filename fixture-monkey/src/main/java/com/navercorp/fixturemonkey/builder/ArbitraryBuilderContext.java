@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
@@ -228,6 +229,21 @@ public final class ArbitraryBuilderContext {
 	public TraverseContext newTraverseContext(
 		TreeRootProperty rootProperty,
 		Map<Class<?>, List<Property>> registeredPropertyConfigurer
+	) {
+		return newTraverseContext(rootProperty, registeredPropertyConfigurer, UnaryOperator.identity());
+	}
+
+	/**
+	 * Creates the context of traversing the object tree.
+	 *
+	 * @param containerInfoOptimizer optimizes the manipulators of the container sizes applied to the tree,
+	 *                               the registered one of the root property is included
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public TraverseContext newTraverseContext(
+		TreeRootProperty rootProperty,
+		Map<Class<?>, List<Property>> registeredPropertyConfigurer,
+		UnaryOperator<List<TreeNodeManipulator>> containerInfoOptimizer
 	) {
 		List<MatcherOperator<List<TreeNodeManipulator>>> registeredTreeNodeManipulators =
 			monkeyContext.getRegisteredArbitraryBuilders()
@@ -250,6 +266,7 @@ public final class ArbitraryBuilderContext {
 		if (registeredRootTreeManipulator != null) {
 			activeTreeNodeManipulators.add(0, registeredRootTreeManipulator);
 		}
+		activeTreeNodeManipulators = new ArrayList<>(containerInfoOptimizer.apply(activeTreeNodeManipulators));
 
 		FixtureMonkeyOptions fixtureMonkeyOptions = this.monkeyContext.getFixtureMonkeyOptions();
 		Map<Class<?>, List<Property>> concatPropertyConfigurer = new HashMap<>(this.getPropertyConfigurers());
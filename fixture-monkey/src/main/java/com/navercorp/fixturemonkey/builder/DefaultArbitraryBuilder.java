@@ -28,12 +28,15 @@ import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -50,6 +53,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.api.ObjectBuilder;
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.UniqueScope;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.expression.ExpressionGenerator;
 import com.navercorp.fixturemonkey.api.expression.TypedPropertySelector;
@@ -63,7 +67,9 @@ import com.navercorp.fixturemonkey.api.property.PropertySelector;
 import com.navercorp.fixturemonkey.api.property.RootProperty;
 import com.navercorp.fixturemonkey.api.property.TreeRootProperty;
 import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.tree.TreeNodeManipulator;
+import com.navercorp.fixturemonkey.api.type.ContextClassLoaders;
 import com.navercorp.fixturemonkey.api.type.LazyAnnotatedType;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -513,6 +519,71 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 		return this.sampleStream().limit(size).collect(toList());
 	}
 
+	@Override
+	public CompletableFuture<T> sampleAsync(Executor executor) {
+		ArbitraryBuilder<T> snapshot = this.copy();
+		long seed = Randoms.current().nextLong();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		return CompletableFuture.supplyAsync(
+			() -> sampleBySeeds(snapshot, seed, 0, 1, contextClassLoader).get(0),
+			executor
+		);
+	}
+
+	@Override
+	public CompletableFuture<List<T>> sampleListAsync(int size, Executor executor) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size must not be negative. size: " + size);
+		}
+
+		long baseSeed = Randoms.current().nextLong();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		int chunkCount = Math.max(1, Math.min(size, Runtime.getRuntime().availableProcessors()));
+		int chunkSize = (size + chunkCount - 1) / chunkCount;
+
+		List<CompletableFuture<List<T>>> chunks = new ArrayList<>(chunkCount);
+		for (int fromIndex = 0; fromIndex < size; fromIndex += chunkSize) {
+			ArbitraryBuilder<T> snapshot = this.copy();
+			int from = fromIndex;
+			int to = Math.min(size, fromIndex + chunkSize);
+			chunks.add(
+				CompletableFuture.supplyAsync(
+					() -> sampleBySeeds(snapshot, baseSeed, from, to, contextClassLoader),
+					executor
+				)
+			);
+		}
+
+		return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0]))
+			.thenApply(ignored -> chunks.stream()
+				.flatMap(chunk -> chunk.join().stream())
+				.collect(toList())
+			);
+	}
+
+	@Override
+	public Stream<T> sampleShard(long seed, int shardIndex, int shardCount, long count) {
+		if (shardCount <= 0 || shardIndex < 0 || shardIndex >= shardCount) {
+			throw new IllegalArgumentException(
+				"shardIndex must be from 0 to shardCount - 1. shardIndex: " + shardIndex + ", shardCount: " + shardCount
+			);
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("count must not be negative. count: " + count);
+		}
+
+		long fromIndex = shardOffset(count, shardIndex, shardCount);
+		long toIndex = shardOffset(count, shardIndex + 1, shardCount);
+		ArbitraryBuilder<T> snapshot = this.copy();
+		UniqueScope uniqueScope = UniqueScope.create();
+		return LongStream.range(fromIndex, toIndex)
+			.mapToObj(index -> {
+				uniqueScope.reset();
+				return Randoms.withSeed(Randoms.splitSeed(seed, index), () -> uniqueScope.within(snapshot::sample));
+			});
+	}
+
 	@Override
 	public ArbitraryBuilder<T> copy() {
 		return new DefaultArbitraryBuilder<>(
@@ -532,6 +603,33 @@ public final class DefaultArbitraryBuilder<T> implements ArbitraryBuilder<T>, Ex
 		return this.activeContext;
 	}
 
+	/**
+	 * Returns the first index of the given shard, the first {@code count % shardCount} shards have one more element.
+	 */
+	private static long shardOffset(long count, int shardIndex, int shardCount) {
+		return count / shardCount * shardIndex + Math.min(shardIndex, count % shardCount);
+	}
+
+	/**
+	 * Samples the elements from {@code fromIndex} to {@code toIndex} of the sequence derived from {@code seed}
+	 * with the context class loader of the caller.
+	 */
+	private static <T> List<T> sampleBySeeds(
+		ArbitraryBuilder<T> arbitraryBuilder,
+		long seed,
+		int fromIndex,
+		int toIndex,
+		@Nullable ClassLoader contextClassLoader
+	) {
+		return ContextClassLoaders.supplyWith(contextClassLoader, () -> {
+			List<T> samples = new ArrayList<>(toIndex - fromIndex);
+			for (int index = fromIndex; index < toIndex; index++) {
+				samples.add(Randoms.withSeed(Randoms.splitSeed(seed, index), arbitraryBuilder::sample));
+			}
+			return samples;
+		});
+	}
+
 	private CombinableArbitrary<?> resolveArbitrary(ArbitraryBuilderContext activeContext) {
 		if (activeContext.isFixed()) {
 			if (activeContext.getFixedCombinableArbitrary() == null || activeContext.fixedExpired()) {
@@ -19,6 +19,8 @@
 package com.navercorp.fixturemonkey.builder;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -310,6 +312,21 @@ public final class JavaTypeDefaultTypeArbitraryBuilder<T>
 		return delegate.sampleStream();
 	}
 
+	@Override
+	public CompletableFuture<T> sampleAsync(Executor executor) {
+		return delegate.sampleAsync(executor);
+	}
+
+	@Override
+	public CompletableFuture<List<T>> sampleListAsync(int size, Executor executor) {
+		return delegate.sampleListAsync(size, executor);
+	}
+
+	@Override
+	public Stream<T> sampleShard(long seed, int shardIndex, int shardCount, long count) {
+		return delegate.sampleShard(seed, shardIndex, shardCount, count);
+	}
+
 	@Override
 	public JavaTypeArbitraryBuilder<T> copy() {
 		return new JavaTypeDefaultTypeArbitraryBuilder<>(delegate.copy());
@@ -18,14 +18,18 @@
 
 package com.navercorp.fixturemonkey.customizer;
 
+import static com.navercorp.fixturemonkey.Constants.MAX_MANIPULATION_COUNT;
+
 import com.navercorp.fixturemonkey.tree.ObjectNode;
 
 public final class ApplyNodeCountManipulator implements NodeManipulator {
 	private final NodeManipulator nodeManipulator;
+	private final boolean unlimited;
 	private int count;
 
 	public ApplyNodeCountManipulator(NodeManipulator nodeManipulator, int count) {
 		this.nodeManipulator = nodeManipulator;
+		this.unlimited = count == MAX_MANIPULATION_COUNT;
 		this.count = count;
 	}
 
@@ -36,4 +40,15 @@ public final class ApplyNodeCountManipulator implements NodeManipulator {
 			nodeManipulator.manipulate(objectNode);
 		}
 	}
+
+	public NodeManipulator getNodeManipulator() {
+		return nodeManipulator;
+	}
+
+	/**
+	 * Returns whether it manipulates all the nodes, it is not limited by the count.
+	 */
+	public boolean isUnlimited() {
+		return unlimited;
+	}
 }
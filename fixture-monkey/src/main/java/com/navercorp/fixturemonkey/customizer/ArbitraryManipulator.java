@@ -42,6 +42,14 @@ public final class ArbitraryManipulator {
 		return nodeManipulator;
 	}
 
+	/**
+	 * Returns the manipulator resolving the same nodes and manipulating them by the given {@link NodeManipulator}.
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public ArbitraryManipulator withNodeManipulator(NodeManipulator nodeManipulator) {
+		return new ArbitraryManipulator(nodeResolver, nodeManipulator);
+	}
+
 	public void manipulate(ObjectTree tree) {
 		tree.manipulate(nodeResolver, nodeManipulator);
 	}
@@ -21,8 +21,6 @@ package com.navercorp.fixturemonkey.customizer;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,7 +43,6 @@ import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.matcher.PriorityMatcherOperator;
 import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.builder.DefaultArbitraryBuilder;
 import com.navercorp.fixturemonkey.customizer.InnerSpecState.ManipulatorHolderSet;
@@ -148,72 +145,47 @@ public final class MonkeyManipulatorFactory {
 		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
 		Map<Property, List<ObjectNode>> nodesByType
 	) {
-		List<ArbitraryManipulator> manipulators = new ArrayList<>();
+		return newRegisteredArbitraryManipulators(RegisteredArbitraryBuilderIndex.of(standbyContexts), nodesByType);
+	}
 
-		for (Entry<Property, List<ObjectNode>> nodeByType : nodesByType.entrySet()) {
-			Property property = nodeByType.getKey();
-			List<ObjectNode> objectNodes = nodeByType.getValue();
+	/**
+	 * Creates the manipulators of the registered contexts applied to the nodes.
+	 * The manipulators of a context are bound to the nodes of the property the context is applied to.
+	 *
+	 * @param registeredArbitraryBuilderIndex the index of the registered contexts
+	 * @param nodesByProperty                 the nodes of the object tree by their property
+	 * @return the manipulators of the registered contexts
+	 */
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public List<ArbitraryManipulator> newRegisteredArbitraryManipulators(
+		RegisteredArbitraryBuilderIndex registeredArbitraryBuilderIndex,
+		Map<Property, List<ObjectNode>> nodesByProperty
+	) {
+		if (registeredArbitraryBuilderIndex.isEmpty()) {
+			return new ArrayList<>();
+		}
 
-			ArbitraryBuilderContext activeContext = findRegisteredArbitraryBuilderContext(
-				standbyContexts,
-				property
-			);
+		List<ArbitraryManipulator> manipulators = new ArrayList<>();
+		for (Entry<Property, List<ObjectNode>> nodesOfProperty : nodesByProperty.entrySet()) {
+			ArbitraryBuilderContext activeContext = registeredArbitraryBuilderIndex.find(nodesOfProperty.getKey());
 
 			if (activeContext == null) {
 				continue;
 			}
 
-			List<ArbitraryManipulator> arbitraryManipulators = activeContext.getManipulators().stream()
-				.map(
-					it -> new ArbitraryManipulator(
-						new CompositeNodeResolver(new StaticNodeResolver(objectNodes), it.getNodeResolver()),
-						it.getNodeManipulator()
+			StaticNodeResolver staticNodeResolver = new StaticNodeResolver(nodesOfProperty.getValue());
+			for (ArbitraryManipulator manipulator : activeContext.getManipulators()) {
+				manipulators.add(
+					new ArbitraryManipulator(
+						new CompositeNodeResolver(staticNodeResolver, manipulator.getNodeResolver()),
+						manipulator.getNodeManipulator()
 					)
-				)
-				.collect(toList());
-
-			manipulators.addAll(arbitraryManipulators);
+				);
+			}
 		}
 		return manipulators;
 	}
 
-	private ArbitraryBuilderContext findRegisteredArbitraryBuilderContext(
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
-		Property property
-	) {
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> priorityOperators = standbyContexts
-			.stream()
-			.filter(it -> it.match(property))
-			.sorted(Comparator.comparingInt(PriorityMatcherOperator::getPriority))
-			.collect(toList());
-
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> highestPriorityOperators
-			= getHighestPriorityOperators(priorityOperators);
-
-		if (highestPriorityOperators.size() > 1) {
-			Collections.shuffle(highestPriorityOperators, Randoms.current());
-		}
-
-		return highestPriorityOperators.stream()
-			.findFirst()
-			.map(MatcherOperator::getOperator)
-			.orElse(null);
-	}
-
-	private List<PriorityMatcherOperator<ArbitraryBuilderContext>> getHighestPriorityOperators(
-		List<PriorityMatcherOperator<ArbitraryBuilderContext>> priorityOperators
-	) {
-		if (priorityOperators.isEmpty()) {
-			return priorityOperators;
-		}
-
-		int highestPriority = priorityOperators.get(0).getPriority();
-
-		return priorityOperators.stream()
-			.filter(it -> it.getPriority() == highestPriority)
-			.collect(toList());
-	}
-
 	public ManipulatorSet newManipulatorSet(ManipulatorHolderSet manipulatorHolderSet) {
 		int baseSequence = sequence.getAndIncrement();
 
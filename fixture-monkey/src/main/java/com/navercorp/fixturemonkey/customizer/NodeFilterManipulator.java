@@ -49,4 +49,14 @@ public final class NodeFilterManipulator implements NodeManipulator {
 		}
 		objectNode.getObjectNodeContext().addArbitraryFilter(filter);
 	}
+
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public Class<?> getType() {
+		return type;
+	}
+
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public Predicate getFilter() {
+		return filter;
+	}
 }
@@ -44,4 +44,8 @@ public final class NodeNullityManipulator implements NodeManipulator {
 			objectNode.setNullInject(NOT_NULL_INJECT);
 		}
 	}
+
+	public boolean isToNull() {
+		return toNull;
+	}
 }
@@ -68,6 +68,12 @@ public final class NodeSetDecomposedValueManipulator<T> implements NodeManipulat
 		this.value = value;
 	}
 
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	@Nullable
+	public T getValue() {
+		return value;
+	}
+
 	@Override
 	public void manipulate(ObjectNode objectNode) {
 		Class<?> actualType = Types.getActualType(objectNode.getOriginalProperty().getType());
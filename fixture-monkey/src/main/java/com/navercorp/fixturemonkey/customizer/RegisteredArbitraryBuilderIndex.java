@@ -0,0 +1,149 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.fixturemonkey.customizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.ObjectBuilder;
+import com.navercorp.fixturemonkey.api.container.ConcurrentLruCache;
+import com.navercorp.fixturemonkey.api.matcher.PriorityMatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
+import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContextProvider;
+
+/**
+ * An index of the registered {@link ArbitraryBuilderContext}s to find the one applied to a property.
+ * It is built once per {@link com.navercorp.fixturemonkey.FixtureMonkey}.
+ * <p>
+ * The contexts are ordered by priority when the index is built. The highest priority candidates of a property
+ * are resolved once and cached by the property, a candidate is chosen randomly for each sample
+ * only if more than one candidate has the highest priority.
+ * It is for internal use only.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class RegisteredArbitraryBuilderIndex {
+	private static final int CANDIDATES_CACHE_SIZE = 2048;
+	private static final RegisteredArbitraryBuilderIndex EMPTY =
+		new RegisteredArbitraryBuilderIndex(Collections.emptyList());
+
+	private final List<PriorityMatcherOperator<ArbitraryBuilderContext>> contextsByPriority;
+	private final ConcurrentLruCache<Property, List<ArbitraryBuilderContext>> candidatesByProperty =
+		new ConcurrentLruCache<>(CANDIDATES_CACHE_SIZE);
+
+	public RegisteredArbitraryBuilderIndex(List<PriorityMatcherOperator<ArbitraryBuilderContext>> contexts) {
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> contextsByPriority = new ArrayList<>(contexts);
+		contextsByPriority.sort(Comparator.comparingInt(PriorityMatcherOperator::getPriority));
+		this.contextsByPriority = Collections.unmodifiableList(contextsByPriority);
+	}
+
+	/**
+	 * Returns an index of given contexts, the empty index is shared since it has nothing to cache.
+	 *
+	 * @param contexts the contexts to index
+	 * @return the index of given contexts
+	 */
+	public static RegisteredArbitraryBuilderIndex of(List<PriorityMatcherOperator<ArbitraryBuilderContext>> contexts) {
+		if (contexts.isEmpty()) {
+			return EMPTY;
+		}
+		return new RegisteredArbitraryBuilderIndex(contexts);
+	}
+
+	/**
+	 * Builds an index of the active contexts of the registered {@link ObjectBuilder}s.
+	 *
+	 * @param registeredArbitraryBuilders the registered builders, they should provide the active context
+	 * @return the index of the registered contexts
+	 */
+	public static RegisteredArbitraryBuilderIndex from(
+		List<? extends PriorityMatcherOperator<? extends ObjectBuilder<?>>> registeredArbitraryBuilders
+	) {
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> contexts =
+			new ArrayList<>(registeredArbitraryBuilders.size());
+		for (PriorityMatcherOperator<? extends ObjectBuilder<?>> registeredArbitraryBuilder
+			: registeredArbitraryBuilders) {
+			contexts.add(
+				new PriorityMatcherOperator<>(
+					registeredArbitraryBuilder.getMatcher(),
+					((ArbitraryBuilderContextProvider)registeredArbitraryBuilder.getOperator()).getActiveContext(),
+					registeredArbitraryBuilder.getPriority()
+				)
+			);
+		}
+		return of(contexts);
+	}
+
+	/**
+	 * Finds the registered context applied to given property.
+	 * If more than one context has the highest priority, one of them is chosen randomly.
+	 *
+	 * @param property the property to find the context
+	 * @return the context applied to the property, {@code null} if none of them matches
+	 */
+	@Nullable
+	public ArbitraryBuilderContext find(Property property) {
+		if (isEmpty()) {
+			return null;
+		}
+
+		List<ArbitraryBuilderContext> candidates =
+			candidatesByProperty.computeIfAbsent(property, this::findHighestPriorityCandidates);
+
+		if (candidates.isEmpty()) {
+			return null;
+		}
+
+		if (candidates.size() == 1) {
+			return candidates.get(0);
+		}
+
+		return candidates.get(Randoms.nextInt(candidates.size()));
+	}
+
+	public boolean isEmpty() {
+		return contextsByPriority.isEmpty();
+	}
+
+	private List<ArbitraryBuilderContext> findHighestPriorityCandidates(Property property) {
+		List<ArbitraryBuilderContext> candidates = new ArrayList<>();
+		int highestPriority = 0;
+		for (PriorityMatcherOperator<ArbitraryBuilderContext> context : contextsByPriority) {
+			if (!candidates.isEmpty() && context.getPriority() != highestPriority) {
+				break;
+			}
+
+			if (context.match(property)) {
+				highestPriority = context.getPriority();
+				candidates.add(context.getOperator());
+			}
+		}
+
+		if (candidates.isEmpty()) {
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(candidates);
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.pool;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.api.type.ContextClassLoaders;
+
+/**
+ * A bounded pool of the instances sampled by an {@link ArbitraryBuilder} ahead of {@link #take()}.
+ * <p>
+ * A background producer refills the pool up to the capacity whenever the size drops to the low watermark,
+ * so the generation overlaps with the code using the instances.
+ * The instances are taken in the order they are sampled, the n-th instance is sampled by the n-th seed split
+ * from the seed of the pool. The sequence of the instances is reproducible by the seed.
+ * <p>
+ * The pool should be closed after use, it stops the producer.
+ *
+ * @see FixturePoolBuilder
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FixturePool<T> implements AutoCloseable {
+	private static final Object NULL = new Object();
+
+	private final ArbitraryBuilder<T> arbitraryBuilder;
+	private final int capacity;
+	private final int lowWatermark;
+	private final long seed;
+	private final boolean recordStatistics;
+	private final ExecutorService executorService;
+	private final boolean ownsExecutorService;
+	@Nullable
+	private final ClassLoader contextClassLoader;
+
+	private final BlockingQueue<Object> instances = new LinkedBlockingQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicInteger produceWip = new AtomicInteger();
+	private final CountDownLatch prefilled;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder waitNanos = new LongAdder();
+	private final LongAdder sampledCount = new LongAdder();
+
+	private volatile boolean closed;
+	private volatile boolean failed;
+
+	// confined to the producer
+	private long index;
+
+	FixturePool(
+		ArbitraryBuilder<T> arbitraryBuilder,
+		int capacity,
+		int prefill,
+		int lowWatermark,
+		long seed,
+		boolean recordStatistics,
+		ExecutorService executorService,
+		boolean ownsExecutorService
+	) {
+		this.arbitraryBuilder = arbitraryBuilder;
+		this.capacity = capacity;
+		this.lowWatermark = lowWatermark;
+		this.seed = seed;
+		this.recordStatistics = recordStatistics;
+		this.executorService = executorService;
+		this.ownsExecutorService = ownsExecutorService;
+		this.contextClassLoader = Thread.currentThread().getContextClassLoader();
+		this.prefilled = new CountDownLatch(prefill);
+	}
+
+	public static <T> FixturePoolBuilder<T> builder(ArbitraryBuilder<T> arbitraryBuilder) {
+		return new FixturePoolBuilder<>(arbitraryBuilder);
+	}
+
+	/**
+	 * Takes the next instance of the pool, it waits for the producer if the pool is empty.
+	 *
+	 * @return the next sampled instance
+	 * @throws IllegalStateException if the pool is closed, the producer failed to sample or the thread is interrupted
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public T take() {
+		if (closed) {
+			throw new IllegalStateException("FixturePool is already closed.");
+		}
+
+		Object instance = instances.poll();
+		if (instance != null) {
+			record(hitCount, 1L);
+		} else {
+			record(missCount, 1L);
+			long startNanos = System.nanoTime();
+			try {
+				instance = instances.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for FixturePool.", ex);
+			} finally {
+				record(waitNanos, System.nanoTime() - startNanos);
+			}
+		}
+
+		if (instance instanceof Failure) {
+			instances.offer(instance);
+			throw new IllegalStateException("FixturePool failed to sample.", ((Failure)instance).cause);
+		}
+
+		if (size.decrementAndGet() <= lowWatermark) {
+			refill();
+		}
+		return instance == NULL ? null : (T)instance;
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the statistics of the pool, it is always empty if the statistics are not recorded.
+	 *
+	 * @return the snapshot of the statistics
+	 * @see FixturePoolBuilder#recordStatistics(boolean)
+	 */
+	public FixturePoolStatistics getStatistics() {
+		return new FixturePoolStatistics(
+			hitCount.sum(),
+			missCount.sum(),
+			waitNanos.sum(),
+			sampledCount.sum(),
+			size.get()
+		);
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+		instances.offer(new Failure(new IllegalStateException("FixturePool is already closed.")));
+		if (ownsExecutorService) {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Starts the producer and waits until the pool has the prefill instances.
+	 */
+	void start() {
+		refill();
+		try {
+			prefilled.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new IllegalStateException("Interrupted while prefilling FixturePool.", ex);
+		}
+	}
+
+	private void refill() {
+		if (closed || failed || produceWip.getAndIncrement() != 0) {
+			return;
+		}
+
+		executorService.execute(() -> ContextClassLoaders.runWith(contextClassLoader, this::produce));
+	}
+
+	private void produce() {
+		int missed = 1;
+		while (true) {
+			while (!closed && !failed && size.get() < capacity) {
+				produceOne();
+			}
+
+			missed = produceWip.addAndGet(-missed);
+			if (missed == 0) {
+				return;
+			}
+		}
+	}
+
+	private void produceOne() {
+		Object instance;
+		try {
+			instance = Randoms.withSeed(Randoms.splitSeed(seed, index++), arbitraryBuilder::sample);
+		} catch (Throwable throwable) {
+			failed = true;
+			instances.offer(new Failure(throwable));
+			while (prefilled.getCount() > 0) {
+				prefilled.countDown();
+			}
+			return;
+		}
+
+		size.incrementAndGet();
+		instances.offer(instance == null ? NULL : instance);
+		record(sampledCount, 1L);
+		prefilled.countDown();
+	}
+
+	private void record(LongAdder counter, long value) {
+		if (recordStatistics) {
+			counter.add(value);
+		}
+	}
+
+	private static final class Failure {
+		private final Throwable cause;
+
+		private Failure(Throwable cause) {
+			this.cause = cause;
+		}
+	}
+}
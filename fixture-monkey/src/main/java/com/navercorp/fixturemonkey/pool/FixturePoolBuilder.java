@@ -0,0 +1,164 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.pool;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A builder of {@link FixturePool}.
+ * By default, the pool keeps up to 64 instances, refills them when the size drops to 16
+ * and returns after prefilling 16 instances.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FixturePoolBuilder<T> {
+	private static final int DEFAULT_CAPACITY = 64;
+	private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+	private final ArbitraryBuilder<T> arbitraryBuilder;
+	private int capacity = DEFAULT_CAPACITY;
+	@Nullable
+	private Integer prefill = null;
+	@Nullable
+	private Integer lowWatermark = null;
+	@Nullable
+	private Long seed = null;
+	private boolean recordStatistics = true;
+	@Nullable
+	private ExecutorService executorService = null;
+
+	FixturePoolBuilder(ArbitraryBuilder<T> arbitraryBuilder) {
+		this.arbitraryBuilder = arbitraryBuilder;
+	}
+
+	/**
+	 * Sets the maximum number of the instances kept in the pool, it is the high watermark of the refill.
+	 */
+	public FixturePoolBuilder<T> capacity(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive. capacity: " + capacity);
+		}
+		this.capacity = capacity;
+		return this;
+	}
+
+	/**
+	 * Sets the number of the instances sampled before {@link #build()} returns.
+	 * It is a quarter of the capacity by default.
+	 */
+	public FixturePoolBuilder<T> prefill(int prefill) {
+		if (prefill < 0) {
+			throw new IllegalArgumentException("prefill must not be negative. prefill: " + prefill);
+		}
+		this.prefill = prefill;
+		return this;
+	}
+
+	/**
+	 * Sets the size of the pool to start refilling, the producer refills the pool up to the capacity.
+	 * It is a quarter of the capacity by default.
+	 */
+	public FixturePoolBuilder<T> lowWatermark(int lowWatermark) {
+		if (lowWatermark < 0) {
+			throw new IllegalArgumentException("lowWatermark must not be negative. lowWatermark: " + lowWatermark);
+		}
+		this.lowWatermark = lowWatermark;
+		return this;
+	}
+
+	/**
+	 * Sets the seed of the instances, it is the current seed of {@link Randoms} by default.
+	 */
+	public FixturePoolBuilder<T> seed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+
+	public FixturePoolBuilder<T> recordStatistics(boolean recordStatistics) {
+		this.recordStatistics = recordStatistics;
+		return this;
+	}
+
+	/**
+	 * Sets the executor running the producer, it is not shut down when the pool is closed.
+	 * By default, the pool runs the producer in a virtual thread if the runtime supports,
+	 * otherwise in a daemon thread, and shuts it down when the pool is closed.
+	 */
+	public FixturePoolBuilder<T> executorService(ExecutorService executorService) {
+		this.executorService = executorService;
+		return this;
+	}
+
+	/**
+	 * Builds a {@link FixturePool} and waits until it is prefilled.
+	 *
+	 * @throws IllegalArgumentException if the prefill or the low watermark exceeds the capacity
+	 */
+	public FixturePool<T> build() {
+		int resolvedPrefill = prefill != null ? prefill : capacity / 4;
+		int resolvedLowWatermark = lowWatermark != null ? lowWatermark : capacity / 4;
+		if (resolvedPrefill > capacity || resolvedLowWatermark >= capacity) {
+			throw new IllegalArgumentException(
+				"prefill must not exceed capacity and lowWatermark must be less than capacity. "
+					+ "capacity: " + capacity
+					+ ", prefill: " + resolvedPrefill
+					+ ", lowWatermark: " + resolvedLowWatermark
+			);
+		}
+
+		boolean ownsExecutorService = executorService == null;
+		FixturePool<T> fixturePool = new FixturePool<>(
+			arbitraryBuilder.copy(),
+			capacity,
+			resolvedPrefill,
+			resolvedLowWatermark,
+			seed != null ? seed : Randoms.currentSeed(),
+			recordStatistics,
+			ownsExecutorService ? newDefaultExecutorService() : executorService,
+			ownsExecutorService
+		);
+		fixturePool.start();
+		return fixturePool;
+	}
+
+	/**
+	 * Creates an executor of virtual threads by reflection since it is only available in Java 21 or later.
+	 */
+	private static ExecutorService newDefaultExecutorService() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService)method.invoke(null);
+		} catch (ReflectiveOperationException ex) {
+			return Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "fixture-monkey-pool-" + THREAD_SEQUENCE.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+}
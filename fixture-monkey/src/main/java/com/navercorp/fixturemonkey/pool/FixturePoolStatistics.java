@@ -0,0 +1,86 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.pool;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The snapshot of the statistics of a {@link FixturePool}.
+ * A hit is a {@link FixturePool#take()} served without waiting, a miss waits for the producer.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class FixturePoolStatistics {
+	private final long hitCount;
+	private final long missCount;
+	private final long waitNanos;
+	private final long sampledCount;
+	private final int size;
+
+	public FixturePoolStatistics(long hitCount, long missCount, long waitNanos, long sampledCount, int size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.waitNanos = waitNanos;
+		this.sampledCount = sampledCount;
+		this.size = size;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the total time waited for the producer by the misses.
+	 *
+	 * @return the total wait time
+	 */
+	public Duration getWaitTime() {
+		return Duration.ofNanos(waitNanos);
+	}
+
+	public long getSampledCount() {
+		return sampledCount;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public double getHitRate() {
+		long takeCount = hitCount + missCount;
+		return takeCount == 0 ? 0.0d : (double)hitCount / takeCount;
+	}
+
+	@Override
+	public String toString() {
+		return "FixturePoolStatistics{"
+			+ "hitCount=" + hitCount
+			+ ", missCount=" + missCount
+			+ ", waitTime=" + getWaitTime()
+			+ ", sampledCount=" + sampledCount
+			+ ", size=" + size
+			+ '}';
+	}
+}
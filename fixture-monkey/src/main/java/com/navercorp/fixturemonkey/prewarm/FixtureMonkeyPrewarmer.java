@@ -0,0 +1,196 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.prewarm;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
+import com.navercorp.fixturemonkey.api.property.CandidateConcretePropertyResolver;
+import com.navercorp.fixturemonkey.api.property.CompositeCandidateConcretePropertyResolver;
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyGenerator;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.property.TypeParameterProperty;
+import com.navercorp.fixturemonkey.api.type.ContextClassLoaders;
+import com.navercorp.fixturemonkey.api.type.TypeCache;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Populates the reflection caches of {@link TypeCache}, the property generators, the introspectors and
+ * the arbitrary caches of the {@link FixtureMonkey} ahead of the first sampling.
+ * <p>
+ * Each root type is prewarmed in a separate task of the given {@link ForkJoinPool}.
+ * It walks all properties reachable from the root type, including the candidate concrete properties,
+ * and samples the root type once to warm the introspectors.
+ * <p>
+ * It is for internal use only. Use {@link FixtureMonkey#prewarm(Collection)} instead.
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+public final class FixtureMonkeyPrewarmer {
+	private final FixtureMonkey fixtureMonkey;
+	private final FixtureMonkeyOptions fixtureMonkeyOptions;
+	private final Set<Type> visitedTypes = ConcurrentHashMap.newKeySet();
+
+	public FixtureMonkeyPrewarmer(FixtureMonkey fixtureMonkey, FixtureMonkeyOptions fixtureMonkeyOptions) {
+		this.fixtureMonkey = fixtureMonkey;
+		this.fixtureMonkeyOptions = fixtureMonkeyOptions;
+	}
+
+	public PrewarmResult prewarm(Collection<? extends Type> types, ForkJoinPool forkJoinPool) {
+		List<Type> rootTypes = new ArrayList<>(types);
+		Map<Type, Throwable> failuresByType = new ConcurrentHashMap<>();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		List<ForkJoinTask<?>> tasks = rootTypes.stream()
+			.map(type -> forkJoinPool.submit(
+				() -> ContextClassLoaders.runWith(contextClassLoader, () -> prewarm(type, failuresByType))
+			))
+			.collect(Collectors.toList());
+
+		for (ForkJoinTask<?> task : tasks) {
+			task.join();
+		}
+
+		return new PrewarmResult(rootTypes, new HashMap<>(failuresByType));
+	}
+
+	public PrewarmResult prewarmPackages(Collection<String> basePackages, ForkJoinPool forkJoinPool) {
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		if (classLoader == null) {
+			classLoader = FixtureMonkeyPrewarmer.class.getClassLoader();
+		}
+
+		List<Type> types = new ArrayList<>();
+		for (String basePackage : basePackages) {
+			types.addAll(PackageClassScanner.scan(basePackage, classLoader));
+		}
+		return prewarm(types, forkJoinPool);
+	}
+
+	private void prewarm(Type type, Map<Type, Throwable> failuresByType) {
+		AnnotatedType annotatedType = Types.generateAnnotatedTypeWithoutAnnotation(type);
+		walk(new RootProperty(new TypeParameterProperty(annotatedType)), failuresByType);
+
+		try {
+			fixtureMonkey.giveMeBuilder(Types.toTypeReference(annotatedType)).sample();
+		} catch (RuntimeException | LinkageError ex) {
+			failuresByType.putIfAbsent(type, ex);
+		}
+	}
+
+	private void walk(Property rootProperty, Map<Type, Throwable> failuresByType) {
+		Deque<Property> properties = new ArrayDeque<>();
+		properties.push(rootProperty);
+
+		while (!properties.isEmpty()) {
+			Property property = properties.pop();
+			Type type = property.getType();
+			if (!visitedTypes.add(type)) {
+				continue;
+			}
+
+			try {
+				properties.addAll(resolveNextProperties(property));
+			} catch (RuntimeException | LinkageError ex) {
+				failuresByType.putIfAbsent(type, ex);
+			}
+		}
+	}
+
+	private List<Property> resolveNextProperties(Property property) {
+		Class<?> actualType = Types.getActualType(property.getType());
+
+		if (actualType.isArray()) {
+			return Collections.singletonList(
+				new TypeParameterProperty(Types.getArrayComponentAnnotatedType(property.getAnnotatedType()))
+			);
+		}
+
+		if (fixtureMonkeyOptions.getContainerPropertyGenerator(property) != null || Types.isJavaType(actualType)) {
+			return Types.getGenericsTypes(property.getAnnotatedType()).stream()
+				.map(TypeParameterProperty::new)
+				.collect(Collectors.toList());
+		}
+
+		TypeCache.getFieldsByName(actualType);
+		TypeCache.getPropertyDescriptorsByPropertyName(actualType);
+		TypeCache.getDeclaredConstructors(actualType);
+		TypeCache.getParameterNamesByConstructor(actualType);
+
+		List<Property> nextProperties = new ArrayList<>();
+		for (Property candidateProperty : resolveCandidateProperties(property)) {
+			if (!candidateProperty.getType().equals(property.getType())) {
+				nextProperties.add(candidateProperty);
+				continue;
+			}
+
+			PropertyGenerator propertyGenerator = resolvePropertyGenerator(candidateProperty);
+			nextProperties.addAll(propertyGenerator.generateChildProperties(candidateProperty));
+		}
+		return nextProperties;
+	}
+
+	private List<Property> resolveCandidateProperties(Property property) {
+		List<CandidateConcretePropertyResolver> candidateConcretePropertyResolvers =
+			fixtureMonkeyOptions.getCandidateConcretePropertyResolvers().stream()
+				.filter(it -> it.match(property))
+				.map(MatcherOperator::getOperator)
+				.collect(Collectors.toList());
+
+		if (candidateConcretePropertyResolvers.isEmpty()) {
+			return Collections.singletonList(property);
+		}
+
+		return new CompositeCandidateConcretePropertyResolver(candidateConcretePropertyResolvers).resolve(property);
+	}
+
+	private PropertyGenerator resolvePropertyGenerator(Property property) {
+		PropertyGenerator propertyGenerator = fixtureMonkeyOptions.getOptionalPropertyGenerator(property);
+		if (propertyGenerator != null) {
+			return propertyGenerator;
+		}
+
+		PropertyGenerator requiredPropertyGenerator =
+			fixtureMonkeyOptions.getDefaultArbitraryGenerator().getRequiredPropertyGenerator(property);
+		if (requiredPropertyGenerator != null) {
+			return requiredPropertyGenerator;
+		}
+
+		return fixtureMonkeyOptions.getDefaultPropertyGenerator();
+	}
+}
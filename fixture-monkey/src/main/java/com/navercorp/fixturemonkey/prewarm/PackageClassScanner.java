@@ -0,0 +1,144 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.prewarm;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Finds the classes under the given package in the file system directories and the jar files of the classpath.
+ * Annotations, anonymous, local, non-static inner, abstract classes and interfaces are excluded,
+ * they would be reached by the properties of the other classes if they are needed.
+ */
+final class PackageClassScanner {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PackageClassScanner.class);
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	private PackageClassScanner() {
+	}
+
+	static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+		String basePath = basePackage.replace('.', '/');
+		Set<String> classNames = new LinkedHashSet<>();
+
+		try {
+			Enumeration<URL> resources = classLoader.getResources(basePath);
+			while (resources.hasMoreElements()) {
+				URL resource = resources.nextElement();
+				if ("file".equals(resource.getProtocol())) {
+					classNames.addAll(findClassNamesInDirectory(basePath, Paths.get(resource.toURI())));
+				} else if ("jar".equals(resource.getProtocol())) {
+					classNames.addAll(findClassNamesInJar(basePath, resource));
+				}
+			}
+		} catch (IOException | URISyntaxException ex) {
+			throw new IllegalArgumentException("Failed to scan the classes in package " + basePackage, ex);
+		}
+
+		List<Class<?>> classes = new ArrayList<>();
+		for (String className : classNames) {
+			if (className.endsWith("package-info") || className.endsWith("module-info")) {
+				continue;
+			}
+
+			try {
+				Class<?> type = Class.forName(className, false, classLoader);
+				if (isPrewarmTarget(type)) {
+					classes.add(type);
+				}
+			} catch (ClassNotFoundException | LinkageError ex) {
+				LOGGER.debug("Skip prewarming {}, it could not be loaded.", className, ex);
+			}
+		}
+		return classes;
+	}
+
+	private static List<String> findClassNamesInDirectory(String basePath, Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			return paths
+				.filter(it -> Files.isRegularFile(it) && it.toString().endsWith(CLASS_FILE_SUFFIX))
+				.map(it -> {
+					StringJoiner packagePath = new StringJoiner("/", basePath + "/", "");
+					for (Path element : directory.relativize(it)) {
+						packagePath.add(element.toString());
+					}
+					return toClassName(packagePath.toString());
+				})
+				.collect(Collectors.toList());
+		}
+	}
+
+	private static List<String> findClassNamesInJar(String basePath, URL resource) throws IOException {
+		URLConnection connection = resource.openConnection();
+		if (!(connection instanceof JarURLConnection)) {
+			return new ArrayList<>();
+		}
+
+		JarURLConnection jarConnection = (JarURLConnection)connection;
+		jarConnection.setUseCaches(false);
+
+		List<String> classNames = new ArrayList<>();
+		try (JarFile jarFile = jarConnection.getJarFile()) {
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while (entries.hasMoreElements()) {
+				String entryName = entries.nextElement().getName();
+				if (entryName.startsWith(basePath + "/") && entryName.endsWith(CLASS_FILE_SUFFIX)) {
+					classNames.add(toClassName(entryName));
+				}
+			}
+		}
+		return classNames;
+	}
+
+	private static String toClassName(String path) {
+		return path.substring(0, path.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.');
+	}
+
+	private static boolean isPrewarmTarget(Class<?> type) {
+		int modifiers = type.getModifiers();
+		boolean innerClass = type.isMemberClass() && !Modifier.isStatic(modifiers);
+		return !type.isAnnotation()
+			&& !type.isAnonymousClass()
+			&& !type.isLocalClass()
+			&& !type.isSynthetic()
+			&& !innerClass
+			&& !type.isInterface()
+			&& !Modifier.isAbstract(modifiers);
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.prewarm;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * The result of prewarming a {@link com.navercorp.fixturemonkey.FixtureMonkey}.
+ * It contains the types that were requested to prewarm and the types that failed to be introspected.
+ * A failed type is not an error by itself, generating it would fail in the same way later.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class PrewarmResult {
+	private final List<Type> prewarmedTypes;
+	private final Map<Type, Throwable> failuresByType;
+
+	public PrewarmResult(List<Type> prewarmedTypes, Map<Type, Throwable> failuresByType) {
+		this.prewarmedTypes = Collections.unmodifiableList(prewarmedTypes);
+		this.failuresByType = Collections.unmodifiableMap(failuresByType);
+	}
+
+	/**
+	 * Returns the root types requested to prewarm.
+	 *
+	 * @return the root types requested to prewarm
+	 */
+	public List<Type> getPrewarmedTypes() {
+		return prewarmedTypes;
+	}
+
+	/**
+	 * Returns the types failed to introspect or generate, including the types reachable from the root types.
+	 *
+	 * @return the causes of failure by type
+	 */
+	public Map<Type, Throwable> getFailuresByType() {
+		return failuresByType;
+	}
+
+	public boolean hasFailures() {
+		return !failuresByType.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "PrewarmResult{"
+			+ "prewarmedTypes=" + prewarmedTypes.size()
+			+ ", failedTypes=" + failuresByType.keySet()
+			+ '}';
+	}
+}
@@ -27,11 +27,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
@@ -46,6 +48,7 @@ import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContext;
 import com.navercorp.fixturemonkey.builder.ArbitraryBuilderContextProvider;
 import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
 import com.navercorp.fixturemonkey.customizer.MonkeyManipulatorFactory;
+import com.navercorp.fixturemonkey.customizer.RegisteredArbitraryBuilderIndex;
 import com.navercorp.fixturemonkey.tree.ObjectNode;
 import com.navercorp.fixturemonkey.tree.ObjectTree;
 
@@ -54,15 +57,34 @@ public final class ArbitraryResolver {
 	private final ManipulatorOptimizer manipulatorOptimizer;
 	private final MonkeyManipulatorFactory monkeyManipulatorFactory;
 	private final MonkeyContext monkeyContext;
+	private final Supplier<RegisteredArbitraryBuilderIndex> registeredArbitraryBuilderIndex;
+	@Nullable
+	private volatile StandbyContextIndex standbyContextIndex;
 
 	public ArbitraryResolver(
 		ManipulatorOptimizer manipulatorOptimizer,
 		MonkeyManipulatorFactory monkeyManipulatorFactory,
 		MonkeyContext monkeyContext
+	) {
+		this(
+			manipulatorOptimizer,
+			monkeyManipulatorFactory,
+			monkeyContext,
+			() -> RegisteredArbitraryBuilderIndex.from(monkeyContext.getRegisteredArbitraryBuilders())
+		);
+	}
+
+	@API(since = "1.1.16", status = Status.INTERNAL)
+	public ArbitraryResolver(
+		ManipulatorOptimizer manipulatorOptimizer,
+		MonkeyManipulatorFactory monkeyManipulatorFactory,
+		MonkeyContext monkeyContext,
+		Supplier<RegisteredArbitraryBuilderIndex> registeredArbitraryBuilderIndex
 	) {
 		this.manipulatorOptimizer = manipulatorOptimizer;
 		this.monkeyManipulatorFactory = monkeyManipulatorFactory;
 		this.monkeyContext = monkeyContext;
+		this.registeredArbitraryBuilderIndex = registeredArbitraryBuilderIndex;
 	}
 
 	public CombinableArbitrary<?> resolve(
@@ -73,6 +95,7 @@ public final class ArbitraryResolver {
 		FixtureMonkeyOptions fixtureMonkeyOptions = monkeyContext.getFixtureMonkeyOptions();
 
 		List<ArbitraryManipulator> activeManipulators = activeContext.getManipulators();
+		RegisteredArbitraryBuilderIndex standbyContextIndex = getStandbyContextIndex(standbyContexts);
 
 		return new ResolvedCombinableArbitrary<>(
 			rootProperty,
@@ -102,7 +125,11 @@ public final class ArbitraryResolver {
 				ObjectTree objectTree = new ObjectTree(
 					rootProperty,
 					activeContext.newGenerateFixtureContext(registeredIntrospectors),
-					activeContext.newTraverseContext(rootProperty, registeredPropertyConfigurer)
+					activeContext.newTraverseContext(
+						rootProperty,
+						registeredPropertyConfigurer,
+						manipulatorOptimizer::optimizeContainerInfoManipulators
+					)
 				);
 
 				fixtureMonkeyOptions.getBuilderContextInitializers().stream()
@@ -121,23 +148,13 @@ public final class ArbitraryResolver {
 
 				List<ArbitraryManipulator> registeredRootManipulators =
 					monkeyManipulatorFactory.newRegisteredArbitraryManipulators(
-						standbyContexts,
+						standbyContextIndex,
 						rootNodesByProperty
 					);
 
-				List<PriorityMatcherOperator<ArbitraryBuilderContext>> registeredPropertyArbitraryBuilderContexts =
-					monkeyContext.getRegisteredArbitraryBuilders()
-						.stream()
-						.map(it -> new PriorityMatcherOperator<>(
-							it.getMatcher(),
-							((ArbitraryBuilderContextProvider)it.getOperator()).getActiveContext(),
-							it.getPriority()
-						))
-						.collect(Collectors.toList());
-
 				List<ArbitraryManipulator> registeredPropertyManipulators =
 					monkeyManipulatorFactory.newRegisteredArbitraryManipulators(
-						registeredPropertyArbitraryBuilderContexts,
+						registeredArbitraryBuilderIndex.get(),
 						objectTree.getMetadata().getNodesByProperty()
 					);
 
@@ -160,10 +177,33 @@ public final class ArbitraryResolver {
 			},
 			fixtureMonkeyOptions.getGenerateMaxTries(),
 			fixtureMonkeyOptions.getDefaultArbitraryValidator(),
+			fixtureMonkeyOptions.getGuaranteedConstraintTypes(),
 			activeContext::isValidOnly
 		);
 	}
 
+	/**
+	 * Returns the index of the standby contexts.
+	 * The standby contexts of a builder do not change, the index of the last contexts is reused
+	 * so that the builder sampled repeatedly does not build it for each sample.
+	 */
+	private RegisteredArbitraryBuilderIndex getStandbyContextIndex(
+		List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts
+	) {
+		if (standbyContexts.isEmpty()) {
+			return RegisteredArbitraryBuilderIndex.of(standbyContexts);
+		}
+
+		StandbyContextIndex standbyContextIndex = this.standbyContextIndex;
+		if (standbyContextIndex != null && standbyContextIndex.standbyContexts == standbyContexts) {
+			return standbyContextIndex.index;
+		}
+
+		RegisteredArbitraryBuilderIndex index = RegisteredArbitraryBuilderIndex.of(standbyContexts);
+		this.standbyContextIndex = new StandbyContextIndex(standbyContexts, index);
+		return index;
+	}
+
 	/**
 	 * Infers all possible properties from the given root property without cycles.
 	 *
@@ -217,4 +257,17 @@ public final class ArbitraryResolver {
 			}
 		}
 	}
+
+	private static final class StandbyContextIndex {
+		private final List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts;
+		private final RegisteredArbitraryBuilderIndex index;
+
+		private StandbyContextIndex(
+			List<PriorityMatcherOperator<ArbitraryBuilderContext>> standbyContexts,
+			RegisteredArbitraryBuilderIndex index
+		) {
+			this.standbyContexts = standbyContexts;
+			this.index = index;
+		}
+	}
 }
@@ -0,0 +1,439 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.resolver;
+
+import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
+import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
+
+import com.navercorp.fixturemonkey.api.constraint.FilterConstraint;
+import com.navercorp.fixturemonkey.api.tree.TraverseNodePredicate;
+import com.navercorp.fixturemonkey.api.tree.TreeNodeManipulator;
+import com.navercorp.fixturemonkey.customizer.ApplyNodeCountManipulator;
+import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeFilterManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeNullityManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeSetDecomposedValueManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeSetJustManipulator;
+import com.navercorp.fixturemonkey.customizer.NodeSetLazyManipulator;
+import com.navercorp.fixturemonkey.tree.CompositeNodeResolver;
+import com.navercorp.fixturemonkey.tree.ContainerElementPredicate;
+import com.navercorp.fixturemonkey.tree.NextNodePredicate;
+import com.navercorp.fixturemonkey.tree.NodeAllElementPredicate;
+import com.navercorp.fixturemonkey.tree.NodeElementPredicate;
+import com.navercorp.fixturemonkey.tree.NodePredicateResolver;
+import com.navercorp.fixturemonkey.tree.NodeResolver;
+import com.navercorp.fixturemonkey.tree.PropertyNameNodePredicate;
+
+/**
+ * A {@link ManipulatorOptimizer} removing the manipulators which could not affect the generated value.
+ * The paths of the manipulators are analyzed by their {@link NodeResolver}s.
+ * The {@link NodeResolver}s other than {@link NodePredicateResolver} are compared by their equality.
+ * <ul>
+ *     <li>A manipulator is removed if a later one on the same path overwrites all it manipulates,
+ *     for example, setting the same property twice.</li>
+ *     <li>A manipulator is removed if a later one sets its ancestor to null or to a fixed value,
+ *     unless the ancestor is resolved again afterward.</li>
+ *     <li>The consecutive post conditions of the same type on the same path are collapsed into one predicate.
+ *     The {@link FilterConstraint}s are intersected apart from the others to be pushed down into generation.</li>
+ *     <li>The manipulators of the container sizes are removed if a later one on the same path overrides them.</li>
+ * </ul>
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class DefaultManipulatorOptimizer implements ManipulatorOptimizer {
+	private static final int NONE = 0;
+	private static final int VALUE = 1;
+	private static final int NULLITY = 1 << 1;
+	private static final int ALL = VALUE | NULLITY;
+
+	private static final Set<Class<?>> LEAF_VALUE_TYPES = new HashSet<>(
+		Arrays.asList(
+			String.class,
+			Character.class,
+			Boolean.class,
+			Byte.class,
+			Short.class,
+			Integer.class,
+			Long.class,
+			Float.class,
+			Double.class,
+			BigInteger.class,
+			BigDecimal.class
+		)
+	);
+
+	private static final NextNodePredicate ALL_ELEMENT_PREDICATE =
+		new ContainerElementPredicate(NO_OR_ALL_INDEX_INTEGER_VALUE);
+
+	@Override
+	public OptimizedManipulatorResult optimize(List<ArbitraryManipulator> manipulators) {
+		int size = manipulators.size();
+		if (size < 2) {
+			return new OptimizedManipulatorResult(manipulators);
+		}
+
+		List<List<NodeResolver>> paths = new ArrayList<>(size);
+		for (ArbitraryManipulator manipulator : manipulators) {
+			paths.add(toPath(manipulator.getNodeResolver()));
+		}
+
+		Boolean[] reopened = new Boolean[size];
+		List<ArbitraryManipulator> retained = new ArrayList<>(size);
+		List<List<NodeResolver>> retainedPaths = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			if (!isShadowed(i, manipulators, paths, reopened)) {
+				retained.add(manipulators.get(i));
+				retainedPaths.add(paths.get(i));
+			}
+		}
+		return new OptimizedManipulatorResult(mergeFilters(retained, retainedPaths));
+	}
+
+	@Override
+	public List<TreeNodeManipulator> optimizeContainerInfoManipulators(
+		List<TreeNodeManipulator> containerInfoManipulators
+	) {
+		int size = containerInfoManipulators.size();
+		if (size < 2) {
+			return containerInfoManipulators;
+		}
+
+		Set<List<TraverseNodePredicate>> overriddenPaths = new HashSet<>();
+		List<TreeNodeManipulator> optimized = new ArrayList<>(size);
+		for (int i = size - 1; i >= 0; i--) {
+			TreeNodeManipulator containerInfoManipulator = containerInfoManipulators.get(i);
+			if (overriddenPaths.add(containerInfoManipulator.getTraverseNodePredicates())) {
+				optimized.add(containerInfoManipulator);
+			}
+		}
+		Collections.reverse(optimized);
+		return optimized;
+	}
+
+	private static boolean isShadowed(
+		int index,
+		List<ArbitraryManipulator> manipulators,
+		List<List<NodeResolver>> paths,
+		Boolean[] reopened
+	) {
+		NodeManipulator nodeManipulator = unwrap(manipulators.get(index).getNodeManipulator());
+		List<NodeResolver> path = paths.get(index);
+		int manipulated = manipulatedBy(nodeManipulator);
+
+		for (int later = index + 1; later < manipulators.size(); later++) {
+			List<NodeResolver> laterPath = paths.get(later);
+			if (!covers(laterPath, path)) {
+				continue;
+			}
+
+			NodeManipulator laterNodeManipulator = unwrap(manipulators.get(later).getNodeManipulator());
+			boolean samePath = laterPath.size() == path.size();
+			if (samePath && manipulated != NONE && (manipulated & ~overwrittenBy(laterNodeManipulator)) == 0) {
+				return true;
+			}
+
+			if ((samePath ? isNullClosing(laterNodeManipulator) : isClosing(laterNodeManipulator))
+				&& !isReopened(later, paths, reopened)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether any manipulator after the closing one resolves its nodes, their ancestors or descendants.
+	 * Resolving a node makes it not null, and the value of its ancestors could be set again.
+	 */
+	private static boolean isReopened(int closing, List<List<NodeResolver>> paths, Boolean[] reopened) {
+		if (reopened[closing] != null) {
+			return reopened[closing];
+		}
+
+		List<NodeResolver> closingPath = paths.get(closing);
+		boolean result = false;
+		for (int later = closing + 1; later < paths.size(); later++) {
+			if (mayOverlap(paths.get(later), closingPath)) {
+				result = true;
+				break;
+			}
+		}
+		reopened[closing] = result;
+		return result;
+	}
+
+	private static List<ArbitraryManipulator> mergeFilters(
+		List<ArbitraryManipulator> manipulators,
+		List<List<NodeResolver>> paths
+	) {
+		int size = manipulators.size();
+		List<ArbitraryManipulator> merged = new ArrayList<>(size);
+		int start = 0;
+		while (start < size) {
+			NodeFilterManipulator filterManipulator = getFilterManipulator(manipulators.get(start));
+			int end = start + 1;
+			if (filterManipulator != null) {
+				while (end < size && paths.get(end).equals(paths.get(start))) {
+					NodeFilterManipulator next = getFilterManipulator(manipulators.get(end));
+					if (next == null || next.getType() != filterManipulator.getType()) {
+						break;
+					}
+					end++;
+				}
+			}
+
+			if (end - start == 1) {
+				merged.add(manipulators.get(start));
+			} else {
+				merged.addAll(mergeFilters(manipulators.subList(start, end)));
+			}
+			start = end;
+		}
+		return merged;
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static List<ArbitraryManipulator> mergeFilters(List<ArbitraryManipulator> filterManipulators) {
+		ArbitraryManipulator first = filterManipulators.get(0);
+		Class<?> type = Objects.requireNonNull(getFilterManipulator(first)).getType();
+
+		FilterConstraint<?> filterConstraint = null;
+		Predicate predicate = null;
+		for (ArbitraryManipulator filterManipulator : filterManipulators) {
+			Predicate filter = Objects.requireNonNull(getFilterManipulator(filterManipulator)).getFilter();
+			if (filter instanceof FilterConstraint) {
+				filterConstraint = filterConstraint == null
+					? (FilterConstraint<?>)filter
+					: filterConstraint.intersect((FilterConstraint<?>)filter);
+			} else {
+				predicate = predicate == null ? filter : predicate.and(filter);
+			}
+		}
+
+		List<ArbitraryManipulator> merged = new ArrayList<>(2);
+		if (filterConstraint != null) {
+			merged.add(first.withNodeManipulator(new NodeFilterManipulator(type, filterConstraint)));
+		}
+		if (predicate != null) {
+			merged.add(first.withNodeManipulator(new NodeFilterManipulator(type, predicate)));
+		}
+		return merged;
+	}
+
+	@Nullable
+	private static NodeFilterManipulator getFilterManipulator(ArbitraryManipulator manipulator) {
+		NodeManipulator nodeManipulator = unwrap(manipulator.getNodeManipulator());
+		return nodeManipulator instanceof NodeFilterManipulator ? (NodeFilterManipulator)nodeManipulator : null;
+	}
+
+	/**
+	 * Returns the manipulator wrapped by {@link ApplyNodeCountManipulator} if it is not limited by the count.
+	 */
+	private static NodeManipulator unwrap(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof ApplyNodeCountManipulator
+			&& ((ApplyNodeCountManipulator)nodeManipulator).isUnlimited()) {
+			return ((ApplyNodeCountManipulator)nodeManipulator).getNodeManipulator();
+		}
+		return nodeManipulator;
+	}
+
+	/**
+	 * Returns what the given manipulator manipulates on the node it resolves.
+	 * {@link #NONE} means that it could not be determined, it is never regarded as overwritten.
+	 */
+	private static int manipulatedBy(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof ApplyNodeCountManipulator) {
+			return manipulatedBy(((ApplyNodeCountManipulator)nodeManipulator).getNodeManipulator());
+		}
+
+		if (nodeManipulator instanceof NodeSetJustManipulator) {
+			return VALUE;
+		}
+
+		if (nodeManipulator instanceof NodeSetDecomposedValueManipulator
+			|| nodeManipulator instanceof NodeSetLazyManipulator) {
+			return ALL;
+		}
+
+		if (nodeManipulator instanceof NodeNullityManipulator) {
+			// setting not null also initializes the value not generated
+			return ((NodeNullityManipulator)nodeManipulator).isToNull() ? NULLITY : ALL;
+		}
+		return NONE;
+	}
+
+	/**
+	 * Returns what the given manipulator always overwrites on the node it resolves.
+	 */
+	private static int overwrittenBy(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof NodeSetJustManipulator) {
+			return VALUE;
+		}
+
+		if (nodeManipulator instanceof NodeSetDecomposedValueManipulator) {
+			Object value = ((NodeSetDecomposedValueManipulator<?>)nodeManipulator).getValue();
+			// the decomposed values of an object or a container may not overwrite all the child nodes
+			return isLeafValue(value) ? ALL : NULLITY;
+		}
+
+		if (nodeManipulator instanceof NodeNullityManipulator) {
+			return NULLITY;
+		}
+		return NONE;
+	}
+
+	/**
+	 * Returns whether the given manipulator makes the descendants of the node it resolves not affect the value.
+	 */
+	private static boolean isClosing(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof NodeSetJustManipulator) {
+			return true;
+		}
+
+		if (nodeManipulator instanceof NodeSetDecomposedValueManipulator) {
+			return isLeafValue(((NodeSetDecomposedValueManipulator<?>)nodeManipulator).getValue());
+		}
+		return isNullClosing(nodeManipulator);
+	}
+
+	/**
+	 * Returns whether the given manipulator makes the node it resolves always null.
+	 */
+	private static boolean isNullClosing(NodeManipulator nodeManipulator) {
+		if (nodeManipulator instanceof NodeNullityManipulator) {
+			return ((NodeNullityManipulator)nodeManipulator).isToNull();
+		}
+
+		return nodeManipulator instanceof NodeSetDecomposedValueManipulator
+			&& ((NodeSetDecomposedValueManipulator<?>)nodeManipulator).getValue() == null;
+	}
+
+	private static boolean isLeafValue(@Nullable Object value) {
+		return value == null || value instanceof Enum || LEAF_VALUE_TYPES.contains(value.getClass());
+	}
+
+	private static List<NodeResolver> toPath(NodeResolver nodeResolver) {
+		List<NodeResolver> path = new ArrayList<>();
+		appendPath(nodeResolver, path);
+		return path;
+	}
+
+	private static void appendPath(NodeResolver nodeResolver, List<NodeResolver> path) {
+		if (!(nodeResolver instanceof CompositeNodeResolver)) {
+			path.add(nodeResolver);
+			return;
+		}
+
+		for (NodeResolver component : ((CompositeNodeResolver)nodeResolver).flatten()) {
+			appendPath(component, path);
+		}
+	}
+
+	/**
+	 * Returns whether the nodes resolved by {@code path} are the nodes or the ancestors of the nodes
+	 * resolved by {@code coveredPath}.
+	 */
+	private static boolean covers(List<NodeResolver> path, List<NodeResolver> coveredPath) {
+		if (path.size() > coveredPath.size()) {
+			return false;
+		}
+
+		for (int i = 0; i < path.size(); i++) {
+			NodeResolver nodeResolver = path.get(i);
+			NodeResolver coveredNodeResolver = coveredPath.get(i);
+			if (!nodeResolver.equals(coveredNodeResolver) && !isWildcardOf(nodeResolver, coveredNodeResolver)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the nodes resolved by two paths may be the same or one may be the ancestor of the other.
+	 */
+	private static boolean mayOverlap(List<NodeResolver> path, List<NodeResolver> otherPath) {
+		int size = Math.min(path.size(), otherPath.size());
+		for (int i = 0; i < size; i++) {
+			if (isDisjoint(path.get(i), otherPath.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWildcardOf(NodeResolver nodeResolver, NodeResolver coveredNodeResolver) {
+		NextNodePredicate predicate = getNextNodePredicate(nodeResolver);
+		NextNodePredicate coveredPredicate = getNextNodePredicate(coveredNodeResolver);
+		if (predicate == null || coveredPredicate == null) {
+			return false;
+		}
+
+		if (predicate instanceof PropertyNameNodePredicate) {
+			return ALL_INDEX_STRING.equals(((PropertyNameNodePredicate)predicate).getPropertyName())
+				&& coveredPredicate instanceof PropertyNameNodePredicate;
+		}
+
+		if (predicate instanceof NodeAllElementPredicate) {
+			return coveredPredicate instanceof NodeElementPredicate;
+		}
+
+		return ALL_ELEMENT_PREDICATE.equals(predicate) && coveredPredicate instanceof ContainerElementPredicate;
+	}
+
+	private static boolean isDisjoint(NodeResolver nodeResolver, NodeResolver otherNodeResolver) {
+		NextNodePredicate predicate = getNextNodePredicate(nodeResolver);
+		NextNodePredicate otherPredicate = getNextNodePredicate(otherNodeResolver);
+		if (predicate == null || otherPredicate == null || predicate.equals(otherPredicate)) {
+			return false;
+		}
+
+		if (predicate instanceof PropertyNameNodePredicate && otherPredicate instanceof PropertyNameNodePredicate) {
+			return !ALL_INDEX_STRING.equals(((PropertyNameNodePredicate)predicate).getPropertyName())
+				&& !ALL_INDEX_STRING.equals(((PropertyNameNodePredicate)otherPredicate).getPropertyName());
+		}
+
+		if (predicate instanceof ContainerElementPredicate && otherPredicate instanceof ContainerElementPredicate) {
+			return !ALL_ELEMENT_PREDICATE.equals(predicate) && !ALL_ELEMENT_PREDICATE.equals(otherPredicate);
+		}
+
+		return predicate instanceof NodeElementPredicate && otherPredicate instanceof NodeElementPredicate;
+	}
+
+	@Nullable
+	private static NextNodePredicate getNextNodePredicate(NodeResolver nodeResolver) {
+		if (nodeResolver instanceof NodePredicateResolver) {
+			return ((NodePredicateResolver)nodeResolver).getNextNodePredicate();
+		}
+		return null;
+	}
+}
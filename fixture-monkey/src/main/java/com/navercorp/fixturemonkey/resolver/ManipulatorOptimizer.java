@@ -23,10 +23,25 @@ import java.util.List;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import com.navercorp.fixturemonkey.api.tree.TreeNodeManipulator;
 import com.navercorp.fixturemonkey.customizer.ArbitraryManipulator;
 
 @API(since = "0.4.0", status = Status.MAINTAINED)
 @FunctionalInterface
 public interface ManipulatorOptimizer {
 	OptimizedManipulatorResult optimize(List<ArbitraryManipulator> manipulators);
+
+	/**
+	 * Optimizes the manipulators of the container sizes before the object tree is traversed.
+	 * The last manipulator matching a container node is applied to it.
+	 *
+	 * @param containerInfoManipulators the manipulators of the container sizes in the order they are applied
+	 * @return the manipulators applying the same container sizes
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	default List<TreeNodeManipulator> optimizeContainerInfoManipulators(
+		List<TreeNodeManipulator> containerInfoManipulators
+	) {
+		return containerInfoManipulators;
+	}
 }
@@ -18,14 +18,18 @@
 
 package com.navercorp.fixturemonkey.resolver;
 
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
+import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ExpensivePredicate;
 import com.navercorp.fixturemonkey.api.exception.ContainerSizeFilterMissException;
 import com.navercorp.fixturemonkey.api.exception.FixedValueFilterMissException;
 import com.navercorp.fixturemonkey.api.exception.RetryableFilterMissException;
@@ -43,6 +47,7 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	private final int generateMaxTries;
 	private final LazyArbitrary<CombinableArbitrary<T>> arbitrary;
 	private final ArbitraryValidator validator;
+	private final Set<Class<? extends Annotation>> guaranteedConstraintTypes;
 	private final Supplier<Boolean> validOnly;
 
 	private Exception lastException = null;
@@ -53,28 +58,30 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		Function<ObjectTree, CombinableArbitrary<T>> generateArbitrary,
 		int generateMaxTries,
 		ArbitraryValidator validator,
+		Set<Class<? extends Annotation>> guaranteedConstraintTypes,
 		Supplier<Boolean> validOnly
 	) {
 		this.rootProperty = rootProperty;
 		this.objectTree = LazyArbitrary.lazy(regenerateTree);
 		this.generateMaxTries = generateMaxTries;
+		this.validator = validator;
+		this.guaranteedConstraintTypes = guaranteedConstraintTypes;
+		this.validOnly = validOnly;
+		ExpensivePredicate<T> validateFilter = this::validate;
 		this.arbitrary = LazyArbitrary.lazy(
 			() -> {
 				ObjectTree objectTree = this.objectTree.getValue();
-				return generateArbitrary.apply(objectTree);
+				return generateArbitrary.apply(objectTree)
+					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, validateFilter);
 			}
 		);
-		this.validator = validator;
-		this.validOnly = validOnly;
 	}
 
 	@Override
 	public T combined() {
 		for (int i = 0; i < generateMaxTries; i++) {
 			try {
-				return arbitrary.getValue()
-					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, this.validateFilter(validOnly.get()))
-					.combined();
+				return arbitrary.getValue().combined();
 			} catch (ContainerSizeFilterMissException | RetryableFilterMissException ex) {
 				lastException = ex;
 				objectTree.clear();
@@ -99,9 +106,7 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 	public Object rawValue() {
 		for (int i = 0; i < generateMaxTries; i++) {
 			try {
-				return arbitrary.getValue()
-					.filter(VALIDATION_ANNOTATION_FILTERING_COUNT, this.validateFilter(validOnly.get()))
-					.rawValue();
+				return arbitrary.getValue().rawValue();
 			} catch (ContainerSizeFilterMissException | RetryableFilterMissException ex) {
 				lastException = ex;
 				objectTree.clear();
@@ -137,18 +142,15 @@ final class ResolvedCombinableArbitrary<T> implements CombinableArbitrary<T> {
 		return false;
 	}
 
-	private Predicate<T> validateFilter(boolean validOnly) {
-		return fixture -> {
-			if (!validOnly) {
-				return true;
-			}
-
-			if (fixture == null) {
-				return true;
-			}
-
-			this.validator.validate(fixture);
+	private boolean validate(@Nullable T fixture) {
+		if (fixture == null || !validOnly.get()) {
 			return true;
-		};
+		}
+
+		this.validator.validate(
+			fixture,
+			objectTree.getValue().isManipulated() ? Collections.emptySet() : guaranteedConstraintTypes
+		);
+		return true;
 	}
 }
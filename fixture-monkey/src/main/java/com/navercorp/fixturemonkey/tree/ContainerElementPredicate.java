@@ -20,6 +20,8 @@ package com.navercorp.fixturemonkey.tree;
 
 import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
 
+import java.util.Objects;
+
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
@@ -45,4 +47,21 @@ public final class ContainerElementPredicate implements NextNodePredicate {
 		ContainerElementProperty elementProperty = (ContainerElementProperty)property;
 		return sequence == NO_OR_ALL_INDEX_INTEGER_VALUE || sequence == elementProperty.getSequence();
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ContainerElementPredicate that = (ContainerElementPredicate)obj;
+		return sequence == that.sequence;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(sequence);
+	}
 }
@@ -22,19 +22,23 @@ import static com.navercorp.fixturemonkey.api.type.Types.nullSafe;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jspecify.annotations.Nullable;
 
 import com.navercorp.fixturemonkey.api.arbitrary.CombinableArbitrary;
+import com.navercorp.fixturemonkey.api.arbitrary.ExpensivePredicate;
+import com.navercorp.fixturemonkey.api.arbitrary.MonitoredFilter;
+import com.navercorp.fixturemonkey.api.constraint.FilterConstraint;
 import com.navercorp.fixturemonkey.api.context.MonkeyContext;
 import com.navercorp.fixturemonkey.api.context.MonkeyGeneratorContext;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGenerator;
@@ -48,6 +52,7 @@ import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 import com.navercorp.fixturemonkey.api.lazy.LazyArbitrary;
 import com.navercorp.fixturemonkey.api.option.FixtureMonkeyOptions;
 import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.tree.TraverseNode;
 import com.navercorp.fixturemonkey.api.tree.TraverseNodeContext;
 import com.navercorp.fixturemonkey.api.tree.TraverseNodeMetadata;
@@ -69,10 +74,14 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 	private final List<NodeManipulator> manipulators = new ArrayList<>();
 	@SuppressWarnings("rawtypes")
 	private final List<Predicate> arbitraryFilters = new ArrayList<>();
+	@SuppressWarnings("rawtypes")
+	private final List<Predicate> monitoredArbitraryFilters = new ArrayList<>();
 	private final List<Function<CombinableArbitrary<?>, CombinableArbitrary<?>>> arbitraryCustomizers =
 		new ArrayList<>();
 	@Nullable
 	private CombinableArbitrary<?> arbitrary;
+	@Nullable
+	private ChildBinding childBinding = null;
 
 	public GenerateFixtureContext(
 		Map<Class<?>, ArbitraryIntrospector> arbitraryIntrospectorConfigurer,
@@ -107,9 +116,22 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 		return arbitraryFilters;
 	}
 
-	@SuppressWarnings("rawtypes")
+	/**
+	 * Adds a filter registered by a user.
+	 * The filter is monitored where it is registered, it warns if it rejects most of the generated values.
+	 * {@link ExpensivePredicate}s are not wrapped, they would lose being tested after the other filters.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void addArbitraryFilter(Predicate filter) {
 		this.arbitraryFilters.add(filter);
+		this.monitoredArbitraryFilters.add(
+			filter instanceof ExpensivePredicate ? filter : new MonitoredFilter<>(filter, this::describeFilterTarget)
+		);
+	}
+
+	private String describeFilterTarget() {
+		String expression = objectNode.getMetadata().getLazyPropertyPath().getValue().getExpression();
+		return "".equals(expression) ? "$" : "\"" + expression + "\"";
 	}
 
 	public void addGeneratedArbitraryCustomizer(
@@ -130,6 +152,14 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 		return !manipulators.isEmpty() || objectNode.getMetadata().manipulated();
 	}
 
+	/**
+	 * Returns whether the introspectors are configured for some types,
+	 * the introspected values may not satisfy the constraints the default generation does.
+	 */
+	boolean hasConfiguredArbitraryIntrospectors() {
+		return !arbitraryIntrospectorConfigurer.isEmpty();
+	}
+
 	public boolean cacheable() {
 		return !manipulated()
 			&& !objectNode.getMetadata().getTreeProperty().isContainer()
@@ -160,12 +190,20 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 			if (this.cacheable() && cached != null) {
 				generated = cached;
 			} else {
-				ArbitraryGeneratorContext childArbitraryGeneratorContext = this.generateContext(parentContext);
-				ArbitraryIntrospector arbitraryIntrospector = arbitraryIntrospectorConfigurer.get(
-					Types.getActualType(objectNode.getMetadata().getOriginalProperty().getType())
-				);
-				generated = getArbitraryGenerator(arbitraryIntrospector)
-					.generate(childArbitraryGeneratorContext);
+				FilterConstraint<?> filterConstraint = FilterConstraint.extract(this.arbitraryFilters);
+				if (filterConstraint != null
+					&& filterConstraint.getCandidates() != null
+					&& !filterConstraint.getCandidates().isEmpty()) {
+					generated = chooseCandidate(new ArrayList<>(filterConstraint.getCandidates()));
+				} else {
+					ArbitraryGeneratorContext childArbitraryGeneratorContext =
+						this.generateContext(parentContext, filterConstraint);
+					ArbitraryIntrospector arbitraryIntrospector = arbitraryIntrospectorConfigurer.get(
+						Types.getActualType(objectNode.getMetadata().getOriginalProperty().getType())
+					);
+					generated = getArbitraryGenerator(arbitraryIntrospector)
+						.generate(childArbitraryGeneratorContext);
+				}
 
 				List<Function<CombinableArbitrary<?>, CombinableArbitrary<?>>> customizers =
 					this.getGeneratedArbitraryCustomizers();
@@ -183,12 +221,16 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 			}
 		}
 
-		List<Predicate> arbitraryFilters = this.getArbitraryFilters();
-		for (Predicate predicate : arbitraryFilters) {
-			generated = generated.filter(fixtureMonkeyOptions.getGenerateMaxTries(), predicate);
-		}
+		// a node with filters is manipulated so never cached, the filters wrap the arbitrary newly generated above
+		return generated.filter(fixtureMonkeyOptions.getGenerateMaxTries(), (List)this.monitoredArbitraryFilters);
+	}
 
-		return generated;
+	/**
+	 * The candidates of {@link FilterConstraint} are chosen directly instead of generating and rejecting.
+	 * The candidate is not copied, it is shared by the samples and the manipulators of its child nodes are ignored.
+	 */
+	private static CombinableArbitrary<?> chooseCandidate(List<Object> candidates) {
+		return CombinableArbitrary.from(() -> candidates.get(Randoms.nextInt(candidates.size())));
 	}
 
 	private ArbitraryGenerator getArbitraryGenerator(@Nullable ArbitraryIntrospector arbitraryIntrospector) {
@@ -222,57 +264,58 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 	public ArbitraryGeneratorContext generateContext(
 		@Nullable ArbitraryGeneratorContext parentContext
 	) {
-		Map<ArbitraryProperty, ObjectNode> childNodesByArbitraryProperty = new HashMap<>();
-		List<ArbitraryProperty> childrenProperties = new ArrayList<>();
+		return generateContext(parentContext, FilterConstraint.extract(this.arbitraryFilters));
+	}
 
+	private ArbitraryGeneratorContext generateContext(
+		@Nullable ArbitraryGeneratorContext parentContext,
+		@Nullable FilterConstraint<?> filterConstraint
+	) {
+		double nullInject = filterConstraint != null && filterConstraint.isNotNull()
+			? 0.0d
+			: objectNode.getMetadata().getNullInject();
 		ArbitraryProperty arbitraryProperty =
 			objectNode.getMetadata().getTreeProperty()
-				.toArbitraryProperty(objectNode.getMetadata().getNullInject());
+				.toArbitraryProperty(nullInject);
 		Property resolvedParentProperty = objectNode.getMetadata().getResolvedTypeDefinition().getResolvedProperty();
 		objectNode.expand();
-		List<ObjectNode> children = nullSafe(objectNode.getChildren()).asList().stream()
-			.filter(it -> Types.isAssignable(
-				Types.getActualType(resolvedParentProperty.getType()),
-				Types.getActualType(it.getMetadata().getResolvedParentProperty().getType()))
-			)
-			.collect(Collectors.toList());
-
-		for (ObjectNode childNode : children) {
-			TraverseNodeMetadata childNodeMetadata = childNode.getMetadata();
-			ArbitraryProperty childArbitraryProperty =
-				childNodeMetadata.getTreeProperty().toArbitraryProperty(childNodeMetadata.getNullInject());
-			childNodesByArbitraryProperty.put(childArbitraryProperty, childNode);
-			childrenProperties.add(childArbitraryProperty);
-		}
+		ChildBinding childBinding = bindChildren(resolvedParentProperty);
 
 		MonkeyGeneratorContext monkeyGeneratorContext = monkeyContext.newGeneratorContext(
 			objectNode.getMetadata().getRootProperty()
 		);
 		FixtureMonkeyOptions fixtureMonkeyOptions = monkeyContext.getFixtureMonkeyOptions();
-		ArbitraryGeneratorLoggingContext loggingContext = new ArbitraryGeneratorLoggingContext(
-			fixtureMonkeyOptions.isEnableLoggingFail());
 
 		return new ArbitraryGeneratorContext(
 			resolvedParentProperty,
 			arbitraryProperty,
-			childrenProperties,
+			childBinding.childrenProperties,
 			parentContext,
-			(currentContext, prop) -> {
-				ObjectNode node = childNodesByArbitraryProperty.get(prop);
-				if (node == null) {
-					return CombinableArbitrary.NOT_GENERATED;
-				}
-
-				return node.getObjectNodeContext().generate(currentContext);
-			},
+			childBinding.resolveArbitrary,
 			objectNode.getMetadata().getLazyPropertyPath(),
 			monkeyGeneratorContext,
 			fixtureMonkeyOptions.getGenerateUniqueMaxTries(),
 			arbitraryProperty.getNullInject(),
-			loggingContext
+			ArbitraryGeneratorLoggingContext.of(fixtureMonkeyOptions.isEnableLoggingFail()),
+			filterConstraint
 		);
 	}
 
+	/**
+	 * The children are bound once and reused for every sample while the node is not expanded again.
+	 */
+	private ChildBinding bindChildren(Property resolvedParentProperty) {
+		List<ObjectNode> childNodes = nullSafe(objectNode.getChildNodes());
+		ChildBinding childBinding = this.childBinding;
+		if (childBinding != null && childBinding.isBoundTo(resolvedParentProperty, childNodes)) {
+			return childBinding;
+		}
+
+		childBinding = new ChildBinding(resolvedParentProperty, childNodes);
+		this.childBinding = childBinding;
+		return childBinding;
+	}
+
 	@Override
 	public void setTraverseNode(TraverseNode objectNode) {
 		this.objectNode = (ObjectNode)objectNode;
@@ -287,4 +330,63 @@ public final class GenerateFixtureContext implements TraverseNodeContext {
 			this.monkeyContext
 		);
 	}
+
+	private static final class ChildBinding {
+		private final Property resolvedParentProperty;
+		private final List<ObjectNode> childNodes;
+		private final double[] childNullInjects;
+		private final List<ArbitraryProperty> childrenProperties;
+		private final BiFunction<ArbitraryGeneratorContext, ArbitraryProperty, CombinableArbitrary<?>>
+			resolveArbitrary;
+
+		private ChildBinding(Property resolvedParentProperty, List<ObjectNode> childNodes) {
+			this.resolvedParentProperty = resolvedParentProperty;
+			this.childNodes = childNodes;
+			this.childNullInjects = new double[childNodes.size()];
+
+			Class<?> actualParentType = Types.getActualType(resolvedParentProperty.getType());
+			Map<ArbitraryProperty, ObjectNode> childNodesByArbitraryProperty = new HashMap<>();
+			List<ArbitraryProperty> childrenProperties = new ArrayList<>(childNodes.size());
+			for (int i = 0; i < childNodes.size(); i++) {
+				ObjectNode childNode = childNodes.get(i);
+				TraverseNodeMetadata childNodeMetadata = childNode.getMetadata();
+				childNullInjects[i] = childNodeMetadata.getNullInject();
+
+				if (!Types.isAssignable(
+					actualParentType,
+					Types.getActualType(childNodeMetadata.getResolvedParentProperty().getType()))
+				) {
+					continue;
+				}
+
+				ArbitraryProperty childArbitraryProperty =
+					childNodeMetadata.getTreeProperty().toArbitraryProperty(childNodeMetadata.getNullInject());
+				childNodesByArbitraryProperty.put(childArbitraryProperty, childNode);
+				childrenProperties.add(childArbitraryProperty);
+			}
+
+			this.childrenProperties = Collections.unmodifiableList(childrenProperties);
+			this.resolveArbitrary = (currentContext, prop) -> {
+				ObjectNode node = childNodesByArbitraryProperty.get(prop);
+				if (node == null) {
+					return CombinableArbitrary.NOT_GENERATED;
+				}
+
+				return node.getObjectNodeContext().generate(currentContext);
+			};
+		}
+
+		private boolean isBoundTo(Property resolvedParentProperty, List<ObjectNode> childNodes) {
+			if (this.resolvedParentProperty != resolvedParentProperty || this.childNodes != childNodes) {
+				return false;
+			}
+
+			for (int i = 0; i < childNullInjects.length; i++) {
+				if (Double.compare(childNullInjects[i], childNodes.get(i).getMetadata().getNullInject()) != 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
 }
@@ -38,4 +38,17 @@ public final class NodeAllElementPredicate implements NextNodePredicate {
 
 		return true;
 	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		return obj != null && getClass() == obj.getClass();
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
 }
@@ -85,6 +85,11 @@ public final class NodePredicateResolver implements NodeResolver {
 		return Objects.hash(nextNodePredicate);
 	}
 
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public NextNodePredicate getNextNodePredicate() {
+		return nextNodePredicate;
+	}
+
 	public ObjectNode resolveStartNode(ObjectNode startNode) {
 		ObjectNode resultNode = getChildNodeIfWrapped(startNode);
 		resultNode.setNullInject(NOT_NULL_INJECT);
@@ -127,6 +127,14 @@ public final class ObjectNode implements TraverseNode, TraverseNodeMetadata {
 		return new ObjectNodeList(children);
 	}
 
+	/**
+	 * Returns the children without wrapping them, the returned list is replaced when the node is expanded again.
+	 */
+	@Nullable
+	List<ObjectNode> getChildNodes() {
+		return children;
+	}
+
 	public ArbitraryProperty getArbitraryProperty() {
 		return this.getMetadata().getTreeProperty().toArbitraryProperty(getMetadata().getNullInject());
 	}
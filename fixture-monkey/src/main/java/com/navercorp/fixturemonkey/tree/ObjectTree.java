@@ -34,6 +34,7 @@ public final class ObjectTree {
 	private final ObjectNode rootNode;
 	private final ObjectTreeMetadata metadata;
 	private final GenerateFixtureContext generateFixtureContext;
+	private boolean manipulated;
 
 	public ObjectTree(
 		TreeRootProperty rootProperty,
@@ -47,6 +48,9 @@ public final class ObjectTree {
 		MetadataCollector metadataCollector = new MetadataCollector(rootNode);
 		this.metadata = metadataCollector.collect();
 		this.generateFixtureContext = this.rootNode.getObjectNodeContext();
+		this.manipulated = !traverseContext.getTreeManipulators().isEmpty()
+			|| !traverseContext.getPropertyConfigurers().isEmpty()
+			|| generateFixtureContext.hasConfiguredArbitraryIntrospectors();
 	}
 
 	public ObjectTreeMetadata getMetadata() {
@@ -59,9 +63,23 @@ public final class ObjectTree {
 		for (ObjectNode node : nodes) {
 			nodeManipulator.manipulate(node);
 			node.getObjectNodeContext().addManipulator(nodeManipulator);
+			this.manipulated = true;
 		}
 	}
 
+	/**
+	 * Returns whether the tree is customized by the manipulators, the container sizes, the property configurers
+	 * or the introspectors of the builder.
+	 * The values of the tree not customized are generated only by the options of
+	 * {@link com.navercorp.fixturemonkey.FixtureMonkey}.
+	 *
+	 * @return true if the tree is customized
+	 */
+	@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+	public boolean isManipulated() {
+		return manipulated;
+	}
+
 	public CombinableArbitrary<?> generate() {
 		return generateFixtureContext.generate(null);
 	}
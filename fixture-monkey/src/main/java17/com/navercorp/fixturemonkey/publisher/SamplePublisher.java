@@ -0,0 +1,204 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.publisher;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * A cold {@link Flow.Publisher}, each subscription samples its own copy of the {@link ArbitraryBuilder}.
+ *
+ * @see SamplePublishers
+ */
+@API(since = "1.1.16", status = Status.INTERNAL)
+final class SamplePublisher<T> implements Flow.Publisher<T> {
+	private final ArbitraryBuilder<T> arbitraryBuilder;
+	private final Executor executor;
+	private final int bufferSize;
+	private final long baseSeed;
+
+	SamplePublisher(ArbitraryBuilder<T> arbitraryBuilder, Executor executor, int bufferSize, long baseSeed) {
+		this.arbitraryBuilder = arbitraryBuilder;
+		this.executor = executor;
+		this.bufferSize = bufferSize;
+		this.baseSeed = baseSeed;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		Objects.requireNonNull(subscriber, "subscriber must not be null.");
+		subscriber.onSubscribe(
+			new SampleSubscription<>(subscriber, arbitraryBuilder.copy(), executor, bufferSize, baseSeed)
+		);
+	}
+
+	/**
+	 * Generates the values by a single producer task at a time, the builder is only sampled by the producer.
+	 * The values are delivered by whichever thread wins the drain, so the subscriber is never called concurrently.
+	 */
+	private static final class SampleSubscription<T> implements Flow.Subscription {
+		private final Flow.Subscriber<? super T> subscriber;
+		private final ArbitraryBuilder<T> arbitraryBuilder;
+		private final Executor executor;
+		private final int bufferSize;
+		private final long baseSeed;
+
+		private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger buffered = new AtomicInteger();
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger produceWip = new AtomicInteger();
+		private final AtomicInteger drainWip = new AtomicInteger();
+
+		private volatile boolean cancelled;
+		private volatile Throwable error;
+
+		// confined to the producer task
+		private long index;
+
+		private SampleSubscription(
+			Flow.Subscriber<? super T> subscriber,
+			ArbitraryBuilder<T> arbitraryBuilder,
+			Executor executor,
+			int bufferSize,
+			long baseSeed
+		) {
+			this.subscriber = subscriber;
+			this.arbitraryBuilder = arbitraryBuilder;
+			this.executor = executor;
+			this.bufferSize = bufferSize;
+			this.baseSeed = baseSeed;
+		}
+
+		@Override
+		public void request(long count) {
+			if (count <= 0) {
+				error = new IllegalArgumentException("request must be positive. count: " + count);
+				drain();
+				return;
+			}
+
+			requested.getAndUpdate(current -> current + count < 0 ? Long.MAX_VALUE : current + count);
+			produce();
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		private void produce() {
+			if (produceWip.getAndIncrement() != 0) {
+				return;
+			}
+
+			try {
+				executor.execute(this::runProducer);
+			} catch (RuntimeException ex) {
+				error = ex;
+				drain();
+			}
+		}
+
+		private void runProducer() {
+			int missed = 1;
+			while (true) {
+				while (!cancelled && error == null && buffered.get() < bufferSize) {
+					T value;
+					try {
+						value = Objects.requireNonNull(
+							Randoms.withSeed(Randoms.splitSeed(baseSeed, index++), arbitraryBuilder::sample),
+							"Flow does not allow null values."
+						);
+					} catch (Throwable throwable) {
+						error = throwable;
+						break;
+					}
+
+					buffer.offer(value);
+					buffered.incrementAndGet();
+					drain();
+				}
+				drain();
+
+				missed = produceWip.addAndGet(-missed);
+				if (missed == 0) {
+					return;
+				}
+			}
+		}
+
+		private void drain() {
+			if (drainWip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+			while (true) {
+				long demand = requested.get();
+				long emitted = 0;
+				while (emitted != demand && !cancelled && error == null) {
+					T value = buffer.poll();
+					if (value == null) {
+						break;
+					}
+					buffered.decrementAndGet();
+					subscriber.onNext(value);
+					emitted++;
+				}
+
+				if (cancelled) {
+					buffer.clear();
+					return;
+				}
+
+				Throwable throwable = error;
+				if (throwable != null) {
+					cancelled = true;
+					buffer.clear();
+					subscriber.onError(throwable);
+					return;
+				}
+
+				if (emitted != 0) {
+					if (demand != Long.MAX_VALUE) {
+						requested.addAndGet(-emitted);
+					}
+					produce();
+				}
+
+				missed = drainWip.addAndGet(-missed);
+				if (missed == 0) {
+					return;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.publisher;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.api.random.Randoms;
+
+/**
+ * Creates a {@link Flow.Publisher} of the values sampled by an {@link ArbitraryBuilder}.
+ * It only depends on the JDK, it could be adapted to Reactor or RxJava by their {@link Flow} adapters.
+ * <p>
+ * The publisher generates the values on the given {@link Executor} as the subscriber requests them,
+ * it generates at most {@code bufferSize} values ahead of the demand.
+ * The n-th value of each subscription is generated by its own seed derived from the seed when it is created,
+ * so all subscribers receive the same values regardless of the executor.
+ */
+@API(since = "1.1.16", status = Status.EXPERIMENTAL)
+public final class SamplePublishers {
+	private SamplePublishers() {
+	}
+
+	/**
+	 * Returns a publisher generating values on {@link ForkJoinPool#commonPool()}
+	 * with a buffer of {@link Flow#defaultBufferSize()}.
+	 *
+	 * @see #samplePublisher(ArbitraryBuilder, Executor, int)
+	 */
+	public static <T> Flow.Publisher<T> samplePublisher(ArbitraryBuilder<T> arbitraryBuilder) {
+		return samplePublisher(arbitraryBuilder, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+	}
+
+	/**
+	 * Returns a publisher of the values sampled by the copy of the given {@link ArbitraryBuilder}.
+	 * The manipulations applied to the builder after calling this method do not affect the publisher.
+	 *
+	 * @param arbitraryBuilder the builder to sample
+	 * @param executor         the executor generating the values
+	 * @param bufferSize       the maximum number of values generated ahead of the demand
+	 */
+	public static <T> Flow.Publisher<T> samplePublisher(
+		ArbitraryBuilder<T> arbitraryBuilder,
+		Executor executor,
+		int bufferSize
+	) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("bufferSize must be positive. bufferSize: " + bufferSize);
+		}
+
+		return new SamplePublisher<>(arbitraryBuilder.copy(), executor, bufferSize, Randoms.currentSeed());
+	}
+}
@@ -48,7 +48,9 @@ import net.jqwik.time.api.arbitraries.InstantArbitrary;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.arbitrary.MonkeyStringArbitrary;
+import com.navercorp.fixturemonkey.api.constraint.FilterConstraint;
 import com.navercorp.fixturemonkey.api.container.DecomposableJavaContainer;
+import com.navercorp.fixturemonkey.api.engine.NativeEnginePlugin;
 import com.navercorp.fixturemonkey.api.exception.ValidationFailedException;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryContainerInfo;
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
@@ -70,6 +72,9 @@ import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
 import com.navercorp.fixturemonkey.api.plugin.InterfacePlugin;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
+import com.navercorp.fixturemonkey.resolver.DefaultManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.NoneManipulatorOptimizer;
+import com.navercorp.fixturemonkey.resolver.OptimizedManipulatorResult;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.AbstractNoneConcreteIntValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.AbstractNoneConcreteStringValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyOptionsAdditionalTestSpecs.AbstractNoneValue;
@@ -857,6 +862,94 @@ class FixtureMonkeyOptionsTest {
 		then(actual).isEqualTo("test");
 	}
 
+	@Property
+	void registerPropertyWithPriority() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.register(String.class, monkey -> monkey.giveMeBuilder("test2"), 2)
+			.register(String.class, monkey -> monkey.giveMeBuilder("test"), 1)
+			.build();
+
+		String actual = sut.giveMeOne(SimpleObject.class)
+			.getStr();
+
+		then(actual).isEqualTo("test");
+	}
+
+	@Property(tries = 10)
+	void registerSamePriorityChoosesRandomly() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.register(String.class, monkey -> monkey.giveMeBuilder("test1"), 1)
+			.register(String.class, monkey -> monkey.giveMeBuilder("test2"), 1)
+			.build();
+
+		Set<String> actual = sut.giveMeBuilder(SimpleObject.class)
+			.sampleList(100)
+			.stream()
+			.map(SimpleObject::getStr)
+			.collect(Collectors.toSet());
+
+		then(actual).containsExactlyInAnyOrder("test1", "test2");
+	}
+
+	@Property
+	void registerUsingRegisteredInRegister() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.register(String.class, monkey -> monkey.giveMeBuilder("test"))
+			.register(
+				SimpleObject.class,
+				monkey -> monkey.giveMeBuilder(SimpleObject.class)
+					.set("integer", 1)
+			)
+			.build();
+
+		SimpleObject actual = sut.giveMeOne(SimpleObject.class);
+
+		then(actual.getStr()).isEqualTo("test");
+		then(actual.getInteger()).isEqualTo(1);
+	}
+
+	@Property
+	void defaultManipulatorOptimizerRemovesShadowedManipulators() {
+		List<Integer> optimizedSizes = new ArrayList<>();
+		DefaultManipulatorOptimizer optimizer = new DefaultManipulatorOptimizer();
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.manipulatorOptimizer(manipulators -> {
+				OptimizedManipulatorResult result = optimizer.optimize(manipulators);
+				optimizedSizes.add(result.getManipulators().size());
+				return result;
+			})
+			.build();
+
+		SimpleObject actual = sut.giveMeBuilder(SimpleObject.class)
+			.set("str", "first")
+			.set("str", "second")
+			.set("integer", 1)
+			.setNull("optionalString")
+			.setPostCondition("wrapperInteger", Integer.class, FilterConstraint.atLeast(0))
+			.setPostCondition("wrapperInteger", Integer.class, FilterConstraint.atMost(10))
+			.sample();
+
+		then(actual.getStr()).isEqualTo("second");
+		then(actual.getInteger()).isEqualTo(1);
+		then(actual.getOptionalString()).isNull();
+		then(actual.getWrapperInteger()).isBetween(0, 10);
+		then(optimizedSizes).containsOnly(4);
+	}
+
+	@Property
+	void noneManipulatorOptimizer() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.manipulatorOptimizer(new NoneManipulatorOptimizer())
+			.build();
+
+		String actual = sut.giveMeBuilder(SimpleObject.class)
+			.set("str", "first")
+			.set("str", "second")
+			.sample()
+			.getStr();
+
+		then(actual).isEqualTo("second");
+	}
 
 	@Property
 	void nullableElement() {
@@ -1746,4 +1839,47 @@ class FixtureMonkeyOptionsTest {
 
 		then(actual).isEqualTo(expected);
 	}
+
+	@Property
+	void nativeEnginePlugin() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new NativeEnginePlugin())
+			.defaultNotNull(true)
+			.build();
+
+		SimpleObject actual = sut.giveMeOne(SimpleObject.class);
+
+		then(actual.getStr()).isNotNull();
+		then(actual.getLocalDateTime()).isNotNull();
+		then(actual.getBigDecimal()).isNotNull();
+	}
+
+	@Property
+	void nativeEnginePluginFilterConstraint() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new NativeEnginePlugin())
+			.build();
+
+		String actual = sut.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("str", String.class, FilterConstraint.length(2, 4))
+			.sample()
+			.getStr();
+
+		then(actual).hasSizeBetween(2, 4);
+	}
+
+	@Property
+	void nativeEnginePluginPrimitiveArray() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.plugin(new NativeEnginePlugin())
+			.build();
+
+		int[] actual = sut.giveMeBuilder(int[].class)
+			.size("$", 3)
+			.set("$[0]", 5)
+			.sample();
+
+		then(actual).hasSize(3);
+		then(actual[0]).isEqualTo(5);
+	}
 }
@@ -23,10 +23,12 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.math.BigInteger;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -39,6 +41,11 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,8 +57,13 @@ import net.jqwik.api.Property;
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.ArbitraryBuilders;
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.constraint.FilterConstraint;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.customizer.Values;
+import com.navercorp.fixturemonkey.pool.FixturePool;
+import com.navercorp.fixturemonkey.pool.FixturePoolStatistics;
+import com.navercorp.fixturemonkey.prewarm.PrewarmResult;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ChildValue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.ComplexObject;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.EnumObject;
@@ -83,6 +95,10 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.TwoEnum;
 
 class FixtureMonkeyTest {
 	private static final FixtureMonkey SUT = FixtureMonkey.create();
+	// fails if a FilterConstraint is not pushed down into generation but retried as a filter
+	private static final FixtureMonkey SINGLE_TRY_SUT = FixtureMonkey.builder()
+		.generateMaxTries(1)
+		.build();
 
 	@Property
 	void sampleWithType() {
@@ -1822,6 +1838,48 @@ class FixtureMonkeyTest {
 		then(actual).isGreaterThan(0);
 	}
 
+	@Property
+	void setPostConditionFilterConstraintRange() {
+		int actual = SINGLE_TRY_SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("integer", Integer.class, FilterConstraint.between(1, 3))
+			.sample()
+			.getInteger();
+
+		then(actual).isBetween(1, 3);
+	}
+
+	@Property
+	void setPostConditionFilterConstraintCombined() {
+		Predicate<Long> filter = FilterConstraint.<Long>atLeast(-5).and(FilterConstraint.atMost(5));
+
+		Long actual = SINGLE_TRY_SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("wrapperLong", Long.class, filter)
+			.sample()
+			.getWrapperLong();
+
+		then(actual).isBetween(-5L, 5L);
+	}
+
+	@Property
+	void setPostConditionFilterConstraintLength() {
+		String actual = SINGLE_TRY_SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("str", String.class, FilterConstraint.length(30, 31))
+			.sample()
+			.getStr();
+
+		then(actual).hasSizeBetween(30, 31);
+	}
+
+	@Property
+	void setPostConditionFilterConstraintOneOf() {
+		BigInteger actual = SINGLE_TRY_SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("bigInteger", BigInteger.class, FilterConstraint.oneOf(BigInteger.ONE, BigInteger.TEN))
+			.sample()
+			.getBigInteger();
+
+		then(actual).isIn(BigInteger.ONE, BigInteger.TEN);
+	}
+
 	@Property
 	void setSupplierObjectField() {
 		String actual = SUT.giveMeBuilder(new TypeReference<Supplier<SimpleObject>>() {
@@ -1882,4 +1940,275 @@ class FixtureMonkeyTest {
 
 		then(actual).isEqualTo("expected");
 	}
+
+	@Property(tries = 1)
+	void prewarm() {
+		FixtureMonkey sut = FixtureMonkey.create();
+
+		PrewarmResult actual = sut.prewarm(Arrays.asList(ComplexObject.class, SelfRecursiveObject.class));
+
+		then(actual.getPrewarmedTypes()).containsExactly(ComplexObject.class, SelfRecursiveObject.class);
+		then(actual.getFailuresByType()).isEmpty();
+	}
+
+	@Property(tries = 1)
+	void prewarmPackages() {
+		FixtureMonkey sut = FixtureMonkey.create();
+
+		PrewarmResult actual = sut.prewarmPackages("com.navercorp.fixturemonkey.test");
+
+		then(actual.getPrewarmedTypes()).contains(ComplexObject.class, SimpleObject.class);
+	}
+
+	@Property
+	void setSamePathTwiceReturnsLastValue() {
+		String actual = SUT.giveMeBuilder(SimpleObject.class)
+			.set("str", "first")
+			.set("str", "second")
+			.sample()
+			.getStr();
+
+		then(actual).isEqualTo("second");
+	}
+
+	@Property
+	void setChildThenSetParentNull() {
+		SimpleObject actual = SUT.giveMeBuilder(ComplexObject.class)
+			.set("object.str", "expected")
+			.setNull("object")
+			.sample()
+			.getObject();
+
+		then(actual).isNull();
+	}
+
+	@Property
+	void setParentNullThenSetChild() {
+		String actual = SUT.giveMeBuilder(ComplexObject.class)
+			.setNull("object")
+			.set("object.str", "expected")
+			.sample()
+			.getObject()
+			.getStr();
+
+		then(actual).isEqualTo("expected");
+	}
+
+	@Property
+	void setChildThenSetParentNullThenNotNull() {
+		String actual = SUT.giveMeBuilder(ComplexObject.class)
+			.set("object.str", "expected")
+			.setNull("object")
+			.setNotNull("object")
+			.sample()
+			.getObject()
+			.getStr();
+
+		then(actual).isEqualTo("expected");
+	}
+
+	@Property
+	void setElementThenSetAllElements() {
+		List<String> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 3)
+			.set("strList[0]", "first")
+			.set("strList[*]", "all")
+			.sample()
+			.getStrList();
+
+		then(actual).containsExactly("all", "all", "all");
+	}
+
+	@Property
+	void setPostConditionSamePathManyTimes() {
+		int actual = SUT.giveMeBuilder(SimpleObject.class)
+			.setPostCondition("integer", Integer.class, FilterConstraint.between(0, 10))
+			.setPostCondition("integer", Integer.class, it -> it % 2 == 0)
+			.setPostCondition("integer", Integer.class, FilterConstraint.between(5, 20))
+			.sample()
+			.getInteger();
+
+		then(actual).isBetween(5, 10).isEven();
+	}
+
+	@Property
+	void sizeSamePathTwiceReturnsLastSize() {
+		List<String> actual = SUT.giveMeBuilder(ComplexObject.class)
+			.size("strList", 3)
+			.size("strList", 5)
+			.sample()
+			.getStrList();
+
+		then(actual).hasSize(5);
+	}
+
+	@Property(tries = 1)
+	void takeFixturePool() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class).set("value1", "fixed");
+
+		try (FixturePool<StringPair> sut = FixturePool.builder(builder)
+			.capacity(8)
+			.prefill(8)
+			.build()) {
+			then(sut.size()).isEqualTo(8);
+
+			for (int i = 0; i < 20; i++) {
+				then(sut.take().getValue1()).isEqualTo("fixed");
+			}
+		}
+	}
+
+	@Property(tries = 1)
+	void fixturePoolWithSameSeedTakesSameSequence() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class);
+		List<StringPair> expected = new ArrayList<>();
+		List<StringPair> actual = new ArrayList<>();
+
+		try (
+			FixturePool<StringPair> first = FixturePool.builder(builder).seed(12345L).build();
+			FixturePool<StringPair> second = FixturePool.builder(builder).seed(12345L).build()
+		) {
+			for (int i = 0; i < 100; i++) {
+				expected.add(first.take());
+				actual.add(second.take());
+			}
+		}
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Property(tries = 1)
+	void fixturePoolStatistics() {
+		FixturePool<StringPair> sut = FixturePool.builder(SUT.giveMeBuilder(StringPair.class))
+			.capacity(4)
+			.prefill(4)
+			.build();
+
+		sut.take();
+		sut.close();
+
+		FixturePoolStatistics actual = sut.getStatistics();
+		then(actual.getHitCount()).isEqualTo(1);
+		then(actual.getMissCount()).isZero();
+		then(actual.getSampledCount()).isGreaterThanOrEqualTo(4);
+		thenThrownBy(sut::take).isExactlyInstanceOf(IllegalStateException.class);
+	}
+
+	@Property(tries = 1)
+	void fixturePoolRestoresRandomOfExecutorThreads() throws Exception {
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			executorService.submit(() -> Randoms.newGlobalSeed(12345L)).get();
+
+			FixturePool.builder(SUT.giveMeBuilder(StringPair.class))
+				.capacity(4)
+				.prefill(4)
+				.executorService(executorService)
+				.build()
+				.close();
+
+			then(executorService.submit(Randoms::currentSeed).get()).isEqualTo(12345L);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Property(tries = 1)
+	void sampleAsyncIgnoresManipulationsAfterCall() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class).set("value1", "before");
+		List<Runnable> tasks = new ArrayList<>();
+
+		CompletableFuture<StringPair> actual = builder.sampleAsync(tasks::add);
+		builder.set("value1", "after");
+		tasks.forEach(Runnable::run);
+
+		then(actual.join().getValue1()).isEqualTo("before");
+	}
+
+	@Property(tries = 1)
+	void sampleListAsyncWithSameSeedReturnsSameList() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class);
+
+		Randoms.newGlobalSeed(12345L);
+		List<StringPair> expected = builder.sampleListAsync(50, Runnable::run).join();
+		Randoms.newGlobalSeed(12345L);
+		List<StringPair> actual = builder.sampleListAsync(50, ForkJoinPool.commonPool()).join();
+
+		then(actual).hasSize(50).isEqualTo(expected);
+	}
+
+	@Property(tries = 1)
+	void sampleListAsyncRestoresRandomOfCallingThread() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class);
+		Randoms.newGlobalSeed(12345L);
+		Randoms.current().nextLong(); // the base seed of sampleListAsync
+		long expected = Randoms.current().nextLong();
+
+		Randoms.newGlobalSeed(12345L);
+		builder.sampleListAsync(10, Runnable::run).join();
+		long actual = Randoms.current().nextLong();
+
+		then(actual).isEqualTo(expected);
+		then(Randoms.currentSeed()).isEqualTo(12345L);
+	}
+
+	@Property(tries = 1)
+	void sampleShardsConcatenatedEqualsSingleShard() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class);
+		List<StringPair> expected = builder.sampleShard(12345L, 0, 1, 10).collect(Collectors.toList());
+
+		List<StringPair> actual = new ArrayList<>();
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			actual.addAll(builder.sampleShard(12345L, shardIndex, 3, 10).collect(Collectors.toList()));
+		}
+
+		then(actual).hasSize(10).isEqualTo(expected);
+	}
+
+	@Property(tries = 1)
+	void sampleShardRestoresRandomOfCurrentThread() {
+		ArbitraryBuilder<StringPair> builder = SUT.giveMeBuilder(StringPair.class);
+		Randoms.newGlobalSeed(12345L);
+		long expected = Randoms.current().nextLong();
+
+		Randoms.newGlobalSeed(12345L);
+		builder.sampleShard(1L, 0, 1, 10).forEach(it -> {
+		});
+		long actual = Randoms.current().nextLong();
+
+		then(actual).isEqualTo(expected);
+		then(Randoms.currentSeed()).isEqualTo(12345L);
+	}
+
+	@Property(tries = 1)
+	void sampleShardNotUniqueBetweenInstances() {
+		ArbitraryBuilder<Integer> builder = SUT.giveMeBuilder(Integer.class)
+			.set("$", Values.unique(() -> Arbitraries.integers().between(0, 1).sample()));
+
+		List<Integer> actual = builder.sampleShard(12345L, 0, 1, 10).collect(Collectors.toList());
+
+		then(actual).hasSize(10).containsOnly(0, 1);
+	}
+
+	@Property(tries = 1)
+	void sampleShardUniqueWithinInstance() {
+		ArbitraryBuilder<List<Integer>> builder = SUT.giveMeBuilder(new TypeReference<List<Integer>>() {
+			})
+			.size("$", 2)
+			.set("$[*]", Values.unique(() -> Arbitraries.integers().between(0, 1).sample()));
+
+		List<List<Integer>> actual = builder.sampleShard(12345L, 0, 1, 10).collect(Collectors.toList());
+
+		then(actual).hasSize(10).allMatch(it -> new HashSet<>(it).size() == 2);
+	}
+
+	@Property(tries = 1)
+	void giveMeShardSizes() {
+		List<Long> actual = new ArrayList<>();
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			actual.add(SUT.giveMeShard(String.class, 12345L, shardIndex, 3, 10).count());
+		}
+
+		then(actual).containsExactly(4L, 3L, 3L);
+	}
 }
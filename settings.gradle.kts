@@ -38,6 +38,7 @@ include(
         "fixture-monkey-benchmarks:fixture-monkey-benchmark",
         "fixture-monkey-benchmarks:fixture-monkey-benchmark-kotlin",
         "fixture-monkey-datafaker",
+        "fixture-monkey-apt",
 )
 
 enableFeaturePreview("TYPESAFE_PROJECT_ACCESSORS")